@@ -0,0 +1,72 @@
+package ru.clevertec.news.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import ru.clevertec.news.dto.constant.RoleName;
+import ru.clevertec.news.entity.User;
+import ru.clevertec.news.security.PrincipalAuthentication;
+import ru.clevertec.news.security.UserPrincipal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static ru.clevertec.news.constant.Constant.*;
+
+/**
+ * Сравнение выделения памяти на запрос при аутентификации и проверке прав.
+ *
+ * <p>{@code legacy} повторяет прежний путь: построение полномочий в {@code User.getAuthorities()},
+ * {@link UsernamePasswordAuthenticationToken}, поиск роли через stream и сравнение строк.
+ * {@code principal} - путь через {@link UserPrincipal} с битовой маской ролей.
+ * Запуск: {@code gradle jmh}, выделение памяти - метрика {@code gc.alloc.rate.norm}.</p>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthenticationBenchmark {
+
+    private User user;
+    private UserPrincipal principal;
+
+    @Setup
+    public void setUp() {
+        user = new User(1L, "TestUser", "TestUser", RoleName.JOURNALIST);
+        principal = UserPrincipal.of(user);
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        var authentication = new UsernamePasswordAuthenticationToken(user, user.getPassword(), legacyAuthorities(user.getRole()));
+        var role = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .orElse(null);
+        return role.equals(ADMIN_ROLE);
+    }
+
+    @Benchmark
+    public boolean principal() {
+        var authentication = new PrincipalAuthentication(principal);
+        return authentication.getPrincipal().hasRole(RoleName.ADMIN);
+    }
+
+    private static List<SimpleGrantedAuthority> legacyAuthorities(RoleName role) {
+        Map<RoleName, List<String>> roleMap = Map.of(
+                RoleName.ADMIN, List.of(ADMIN_ROLE, USER_ROLE),
+                RoleName.JOURNALIST, List.of(JOURNALIST_ROLE, USER_ROLE),
+                RoleName.SUBSCRIBER, List.of(SUBSCRIBER_ROLE, USER_ROLE)
+        );
+
+        return roleMap.getOrDefault(role, List.of(USER_ROLE))
+                .stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,97 @@
+package ru.clevertec.news.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.clevertec.news.compression.BufferPool;
+import ru.clevertec.news.compression.ContentCodec;
+import ru.clevertec.news.compression.GzipCodec;
+import ru.clevertec.news.compression.ZstdCodec;
+import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.page.PageDto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Стоимость сжатия страницы из 15 новостей с полным текстом против сэкономленных байтов.
+ *
+ * <p>{@code jdk-gzip} - {@link GZIPOutputStream} с новым {@code Deflater} на каждый ответ, {@code gzip-*} и
+ * {@code zstd-*} - кодирования {@code compression} с переиспользуемыми буферами. Исходный и сжатый размер страницы
+ * выводятся в журнал запуска после измерений каждого кодирования. Запуск: {@code gradle jmh}.</p>
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompressionBenchmark {
+
+    private static final String[] WORDS = {"новость", "комментарий", "город", "сегодня", "пользователь", "сервис",
+            "news", "update", "the", "and", "report", "event", "released", "version", "market", "weather"};
+
+    @Param({"identity", "jdk-gzip", "gzip-1", "gzip-6", "zstd-1", "zstd-3"})
+    private String encoding;
+
+    private byte[] page;
+    private ContentCodec codec;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+
+    @Setup
+    public void setUp() throws IOException {
+        var random = new Random(42);
+        List<NewsDto> news = new ArrayList<>();
+        for (long id = 1; id <= 15; id++) {
+            news.add(new NewsDto(id, LocalDateTime.of(2024, 1, 3, 9, 12).plusMinutes(id), text(random, 8),
+                    text(random, 250), List.of(), id % 4 + 1));
+        }
+        page = Jackson2ObjectMapperBuilder.json().build()
+                .writeValueAsBytes(new PageContentDto<>(new PageDto(0, 15, 10, 150L), news));
+        var buffers = new BufferPool(8192, 4);
+        codec = switch (encoding) {
+            case "gzip-1" -> new GzipCodec(1, buffers, 4);
+            case "gzip-6" -> new GzipCodec(6, buffers, 4);
+            case "zstd-1" -> new ZstdCodec(1);
+            case "zstd-3" -> new ZstdCodec(3);
+            default -> null;
+        };
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        out.reset();
+        if ("identity".equals(encoding)) {
+            out.write(page);
+        } else if ("jdk-gzip".equals(encoding)) {
+            try (var encoder = new GZIPOutputStream(out)) {
+                encoder.write(page);
+            }
+        } else {
+            try (var encoder = codec.encode(out)) {
+                encoder.write(page);
+            }
+        }
+        return out.size();
+    }
+
+    @TearDown
+    public void report() {
+        System.out.printf("%n%s: %d -> %d bytes (%.1f%%)%n", encoding, page.length, out.size(),
+                100.0 * out.size() / page.length);
+    }
+
+    private static String text(Random random, int words) {
+        var text = new StringBuilder();
+        for (var i = 0; i < words; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(i % 12 == 11 ? ". " : " ");
+        }
+        return text.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+package ru.clevertec.news.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import feign.Client;
+import feign.Feign;
+import feign.Request;
+import feign.Response;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import ru.clevertec.news.config.properties.PaginationProperties;
+import ru.clevertec.news.feign.NewsClient;
+import ru.clevertec.news.service.NewsService;
+import ru.clevertec.news.service.impl.NewsServiceImpl;
+import ru.clevertec.news.util.VirtualThreads;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Обработка {@code requests} одновременных запросов с медленным микросервисом на потоках платформы и виртуальных потоках.
+ *
+ * <p>Каждый запрос вызывает {@link NewsServiceImpl#getNewsById(Long)} через Feign клиент, ответ микросервиса задерживается
+ * на {@code latencyMillis} блокирующим ожиданием. {@code platform} - пул из {@code platformThreads} потоков, как пул
+ * Tomcat по умолчанию, {@code virtual} - новый виртуальный поток на запрос (требует Java 21).
+ * Запуск: {@code gradle jmh -Pjmh.includes=VirtualThreadBenchmark}.</p>
+ */
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadBenchmark {
+
+    private static final byte[] NEWS = "{\"id\":1,\"title\":\"titleOne\",\"text\":\"Text\",\"userId\":1}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param("10000")
+    private int requests;
+
+    @Param("50")
+    private long latencyMillis;
+
+    @Param("200")
+    private int platformThreads;
+
+    private Executor executor;
+    private NewsService newsService;
+
+    @Setup
+    public void setUp() {
+        // журнал запросов NewsServiceImpl в консоль измерял бы скорость вывода, а не модель потоков
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        if ("virtual".equals(mode)) {
+            if (Runtime.version().feature() < 21) {
+                throw new IllegalStateException("Virtual threads require Java 21, running on " + Runtime.version());
+            }
+            executor = VirtualThreads.executor("request-");
+        } else {
+            executor = Executors.newFixedThreadPool(platformThreads);
+        }
+        var converters = new HttpMessageConverters(new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()));
+        var newsClient = Feign.builder()
+                .client(new SlowClient(latencyMillis))
+                .contract(new SpringMvcContract())
+                .decoder(new ResponseEntityDecoder(new SpringDecoder(() -> converters)))
+                .target(NewsClient.class, "http://news-service/api/news");
+        newsService = new NewsServiceImpl(newsClient, null, new PaginationProperties());
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    @Benchmark
+    public void slowDownstream() throws InterruptedException {
+        var done = new CountDownLatch(requests);
+        for (long i = 0; i < requests; i++) {
+            var id = i;
+            executor.execute(() -> {
+                try {
+                    newsService.getNewsById(id);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    /**
+     * Микросервис, отвечающий с задержкой: поток ожидает ответ так же, как при чтении из сокета.
+     */
+    private record SlowClient(long latencyMillis) implements Client {
+
+        @Override
+        public Response execute(Request request, Request.Options options) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Response.builder()
+                    .status(200)
+                    .request(request)
+                    .headers(Map.of("Content-Type", List.of("application/json")))
+                    .body(NEWS)
+                    .build();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package ru.clevertec.news.cache;
+
+/**
+ * Кэш с ограниченным количеством записей, вытесняющий записи при заполнении.
+ *
+ * <p>Реализации не потокобезопасны, синхронизацию обеспечивает {@link EntityCache}.</p>
+ *
+ * @param <K> тип ключа
+ * @param <V> тип значения
+ */
+public interface BoundedCache<K, V> {
+
+    /**
+     * @param key ключ
+     * @return значение или {@code null}, если записи нет
+     */
+    V get(K key);
+
+    /**
+     * Проверяет наличие записи, не считая проверку обращением.
+     *
+     * @param key ключ
+     * @return есть ли запись
+     */
+    boolean contains(K key);
+
+    /**
+     * Сохраняет значение, при заполнении вытесняя запись согласно алгоритму.
+     *
+     * @param key   ключ
+     * @param value значение
+     */
+    void put(K key, V value);
+
+    /**
+     * @param key ключ удаляемой записи
+     */
+    void remove(K key);
+
+    void clear();
+
+    int size();
+
+    /**
+     * @return количество вытесненных записей
+     */
+    long evictionCount();
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package ru.clevertec.news.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Алгоритм вытеснения записей кэша.
+ */
+public enum CacheAlgorithm {
+
+    /**
+     * Вытесняется запись, к которой дольше всего не обращались.
+     */
+    LRU {
+        @Override
+        public <K, V> BoundedCache<K, V> create(int capacity, Consumer<K> evictionListener) {
+            return new LruCache<>(capacity, evictionListener);
+        }
+    },
+
+    /**
+     * Вытесняется запись с наименьшим количеством обращений, среди равных - давнее использованная.
+     */
+    LFU {
+        @Override
+        public <K, V> BoundedCache<K, V> create(int capacity, Consumer<K> evictionListener) {
+            return new LfuCache<>(capacity, evictionListener);
+        }
+    };
+
+    /**
+     * @param capacity максимальное количество записей
+     * @param <K>      тип ключа
+     * @param <V>      тип значения
+     * @return пустой кэш
+     */
+    public <K, V> BoundedCache<K, V> create(int capacity) {
+        return create(capacity, key -> {
+        });
+    }
+
+    /**
+     * @param capacity         максимальное количество записей
+     * @param evictionListener получает ключи вытесненных записей
+     * @param <K>              тип ключа
+     * @param <V>              тип значения
+     * @return пустой кэш
+     */
+    public abstract <K, V> BoundedCache<K, V> create(int capacity, Consumer<K> evictionListener);
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package ru.clevertec.news.cache;
+
+import ru.clevertec.news.dto.CommentDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Правила удаления страниц комментариев: {@code getByNewsId(pageNumber, pageSize, id)}
+ * и {@code getAll(pageNumber, pageSize, username, text)}.
+ *
+ * <p>Новость и автор комментария не меняются при обновлении, поэтому изменение комментария затрагивает только
+ * страницы его новости и запросы без фильтра по автору или с фильтром, входящим в его имя без учета регистра.</p>
+ */
+public class CommentPageIndex implements PageIndex<CommentDto> {
+
+    private static final String GET_BY_NEWS_ID = "getByNewsId";
+    private static final String GET_ALL = "getAll";
+
+    @Override
+    public Long id(CommentDto entity) {
+        return entity.getId();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CommentDto> content(Object page) {
+        return page instanceof PageContentDto<?> dto && dto.content() != null ? (List<CommentDto>) dto.content() : List.of();
+    }
+
+    @Override
+    public CommentDto cast(Object entity) {
+        return entity instanceof CommentDto comment ? comment : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean matches(PageKey.Listing listing, CommentDto entity) {
+        return switch (listing.endpoint()) {
+            case GET_BY_NEWS_ID -> Objects.equals(listing.filter(0), entity.getNewsId());
+            case GET_ALL -> PageIndex.contains(entity.getUsername(), listing.filter(0))
+                    && PageIndex.contains(entity.getText(), listing.filter(1));
+            default -> true;
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean filtersMutableFields(PageKey.Listing listing) {
+        return switch (listing.endpoint()) {
+            case GET_BY_NEWS_ID -> false;
+            case GET_ALL -> listing.filter(1) != null;
+            default -> true;
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean belongsTo(PageKey.Listing listing, Long parentId) {
+        return !GET_BY_NEWS_ID.equals(listing.endpoint()) || Objects.equals(listing.filter(0), parentId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,198 @@
+package ru.clevertec.news.cache;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Кэш сущностей Spring с вытеснением {@link CacheAlgorithm LRU или LFU}.
+ *
+ * <p>Используется аннотациями {@code @Cacheable}, {@code @CachePut} и {@code @CacheEvict} сервисов. При промахе
+ * в режиме {@code sync} одновременные запросы одного ключа ожидают одну загрузку, время загрузок учитывается
+ * для метрик {@link EntityCacheMeterBinder}.</p>
+ */
+public class EntityCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final BoundedCache<Object, Object> store;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Object, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    /**
+     * @param name  имя кэша
+     * @param store хранилище записей
+     */
+    public EntityCache(String name, BoundedCache<Object, Object> store) {
+        super(false);
+        this.name = name;
+        this.store = store;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Object lookup(Object key) {
+        Object value;
+        lock.lock();
+        try {
+            value = store.get(key);
+        } finally {
+            lock.unlock();
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Получает значение из кэша или загружает его, одновременные загрузки одного ключа объединяются.
+     *
+     * @param key         ключ
+     * @param valueLoader загрузка значения
+     * @param <T>         тип значения
+     * @return значение
+     * @throws ValueRetrievalException если загрузка завершилась исключением
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        var cached = lookup(key);
+        if (cached != null) {
+            return (T) fromStoreValue(cached);
+        }
+        var call = new CompletableFuture<>();
+        var existing = loading.putIfAbsent(key, call);
+        if (existing != null) {
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+        try {
+            var value = load(valueLoader);
+            put(key, value);
+            call.complete(value);
+            return value;
+        } catch (Exception e) {
+            call.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loading.remove(key, call);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Object key, Object value) {
+        lock.lock();
+        try {
+            store.put(key, toStoreValue(value));
+        } finally {
+            lock.unlock();
+        }
+        puts.increment();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(Object key) {
+        lock.lock();
+        try {
+            store.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            store.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return store.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long evictionCount() {
+        lock.lock();
+        try {
+            return store.evictionCount();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long putCount() {
+        return puts.sum();
+    }
+
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    public double loadTotalNanos() {
+        return loadNanos.sum();
+    }
+
+    private <T> T load(Callable<T> valueLoader) throws Exception {
+        var start = System.nanoTime();
+        try {
+            return valueLoader.call();
+        } finally {
+            loads.increment();
+            loadNanos.add(System.nanoTime() - start);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Метрики {@link EntityCache}: стандартные {@code cache.gets}, {@code cache.puts}, {@code cache.evictions},
+ * {@code cache.size}, а также доля попаданий {@code cache.hit.ratio} и время загрузок {@code cache.loads}.
+ */
+public class EntityCacheMeterBinder extends CacheMeterBinder<EntityCache> {
+
+    /**
+     * @param cache кэш
+     * @param tags  дополнительные теги
+     */
+    public EntityCacheMeterBinder(EntityCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        var cache = getCache();
+        return cache == null ? null : (long) cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        var cache = getCache();
+        return cache == null ? 0 : cache.hitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        var cache = getCache();
+        return cache == null ? null : cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        var cache = getCache();
+        return cache == null ? null : cache.evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        var cache = getCache();
+        return cache == null ? 0 : cache.putCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        var cache = getCache();
+        Gauge.builder("cache.hit.ratio", cache, EntityCacheMeterBinder::hitRatio)
+                .description("The ratio of cache hits to all lookups")
+                .tags(getTagsWithCacheName())
+                .register(registry);
+        FunctionTimer.builder("cache.loads", cache, EntityCache::loadCount, EntityCache::loadTotalNanos, TimeUnit.NANOSECONDS)
+                .description("Time spent loading missing entries")
+                .tags(getTagsWithCacheName())
+                .register(registry);
+    }
+
+    private static double hitRatio(EntityCache cache) {
+        var hits = cache.hitCount();
+        var lookups = hits + cache.missCount();
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package ru.clevertec.news.cache;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Кэш, вытесняющий запись с наименьшим количеством обращений.
+ *
+ * <p>Ключи сгруппированы по частоте обращений, поэтому чтение, запись и вытеснение выполняются за O(1). Среди записей
+ * с одинаковой частотой вытесняется та, к которой дольше всего не обращались.</p>
+ *
+ * @param <K> тип ключа
+ * @param <V> тип значения
+ */
+public class LfuCache<K, V> implements BoundedCache<K, V> {
+
+    private final int capacity;
+    private final Map<K, Node<V>> values = new HashMap<>();
+    private final Map<Integer, LinkedHashSet<K>> frequencies = new HashMap<>();
+    private final Consumer<K> evictionListener;
+    private int minFrequency;
+    private long evictions;
+
+    /**
+     * @param capacity максимальное количество записей
+     */
+    public LfuCache(int capacity) {
+        this(capacity, key -> {
+        });
+    }
+
+    /**
+     * @param capacity         максимальное количество записей
+     * @param evictionListener получает ключи вытесненных записей
+     */
+    public LfuCache(int capacity, Consumer<K> evictionListener) {
+        this.capacity = capacity;
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(K key) {
+        var node = values.get(key);
+        if (node == null) {
+            return null;
+        }
+        touch(key, node);
+        return node.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(K key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(K key, V value) {
+        if (capacity <= 0) {
+            return;
+        }
+        var node = values.get(key);
+        if (node != null) {
+            node.value = value;
+            touch(key, node);
+            return;
+        }
+        if (values.size() >= capacity) {
+            evict();
+        }
+        values.put(key, new Node<>(value));
+        frequencies.computeIfAbsent(1, frequency -> new LinkedHashSet<>()).add(key);
+        minFrequency = 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(K key) {
+        var node = values.remove(key);
+        if (node != null) {
+            unlink(key, node.frequency);
+        }
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+        frequencies.clear();
+        minFrequency = 0;
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public long evictionCount() {
+        return evictions;
+    }
+
+    private void touch(K key, Node<V> node) {
+        unlink(key, node.frequency);
+        if (minFrequency == node.frequency && !frequencies.containsKey(node.frequency)) {
+            minFrequency = node.frequency + 1;
+        }
+        node.frequency++;
+        frequencies.computeIfAbsent(node.frequency, frequency -> new LinkedHashSet<>()).add(key);
+    }
+
+    private void unlink(K key, int frequency) {
+        var keys = frequencies.get(frequency);
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            frequencies.remove(frequency);
+        }
+    }
+
+    private void evict() {
+        var keys = frequencies.get(minFrequency);
+        if (keys == null) {
+            minFrequency = Collections.min(frequencies.keySet());
+            keys = frequencies.get(minFrequency);
+        }
+        var eldest = keys.iterator().next();
+        values.remove(eldest);
+        unlink(eldest, minFrequency);
+        evictions++;
+        evictionListener.accept(eldest);
+    }
+
+    private static class Node<V> {
+
+        private V value;
+        private int frequency = 1;
+
+        private Node(V value) {
+            this.value = value;
+        }
+    }
+}
\ No newline at end of file
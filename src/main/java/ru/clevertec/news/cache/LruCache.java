@@ -0,0 +1,96 @@
+package ru.clevertec.news.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Кэш, вытесняющий запись, к которой дольше всего не обращались.
+ *
+ * @param <K> тип ключа
+ * @param <V> тип значения
+ */
+public class LruCache<K, V> implements BoundedCache<K, V> {
+
+    private final int capacity;
+    private final Map<K, V> values;
+    private final Consumer<K> evictionListener;
+    private long evictions;
+
+    /**
+     * @param capacity максимальное количество записей
+     */
+    public LruCache(int capacity) {
+        this(capacity, key -> {
+        });
+    }
+
+    /**
+     * @param capacity         максимальное количество записей
+     * @param evictionListener получает ключи вытесненных записей
+     */
+    public LruCache(int capacity, Consumer<K> evictionListener) {
+        this.capacity = capacity;
+        this.evictionListener = evictionListener;
+        this.values = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() <= LruCache.this.capacity) {
+                    return false;
+                }
+                evictions++;
+                evictionListener.accept(eldest.getKey());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(K key) {
+        return values.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(K key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(K key, V value) {
+        if (capacity > 0) {
+            values.put(key, value);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(K key) {
+        values.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public long evictionCount() {
+        return evictions;
+    }
+}
\ No newline at end of file
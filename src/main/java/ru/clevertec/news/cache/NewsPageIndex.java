@@ -0,0 +1,58 @@
+package ru.clevertec.news.cache;
+
+import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+
+import java.util.List;
+
+/**
+ * Правила удаления страниц новостей: {@code getAll(pageNumber, pageSize, title, text)}.
+ */
+public class NewsPageIndex implements PageIndex<NewsDto> {
+
+    private static final String GET_ALL = "getAll";
+
+    @Override
+    public Long id(NewsDto entity) {
+        return entity.getId();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<NewsDto> content(Object page) {
+        return page instanceof PageContentDto<?> dto && dto.content() != null ? (List<NewsDto>) dto.content() : List.of();
+    }
+
+    @Override
+    public NewsDto cast(Object entity) {
+        return entity instanceof NewsDto news ? news : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean matches(PageKey.Listing listing, NewsDto entity) {
+        if (!GET_ALL.equals(listing.endpoint())) {
+            return true;
+        }
+        return PageIndex.contains(entity.getTitle(), listing.filter(0))
+                && PageIndex.contains(entity.getText(), listing.filter(1));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean filtersMutableFields(PageKey.Listing listing) {
+        return !GET_ALL.equals(listing.endpoint()) || listing.filter(0) != null || listing.filter(1) != null;
+    }
+
+    /**
+     * У новостей нет родительских сущностей.
+     */
+    @Override
+    public boolean belongsTo(PageKey.Listing listing, Long parentId) {
+        return false;
+    }
+}
\ No newline at end of file
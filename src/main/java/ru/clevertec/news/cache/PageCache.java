@@ -0,0 +1,405 @@
+package ru.clevertec.news.cache;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Кэш страниц постраничных запросов с удалением только затронутых изменением страниц.
+ *
+ * <p>Страницы хранятся по {@link PageKey} и индексируются по запросу с фильтром и по идентификаторам сущностей
+ * на странице. Ключом {@code @CacheEvict} передается {@link PageWrite}, по которому {@link PageIndex} выбирает
+ * затронутые запросы:</p>
+ * <ul>
+ *     <li>создание - все страницы запросов, в результат которых может войти новая сущность;</li>
+ *     <li>обновление - страницы с этой сущностью и запросы, в которые она вошла или из которых вышла;</li>
+ *     <li>удаление - все страницы запросов, в которые входила сущность, или всех запросов,
+ *     если сущность не встречалась на страницах;</li>
+ *     <li>удаление родительской сущности - запросы, которые могут содержать её дочерние сущности.</li>
+ * </ul>
+ *
+ * <p>Загрузка, во время которой произошло изменение, не сохраняется. Одновременные промахи по одной странице
+ * ({@code @Cacheable(sync = true)}) ожидают одну загрузку; вызов, начатый после изменения, не присоединяется
+ * к загрузке, начатой до него, и загружает страницу сам. Время жизни страницы ограничивает устаревание
+ * при изменениях в обход сервиса.</p>
+ *
+ * @param <E> тип сущности на страницах
+ */
+public class PageCache<E> extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final PageIndex<E> index;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final BoundedCache<PageKey, Page> pages;
+    private final BoundedCache<Long, E> seen;
+    private final Map<PageKey.Listing, Set<PageKey>> listings = new HashMap<>();
+    private final Map<Long, Set<PageKey>> pagesById = new HashMap<>();
+    private final Map<PageKey, List<Long>> idsByPage = new HashMap<>();
+    private final Map<PageKey, Load> loads = new ConcurrentHashMap<>();
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param name      имя кэша
+     * @param index     правила удаления страниц
+     * @param algorithm алгоритм вытеснения страниц
+     * @param capacity  максимальное количество страниц
+     * @param ttl       время жизни страницы
+     * @param clock     часы
+     */
+    public PageCache(String name, PageIndex<E> index, CacheAlgorithm algorithm, int capacity, Duration ttl, Clock clock) {
+        super(false);
+        this.name = name;
+        this.index = index;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.pages = algorithm.create(capacity, this::unindex);
+        this.seen = CacheAlgorithm.LRU.create(capacity * 10);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return pages;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Object lookup(Object key) {
+        var page = page((PageKey) key);
+        if (page == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return page.value();
+    }
+
+    /**
+     * Получает страницу из кэша или загружает её. Одновременные вызовы с одним ключом ожидают одну загрузку.
+     * Страница не сохраняется, если во время загрузки была изменена сущность.
+     *
+     * @param key         ключ страницы
+     * @param valueLoader загрузка страницы
+     * @param <T>         тип страницы
+     * @return страница
+     * @throws ValueRetrievalException если загрузка завершилась исключением
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        var cached = lookup(key);
+        if (cached != null) {
+            return (T) fromStoreValue(cached);
+        }
+        var pageKey = (PageKey) key;
+        while (true) {
+            var load = new Load(currentGeneration(), new CompletableFuture<>());
+            var existing = loads.putIfAbsent(pageKey, load);
+            if (existing == null || existing.generation() != load.generation() && loads.replace(pageKey, existing, load)) {
+                return load(pageKey, load, valueLoader);
+            }
+            if (existing.generation() == load.generation()) {
+                return (T) await(existing);
+            }
+        }
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Object key, Object value) {
+        lock.lock();
+        try {
+            store((PageKey) key, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Удаляет страницу по {@link PageKey} или затронутые изменением страницы по {@link PageWrite}.
+     *
+     * @param key ключ страницы или изменение сущности
+     */
+    @Override
+    public void evict(Object key) {
+        lock.lock();
+        try {
+            generation++;
+            if (key instanceof PageWrite write) {
+                invalidate(write);
+            } else {
+                remove((PageKey) key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            generation++;
+            pages.clear();
+            seen.clear();
+            listings.clear();
+            pagesById.clear();
+            idsByPage.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return pages.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long evictionCount() {
+        lock.lock();
+        try {
+            return pages.evictionCount();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long putCount() {
+        return puts.sum();
+    }
+
+    /**
+     * @return количество страниц, удаленных из-за изменения сущностей
+     */
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    private Page page(PageKey key) {
+        lock.lock();
+        try {
+            var page = pages.get(key);
+            if (page != null && page.expiresAt() <= clock.millis()) {
+                remove(key);
+                return null;
+            }
+            return page;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long currentGeneration() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T load(PageKey key, Load load, Callable<T> valueLoader) {
+        try {
+            // страница могла быть сохранена загрузкой, завершившейся между промахом и началом этой
+            var page = page(key);
+            if (page != null) {
+                var value = (T) fromStoreValue(page.value());
+                load.future().complete(value);
+                return value;
+            }
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            lock.lock();
+            try {
+                if (generation == load.generation()) {
+                    store(key, value);
+                }
+            } finally {
+                lock.unlock();
+            }
+            load.future().complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+
+    private static Object await(Load load) {
+        try {
+            return load.future().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void invalidate(PageWrite write) {
+        var entity = index.cast(write.entity());
+        switch (write.kind()) {
+            case CREATED -> {
+                if (entity == null) {
+                    evictListings(listing -> true);
+                    return;
+                }
+                evictListings(listing -> index.matches(listing, entity));
+                seen.put(index.id(entity), entity);
+            }
+            case UPDATED -> {
+                if (entity == null) {
+                    evictListings(listing -> true);
+                    return;
+                }
+                var id = index.id(entity);
+                var before = seen.get(id);
+                for (var key : List.copyOf(pagesById.getOrDefault(id, Set.of()))) {
+                    evictPage(key);
+                }
+                if (before == null) {
+                    evictListings(index::filtersMutableFields);
+                } else {
+                    evictListings(listing -> index.matches(listing, before) != index.matches(listing, entity));
+                }
+                seen.put(id, entity);
+            }
+            case DELETED -> {
+                var before = seen.get(write.id());
+                if (before == null) {
+                    evictListings(listing -> true);
+                } else {
+                    evictListings(listing -> index.matches(listing, before));
+                    seen.remove(write.id());
+                }
+            }
+            case PARENT_DELETED -> evictListings(listing -> index.belongsTo(listing, write.id()));
+        }
+    }
+
+    private void evictListings(Predicate<PageKey.Listing> affected) {
+        for (var listing : List.copyOf(listings.keySet())) {
+            if (affected.test(listing)) {
+                for (var key : List.copyOf(listings.get(listing))) {
+                    evictPage(key);
+                }
+            }
+        }
+    }
+
+    private void evictPage(PageKey key) {
+        if (remove(key)) {
+            invalidations.increment();
+        }
+    }
+
+    private void store(PageKey key, Object value) {
+        remove(key);
+        pages.put(key, new Page(toStoreValue(value), clock.millis() + ttl.toMillis()));
+        if (!pages.contains(key)) {
+            return;
+        }
+        puts.increment();
+        listings.computeIfAbsent(key.listing(), listing -> new HashSet<>()).add(key);
+        List<Long> ids = new ArrayList<>();
+        for (var entity : index.content(value)) {
+            var id = index.id(entity);
+            ids.add(id);
+            seen.put(id, entity);
+            pagesById.computeIfAbsent(id, k -> new HashSet<>()).add(key);
+        }
+        idsByPage.put(key, ids);
+    }
+
+    private boolean remove(PageKey key) {
+        if (!pages.contains(key)) {
+            return false;
+        }
+        pages.remove(key);
+        unindex(key);
+        return true;
+    }
+
+    private void unindex(PageKey key) {
+        var keys = listings.get(key.listing());
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                listings.remove(key.listing());
+            }
+        }
+        var ids = idsByPage.remove(key);
+        if (ids == null) {
+            return;
+        }
+        for (var id : ids) {
+            var byId = pagesById.get(id);
+            if (byId != null) {
+                byId.remove(key);
+                if (byId.isEmpty()) {
+                    pagesById.remove(id);
+                }
+            }
+        }
+    }
+
+    private record Page(Object value, long expiresAt) {
+    }
+
+    /**
+     * Загрузка страницы, начатая при поколении изменений {@code generation}.
+     */
+    private record Load(long generation, CompletableFuture<Object> future) {
+    }
+}
\ No newline at end of file
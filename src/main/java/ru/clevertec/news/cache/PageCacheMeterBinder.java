@@ -0,0 +1,62 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Метрики {@link PageCache}: стандартные {@code cache.gets}, {@code cache.puts}, {@code cache.evictions},
+ * {@code cache.size} и количество страниц, удаленных из-за изменения сущностей, {@code cache.invalidations}.
+ */
+public class PageCacheMeterBinder extends CacheMeterBinder<PageCache<?>> {
+
+    /**
+     * @param cache кэш
+     * @param tags  дополнительные теги
+     */
+    public PageCacheMeterBinder(PageCache<?> cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+    }
+
+    @Override
+    protected Long size() {
+        var cache = getCache();
+        return cache == null ? null : (long) cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        var cache = getCache();
+        return cache == null ? 0 : cache.hitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        var cache = getCache();
+        return cache == null ? null : cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        var cache = getCache();
+        return cache == null ? null : cache.evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        var cache = getCache();
+        return cache == null ? 0 : cache.putCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("cache.invalidations", getCache(), PageCache::invalidationCount)
+                .description("Pages removed because an entity on them or in their listing was written")
+                .tags(getTagsWithCacheName())
+                .register(registry);
+    }
+}
\ No newline at end of file
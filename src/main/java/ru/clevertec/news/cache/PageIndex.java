@@ -0,0 +1,60 @@
+package ru.clevertec.news.cache;
+
+import java.util.List;
+
+/**
+ * Правила удаления страниц {@link PageCache} при изменении сущностей одного типа.
+ *
+ * <p>Методы должны ошибаться в сторону удаления: {@code true} для неизвестного запроса.</p>
+ *
+ * @param <E> тип сущности
+ */
+public interface PageIndex<E> {
+
+    /**
+     * @param entity сущность
+     * @return идентификатор сущности
+     */
+    Long id(E entity);
+
+    /**
+     * @param page результат постраничного запроса
+     * @return сущности страницы
+     */
+    List<E> content(Object page);
+
+    /**
+     * @param entity сущность или результат изменения
+     * @return сущность индекса или {@code null}, если объект другого типа
+     */
+    E cast(Object entity);
+
+    /**
+     * @param listing постраничный запрос
+     * @param entity  сущность
+     * @return может ли сущность с текущими значениями полей входить в результат запроса
+     */
+    boolean matches(PageKey.Listing listing, E entity);
+
+    /**
+     * @param listing постраничный запрос
+     * @return фильтруется ли запрос по полям, которые может изменить обновление сущности
+     */
+    boolean filtersMutableFields(PageKey.Listing listing);
+
+    /**
+     * @param listing  постраничный запрос
+     * @param parentId идентификатор удаленной родительской сущности
+     * @return может ли результат запроса содержать дочерние сущности удаленной
+     */
+    boolean belongsTo(PageKey.Listing listing, Long parentId);
+
+    /**
+     * @param value  значение поля сущности
+     * @param filter фильтр запроса
+     * @return совпадает ли значение с фильтром, как при поиске микросервисом - без учета регистра по подстроке
+     */
+    static boolean contains(String value, Object filter) {
+        return filter == null || value != null && value.toLowerCase().contains(filter.toString().toLowerCase());
+    }
+}
\ No newline at end of file
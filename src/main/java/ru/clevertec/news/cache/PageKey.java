@@ -0,0 +1,30 @@
+package ru.clevertec.news.cache;
+
+import java.util.List;
+
+/**
+ * Ключ страницы постраничного запроса.
+ *
+ * @param listing    запрос и его фильтр
+ * @param pageNumber номер страницы
+ * @param pageSize   размер страницы
+ */
+public record PageKey(Listing listing, int pageNumber, int pageSize) {
+
+    /**
+     * Постраничный запрос с фильтром, все страницы которого удаляются вместе.
+     *
+     * @param endpoint имя метода сервиса
+     * @param filter   аргументы фильтра, могут содержать {@code null}
+     */
+    public record Listing(String endpoint, List<Object> filter) {
+
+        /**
+         * @param index номер аргумента фильтра
+         * @return аргумент фильтра или {@code null}, если он не задан
+         */
+        public Object filter(int index) {
+            return index < filter.size() ? filter.get(index) : null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package ru.clevertec.news.cache;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Ключи {@link PageKey} для постраничных методов сервисов.
+ *
+ * <p>Первые два аргумента метода - номер и размер страницы, остальные - фильтр запроса.</p>
+ */
+public class PageKeyGenerator implements KeyGenerator {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        var filter = Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(params, 2, params.length)));
+        return new PageKey(new PageKey.Listing(method.getName(), filter),
+                ((Number) params[0]).intValue(), ((Number) params[1]).intValue());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package ru.clevertec.news.cache;
+
+/**
+ * Изменение сущности, передаваемое ключом {@code @CacheEvict} в {@link PageCache}.
+ *
+ * <p>Используется в выражениях ключа, например
+ * {@code key = "T(ru.clevertec.news.cache.PageWrite).created(#result)"}.</p>
+ *
+ * @param kind   вид изменения
+ * @param entity сущность после изменения, {@code null} для удаления
+ * @param id     идентификатор сущности
+ */
+public record PageWrite(Kind kind, Object entity, Long id) {
+
+    public static PageWrite created(Object entity) {
+        return new PageWrite(Kind.CREATED, entity, null);
+    }
+
+    public static PageWrite updated(Object entity) {
+        return new PageWrite(Kind.UPDATED, entity, null);
+    }
+
+    public static PageWrite deleted(Long id) {
+        return new PageWrite(Kind.DELETED, null, id);
+    }
+
+    /**
+     * @param parentId идентификатор удаленной родительской сущности, например новости для кэша комментариев
+     * @return удаление родительской сущности
+     */
+    public static PageWrite parentDeleted(Long parentId) {
+        return new PageWrite(Kind.PARENT_DELETED, null, parentId);
+    }
+
+    public enum Kind {
+        CREATED, UPDATED, DELETED, PARENT_DELETED
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package ru.clevertec.news.composition;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import ru.clevertec.news.config.properties.CompositionProperties;
+import ru.clevertec.news.dto.CommentDto;
+import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.exception.OperationException;
+import ru.clevertec.news.resilience.Deadline;
+import ru.clevertec.news.resilience.DeadlineExceededException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static ru.clevertec.news.constant.Constant.CALL_TIMEOUT_ERROR;
+
+/**
+ * Сборка новости с комментариями из двух параллельных запросов.
+ *
+ * <p>Время ответа равно времени более долгого запроса, а не их сумме. Новость обязательна: ошибка или истечение
+ * времени ожидания новости завершают сборку ошибкой. Комментарии необязательны: при ошибке или опоздании
+ * новость возвращается с пустым списком комментариев, что учитывается счетчиком {@code news.composition.partial}.
+ * Время ожидания не превышает времени, оставшегося до срока запроса клиента.</p>
+ */
+@Slf4j
+public class NewsComposer {
+
+    private final Executor executor;
+    private final long newsTimeout;
+    private final long commentsTimeout;
+    private final Counter partial;
+
+    /**
+     * @param executor      пул потоков для запросов синхронного режима
+     * @param properties    настройки сборки
+     * @param meterRegistry реестр метрик
+     */
+    public NewsComposer(Executor executor, CompositionProperties properties, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.newsTimeout = properties.getNewsTimeout().toMillis();
+        this.commentsTimeout = properties.getCommentsTimeout().toMillis();
+        this.partial = Counter.builder("news.composition.partial")
+                .description("News returned without comments because the comments call failed or was late")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Выполняет блокирующие запросы параллельно и ожидает результат.
+     *
+     * @param news     запрос новости
+     * @param comments запрос комментариев
+     * @return новость с комментариями
+     * @throws OperationException        если время ожидания новости истекло
+     * @throws DeadlineExceededException если истек срок запроса клиента
+     */
+    public NewsDto compose(Supplier<NewsDto> news, Supplier<PageContentDto<CommentDto>> comments) {
+        var commentsCall = CompletableFuture.supplyAsync(Deadline.wrap(comments), executor);
+        var newsCall = CompletableFuture.supplyAsync(Deadline.wrap(news), executor);
+        try {
+            return compose(newsCall, commentsCall).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                var deadline = Deadline.current();
+                if (deadline != null && deadline.isExpired(System.currentTimeMillis())) {
+                    throw new DeadlineExceededException();
+                }
+                throw new OperationException(CALL_TIMEOUT_ERROR);
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Объединяет выполняющиеся запросы новости и комментариев.
+     *
+     * @param news     запрос новости
+     * @param comments запрос комментариев
+     * @return новость с комментариями, завершается {@link TimeoutException}, если время ожидания новости истекло
+     */
+    public CompletableFuture<NewsDto> compose(CompletableFuture<NewsDto> news,
+                                              CompletableFuture<PageContentDto<CommentDto>> comments) {
+        var now = System.currentTimeMillis();
+        var content = comments
+                .thenApply(PageContentDto::content)
+                .exceptionally(e -> {
+                    log.warn("NewsComposer: comments call failed - " + e.getMessage());
+                    return null;
+                })
+                .completeOnTimeout(null, Deadline.limit(commentsTimeout, now), TimeUnit.MILLISECONDS);
+        return news.copy()
+                .orTimeout(Deadline.limit(newsTimeout, now), TimeUnit.MILLISECONDS)
+                .thenCombine(content, (newsDto, commentDtos) -> {
+                    if (commentDtos == null) {
+                        partial.increment();
+                        log.warn("NewsComposer: news " + newsDto.getId() + " returned without comments");
+                        commentDtos = List.of();
+                    }
+                    // результат Feign клиента может быть общим для объединенных запросов и не изменяется
+                    return new NewsDto(newsDto.getId(), newsDto.getTime(), newsDto.getTitle(), newsDto.getText(),
+                            commentDtos, newsDto.getUserId());
+                });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package ru.clevertec.news.compression;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Ограниченный пул буферов одного размера.
+ *
+ * <p>Буфер, не поместившийся в пул при возврате, остается сборщику мусора. Пул не привязан к потокам и подходит
+ * для виртуальных потоков.</p>
+ */
+public class BufferPool {
+
+    private final int bufferSize;
+    private final ArrayBlockingQueue<byte[]> buffers;
+
+    /**
+     * @param bufferSize размер буфера в байтах
+     * @param capacity   максимальное количество хранимых буферов
+     */
+    public BufferPool(int bufferSize, int capacity) {
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * @return буфер из пула или новый буфер
+     */
+    public byte[] acquire() {
+        var buffer = buffers.poll();
+        return buffer == null ? new byte[bufferSize] : buffer;
+    }
+
+    /**
+     * @param buffer буфер, полученный из пула
+     */
+    public void release(byte[] buffer) {
+        if (buffer.length == bufferSize) {
+            buffers.offer(buffer);
+        }
+    }
+
+    /**
+     * @return размер буфера в байтах
+     */
+    public int bufferSize() {
+        return bufferSize;
+    }
+}
\ No newline at end of file
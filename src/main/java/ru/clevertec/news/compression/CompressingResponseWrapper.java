@@ -0,0 +1,268 @@
+package ru.clevertec.news.compression;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * Ответ, сжимаемый выбранным кодированием, если тело не меньше порога.
+ *
+ * <p>Начало тела накапливается в буфере из пула размером с порог. Если тело заполнило буфер, ответ сжимается:
+ * устанавливается {@code Content-Encoding}, {@code Content-Length} снимается, сильный {@code ETag} становится слабым.
+ * Иначе тело записывается без сжатия с {@code Content-Length}. Сброс потока ({@code flush}) до решения
+ * игнорируется, чтобы сериализация не отправляла ответ раньше времени, явный {@link #flushBuffer()} принимает
+ * решение сразу.</p>
+ */
+public class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final ContentCodec codec;
+    private final BufferPool buffers;
+    private final List<MediaType> mimeTypes;
+    private final ThresholdOutputStream outputStream = new ThresholdOutputStream();
+    private byte[] buffer;
+    private int count;
+    private OutputStream target;
+    private boolean compressing;
+    private PrintWriter writer;
+    private long contentLength = -1;
+
+    /**
+     * @param response  исходный ответ
+     * @param codec     кодирование, принимаемое клиентом
+     * @param buffers   пул буферов размером с порог сжатия
+     * @param mimeTypes сжимаемые типы содержимого
+     */
+    public CompressingResponseWrapper(HttpServletResponse response, ContentCodec codec, BufferPool buffers,
+                                      List<MediaType> mimeTypes) {
+        super(response);
+        this.codec = codec;
+        this.buffers = buffers;
+        this.mimeTypes = mimeTypes;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, Charset.forName(getCharacterEncoding())));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (target == null) {
+            contentLength = len;
+        } else if (!compressing) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value == null ? -1 : Long.parseLong(value));
+        } else {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setHeader(name, value);
+        } else {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value);
+        } else {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value);
+        } else {
+            super.addIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (target == null) {
+            decide(true);
+        }
+        target.flush();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (target == null) {
+            count = 0;
+        }
+        super.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+        if (target == null) {
+            count = 0;
+            contentLength = -1;
+        }
+        super.reset();
+    }
+
+    /**
+     * Записывает накопленное тело или завершает сжатие. Вызывается после обработки запроса.
+     *
+     * @throws IOException если не удалось записать ответ
+     */
+    public void finish() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (target == null) {
+            decide(false);
+        }
+        if (compressing) {
+            target.close();
+        }
+        release();
+    }
+
+    private void decide(boolean streaming) throws IOException {
+        var response = (HttpServletResponse) getResponse();
+        var full = buffer != null && count == buffer.length;
+        if ((streaming || full) && isCompressible(response)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, codec.encoding());
+            response.setContentLengthLong(-1);
+            var etag = response.getHeader(HttpHeaders.ETAG);
+            if (etag != null && !etag.startsWith("W/")) {
+                response.setHeader(HttpHeaders.ETAG, "W/" + etag);
+            }
+            target = codec.encode(response.getOutputStream());
+            compressing = true;
+        } else {
+            target = response.getOutputStream();
+            if (!streaming && !full && count > 0) {
+                response.setContentLengthLong(count);
+            } else if (contentLength >= 0) {
+                response.setContentLengthLong(contentLength);
+            }
+        }
+        if (count > 0) {
+            target.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    private boolean isCompressible(HttpServletResponse response) {
+        var status = response.getStatus();
+        if (status < 200 || status == HttpServletResponse.SC_NO_CONTENT || status == HttpServletResponse.SC_PARTIAL_CONTENT
+                || status == HttpServletResponse.SC_NOT_MODIFIED || response.getHeader(HttpHeaders.CONTENT_ENCODING) != null
+                || response.getContentType() == null) {
+            return false;
+        }
+        var contentType = MediaType.parseMediaType(response.getContentType());
+        for (var mimeType : mimeTypes) {
+            if (mimeType.includes(contentType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private byte[] buffer() {
+        if (buffer == null) {
+            buffer = buffers.acquire();
+        }
+        return buffer;
+    }
+
+    private void release() {
+        if (buffer != null) {
+            buffers.release(buffer);
+            buffer = null;
+        }
+    }
+
+    private class ThresholdOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (target == null) {
+                var free = buffer().length - count;
+                var copied = Math.min(free, len);
+                System.arraycopy(b, off, buffer, count, copied);
+                count += copied;
+                if (copied == len) {
+                    return;
+                }
+                decide(false);
+                off += copied;
+                len -= copied;
+            }
+            target.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            try {
+                return getResponse().getOutputStream().isReady();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                getResponse().getOutputStream().setWriteListener(writeListener);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package ru.clevertec.news.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Кодирование содержимого HTTP сообщений ({@code Content-Encoding}).
+ */
+public interface ContentCodec {
+
+    /**
+     * @return имя кодирования в заголовках {@code Accept-Encoding} и {@code Content-Encoding}
+     */
+    String encoding();
+
+    /**
+     * Создает поток сжатия. Закрытие потока завершает сжатие и освобождает ресурсы кодирования,
+     * поток {@code out} не закрывается.
+     *
+     * @param out поток сжатых данных
+     * @return поток исходных данных
+     * @throws IOException если не удалось записать заголовок формата
+     */
+    OutputStream encode(OutputStream out) throws IOException;
+
+    /**
+     * Создает поток распаковки.
+     *
+     * @param in поток сжатых данных
+     * @return поток исходных данных
+     * @throws IOException если данные не соответствуют формату
+     */
+    InputStream decode(InputStream in) throws IOException;
+
+    /**
+     * Проверяет сигнатуру формата: клиенты, распаковывающие ответ сами, могут оставлять {@code Content-Encoding}.
+     *
+     * @param head   первые байты данных
+     * @param length количество прочитанных байтов
+     * @return {@code true}, если данные сжаты этим кодированием
+     */
+    boolean isEncoded(byte[] head, int length);
+}
\ No newline at end of file
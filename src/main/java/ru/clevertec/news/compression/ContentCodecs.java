@@ -0,0 +1,95 @@
+package ru.clevertec.news.compression;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Поддерживаемые кодирования в порядке предпочтения и выбор кодирования по {@code Accept-Encoding}.
+ */
+public class ContentCodecs {
+
+    private final List<ContentCodec> codecs;
+
+    /**
+     * @param codecs кодирования в порядке предпочтения
+     */
+    public ContentCodecs(List<ContentCodec> codecs) {
+        this.codecs = List.copyOf(codecs);
+    }
+
+    /**
+     * @param encoding имя кодирования из {@code Content-Encoding}
+     * @return кодирование или {@code null}, если оно не поддерживается
+     */
+    public ContentCodec find(String encoding) {
+        if (encoding == null) {
+            return null;
+        }
+        var name = encoding.trim();
+        for (var codec : codecs) {
+            if (codec.encoding().equalsIgnoreCase(name)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Выбирает первое по предпочтению кодирование, принимаемое клиентом. Кодирования с {@code q=0} исключаются,
+     * {@code *} принимает любое не указанное явно кодирование.
+     *
+     * @param acceptEncoding значение {@code Accept-Encoding}
+     * @return кодирование или {@code null}, если клиент не принимает ни одного
+     */
+    public ContentCodec negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        var header = acceptEncoding.toLowerCase(Locale.ROOT);
+        for (var codec : codecs) {
+            var quality = quality(header, codec.encoding());
+            if (quality == null) {
+                quality = quality(header, "*");
+            }
+            if (quality != null && quality > 0) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return имена кодирований для {@code Accept-Encoding}
+     */
+    public String acceptEncoding() {
+        var names = new StringBuilder();
+        for (var codec : codecs) {
+            if (!names.isEmpty()) {
+                names.append(", ");
+            }
+            names.append(codec.encoding());
+        }
+        return names.toString();
+    }
+
+    private static Double quality(String header, String encoding) {
+        for (var element : header.split(",")) {
+            var parts = element.split(";");
+            if (!parts[0].trim().equals(encoding)) {
+                continue;
+            }
+            for (var i = 1; i < parts.length; i++) {
+                var parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        return 0.0;
+                    }
+                }
+            }
+            return 1.0;
+        }
+        return null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,144 @@
+package ru.clevertec.news.compression;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Кодирование gzip с переиспользуемыми {@link Deflater} и буферами.
+ *
+ * <p>{@link java.util.zip.GZIPOutputStream} создает новый {@link Deflater} с собственной нативной памятью на каждый
+ * поток, поэтому формат gzip (RFC 1952) записывается здесь вручную поверх {@link Deflater} из пула.
+ * {@link OutputStream#flush()} выполняет {@link Deflater#SYNC_FLUSH}: переданные данные можно распаковать сразу.</p>
+ */
+public class GzipCodec implements ContentCodec {
+
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final int level;
+    private final BufferPool buffers;
+    private final ArrayBlockingQueue<Deflater> deflaters;
+
+    /**
+     * @param level   уровень сжатия от 1 до 9
+     * @param buffers пул буферов сжатия
+     * @param maxIdle максимальное количество хранимых {@link Deflater}
+     */
+    public GzipCodec(int level, BufferPool buffers, int maxIdle) {
+        this.level = level;
+        this.buffers = buffers;
+        this.deflaters = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    @Override
+    public String encoding() {
+        return "gzip";
+    }
+
+    @Override
+    public OutputStream encode(OutputStream out) throws IOException {
+        out.write(HEADER);
+        var deflater = deflaters.poll();
+        return new GzipOutputStream(out, deflater == null ? new Deflater(level, true) : deflater, buffers.acquire());
+    }
+
+    @Override
+    public InputStream decode(InputStream in) throws IOException {
+        return new GZIPInputStream(in, buffers.bufferSize());
+    }
+
+    @Override
+    public boolean isEncoded(byte[] head, int length) {
+        return length >= 2 && head[0] == HEADER[0] && head[1] == HEADER[1];
+    }
+
+    private void release(Deflater deflater, byte[] buffer) {
+        buffers.release(buffer);
+        deflater.reset();
+        if (!deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    private class GzipOutputStream extends FilterOutputStream {
+
+        private final Deflater deflater;
+        private final byte[] buffer;
+        private final CRC32 crc = new CRC32();
+        private boolean closed;
+
+        private GzipOutputStream(OutputStream out, Deflater deflater, byte[] buffer) {
+            super(out);
+            this.deflater = deflater;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            crc.update(b, off, len);
+            deflater.setInput(b, off, len);
+            while (!deflater.needsInput()) {
+                deflate(Deflater.NO_FLUSH);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            int length;
+            do {
+                length = deflate(Deflater.SYNC_FLUSH);
+            } while (length == buffer.length);
+            out.flush();
+        }
+
+        /**
+         * Завершает сжатие и возвращает {@link Deflater} и буфер в пул, исходный поток не закрывается.
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    deflate(Deflater.NO_FLUSH);
+                }
+                writeInt((int) crc.getValue());
+                writeInt((int) deflater.getBytesRead());
+                out.flush();
+            } finally {
+                release(deflater, buffer);
+            }
+        }
+
+        private int deflate(int flush) throws IOException {
+            var length = deflater.deflate(buffer, 0, buffer.length, flush);
+            if (length > 0) {
+                out.write(buffer, 0, length);
+            }
+            return length;
+        }
+
+        private void writeInt(int value) throws IOException {
+            out.write(value & 0xff);
+            out.write((value >> 8) & 0xff);
+            out.write((value >> 16) & 0xff);
+            out.write((value >> 24) & 0xff);
+        }
+    }
+}
\ No newline at end of file
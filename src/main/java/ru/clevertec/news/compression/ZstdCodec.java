@@ -0,0 +1,57 @@
+package ru.clevertec.news.compression;
+
+import com.github.luben.zstd.RecyclingBufferPool;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Кодирование zstd (RFC 8878).
+ *
+ * <p>Буферы потоков берутся из {@link RecyclingBufferPool} и возвращаются при закрытии.</p>
+ */
+public class ZstdCodec implements ContentCodec {
+
+    private static final byte[] MAGIC = {0x28, (byte) 0xb5, 0x2f, (byte) 0xfd};
+
+    private final int level;
+
+    /**
+     * @param level уровень сжатия от 1 до 22
+     */
+    public ZstdCodec(int level) {
+        this.level = level;
+    }
+
+    @Override
+    public String encoding() {
+        return "zstd";
+    }
+
+    @Override
+    public OutputStream encode(OutputStream out) throws IOException {
+        return new ZstdOutputStream(StreamUtils.nonClosing(out), RecyclingBufferPool.INSTANCE).setLevel(level);
+    }
+
+    @Override
+    public InputStream decode(InputStream in) throws IOException {
+        return new ZstdInputStream(in, RecyclingBufferPool.INSTANCE);
+    }
+
+    @Override
+    public boolean isEncoded(byte[] head, int length) {
+        if (length < MAGIC.length) {
+            return false;
+        }
+        for (var i = 0; i < MAGIC.length; i++) {
+            if (head[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
\ No newline at end of file
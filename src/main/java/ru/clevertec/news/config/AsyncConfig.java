@@ -0,0 +1,131 @@
+package ru.clevertec.news.config;
+
+import feign.AsyncFeign;
+import feign.Request;
+import feign.Target;
+import feign.http2client.Http2Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import ru.clevertec.news.config.properties.AsyncProperties;
+import ru.clevertec.news.config.properties.FeignProperties;
+import ru.clevertec.news.feign.async.AsyncCallLimiter;
+import ru.clevertec.news.feign.async.AsyncCommentClient;
+import ru.clevertec.news.feign.async.AsyncNewsClient;
+import ru.clevertec.news.feign.async.DeadlineInterceptor;
+import ru.clevertec.news.util.VirtualThreads;
+
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Конфигурация асинхронной обработки запросов ({@code async.enabled}).
+ *
+ * <p>Асинхронные Feign клиенты отправляют запросы через {@link HttpClient} JDK без блокировки потока:
+ * ответы декодируются, а продолжения выполняются в общем пуле из {@code async.threads} потоков или, в режиме
+ * виртуальных потоков, каждое в новом виртуальном потоке.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "async", name = "enabled", havingValue = "true")
+public class AsyncConfig {
+
+    /**
+     * Создает ограничение одновременных асинхронных запросов с пулом потоков для ответов микросервисов
+     * и продолжений запросов.
+     *
+     * <p>Пул не объявляется отдельным бином {@link Executor}, иначе Spring Boot не создаст
+     * {@code applicationTaskExecutor}. При остановке контекста пул останавливается вместе с ограничением:
+     * начатые запросы завершаются в пределах {@code async.timeout}.</p>
+     *
+     * @param properties    настройки асинхронной обработки
+     * @param environment   окружение приложения
+     * @param meterRegistry реестр метрик
+     * @return ограничение одновременных запросов
+     */
+    @Bean(destroyMethod = "close")
+    public AsyncCallLimiter asyncCallLimiter(AsyncProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        return new AsyncCallLimiter(properties.getMaxConcurrentCalls(), properties.getTimeout(),
+                executor(properties, environment), meterRegistry);
+    }
+
+    /**
+     * Создает асинхронный клиент микросервиса новостей.
+     *
+     * @param url               адрес API новостей
+     * @param feignProperties   настройки микросервисов
+     * @param properties        настройки асинхронной обработки
+     * @param asyncCallLimiter  ограничение одновременных запросов, пул потоков которого обрабатывает ответы
+     * @param messageConverters преобразователи тела запроса и ответа
+     * @return асинхронный клиент
+     */
+    @Bean
+    public AsyncNewsClient asyncNewsClient(@Value("${feign.news-service.url-news}") String url,
+                                           FeignProperties feignProperties,
+                                           AsyncProperties properties,
+                                           AsyncCallLimiter asyncCallLimiter,
+                                           ObjectFactory<HttpMessageConverters> messageConverters) {
+        return asyncFeign(properties, asyncCallLimiter, messageConverters)
+                .target(new Target.HardCodedTarget<>(AsyncNewsClient.class, feignProperties.getNewsService().getValue(), url));
+    }
+
+    /**
+     * Создает асинхронный клиент микросервиса комментариев.
+     *
+     * @param url               адрес API комментариев
+     * @param feignProperties   настройки микросервисов
+     * @param properties        настройки асинхронной обработки
+     * @param asyncCallLimiter  ограничение одновременных запросов, пул потоков которого обрабатывает ответы
+     * @param messageConverters преобразователи тела запроса и ответа
+     * @return асинхронный клиент
+     */
+    @Bean
+    public AsyncCommentClient asyncCommentClient(@Value("${feign.comment-service.url-comments}") String url,
+                                                 FeignProperties feignProperties,
+                                                 AsyncProperties properties,
+                                                 AsyncCallLimiter asyncCallLimiter,
+                                                 ObjectFactory<HttpMessageConverters> messageConverters) {
+        return asyncFeign(properties, asyncCallLimiter, messageConverters)
+                .target(new Target.HardCodedTarget<>(AsyncCommentClient.class, feignProperties.getCommentService().getValue(), url));
+    }
+
+    private static Executor executor(AsyncProperties properties, Environment environment) {
+        if (VirtualThreads.isActive(environment)) {
+            var executor = VirtualThreads.executor("async-call-");
+            executor.setTaskTerminationTimeout(properties.getTimeout().toMillis());
+            return executor;
+        }
+        var threadFactory = new CustomizableThreadFactory("async-call-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(properties.getThreads(), threadFactory);
+    }
+
+    private static AsyncFeign.AsyncBuilder<Object> asyncFeign(AsyncProperties properties, AsyncCallLimiter callLimiter,
+                                                              ObjectFactory<HttpMessageConverters> messageConverters) {
+        var timeout = properties.getTimeout().toMillis();
+        // HTTP клиент не объявляется бином: бин feign.Client заменил бы клиент синхронных Feign клиентов
+        var httpClient = new Http2Client(HttpClient.newBuilder()
+                .executor(callLimiter.executor())
+                .connectTimeout(properties.getTimeout())
+                .build());
+        return AsyncFeign.builder()
+                .client(httpClient)
+                .contract(new SpringMvcContract())
+                .encoder(new SpringEncoder(messageConverters))
+                .decoder(new ResponseEntityDecoder(new SpringDecoder(messageConverters)))
+                .requestInterceptor(new DeadlineInterceptor(Clock.systemUTC()))
+                .options(new Request.Options(timeout, TimeUnit.MILLISECONDS, timeout, TimeUnit.MILLISECONDS, true));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package ru.clevertec.news.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import ru.clevertec.news.composition.NewsComposer;
+import ru.clevertec.news.config.properties.CompositionProperties;
+import ru.clevertec.news.feign.CommentClient;
+import ru.clevertec.news.feign.NewsClient;
+import ru.clevertec.news.service.NewsService;
+import ru.clevertec.news.service.impl.ComposingNewsServiceImpl;
+import ru.clevertec.news.service.impl.NewsServiceImpl;
+import ru.clevertec.news.util.VirtualThreads;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Конфигурация сборки новости с комментариями на стороне шлюза ({@code news.composition.enabled}).
+ *
+ * <p>Заменяет {@link NewsServiceImpl} в контроллере сервисом, который запрашивает новость и комментарии параллельно.
+ * В асинхронном режиме сборку выполняет {@code AsyncNewsServiceImpl}.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "news.composition", name = "enabled", havingValue = "true")
+public class CompositionConfig {
+
+    /**
+     * Создает сборку новости с комментариями.
+     *
+     * @param properties    настройки сборки
+     * @param environment   окружение приложения
+     * @param meterRegistry реестр метрик
+     * @return сборка новости с комментариями
+     */
+    @Bean
+    public NewsComposer newsComposer(CompositionProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        return new NewsComposer(executor(properties, environment), properties, meterRegistry);
+    }
+
+    /**
+     * Создает сервис новостей со сборкой новости с комментариями.
+     *
+     * @param newsServiceImpl сервис новостей
+     * @param newsClient      клиент микросервиса новостей
+     * @param commentClient   клиент микросервиса комментариев
+     * @param newsComposer    сборка новости с комментариями
+     * @return сервис новостей
+     */
+    @Bean
+    @Primary
+    public NewsService composingNewsService(NewsServiceImpl newsServiceImpl, NewsClient newsClient,
+                                            CommentClient commentClient, NewsComposer newsComposer) {
+        return new ComposingNewsServiceImpl(newsServiceImpl, newsClient, commentClient, newsComposer);
+    }
+
+    private static Executor executor(CompositionProperties properties, Environment environment) {
+        if (VirtualThreads.isActive(environment)) {
+            return VirtualThreads.executor("composition-");
+        }
+        var threadFactory = new CustomizableThreadFactory("composition-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(properties.getThreads(), threadFactory);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package ru.clevertec.news.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+import ru.clevertec.news.compression.BufferPool;
+import ru.clevertec.news.compression.ContentCodec;
+import ru.clevertec.news.compression.ContentCodecs;
+import ru.clevertec.news.compression.GzipCodec;
+import ru.clevertec.news.compression.ZstdCodec;
+import ru.clevertec.news.config.filter.CompressionFilter;
+import ru.clevertec.news.config.properties.CompressionProperties;
+
+import java.util.ArrayList;
+
+/**
+ * Конфигурация сжатия ответов клиентам ({@code compression.enabled}).
+ *
+ * <p>Фильтр выполняется раньше цепочки Spring Security, чтобы сжимать и ответы об ошибках доступа.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "compression", name = "enabled", havingValue = "true")
+public class CompressionConfig {
+
+    /**
+     * Создает фильтр сжатия ответов.
+     *
+     * @param properties настройки сжатия
+     * @return регистрация фильтра
+     */
+    @Bean
+    public FilterRegistrationBean<CompressionFilter> compressionFilter(CompressionProperties properties) {
+        var buffers = new BufferPool((int) properties.getBufferSize().toBytes(), properties.getPoolSize());
+        var codecs = new ArrayList<ContentCodec>();
+        for (var encoding : properties.getEncodings()) {
+            codecs.add(switch (encoding) {
+                case "gzip" -> new GzipCodec(properties.getGzipLevel(), buffers, properties.getPoolSize());
+                case "zstd" -> new ZstdCodec(properties.getZstdLevel());
+                default -> throw new IllegalArgumentException("Unsupported content encoding: " + encoding);
+            });
+        }
+        var registration = new FilterRegistrationBean<>(new CompressionFilter(
+                new ContentCodecs(codecs),
+                new BufferPool((int) properties.getMinResponseSize().toBytes(), properties.getPoolSize()),
+                properties.getMimeTypes().stream().map(MediaType::parseMediaType).toList(),
+                properties.getRoutes()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
+}
\ No newline at end of file
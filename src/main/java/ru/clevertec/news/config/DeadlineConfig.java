@@ -0,0 +1,34 @@
+package ru.clevertec.news.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import ru.clevertec.news.config.filter.DeadlineFilter;
+import ru.clevertec.news.config.properties.DeadlineProperties;
+
+import java.time.Clock;
+
+/**
+ * Конфигурация сроков запросов клиентов ({@code deadline.enabled}).
+ *
+ * <p>Фильтр выполняется раньше цепочки Spring Security, чтобы срок учитывался и при проверке токена.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "deadline", name = "enabled", havingValue = "true")
+public class DeadlineConfig {
+
+    /**
+     * Создает фильтр сроков запросов.
+     *
+     * @param properties настройки сроков запросов
+     * @return регистрация фильтра
+     */
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter(DeadlineProperties properties) {
+        var registration = new FilterRegistrationBean<>(new DeadlineFilter(properties, Clock.systemUTC()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 110);
+        return registration;
+    }
+}
\ No newline at end of file
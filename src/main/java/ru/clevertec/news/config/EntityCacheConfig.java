@@ -0,0 +1,97 @@
+package ru.clevertec.news.config;
+
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.clevertec.news.cache.CommentPageIndex;
+import ru.clevertec.news.cache.EntityCache;
+import ru.clevertec.news.cache.EntityCacheMeterBinder;
+import ru.clevertec.news.cache.NewsPageIndex;
+import ru.clevertec.news.cache.PageCache;
+import ru.clevertec.news.cache.PageCacheMeterBinder;
+import ru.clevertec.news.cache.PageIndex;
+import ru.clevertec.news.cache.PageKeyGenerator;
+import ru.clevertec.news.config.properties.EntityCacheProperties;
+
+import java.time.Clock;
+import java.util.List;
+
+import static ru.clevertec.news.constant.Constant.COMMENTS_CACHE;
+import static ru.clevertec.news.constant.Constant.COMMENT_PAGES_CACHE;
+import static ru.clevertec.news.constant.Constant.NEWS_CACHE;
+import static ru.clevertec.news.constant.Constant.NEWS_PAGES_CACHE;
+
+/**
+ * Конфигурация кэша новостей и комментариев ({@code entity-cache.enabled}).
+ *
+ * <p>Включает аннотации кэширования сервисов: GET читает из кэша и при промахе загружает сущность из микросервиса,
+ * POST и PUT сохраняют результат в кэш, DELETE удаляет запись. Страницы постраничных запросов кэшируются
+ * {@link PageCache}, изменения удаляют только затронутые страницы. Метрики кэшей регистрирует Spring Boot Actuator
+ * с тегом {@code cache}.</p>
+ */
+@Configuration
+@EnableCaching(proxyTargetClass = true)
+@ConditionalOnProperty(prefix = "entity-cache", name = "enabled", havingValue = "true")
+public class EntityCacheConfig {
+
+    /**
+     * Создает кэши сущностей с алгоритмом и размером из настроек.
+     *
+     * @param properties настройки кэша
+     * @return менеджер кэшей
+     */
+    @Bean
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        var cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                cache(NEWS_CACHE, properties.getNews()),
+                cache(COMMENTS_CACHE, properties.getComments()),
+                pageCache(NEWS_PAGES_CACHE, new NewsPageIndex(), properties.getNewsPages()),
+                pageCache(COMMENT_PAGES_CACHE, new CommentPageIndex(), properties.getCommentPages())));
+        return cacheManager;
+    }
+
+    /**
+     * Создает ключи страниц постраничных запросов.
+     *
+     * @return генератор ключей
+     */
+    @Bean
+    public KeyGenerator pageKeyGenerator() {
+        return new PageKeyGenerator();
+    }
+
+    /**
+     * Создает метрики кэшей сущностей.
+     *
+     * @return метрики кэша
+     */
+    @Bean
+    public CacheMeterBinderProvider<EntityCache> entityCacheMeterBinderProvider() {
+        return EntityCacheMeterBinder::new;
+    }
+
+    /**
+     * Создает метрики кэшей страниц.
+     *
+     * @return метрики кэша
+     */
+    @Bean
+    public CacheMeterBinderProvider<PageCache<?>> pageCacheMeterBinderProvider() {
+        return PageCacheMeterBinder::new;
+    }
+
+    private static EntityCache cache(String name, EntityCacheProperties.Cache properties) {
+        return new EntityCache(name, properties.getAlgorithm().create(properties.getCapacity()));
+    }
+
+    private static <E> PageCache<E> pageCache(String name, PageIndex<E> index, EntityCacheProperties.Pages properties) {
+        return new PageCache<>(name, index, properties.getAlgorithm(), properties.getCapacity(), properties.getTtl(),
+                Clock.systemUTC());
+    }
+}
\ No newline at end of file
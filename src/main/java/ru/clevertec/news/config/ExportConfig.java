@@ -0,0 +1,53 @@
+package ru.clevertec.news.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import ru.clevertec.news.config.properties.ExportProperties;
+import ru.clevertec.news.feign.CommentClient;
+import ru.clevertec.news.feign.NewsClient;
+import ru.clevertec.news.service.ExportService;
+import ru.clevertec.news.service.impl.ExportServiceImpl;
+import ru.clevertec.news.util.VirtualThreads;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Конфигурация выгрузки новостей и комментариев в формате NDJSON ({@code export.enabled}).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "export", name = "enabled", havingValue = "true")
+public class ExportConfig {
+
+    /**
+     * Создает сервис выгрузки.
+     *
+     * @param newsClient    клиент микросервиса новостей
+     * @param commentClient клиент микросервиса комментариев
+     * @param objectMapper  сериализация элементов
+     * @param properties    настройки выгрузки
+     * @param environment   окружение приложения
+     * @param meterRegistry реестр метрик
+     * @return сервис выгрузки
+     */
+    @Bean
+    public ExportService exportService(NewsClient newsClient, CommentClient commentClient, ObjectMapper objectMapper,
+                                       ExportProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        return new ExportServiceImpl(newsClient, commentClient, objectMapper, executor(properties, environment),
+                properties, meterRegistry);
+    }
+
+    private static Executor executor(ExportProperties properties, Environment environment) {
+        if (VirtualThreads.isActive(environment)) {
+            return VirtualThreads.executor("export-");
+        }
+        var threadFactory = new CustomizableThreadFactory("export-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(properties.getThreads(), threadFactory);
+    }
+}
\ No newline at end of file
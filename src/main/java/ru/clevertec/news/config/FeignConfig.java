@@ -0,0 +1,303 @@
+package ru.clevertec.news.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import ru.clevertec.news.compression.BufferPool;
+import ru.clevertec.news.compression.ContentCodecs;
+import ru.clevertec.news.compression.GzipCodec;
+import ru.clevertec.news.compression.ZstdCodec;
+import ru.clevertec.news.config.properties.FeignProperties;
+import ru.clevertec.news.feign.capability.CoalescingCapability;
+import ru.clevertec.news.feign.capability.CollapsingCapability;
+import ru.clevertec.news.feign.client.AbortableDefaultClient;
+import ru.clevertec.news.feign.client.AbortableHttpClient;
+import ru.clevertec.news.feign.client.AdaptiveTimeoutClient;
+import ru.clevertec.news.feign.client.ConditionalGetClient;
+import ru.clevertec.news.feign.client.DeadlineClient;
+import ru.clevertec.news.feign.client.DecompressingClient;
+import ru.clevertec.news.feign.client.GuardedClient;
+import ru.clevertec.news.feign.client.HedgingClient;
+import ru.clevertec.news.feign.client.MeteredConnectionManager;
+import ru.clevertec.news.feign.client.RetryingClient;
+import ru.clevertec.news.feign.client.ServiceRoutingClient;
+import ru.clevertec.news.resilience.Bulkhead;
+import ru.clevertec.news.resilience.CallBudget;
+import ru.clevertec.news.resilience.CircuitBreaker;
+import ru.clevertec.news.resilience.LatencyEstimator;
+import ru.clevertec.news.util.VirtualThreads;
+
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+
+/**
+ * Общая конфигурация Feign клиентов.
+ *
+ * <p>Объявленные здесь {@link Capability} и {@link Client} применяются ко всем клиентам.</p>
+ */
+@Configuration
+public class FeignConfig implements EnvironmentAware {
+
+    private static final int DECODE_BUFFER_SIZE = 8192;
+    private static final int ZSTD_DEFAULT_LEVEL = 3;
+    private static final int LATENCY_SAMPLES = 1024;
+    private static final int LATENCY_MIN_SAMPLES = 50;
+
+    private Environment environment;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Создает объединение одинаковых одновременных GET запросов ({@code feign.coalescing.enabled}).
+     *
+     * <p>Присоединившийся вызов ожидает результат не дольше времени соединения и ответа пула соединений
+     * микросервиса ({@code feign.*-service.pool}).</p>
+     *
+     * @param properties    настройки микросервисов
+     * @param objectMapper  копирование результата для присоединившихся вызовов
+     * @param meterRegistry реестр метрик
+     * @return расширение Feign клиентов
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "feign.coalescing", name = "enabled", havingValue = "true")
+    public Capability coalescingCapability(FeignProperties properties, ObjectMapper objectMapper,
+                                           MeterRegistry meterRegistry) {
+        return new CoalescingCapability(meterRegistry, objectMapper, poolOptions(properties));
+    }
+
+    /**
+     * Создает объединение одновременных запросов сущностей по идентификатору в групповые запросы
+     * ({@code feign.collapsing.enabled}).
+     *
+     * <p>Вызов ожидает сущность не дольше окна группы и времени соединения и ответа пула соединений
+     * микросервиса ({@code feign.*-service.pool}).</p>
+     *
+     * @param properties    настройки микросервисов
+     * @param environment   окружение приложения
+     * @param meterRegistry реестр метрик
+     * @return расширение Feign клиентов
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "feign.collapsing", name = "enabled", havingValue = "true")
+    public Capability collapsingCapability(FeignProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        var collapsing = properties.getCollapsing();
+        return new CollapsingCapability(meterRegistry, collapsingExecutor(collapsing, environment),
+                collapsing.getWindow(), collapsing.getMaxSize(), collapsing.getBulkProbeInterval(),
+                poolOptions(properties));
+    }
+
+    /**
+     * Создает HTTP клиент Feign с пулом соединений для каждого микросервиса с {@code feign.*-service.pool.enabled}.
+     *
+     * <p>Заполненность пула публикуется метриками {@code httpcomponents.httpclient.pool.*}, время ожидания
+     * свободного соединения - таймером {@code feign.client.pool.lease} (тег {@code client} - имя Feign клиента).
+     * С {@code feign.*-service.compression.enabled} ответы микросервиса запрашиваются сжатыми и распаковываются,
+     * с {@code feign.conditional-get.enabled} GET запросы выполняются условно по запомненным {@code ETag}.
+     * {@code feign.*-service.bulkhead} и {@code feign.*-service.circuit-breaker} ограничивают одновременные запросы
+     * к микросервису и отклоняют запросы к недоступному микросервису, с {@code feign.*-service.hedging.enabled}
+     * медленные GET запросы дублируются в пределах {@code feign.hedge-budget}. С
+     * {@code feign.*-service.adaptive-timeout.enabled} время ожидания ответа вычисляется для каждого метода Feign
+     * клиента по статистике ответов, с {@code feign.*-service.retry.enabled} идемпотентные запросы повторяются
+     * в пределах {@code feign.retry-budget}. Запросы ограничены сроком запроса клиента ({@code deadline.enabled}).</p>
+     *
+     * @param properties    настройки микросервисов
+     * @param meterRegistry реестр метрик
+     * @return HTTP клиент Feign
+     */
+    @Bean
+    public Client feignClient(FeignProperties properties, MeterRegistry meterRegistry) {
+        Map<String, ServiceRoutingClient.Route> routes = new HashMap<>();
+        List<CloseableHttpClient> resources = new ArrayList<>();
+        Map<String, String> acceptEncodings = new HashMap<>();
+        Map<String, GuardedClient.Guard> guards = new HashMap<>();
+        Map<String, HedgingClient.Policy> hedging = new HashMap<>();
+        Map<String, AdaptiveTimeoutClient.Policy> timeouts = new HashMap<>();
+        Map<String, RetryingClient.Policy> retries = new HashMap<>();
+        for (var service : properties.services()) {
+            if (service.getValue() != null && service.getAdaptiveTimeout().isEnabled()) {
+                timeouts.put(service.getValue(), timeoutPolicy(service.getAdaptiveTimeout()));
+            }
+            if (service.getValue() != null && service.getRetry().isEnabled()) {
+                retries.put(service.getValue(), retryPolicy(service.getRetry()));
+            }
+            if (service.getValue() != null && service.getHedging().isEnabled()) {
+                hedging.put(service.getValue(), hedgingPolicy(service.getHedging()));
+            }
+            var guard = guard(service, meterRegistry);
+            if (guard != null) {
+                guards.put(service.getValue(), guard);
+            }
+            var compression = service.getCompression();
+            if (service.getValue() != null && compression.isEnabled()) {
+                acceptEncodings.put(service.getValue(), String.join(", ", compression.getEncodings()));
+            }
+            var pool = service.getPool();
+            if (service.getValue() == null || !pool.isEnabled()) {
+                continue;
+            }
+            Client client;
+            if (pool.isHttp2()) {
+                client = new Http2Client(HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_2)
+                        .connectTimeout(pool.getConnectTimeout())
+                        .build());
+            } else {
+                var httpClient = pooledHttpClient(service.getValue(), pool, compression.isEnabled(), meterRegistry);
+                resources.add(httpClient);
+                client = new ApacheHttp5Client(new AbortableHttpClient(httpClient));
+            }
+            routes.put(service.getValue(), new ServiceRoutingClient.Route(client,
+                    pool.getConnectTimeout().toMillis(), pool.getReadTimeout().toMillis()));
+        }
+        Client client = new ServiceRoutingClient(routes, new AbortableDefaultClient(), resources);
+        if (!guards.isEmpty()) {
+            client = new GuardedClient(client, guards, Clock.systemUTC());
+        }
+        if (!timeouts.isEmpty()) {
+            client = new AdaptiveTimeoutClient(client, timeouts,
+                    () -> new LatencyEstimator(LATENCY_SAMPLES, LATENCY_MIN_SAMPLES), meterRegistry);
+        }
+        if (!hedging.isEmpty()) {
+            var budget = properties.getHedgeBudget();
+            client = new HedgingClient(client, hedging, new CallBudget(budget.getRatio(), budget.getBurst()),
+                    hedgingExecutor(), meterRegistry);
+        }
+        client = new DeadlineClient(client, Clock.systemUTC(), meterRegistry);
+        if (!retries.isEmpty()) {
+            var budget = properties.getRetryBudget();
+            client = new RetryingClient(client, retries, new CallBudget(budget.getRatio(), budget.getBurst()),
+                    meterRegistry);
+        }
+        if (!acceptEncodings.isEmpty()) {
+            client = new DecompressingClient(client, acceptEncodings, new ContentCodecs(List.of(
+                    new GzipCodec(Deflater.DEFAULT_COMPRESSION, new BufferPool(DECODE_BUFFER_SIZE, 1), 1),
+                    new ZstdCodec(ZSTD_DEFAULT_LEVEL))));
+        }
+        var conditionalGet = properties.getConditionalGet();
+        if (!conditionalGet.isEnabled()) {
+            return client;
+        }
+        return new ConditionalGetClient(client, conditionalGet.getMaxEntries(),
+                (int) conditionalGet.getMaxBodySize().toBytes(), meterRegistry);
+    }
+
+    private static Map<String, Request.Options> poolOptions(FeignProperties properties) {
+        Map<String, Request.Options> options = new HashMap<>();
+        for (var service : properties.services()) {
+            var pool = service.getPool();
+            if (service.getValue() != null && pool.isEnabled()) {
+                options.put(service.getValue(), new Request.Options(pool.getConnectTimeout(), pool.getReadTimeout(),
+                        true));
+            }
+        }
+        return options;
+    }
+
+    private static GuardedClient.Guard guard(FeignProperties.Service service, MeterRegistry meterRegistry) {
+        var bulkhead = service.getBulkhead();
+        var circuitBreaker = service.getCircuitBreaker();
+        if (service.getValue() == null || !bulkhead.isEnabled() && !circuitBreaker.isEnabled()) {
+            return null;
+        }
+        return new GuardedClient.Guard(
+                bulkhead.isEnabled() ? new Bulkhead(service.getValue(), bulkhead.getMaxConcurrentCalls(),
+                        bulkhead.getMaxWait(), meterRegistry) : null,
+                circuitBreaker.isEnabled() ? new CircuitBreaker(service.getValue(), circuitBreaker, meterRegistry) : null);
+    }
+
+    private static HedgingClient.Policy hedgingPolicy(FeignProperties.Hedging hedging) {
+        return new HedgingClient.Policy(new LatencyEstimator(LATENCY_SAMPLES, LATENCY_MIN_SAMPLES),
+                hedging.getPercentile(), hedging.getMinDelay().toMillis(), hedging.getMaxDelay().toMillis());
+    }
+
+    private static AdaptiveTimeoutClient.Policy timeoutPolicy(FeignProperties.AdaptiveTimeout timeout) {
+        return new AdaptiveTimeoutClient.Policy(timeout.getPercentile(), timeout.getFactor(),
+                timeout.getMin().toMillis(), timeout.getMax().toMillis());
+    }
+
+    private static RetryingClient.Policy retryPolicy(FeignProperties.Retry retry) {
+        Set<Request.HttpMethod> methods = new HashSet<>();
+        retry.getMethods().forEach(method -> methods.add(Request.HttpMethod.valueOf(method.toUpperCase())));
+        return new RetryingClient.Policy(retry.getMaxAttempts(), retry.getBackoff().toMillis(), methods,
+                Set.copyOf(retry.getStatuses()));
+    }
+
+    private Executor hedgingExecutor() {
+        if (environment != null && VirtualThreads.isActive(environment)) {
+            return VirtualThreads.executor("feign-hedging-");
+        }
+        var threadFactory = new CustomizableThreadFactory("feign-hedging-");
+        threadFactory.setDaemon(true);
+        return Executors.newCachedThreadPool(threadFactory);
+    }
+
+    private static Executor collapsingExecutor(FeignProperties.Collapsing collapsing, Environment environment) {
+        if (VirtualThreads.isActive(environment)) {
+            return VirtualThreads.executor("feign-collapsing-");
+        }
+        var threadFactory = new CustomizableThreadFactory("feign-collapsing-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(collapsing.getThreads(), threadFactory);
+    }
+
+    private static CloseableHttpClient pooledHttpClient(String name, FeignProperties.Pool pool, boolean compression,
+                                                        MeterRegistry meterRegistry) {
+        var leaseTimer = Timer.builder("feign.client.pool.lease")
+                .description("Time spent waiting for a pooled connection")
+                .tag("client", name)
+                .register(meterRegistry);
+        var connectionManager = new MeteredConnectionManager(leaseTimer);
+        connectionManager.setMaxTotal(pool.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(pool.getMaxConnections());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(pool.getConnectTimeout()))
+                .setTimeToLive(pool.getTimeToLive() == null ? null : TimeValue.of(pool.getTimeToLive()))
+                .build());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+        var builder = HttpClients.custom();
+        if (!compression) {
+            builder.disableContentCompression();
+        }
+        return builder
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(pool.getConnectionRequestTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.of(pool.getIdleTimeout()))
+                .evictExpiredConnections()
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package ru.clevertec.news.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import ru.clevertec.news.config.filter.LoadSheddingFilter;
+import ru.clevertec.news.config.properties.OverloadProperties;
+import ru.clevertec.news.resilience.ConcurrencyLimiter;
+
+/**
+ * Конфигурация защиты от перегрузки ({@code overload.enabled}).
+ *
+ * <p>Фильтр выполняется раньше цепочки Spring Security: отклоненный запрос не расходует время на проверку
+ * токена.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "overload", name = "enabled", havingValue = "true")
+public class OverloadConfig {
+
+    /**
+     * Создает адаптивное ограничение одновременных запросов.
+     *
+     * @param properties    настройки защиты от перегрузки
+     * @param meterRegistry реестр метрик
+     * @return ограничение одновременных запросов
+     */
+    @Bean
+    public ConcurrencyLimiter concurrencyLimiter(OverloadProperties properties, MeterRegistry meterRegistry) {
+        return new ConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    /**
+     * Создает фильтр, отклоняющий запросы сверх лимита.
+     *
+     * @param concurrencyLimiter ограничение одновременных запросов
+     * @param properties         настройки защиты от перегрузки
+     * @return регистрация фильтра
+     */
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(ConcurrencyLimiter concurrencyLimiter,
+                                                                         OverloadProperties properties) {
+        var registration = new FilterRegistrationBean<>(new LoadSheddingFilter(concurrencyLimiter,
+                properties.getReadPaths(), properties.getExcludedPaths()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 120);
+        return registration;
+    }
+}
\ No newline at end of file
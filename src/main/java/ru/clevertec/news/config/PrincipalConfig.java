@@ -0,0 +1,59 @@
+package ru.clevertec.news.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.clevertec.news.config.properties.PrincipalProperties;
+import ru.clevertec.news.config.service.UserDetailsServiceImpl;
+import ru.clevertec.news.repository.UserRepository;
+import ru.clevertec.news.security.PrincipalResolver;
+import ru.clevertec.news.security.UserIdCache;
+import ru.clevertec.news.security.impl.ClaimsPrincipalResolver;
+import ru.clevertec.news.security.impl.DatabasePrincipalResolver;
+
+/**
+ * Конфигурация построения аутентифицированного пользователя.
+ *
+ * <p>Режим выбирается настройкой {@code security.principal.mode}: {@code database} (по умолчанию)
+ * загружает пользователя из базы данных на каждый запрос, {@code claims} - строит его из claims токена.</p>
+ */
+@Configuration
+public class PrincipalConfig {
+
+    /**
+     * Создает загрузку пользователя из базы данных.
+     *
+     * @param userDetailsService сервис загрузки пользователя
+     * @return построение пользователя
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "security.principal", name = "mode", havingValue = "database", matchIfMissing = true)
+    public PrincipalResolver databasePrincipalResolver(UserDetailsServiceImpl userDetailsService) {
+        return new DatabasePrincipalResolver(userDetailsService);
+    }
+
+    /**
+     * Создает кэш идентификаторов пользователей.
+     *
+     * @param userRepository репозиторий пользователей
+     * @param properties     настройки построения пользователя
+     * @return кэш идентификаторов
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "security.principal", name = "mode", havingValue = "claims")
+    public UserIdCache userIdCache(UserRepository userRepository, PrincipalProperties properties) {
+        return new UserIdCache(userRepository, properties.getIdCacheSize());
+    }
+
+    /**
+     * Создает построение пользователя из claims токена.
+     *
+     * @param userIdCache кэш идентификаторов пользователей
+     * @return построение пользователя
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "security.principal", name = "mode", havingValue = "claims")
+    public PrincipalResolver claimsPrincipalResolver(UserIdCache userIdCache) {
+        return new ClaimsPrincipalResolver(userIdCache);
+    }
+}
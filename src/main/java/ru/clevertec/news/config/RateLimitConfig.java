@@ -0,0 +1,56 @@
+package ru.clevertec.news.config;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import ru.clevertec.news.config.interceptor.RateLimitInterceptor;
+import ru.clevertec.news.config.properties.RateLimitProperties;
+import ru.clevertec.news.ratelimit.RateLimitSynchronizer;
+import ru.clevertec.news.ratelimit.RateLimiter;
+
+import java.time.Clock;
+
+/**
+ * Конфигурация ограничения частоты запросов к {@code /api/**} ({@code rate-limit.enabled}).
+ */
+@Configuration
+@AllArgsConstructor
+@ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true")
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final RateLimitProperties properties;
+
+    /**
+     * Создает ограничение частоты запросов.
+     *
+     * @return ограничение частоты запросов
+     */
+    @Bean
+    public RateLimiter rateLimiter() {
+        return new RateLimiter(properties, Clock.systemUTC());
+    }
+
+    /**
+     * Создает согласование лимитов через Redis.
+     *
+     * @param rateLimiter   ограничение частоты запросов
+     * @param redisTemplate шаблон Redis
+     * @return согласование лимитов
+     */
+    @Bean
+    public RateLimitSynchronizer rateLimitSynchronizer(RateLimiter rateLimiter, StringRedisTemplate redisTemplate) {
+        return new RateLimitSynchronizer(rateLimiter, redisTemplate, properties, Clock.systemUTC());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter())).addPathPatterns("/api/**");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package ru.clevertec.news.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import ru.clevertec.news.config.properties.RevocationProperties;
+import ru.clevertec.news.security.RevocationListener;
+import ru.clevertec.news.security.RevocationRegistry;
+import ru.clevertec.news.util.VirtualThreads;
+
+import java.time.Clock;
+
+/**
+ * Конфигурация отзыва токенов.
+ *
+ * <p>Множество отозванных токенов проверяется {@code SecurityFilter} всегда, сообщения канала Redis
+ * принимаются при {@code security.revocation.enabled}.</p>
+ */
+@Configuration
+public class RevocationConfig {
+
+    /**
+     * Создает множество отозванных токенов.
+     *
+     * @param properties настройки отзыва токенов
+     * @return множество отозванных токенов
+     */
+    @Bean
+    public RevocationRegistry revocationRegistry(RevocationProperties properties) {
+        return new RevocationRegistry(Clock.systemUTC(), properties.getMaxTokenLifetime());
+    }
+
+    /**
+     * Создает подписку на канал отзыва токенов.
+     *
+     * @param connectionFactory  фабрика соединений Redis
+     * @param revocationRegistry множество отозванных токенов
+     * @param objectMapper       преобразователь JSON
+     * @param properties         настройки отзыва токенов
+     * @param environment        окружение приложения
+     * @return контейнер получателей сообщений Redis
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "security.revocation", name = "enabled", havingValue = "true")
+    public RedisMessageListenerContainer revocationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                     RevocationRegistry revocationRegistry,
+                                                                     ObjectMapper objectMapper,
+                                                                     RevocationProperties properties,
+                                                                     Environment environment) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (VirtualThreads.isActive(environment)) {
+            container.setTaskExecutor(VirtualThreads.executor("revocation-"));
+        }
+        container.addMessageListener(new RevocationListener(revocationRegistry, objectMapper), new ChannelTopic(properties.getChannel()));
+        return container;
+    }
+}
\ No newline at end of file
@@ -1,9 +1,12 @@
 package ru.clevertec.news.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.Ordered;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -17,6 +20,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import ru.clevertec.news.config.filter.CallNotPermittedFilter;
 import ru.clevertec.news.config.filter.SecurityFilter;
 import ru.clevertec.news.config.service.UserDetailsServiceImpl;
 import ru.clevertec.news.dto.constant.RoleName;
@@ -63,6 +68,7 @@ public class SecurityConfig {
         return httpSecurity
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers("/api/revocations/**").hasRole(RoleName.ADMIN.name())
                         .requestMatchers(HttpMethod.GET, "/api/**").hasAnyRole(RoleName.USER.name(), RoleName.JOURNALIST.name(), RoleName.SUBSCRIBER.name())
                         .requestMatchers(HttpMethod.POST, "/api/news/**").hasAnyRole(RoleName.JOURNALIST.name(), RoleName.ADMIN.getRole())
                         .requestMatchers(HttpMethod.POST, "/api/comments/**").hasAnyRole(RoleName.SUBSCRIBER.name(), RoleName.ADMIN.getRole())
@@ -76,6 +82,21 @@ public class SecurityConfig {
                 .build();
     }
 
+    /**
+     * Создает фильтр, передающий отказы в обращении к микросервисам при проверке токена
+     * в {@link ru.clevertec.news.resilience.CallNotPermittedAdvice}. Фильтр выполняется раньше цепочки Spring Security.
+     *
+     * @param handlerExceptionResolver обработчик исключений Spring MVC
+     * @return регистрация фильтра
+     */
+    @Bean
+    public FilterRegistrationBean<CallNotPermittedFilter> callNotPermittedFilter(
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        var registration = new FilterRegistrationBean<>(new CallNotPermittedFilter(handlerExceptionResolver));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 130);
+        return registration;
+    }
+
     /**
      * Создает провайдер аутентификации, который использует
      * {@link DaoAuthenticationProvider}. Провайдер настраивается
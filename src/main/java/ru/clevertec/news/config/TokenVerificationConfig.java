@@ -0,0 +1,104 @@
+package ru.clevertec.news.config;
+
+import feign.Request;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import ru.clevertec.news.config.properties.FeignProperties;
+import ru.clevertec.news.config.properties.TokenProperties;
+import ru.clevertec.news.feign.AuthClient;
+import ru.clevertec.news.security.TokenDecisionCache;
+import ru.clevertec.news.security.TokenKeyStore;
+import ru.clevertec.news.security.TokenVerifier;
+import ru.clevertec.news.security.impl.BatchingTokenVerifier;
+import ru.clevertec.news.security.impl.CachingTokenVerifier;
+import ru.clevertec.news.security.impl.LocalTokenVerifier;
+import ru.clevertec.news.security.impl.RemoteTokenVerifier;
+
+import java.time.Clock;
+
+/**
+ * Конфигурация проверки JWT токена.
+ *
+ * <p>Режим выбирается настройкой {@code security.token.verification-mode}: {@code remote} (по умолчанию)
+ * проверяет токен запросом к auth-service, {@code local} - локально по ключам из настроек.
+ * В режиме {@code remote} результаты проверки могут кэшироваться ({@code security.token.cache.enabled}),
+ * а одновременные проверки - объединяться в пакеты ({@code security.token.batch.enabled}).</p>
+ */
+@Configuration
+public class TokenVerificationConfig {
+
+    /**
+     * Создает проверку токена запросом к auth-service.
+     *
+     * <p>Пакетная проверка ожидает результат не дольше окна пакета и времени соединения и ответа пула соединений
+     * auth-service ({@code feign.auth-service.pool}), без пула - времени ожидания Feign по умолчанию.</p>
+     *
+     * @param authClient      клиент auth-service
+     * @param cache           кэш результатов проверки, если он включен
+     * @param properties      настройки проверки токена
+     * @param feignProperties настройки микросервисов
+     * @return проверка токена
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "security.token", name = "verification-mode", havingValue = "remote", matchIfMissing = true)
+    public TokenVerifier remoteTokenVerifier(AuthClient authClient,
+                                             ObjectProvider<TokenDecisionCache> cache,
+                                             TokenProperties properties,
+                                             FeignProperties feignProperties) {
+        var batch = properties.getBatch();
+        var pool = feignProperties.getAuthService().getPool();
+        var options = pool.isEnabled()
+                ? new Request.Options(pool.getConnectTimeout(), pool.getReadTimeout(), true)
+                : new Request.Options();
+        TokenVerifier verifier = batch.isEnabled()
+                ? new BatchingTokenVerifier(authClient, batch.getMaxSize(), batch.getWindow(), options,
+                Clock.systemUTC())
+                : new RemoteTokenVerifier(authClient);
+        var decisionCache = cache.getIfAvailable();
+        if (decisionCache != null) {
+            verifier = new CachingTokenVerifier(verifier, decisionCache, properties, Clock.systemUTC());
+        }
+        return verifier;
+    }
+
+    /**
+     * Создает кэш результатов проверки токена.
+     *
+     * @param properties настройки проверки токена
+     * @return кэш результатов проверки
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "security.token.cache", name = "enabled", havingValue = "true")
+    public TokenDecisionCache tokenDecisionCache(TokenProperties properties) {
+        return new TokenDecisionCache(properties.getCache().getMaxSize());
+    }
+
+    /**
+     * Создает хранилище ключей для локальной проверки токена.
+     *
+     * @param properties     настройки проверки токена
+     * @param resourceLoader загрузчик ресурса с ключом
+     * @return хранилище ключей
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "security.token", name = "verification-mode", havingValue = "local")
+    public TokenKeyStore tokenKeyStore(TokenProperties properties, ResourceLoader resourceLoader) {
+        return new TokenKeyStore(properties, resourceLoader);
+    }
+
+    /**
+     * Создает локальную проверку токена.
+     *
+     * @param tokenKeyStore хранилище ключей
+     * @param properties    настройки проверки токена
+     * @return проверка токена
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "security.token", name = "verification-mode", havingValue = "local")
+    public TokenVerifier localTokenVerifier(TokenKeyStore tokenKeyStore, TokenProperties properties) {
+        return new LocalTokenVerifier(tokenKeyStore, properties.getLeeway(), Clock.systemUTC());
+    }
+}
\ No newline at end of file
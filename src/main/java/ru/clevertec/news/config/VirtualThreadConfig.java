@@ -0,0 +1,29 @@
+package ru.clevertec.news.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import ru.clevertec.news.util.VirtualThreads;
+
+/**
+ * Режим виртуальных потоков ({@code spring.threads.virtual.enabled}).
+ *
+ * <p>Обработку запросов Tomcat, {@code applicationTaskExecutor} и задачи {@code @Scheduled} на виртуальные потоки
+ * переводит Spring Boot, собственные пулы сервиса - {@link VirtualThreads}. На Java ниже 21 настройка игнорируется,
+ * и сервис работает на потоках платформы.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig(Environment environment) {
+        if (VirtualThreads.isActive(environment)) {
+            log.info("VirtualThreadConfig: request handling and executors run on virtual threads");
+        } else {
+            log.warn("VirtualThreadConfig: virtual threads require Java 21, running on Java "
+                    + Runtime.version().feature() + " with platform threads");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package ru.clevertec.news.config.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import ru.clevertec.news.feign.async.AsyncCallLimiter;
+import ru.clevertec.news.resilience.CallNotPermittedAdvice;
+import ru.clevertec.news.resilience.CallNotPermittedException;
+
+import java.io.IOException;
+
+/**
+ * Фильтр, передающий {@link CallNotPermittedException} из следующих фильтров в {@link CallNotPermittedAdvice}.
+ *
+ * <p>Обработчики {@code @RestControllerAdvice} не видят исключений фильтров, например отказа автоматического
+ * выключателя или истекшего срока при проверке токена в {@link SecurityFilter}. Фильтр выполняется раньше цепочки
+ * Spring Security и отдает такие исключения тем же обработчикам, что и исключения контроллеров, поэтому клиент
+ * получает одинаковые {@code 503} и {@code 504}. Остальные исключения пробрасываются без изменений.</p>
+ */
+public class CallNotPermittedFilter extends OncePerRequestFilter {
+
+    private final HandlerExceptionResolver exceptionResolver;
+
+    /**
+     * @param exceptionResolver обработчик исключений Spring MVC
+     */
+    public CallNotPermittedFilter(HandlerExceptionResolver exceptionResolver) {
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } catch (RuntimeException e) {
+            if (!(AsyncCallLimiter.unwrap(e) instanceof CallNotPermittedException rejected) || response.isCommitted()
+                    || exceptionResolver.resolveException(request, response, null, rejected) == null) {
+                throw e;
+            }
+        }
+    }
+}
\ No newline at end of file
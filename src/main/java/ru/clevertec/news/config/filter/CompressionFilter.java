@@ -0,0 +1,93 @@
+package ru.clevertec.news.config.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.WebUtils;
+import ru.clevertec.news.compression.BufferPool;
+import ru.clevertec.news.compression.CompressingResponseWrapper;
+import ru.clevertec.news.compression.ContentCodecs;
+import ru.clevertec.news.config.properties.CompressionProperties;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Фильтр сжатия ответов кодированием, выбранным по {@code Accept-Encoding} запроса.
+ *
+ * <p>Сжимаются ответы путей, включенных в {@code compression.routes}, с телом не меньше
+ * {@code compression.min-response-size}. Ответы асинхронных запросов завершаются при асинхронной отправке.</p>
+ */
+public class CompressionFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    private final ContentCodecs codecs;
+    private final BufferPool buffers;
+    private final List<MediaType> mimeTypes;
+    private final List<CompressionProperties.Route> routes;
+
+    /**
+     * @param codecs    кодирования в порядке предпочтения
+     * @param buffers   пул буферов размером с порог сжатия
+     * @param mimeTypes сжимаемые типы содержимого
+     * @param routes    пути запросов со сжатием
+     */
+    public CompressionFilter(ContentCodecs codecs, BufferPool buffers, List<MediaType> mimeTypes,
+                             List<CompressionProperties.Route> routes) {
+        this.codecs = codecs;
+        this.buffers = buffers;
+        this.mimeTypes = mimeTypes;
+        this.routes = routes;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        var path = PATH_HELPER.getPathWithinApplication(request);
+        for (var route : routes) {
+            if (PATH_MATCHER.match(route.getPath(), path)) {
+                return !route.isEnabled();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var wrapper = WebUtils.getNativeResponse(response, CompressingResponseWrapper.class);
+        if (wrapper == null && isAsyncDispatch(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (wrapper == null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            var codec = HttpMethod.HEAD.matches(request.getMethod())
+                    ? null
+                    : codecs.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            if (codec == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            wrapper = new CompressingResponseWrapper(response, codec, buffers, mimeTypes);
+            response = wrapper;
+        }
+        filterChain.doFilter(request, response);
+        if (!isAsyncStarted(request)) {
+            wrapper.finish();
+        }
+    }
+}
\ No newline at end of file
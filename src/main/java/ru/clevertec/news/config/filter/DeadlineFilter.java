@@ -0,0 +1,93 @@
+package ru.clevertec.news.config.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import ru.clevertec.news.config.properties.DeadlineProperties;
+import ru.clevertec.news.resilience.Deadline;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.List;
+
+import static ru.clevertec.news.constant.Constant.DEADLINE_HEADER;
+
+/**
+ * Фильтр, задающий срок запроса по заголовку {@code X-Request-Timeout} или времени ожидания пути.
+ *
+ * <p>Срок действует в потоке обработки запроса, пока выполняется цепочка фильтров, в том числе при проверке
+ * токена. Запрос с нулевым временем ожидания отклоняется с {@code 504 Gateway Timeout} без обращения
+ * к микросервисам, недопустимое значение заголовка - с {@code 400 Bad Request}.</p>
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    private final long maxTimeout;
+    private final List<DeadlineProperties.Route> routes;
+    private final Clock clock;
+
+    /**
+     * @param properties настройки сроков запросов
+     * @param clock      часы
+     */
+    public DeadlineFilter(DeadlineProperties properties, Clock clock) {
+        this.maxTimeout = properties.getMaxTimeout().toMillis();
+        this.routes = properties.getRoutes();
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long timeout;
+        try {
+            timeout = timeout(request);
+        } catch (NumberFormatException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Invalid " + DEADLINE_HEADER + " header");
+            return;
+        }
+        if (timeout < 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (timeout == 0) {
+            response.sendError(HttpStatus.GATEWAY_TIMEOUT.value());
+            return;
+        }
+        var previous = Deadline.current();
+        Deadline.set(Deadline.after(timeout, clock.millis()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Deadline.set(previous);
+        }
+    }
+
+    /**
+     * @return время ожидания в миллисекундах или {@code -1}, если срок не задан
+     */
+    private long timeout(HttpServletRequest request) {
+        var header = request.getHeader(DEADLINE_HEADER);
+        if (header != null) {
+            var timeout = Long.parseLong(header.trim());
+            if (timeout < 0) {
+                throw new NumberFormatException(header);
+            }
+            return Math.min(timeout, maxTimeout);
+        }
+        var path = PATH_HELPER.getPathWithinApplication(request);
+        for (var route : routes) {
+            if (PATH_MATCHER.match(route.getPath(), path)) {
+                return route.getTimeout() == null ? -1 : Math.min(route.getTimeout().toMillis(), maxTimeout);
+            }
+        }
+        return -1;
+    }
+}
\ No newline at end of file
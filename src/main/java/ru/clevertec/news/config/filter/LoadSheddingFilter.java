@@ -0,0 +1,152 @@
+package ru.clevertec.news.config.filter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import ru.clevertec.news.resilience.ConcurrencyLimiter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Фильтр, отклоняющий запросы сверх адаптивного лимита одновременных запросов с {@code 503 Service Unavailable}.
+ *
+ * <p>Приоритет запроса определяется HTTP методом и путем: запросы, отличные от GET и HEAD, - изменения, GET запросы
+ * путей {@code overload.read-paths} - чтение отдельных сущностей, остальные - списки и поиск. Время обработки
+ * асинхронного запроса учитывается после его завершения или истечения времени ожидания. Время запросов,
+ * завершившихся ответом 5xx или исключением, не учитывается: быстрые ошибки не должны увеличивать лимит.
+ * Потоковые ответы путей {@code overload.excluded-paths} не ограничиваются и не учитываются.</p>
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final ConcurrencyLimiter limiter;
+    private final List<String> readPaths;
+    private final List<String> excludedPaths;
+
+    /**
+     * @param limiter       ограничение одновременных запросов
+     * @param readPaths     шаблоны путей чтения отдельных сущностей
+     * @param excludedPaths шаблоны путей, запросы которых не ограничиваются
+     */
+    public LoadSheddingFilter(ConcurrencyLimiter limiter, List<String> readPaths, List<String> excludedPaths) {
+        this.limiter = limiter;
+        this.readPaths = readPaths;
+        this.excludedPaths = excludedPaths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        var path = PATH_HELPER.getPathWithinApplication(request);
+        if (!PATH_MATCHER.match("/api/**", path)) {
+            return true;
+        }
+        for (var pattern : excludedPaths) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var inFlight = limiter.tryAcquire(priority(request));
+        if (inFlight == 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        var start = System.nanoTime();
+        var completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (!completed) {
+                // статус ответа еще не выставлен обработчиком ошибок, время исключения не отражает нагрузку
+                limiter.release();
+            }
+        }
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new ReleasingListener(inFlight, start));
+        } else {
+            release(inFlight, start, response);
+        }
+    }
+
+    private ConcurrencyLimiter.Priority priority(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return ConcurrencyLimiter.Priority.WRITE;
+        }
+        var path = PATH_HELPER.getPathWithinApplication(request);
+        for (var pattern : readPaths) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return ConcurrencyLimiter.Priority.READ;
+            }
+        }
+        return ConcurrencyLimiter.Priority.LIST;
+    }
+
+    private void release(int inFlight, long start, HttpServletResponse response) {
+        if (response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            limiter.release();
+        } else {
+            limiter.release(inFlight, System.nanoTime() - start);
+        }
+    }
+
+    private final class ReleasingListener implements AsyncListener {
+
+        private final int inFlight;
+        private final long start;
+        private boolean released;
+
+        private ReleasingListener(int inFlight, long start) {
+            this.inFlight = inFlight;
+            this.start = start;
+        }
+
+        @Override
+        public synchronized void onComplete(AsyncEvent event) {
+            if (!released) {
+                released = true;
+                release(inFlight, start, (HttpServletResponse) event.getSuppliedResponse());
+            }
+        }
+
+        @Override
+        public synchronized void onTimeout(AsyncEvent event) {
+            if (!released) {
+                released = true;
+                limiter.release(inFlight, System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public synchronized void onError(AsyncEvent event) {
+            if (!released) {
+                released = true;
+                limiter.release();
+            }
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
\ No newline at end of file
@@ -4,13 +4,18 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import ru.clevertec.news.config.service.UserDetailsServiceImpl;
 import ru.clevertec.news.exception.InvalidJwtException;
-import ru.clevertec.news.feign.AuthClient;
+import ru.clevertec.news.feign.async.AsyncCallLimiter;
+import ru.clevertec.news.resilience.CallNotPermittedException;
+import ru.clevertec.news.security.PrincipalAuthentication;
+import ru.clevertec.news.security.PrincipalResolver;
+import ru.clevertec.news.security.RevocationRegistry;
+import ru.clevertec.news.security.TokenVerifier;
 import ru.clevertec.news.util.TokenUtil;
 
 import static ru.clevertec.news.constant.Constant.*;
@@ -19,17 +24,27 @@ import static ru.clevertec.news.constant.Constant.*;
 @AllArgsConstructor
 public class SecurityFilter extends OncePerRequestFilter {
 
-    private AuthClient authClient;
+    /**
+     * Сохраняет контекст в атрибутах запроса: фильтр не выполняется повторно при асинхронной отправке
+     * ответа ({@code DispatcherType.ASYNC}), и контекст восстанавливается оттуда.
+     */
+    private static final SecurityContextRepository CONTEXT_REPOSITORY = new RequestAttributeSecurityContextRepository();
+
+    private TokenVerifier tokenVerifier;
     private TokenUtil tokenUtil;
-    private UserDetailsServiceImpl userDetailsService;
+    private PrincipalResolver principalResolver;
+    private RevocationRegistry revocationRegistry;
 
     /**
      * Метод, выполняющий перехват запросов и проверку токена.
+     * Отказ в обращении к микросервису аутентификации пробрасывается без изменений и обрабатывается
+     * {@link CallNotPermittedFilter}.
      *
      * @param request     объект HttpServletRequest, представляющий HTTP запрос
      * @param response    объект HttpServletResponse, представляющий HTTP ответ
      * @param filterChain объект FilterChain, представляющий цепочку фильтров
-     * @throws InvalidJwtException если токен недействителен
+     * @throws InvalidJwtException       если токен недействителен
+     * @throws CallNotPermittedException если микросервис аутентификации недоступен или срок запроса истек
      */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) {
@@ -39,16 +54,18 @@ public class SecurityFilter extends OncePerRequestFilter {
                 return;
             }
             var token = this.recoverToken(request);
-            var login = tokenUtil.getUsername(token);
-            var user = userDetailsService.loadUserByUsername(login);
-            var authentication = new UsernamePasswordAuthenticationToken(user, user.getPassword(), user.getAuthorities());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-
-            if (Boolean.FALSE.equals(authClient.check(token))) {
+            var payload = tokenUtil.getPayload(token);
+            if (!tokenVerifier.verify(token, payload) || revocationRegistry.isRevoked(token, payload)) {
                 throw new InvalidJwtException(INVALID_TOKEN_ERROR);
             }
+            var principal = principalResolver.resolve(payload);
+            SecurityContextHolder.getContext().setAuthentication(new PrincipalAuthentication(principal));
+            CONTEXT_REPOSITORY.saveContext(SecurityContextHolder.getContext(), request, response);
             filterChain.doFilter(request, response);
         } catch (Exception e) {
+            if (AsyncCallLimiter.unwrap(e) instanceof CallNotPermittedException rejected) {
+                throw rejected;
+            }
             throw new InvalidJwtException(INVALID_TOKEN_ERROR);
         }
     }
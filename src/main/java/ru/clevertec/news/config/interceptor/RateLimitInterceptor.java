@@ -0,0 +1,52 @@
+package ru.clevertec.news.config.interceptor;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.clevertec.news.ratelimit.RateLimiter;
+import ru.clevertec.news.security.UserPrincipal;
+
+/**
+ * Перехватчик, ограничивающий частоту запросов пользователя к маршруту.
+ *
+ * <p>Пользователь определяется по {@link UserPrincipal}, установленному {@code SecurityFilter}, анонимный
+ * запрос - по адресу клиента. Маршрут - HTTP метод и шаблон пути обработчика. При превышении лимита
+ * возвращается {@code 429 Too Many Requests} с заголовком {@code Retry-After}. Асинхронная отправка ответа
+ * ({@code DispatcherType.ASYNC}) токен не забирает: он уже получен при первой обработке запроса.</p>
+ */
+@AllArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var route = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        long waitMillis;
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            waitMillis = rateLimiter.tryAcquire(principal.getUsername() + ":" + route, principal.getRole());
+        } else {
+            waitMillis = rateLimiter.tryAcquire(request.getRemoteAddr() + ":" + route, null);
+        }
+        if (waitMillis == 0) {
+            return true;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, waitMillis / 1000 + (waitMillis % 1000 == 0 ? 0 : 1))));
+        return false;
+    }
+}
\ No newline at end of file
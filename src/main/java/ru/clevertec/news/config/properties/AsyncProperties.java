@@ -0,0 +1,36 @@
+package ru.clevertec.news.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки асинхронной обработки запросов к новостям и комментариям.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "async")
+public class AsyncProperties {
+
+    /**
+     * Включает асинхронные контроллеры и Feign клиенты, возвращающие {@code CompletableFuture}.
+     */
+    private boolean enabled;
+
+    /**
+     * Количество потоков, обрабатывающих ответы микросервисов и продолжения запросов.
+     */
+    private int threads = 16;
+
+    /**
+     * Максимальное количество одновременных запросов к микросервисам, сверх которого запросы отклоняются.
+     */
+    private int maxConcurrentCalls = 512;
+
+    /**
+     * Максимальное время ожидания ответа микросервиса.
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package ru.clevertec.news.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки сборки новости с комментариями на стороне шлюза.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "news.composition")
+public class CompositionProperties {
+
+    /**
+     * Включает параллельные запросы новости и её комментариев вместо запроса {@code {id}/comments}
+     * к микросервису новостей.
+     */
+    private boolean enabled;
+
+    /**
+     * Максимальное время ожидания новости, по истечении запрос завершается ошибкой.
+     */
+    private Duration newsTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Максимальное время ожидания комментариев, по истечении новость возвращается без комментариев.
+     */
+    private Duration commentsTimeout = Duration.ofMillis(500);
+
+    /**
+     * Количество потоков для запросов синхронного режима, не используется в режиме виртуальных потоков.
+     */
+    private int threads = 32;
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package ru.clevertec.news.config.properties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Настройки сжатия ответов клиентам.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "compression")
+public class CompressionProperties {
+
+    /**
+     * Включает сжатие ответов.
+     */
+    private boolean enabled;
+
+    /**
+     * Кодирования в порядке предпочтения: {@code gzip}, {@code zstd}.
+     */
+    private List<String> encodings = new ArrayList<>(List.of("gzip"));
+
+    /**
+     * Минимальный размер сжимаемого ответа.
+     */
+    private DataSize minResponseSize = DataSize.ofKilobytes(2);
+
+    /**
+     * Сжимаемые типы содержимого.
+     */
+    private List<String> mimeTypes = new ArrayList<>(List.of("application/json", "application/*+json",
+            "application/x-ndjson", "text/*"));
+
+    /**
+     * Уровень сжатия gzip от 1 до 9.
+     */
+    private int gzipLevel = 1;
+
+    /**
+     * Уровень сжатия zstd от 1 до 22.
+     */
+    private int zstdLevel = 3;
+
+    /**
+     * Размер буфера сжатия.
+     */
+    private DataSize bufferSize = DataSize.ofKilobytes(8);
+
+    /**
+     * Максимальное количество хранимых буферов и кодировщиков каждого вида.
+     */
+    private int poolSize = 64;
+
+    /**
+     * Пути запросов: сжимаются ответы запросов, для которых первый подходящий путь включен.
+     */
+    private List<Route> routes = new ArrayList<>(List.of(new Route("/api/news/**", true),
+            new Route("/api/comments/**", true)));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+
+        /**
+         * Шаблон пути запроса.
+         */
+        private String path;
+
+        /**
+         * Сжимать ответы запросов пути.
+         */
+        private boolean enabled = true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package ru.clevertec.news.config.properties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Настройки сроков запросов клиентов.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "deadline")
+public class DeadlineProperties {
+
+    /**
+     * Включает сроки запросов: время ожидания ответа передается клиентом в заголовке {@code X-Request-Timeout}
+     * в миллисекундах или берется из {@code routes}.
+     */
+    private boolean enabled;
+
+    /**
+     * Максимальное время ожидания, которое может запросить клиент.
+     */
+    private Duration maxTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Пути запросов: время ожидания по умолчанию задает первый подходящий путь, запросы других путей
+     * без заголовка выполняются без срока. Выгрузки NDJSON по умолчанию выполняются без срока: их
+     * продолжительность зависит от объема данных.
+     */
+    private List<Route> routes = new ArrayList<>(List.of(new Route("/api/*/export", null),
+            new Route("/api/**", Duration.ofSeconds(10))));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+
+        /**
+         * Шаблон пути запроса.
+         */
+        private String path;
+
+        /**
+         * Время ожидания ответа, если клиент его не передал.
+         */
+        private Duration timeout;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package ru.clevertec.news.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import ru.clevertec.news.cache.CacheAlgorithm;
+
+import java.time.Duration;
+
+/**
+ * Настройки кэша сущностей и страниц постраничных запросов, получаемых из микросервисов.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "entity-cache")
+public class EntityCacheProperties {
+
+    /**
+     * Включает кэширование новостей и комментариев по идентификатору и страниц их постраничных запросов.
+     */
+    private boolean enabled;
+
+    /**
+     * Кэш новостей.
+     */
+    private Cache news = new Cache();
+
+    /**
+     * Кэш комментариев.
+     */
+    private Cache comments = new Cache();
+
+    /**
+     * Кэш страниц новостей.
+     */
+    private Pages newsPages = new Pages();
+
+    /**
+     * Кэш страниц комментариев.
+     */
+    private Pages commentPages = new Pages();
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * Алгоритм вытеснения записей.
+         */
+        private CacheAlgorithm algorithm = CacheAlgorithm.LRU;
+
+        /**
+         * Максимальное количество записей.
+         */
+        private int capacity = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Pages extends Cache {
+
+        /**
+         * Время жизни страницы, ограничивает устаревание при изменениях в обход сервиса.
+         */
+        private Duration ttl = Duration.ofMinutes(1);
+    }
+}
\ No newline at end of file
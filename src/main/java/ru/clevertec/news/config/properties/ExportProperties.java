@@ -0,0 +1,41 @@
+package ru.clevertec.news.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки выгрузки новостей и комментариев в формате NDJSON.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "export")
+public class ExportProperties {
+
+    /**
+     * Включает {@code GET /api/news/export} и {@code GET /api/comments/export}.
+     */
+    private boolean enabled;
+
+    /**
+     * Размер страницы запросов к микросервисам.
+     */
+    private int pageSize = 100;
+
+    /**
+     * Количество страниц, загружаемых заранее, пока записывается текущая.
+     */
+    private int prefetch = 1;
+
+    /**
+     * Максимальное время ожидания страницы, по истечении выгрузка прерывается.
+     */
+    private Duration pageTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Количество потоков загрузки страниц, не используется в режиме виртуальных потоков.
+     */
+    private int threads = 8;
+}
\ No newline at end of file
@@ -0,0 +1,370 @@
+package ru.clevertec.news.config.properties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Настройки HTTP клиентов микросервисов ({@code feign.*-service}), объединения запросов ({@code feign.collapsing}),
+ * условных GET запросов ({@code feign.conditional-get}) и бюджетов дублирующих и повторных запросов
+ * ({@code feign.hedge-budget}, {@code feign.retry-budget}).
+ *
+ * <p>Для каждого микросервиса отдельно настраиваются ограничение одновременных запросов и размыкатель цепи:
+ * медленный микросервис не занимает потоки, нужные для запросов к остальным.</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "feign")
+public class FeignProperties {
+
+    private Service authService = new Service();
+    private Service newsService = new Service();
+    private Service commentService = new Service();
+    private Collapsing collapsing = new Collapsing();
+    private ConditionalGet conditionalGet = new ConditionalGet();
+    private Budget hedgeBudget = new Budget();
+    private Budget retryBudget = new Budget(0.1, 10);
+
+    /**
+     * @return настройки всех микросервисов
+     */
+    public List<Service> services() {
+        return List.of(authService, newsService, commentService);
+    }
+
+    @Getter
+    @Setter
+    public static class Service {
+
+        /**
+         * Имя Feign клиента микросервиса.
+         */
+        private String value;
+
+        /**
+         * Пул соединений.
+         */
+        private Pool pool = new Pool();
+
+        /**
+         * Сжатие ответов микросервиса.
+         */
+        private Compression compression = new Compression();
+
+        /**
+         * Ограничение одновременных запросов.
+         */
+        private Bulkhead bulkhead = new Bulkhead();
+
+        /**
+         * Размыкатель цепи.
+         */
+        private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+        /**
+         * Дублирование медленных GET запросов.
+         */
+        private Hedging hedging = new Hedging();
+
+        /**
+         * Время ожидания ответа по статистике ответов.
+         */
+        private AdaptiveTimeout adaptiveTimeout = new AdaptiveTimeout();
+
+        /**
+         * Повторные запросы.
+         */
+        private Retry retry = new Retry();
+    }
+
+    @Getter
+    @Setter
+    public static class AdaptiveTimeout {
+
+        /**
+         * Включает время ожидания ответа, вычисляемое для каждого метода Feign клиента как процентиль последних
+         * ответов, умноженный на {@code factor}, в пределах от {@code min} до {@code max}.
+         */
+        private boolean enabled;
+
+        /**
+         * Процентиль времени ответа.
+         */
+        private double percentile = 99;
+
+        /**
+         * Множитель процентиля.
+         */
+        private double factor = 2;
+
+        /**
+         * Минимальное время ожидания ответа.
+         */
+        private Duration min = Duration.ofMillis(100);
+
+        /**
+         * Максимальное время ожидания ответа, используется, пока не накоплена статистика ответов.
+         */
+        private Duration max = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        /**
+         * Включает повтор идемпотентных запросов после ошибки HTTP клиента или ответа с {@code statuses}
+         * в пределах {@code feign.retry-budget}.
+         */
+        private boolean enabled;
+
+        /**
+         * Максимальное количество попыток, включая первую.
+         */
+        private int maxAttempts = 2;
+
+        /**
+         * Пауза перед повтором, увеличивается с каждой попыткой и дополняется случайной частью.
+         */
+        private Duration backoff = Duration.ofMillis(50);
+
+        /**
+         * Повторяемые HTTP методы. Повторяться должны только идемпотентные запросы.
+         */
+        private List<String> methods = new ArrayList<>(List.of("GET"));
+
+        /**
+         * Статусы ответа, после которых запрос повторяется.
+         */
+        private List<Integer> statuses = new ArrayList<>(List.of(502, 503, 504));
+    }
+
+    @Getter
+    @Setter
+    public static class Hedging {
+
+        /**
+         * Включает дублирование GET запросов: если ответ не получен за время, в которое укладывается
+         * {@code percentile} процентов запросов, отправляется второй такой же запрос, и используется первый ответ.
+         */
+        private boolean enabled;
+
+        /**
+         * Процентиль времени ответа, после которого отправляется дублирующий запрос.
+         */
+        private double percentile = 95;
+
+        /**
+         * Минимальное ожидание перед дублирующим запросом.
+         */
+        private Duration minDelay = Duration.ofMillis(10);
+
+        /**
+         * Максимальное ожидание перед дублирующим запросом, используется, пока не накоплена статистика ответов.
+         */
+        private Duration maxDelay = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Budget {
+
+        /**
+         * Доля дополнительных запросов от исходных, общая для всех микросервисов.
+         */
+        private double ratio = 0.05;
+
+        /**
+         * Количество дополнительных запросов, которое может быть накоплено и отправлено подряд.
+         */
+        private int burst = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        /**
+         * Включает ограничение одновременных запросов к микросервису.
+         */
+        private boolean enabled;
+
+        /**
+         * Максимальное количество одновременных запросов.
+         */
+        private int maxConcurrentCalls = 50;
+
+        /**
+         * Время ожидания разрешения, по истечении запрос отклоняется. По умолчанию запрос сверх лимита
+         * отклоняется сразу.
+         */
+        private Duration maxWait = Duration.ZERO;
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /**
+         * Включает размыкатель цепи: при большой доле ошибок или медленных ответов запросы к микросервису
+         * отклоняются без обращения к нему.
+         */
+        private boolean enabled;
+
+        /**
+         * Количество последних запросов, по которым считаются доли ошибок и медленных ответов.
+         */
+        private int slidingWindowSize = 100;
+
+        /**
+         * Минимальное количество запросов в окне, после которого цепь может разомкнуться.
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * Доля ошибок в процентах, при которой цепь размыкается. Ошибка - исключение HTTP клиента или ответ 5xx.
+         */
+        private float failureRateThreshold = 50;
+
+        /**
+         * Доля медленных ответов в процентах, при которой цепь размыкается.
+         */
+        private float slowCallRateThreshold = 80;
+
+        /**
+         * Время ответа, начиная с которого запрос считается медленным.
+         */
+        private Duration slowCallDuration = Duration.ofSeconds(2);
+
+        /**
+         * Время, в течение которого разомкнутая цепь отклоняет запросы.
+         */
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        /**
+         * Количество пробных запросов после размыкания, по результатам которых цепь замыкается или снова размыкается.
+         */
+        private int halfOpenCalls = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class Compression {
+
+        /**
+         * Запрашивать сжатые ответы ({@code Accept-Encoding}) и распаковывать их.
+         */
+        private boolean enabled;
+
+        /**
+         * Принимаемые кодирования в порядке предпочтения: {@code gzip}, {@code zstd}.
+         */
+        private List<String> encodings = new ArrayList<>(List.of("gzip"));
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * Включает пул соединений, иначе используется клиент Feign по умолчанию.
+         */
+        private boolean enabled;
+
+        /**
+         * Максимальное количество соединений с микросервисом.
+         */
+        private int maxConnections = 200;
+
+        /**
+         * Время простоя, после которого соединение закрывается.
+         */
+        private Duration idleTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Максимальное время жизни соединения, не ограничено, если не задано.
+         */
+        private Duration timeToLive;
+
+        /**
+         * Максимальное время ожидания свободного соединения.
+         */
+        private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+
+        /**
+         * Время ожидания установки соединения.
+         */
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        /**
+         * Время ожидания ответа.
+         */
+        private Duration readTimeout = Duration.ofSeconds(10);
+
+        /**
+         * Использовать HTTP/2, если микросервис его поддерживает. Запросы мультиплексируются в одном соединении,
+         * настройки размера пула не применяются.
+         */
+        private boolean http2;
+    }
+
+    @Getter
+    @Setter
+    public static class Collapsing {
+
+        /**
+         * Включает объединение одновременных запросов сущностей по идентификатору в групповые запросы.
+         */
+        private boolean enabled;
+
+        /**
+         * Время ожидания идентификаторов для группы.
+         */
+        private Duration window = Duration.ofMillis(2);
+
+        /**
+         * Максимальное количество идентификаторов в группе, заполненная группа отправляется сразу.
+         */
+        private int maxSize = 50;
+
+        /**
+         * Время до повторной попытки группового запроса после ответа 404, 405 или 501 на него.
+         */
+        private Duration bulkProbeInterval = Duration.ofMinutes(1);
+
+        /**
+         * Количество потоков для групповых запросов, не используется в режиме виртуальных потоков.
+         */
+        private int threads = 16;
+    }
+
+    @Getter
+    @Setter
+    public static class ConditionalGet {
+
+        /**
+         * Включает условные GET запросы к микросервисам: ответы с {@code ETag} запоминаются, повторный запрос
+         * отправляется с {@code If-None-Match}, и на ответ 304 возвращается запомненное тело.
+         */
+        private boolean enabled;
+
+        /**
+         * Максимальное количество запомненных ответов, давно не запрашиваемые вытесняются.
+         */
+        private int maxEntries = 1000;
+
+        /**
+         * Максимальный размер запоминаемого тела ответа.
+         */
+        private DataSize maxBodySize = DataSize.ofKilobytes(256);
+    }
+}
\ No newline at end of file
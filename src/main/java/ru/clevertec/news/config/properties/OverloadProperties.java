@@ -0,0 +1,74 @@
+package ru.clevertec.news.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Настройки защиты от перегрузки адаптивным ограничением одновременных запросов.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "overload")
+public class OverloadProperties {
+
+    /**
+     * Включает ограничение одновременных запросов к {@code /api/**}.
+     */
+    private boolean enabled;
+
+    /**
+     * Начальный лимит одновременных запросов.
+     */
+    private int initialLimit = 20;
+
+    /**
+     * Минимальный лимит.
+     */
+    private int minLimit = 5;
+
+    /**
+     * Максимальный лимит.
+     */
+    private int maxLimit = 200;
+
+    /**
+     * Доля изменения лимита, применяемая после каждого ответа, от 0 до 1.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * Допустимое отношение времени ответа к времени ответа без нагрузки, после которого лимит уменьшается.
+     */
+    private double tolerance = 1.5;
+
+    /**
+     * Количество ответов, по которым считается долгое среднее время ответа.
+     */
+    private int longWindow = 600;
+
+    /**
+     * Доля лимита, доступная спискам и поиску.
+     */
+    private double listShare = 0.6;
+
+    /**
+     * Доля лимита, доступная чтению отдельных сущностей. Изменениям доступен весь лимит.
+     */
+    private double readShare = 0.8;
+
+    /**
+     * Шаблоны путей, запросы которых не ограничиваются и не учитываются в лимите: время потоковых ответов
+     * определяется объемом данных и скоростью клиента, а не нагрузкой.
+     */
+    private List<String> excludedPaths = new ArrayList<>(List.of("/api/*/export"));
+
+    /**
+     * Шаблоны путей GET запросов чтения отдельных сущностей, остальные GET запросы считаются списками и поиском.
+     */
+    private List<String> readPaths = new ArrayList<>(List.of("/api/news/{id:\\d+}", "/api/news/{id:\\d+}/comments",
+            "/api/comments/{id:\\d+}", "/api/*/batch"));
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package ru.clevertec.news.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Настройки курсорной пагинации.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pagination")
+public class PaginationProperties {
+
+    /**
+     * Максимальный размер страницы, запрашиваемой по курсору: больший размер уменьшается до него.
+     */
+    private int maxPageSize = 100;
+
+    /**
+     * @param pageSize запрошенный размер страницы
+     * @return размер страницы, не больше {@code max-page-size}
+     */
+    public int limit(int pageSize) {
+        return Math.min(pageSize, maxPageSize);
+    }
+}
\ No newline at end of file
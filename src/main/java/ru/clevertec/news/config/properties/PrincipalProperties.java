@@ -0,0 +1,25 @@
+package ru.clevertec.news.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import ru.clevertec.news.constant.PrincipalMode;
+
+/**
+ * Настройки построения аутентифицированного пользователя.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.principal")
+public class PrincipalProperties {
+
+    /**
+     * Источник данных пользователя: база данных или claims токена.
+     */
+    private PrincipalMode mode = PrincipalMode.DATABASE;
+
+    /**
+     * Максимальное количество идентификаторов пользователей в памяти в режиме {@code claims}.
+     */
+    private int idCacheSize = 10_000;
+}
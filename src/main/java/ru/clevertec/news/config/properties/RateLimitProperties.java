@@ -0,0 +1,69 @@
+package ru.clevertec.news.config.properties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import ru.clevertec.news.dto.constant.RoleName;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Настройки ограничения частоты запросов.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Включает ограничение частоты запросов.
+     */
+    private boolean enabled;
+
+    /**
+     * Интервал согласования расхода лимитов между экземплярами сервиса через Redis.
+     */
+    private Duration syncInterval = Duration.ofSeconds(1);
+
+    /**
+     * Префикс ключей Redis.
+     */
+    private String keyPrefix = "rate-limit";
+
+    /**
+     * Максимальное время ожидания в заголовке {@code Retry-After}: ограничивает ожидание при медленном пополнении
+     * корзины или его отсутствии.
+     */
+    private Duration maxRetryAfter = Duration.ofMinutes(1);
+
+    /**
+     * Лимит для анонимных запросов и ролей без собственного лимита.
+     */
+    private Limit defaultLimit = new Limit(100, 50);
+
+    /**
+     * Лимиты по ролям.
+     */
+    private Map<RoleName, Limit> roles = new HashMap<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        /**
+         * Емкость корзины - максимальное количество запросов подряд.
+         */
+        private long capacity;
+
+        /**
+         * Скорость пополнения корзины, запросов в секунду.
+         */
+        private double refillPerSecond;
+    }
+}
\ No newline at end of file
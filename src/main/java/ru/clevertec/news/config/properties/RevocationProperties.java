@@ -0,0 +1,37 @@
+package ru.clevertec.news.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки отзыва токенов.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.revocation")
+public class RevocationProperties {
+
+    /**
+     * Включает канал отзыва токенов в Redis и конечные точки {@code /api/revocations}.
+     */
+    private boolean enabled;
+
+    /**
+     * Канал Redis для сообщений об отзыве.
+     */
+    private String channel = "token-revocation";
+
+    /**
+     * Максимальное время жизни токена, определяет срок хранения отзыва пользователя и время выдачи токенов
+     * без claim {@code iat}.
+     */
+    private Duration maxTokenLifetime = Duration.ofHours(24);
+
+    /**
+     * Интервал удаления истекших записей.
+     */
+    private Duration cleanupInterval = Duration.ofMinutes(1);
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package ru.clevertec.news.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import ru.clevertec.news.constant.TokenAlgorithm;
+import ru.clevertec.news.constant.VerificationMode;
+
+import java.time.Duration;
+
+/**
+ * Настройки проверки JWT токена.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.token")
+public class TokenProperties {
+
+    /**
+     * Режим проверки токена: запрос к auth-service или локальная проверка.
+     */
+    private VerificationMode verificationMode = VerificationMode.REMOTE;
+
+    /**
+     * Ожидаемый издатель токена (claim {@code iss}), не проверяется, если не задан.
+     */
+    private String issuer;
+
+    /**
+     * Алгоритм подписи токена.
+     */
+    private TokenAlgorithm algorithm = TokenAlgorithm.HS256;
+
+    /**
+     * Секрет для алгоритмов HMAC.
+     */
+    private String secret;
+
+    /**
+     * Открытый ключ в формате PEM или Base64 (X.509) для алгоритма RS256.
+     */
+    private String publicKey;
+
+    /**
+     * Расположение ресурса с секретом или открытым ключом, имеет приоритет над {@code secret} и {@code public-key}.
+     */
+    private String keyLocation;
+
+    /**
+     * Интервал перечитывания ключей.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Допустимое расхождение часов при проверке срока действия токена ({@code exp} и {@code ext}).
+     */
+    private Duration leeway = Duration.ofSeconds(30);
+
+    /**
+     * Кэш результатов проверки токена в режиме {@code remote}.
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * Пакетная проверка токенов в режиме {@code remote}.
+     */
+    private Batch batch = new Batch();
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * Включает кэширование результатов проверки токена.
+         */
+        private boolean enabled;
+
+        /**
+         * Максимальное количество записей в кэше.
+         */
+        private int maxSize = 10_000;
+
+        /**
+         * Максимальное время жизни положительного результата, если токен истекает позже.
+         */
+        private Duration ttl = Duration.ofMinutes(5);
+
+        /**
+         * Время жизни отрицательного результата.
+         */
+        private Duration negativeTtl = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /**
+         * Включает объединение одновременных проверок токенов в один запрос к auth-service.
+         */
+        private boolean enabled;
+
+        /**
+         * Время накопления пакета.
+         */
+        private Duration window = Duration.ofMillis(2);
+
+        /**
+         * Максимальное количество токенов в пакете, при достижении пакет отправляется сразу.
+         */
+        private int maxSize = 64;
+    }
+}
\ No newline at end of file
@@ -11,6 +11,8 @@ import ru.clevertec.news.repository.UserRepository;
 
 import java.util.Optional;
 
+import static ru.clevertec.news.constant.Constant.USER_NOT_FOUND;
+
 @Component
 @AllArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
@@ -35,7 +37,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         if (userOptional.isPresent()) {
             return userOptional.get();
         } else {
-            throw new OperationException("User not found");
+            throw new OperationException(USER_NOT_FOUND);
         }
     }
 }
\ No newline at end of file
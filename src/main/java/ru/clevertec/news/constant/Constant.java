@@ -4,6 +4,14 @@ public class Constant {
 
     public static final String OFFSET_DEFAULT = "1";
     public static final String LIMIT_DEFAULT = "15";
+    public static final int BATCH_SIZE_MAX = 100;
+
+    // caches
+    public static final String NEWS_CACHE = "news";
+    public static final String COMMENTS_CACHE = "comments";
+    public static final String NEWS_PAGES_CACHE = "newsPages";
+    public static final String COMMENT_PAGES_CACHE = "commentPages";
+    public static final String PAGE_KEY_GENERATOR = "pageKeyGenerator";
 
     // roles
     public static final String USER_ROLE = "ROLE_USER";
@@ -14,8 +22,25 @@ public class Constant {
     // token
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
+    public static final String USERNAME_CLAIM = "username";
+    public static final String ROLE_CLAIM = "role";
+    public static final String EXT_CLAIM = "ext";
+    public static final String EXP_CLAIM = "exp";
+    public static final String IAT_CLAIM = "iat";
+
+    // deadline
+    public static final String DEADLINE_HEADER = "X-Request-Timeout";
 
     // messages
     public static final String INVALID_TOKEN_ERROR = "Invalid token";
     public static final String PARSE_EXCEPTION = "Token parsing exception";
+    public static final String KEY_LOADING_ERROR = "Token key loading error";
+    public static final String USER_NOT_FOUND = "User not found";
+    public static final String TOO_MANY_CALLS_ERROR = "Too many concurrent calls";
+    public static final String CALL_TIMEOUT_ERROR = "Call timed out";
+    public static final String BATCH_SIZE_ERROR = "Too many ids in batch, max " + BATCH_SIZE_MAX;
+    public static final String PAGE_SIZE_ERROR = "Page size must be positive";
+    public static final String CIRCUIT_OPEN_ERROR = "Service is unavailable, circuit breaker is open: ";
+    public static final String BULKHEAD_FULL_ERROR = "Too many concurrent calls to service: ";
+    public static final String DEADLINE_EXCEEDED_ERROR = "Request deadline exceeded";
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package ru.clevertec.news.constant;
+
+/**
+ * Источник данных аутентифицированного пользователя в {@link ru.clevertec.news.config.filter.SecurityFilter}.
+ */
+public enum PrincipalMode {
+
+    /**
+     * Пользователь загружается из базы данных на каждый запрос.
+     */
+    DATABASE,
+
+    /**
+     * Пользователь строится из claims токена, из базы данных загружается только идентификатор.
+     */
+    CLAIMS
+}
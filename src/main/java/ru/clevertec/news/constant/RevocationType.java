@@ -0,0 +1,17 @@
+package ru.clevertec.news.constant;
+
+/**
+ * Тип отзыва токенов.
+ */
+public enum RevocationType {
+
+    /**
+     * Отзыв одного токена по отпечатку.
+     */
+    TOKEN,
+
+    /**
+     * Отзыв всех токенов пользователя, выданных до момента отзыва.
+     */
+    USER
+}
\ No newline at end of file
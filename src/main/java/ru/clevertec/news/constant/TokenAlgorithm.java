@@ -0,0 +1,12 @@
+package ru.clevertec.news.constant;
+
+/**
+ * Алгоритмы подписи JWT токена, поддерживаемые при локальной проверке.
+ */
+public enum TokenAlgorithm {
+
+    HS256,
+    HS384,
+    HS512,
+    RS256
+}
\ No newline at end of file
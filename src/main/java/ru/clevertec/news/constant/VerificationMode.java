@@ -0,0 +1,17 @@
+package ru.clevertec.news.constant;
+
+/**
+ * Режим проверки JWT токена в {@link ru.clevertec.news.config.filter.SecurityFilter}.
+ */
+public enum VerificationMode {
+
+    /**
+     * Проверка токена запросом к auth-service.
+     */
+    REMOTE,
+
+    /**
+     * Локальная проверка подписи, издателя и срока действия токена.
+     */
+    LOCAL
+}
\ No newline at end of file
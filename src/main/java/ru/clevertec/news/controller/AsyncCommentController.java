@@ -0,0 +1,95 @@
+package ru.clevertec.news.controller;
+
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import ru.clevertec.news.annotation.Log;
+import ru.clevertec.news.dto.CommentDto;
+import ru.clevertec.news.dto.batch.BatchContentDto;
+import ru.clevertec.news.dto.create.CommentCreateDto;
+import ru.clevertec.news.dto.cursor.CursorPageDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.update.CommentUpdateDto;
+import ru.clevertec.news.service.AsyncCommentService;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static ru.clevertec.news.constant.Constant.LIMIT_DEFAULT;
+import static ru.clevertec.news.constant.Constant.OFFSET_DEFAULT;
+
+@Log
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/comments")
+@ConditionalOnProperty(prefix = "async", name = "enabled", havingValue = "true")
+public class AsyncCommentController {
+
+    private final AsyncCommentService commentService;
+
+    @GetMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<BatchContentDto<CommentDto>> getByIds(@RequestParam("ids") List<Long> ids) {
+        return commentService.getByIds(ids);
+    }
+
+    @GetMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<CommentDto> getById(@PathVariable("id") Long id) {
+        return commentService.getById(id);
+    }
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<PageContentDto<CommentDto>> getAll(@RequestParam(value = "pageNumber", required = false, defaultValue = OFFSET_DEFAULT) int pageNumber,
+                                                                @RequestParam(value = "pageSize", required = false, defaultValue = LIMIT_DEFAULT) int pageSize,
+                                                                @RequestParam(value = "username", required = false) String username,
+                                                                @RequestParam(value = "text", required = false) String text) {
+        return commentService.getAll(pageNumber, pageSize, username, text);
+    }
+
+    @GetMapping("newsId/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<PageContentDto<CommentDto>> getByNewsId(@RequestParam(value = "pageNumber", required = false, defaultValue = OFFSET_DEFAULT) int pageNumber,
+                                                                     @RequestParam(value = "pageSize", required = false, defaultValue = LIMIT_DEFAULT) int pageSize,
+                                                                     @PathVariable("id") Long id) {
+        return commentService.getByNewsId(pageNumber, pageSize, id);
+    }
+
+    @GetMapping(params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<CursorPageDto<CommentDto>> getAllByCursor(@RequestParam("cursor") String cursor,
+                                                                       @RequestParam(value = "pageSize", required = false, defaultValue = LIMIT_DEFAULT) int pageSize,
+                                                                       @RequestParam(value = "username", required = false) String username,
+                                                                       @RequestParam(value = "text", required = false) String text) {
+        return commentService.getAllByCursor(cursor, pageSize, username, text);
+    }
+
+    @GetMapping(value = "newsId/{id}", params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<CursorPageDto<CommentDto>> getByNewsIdByCursor(@RequestParam("cursor") String cursor,
+                                                                            @RequestParam(value = "pageSize", required = false, defaultValue = LIMIT_DEFAULT) int pageSize,
+                                                                            @PathVariable("id") Long id) {
+        return commentService.getByNewsIdByCursor(cursor, pageSize, id);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public CompletableFuture<CommentDto> create(@RequestBody CommentCreateDto commentCreateDto) {
+        return commentService.create(commentCreateDto);
+    }
+
+    @PutMapping
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<CommentDto> update(@RequestBody CommentUpdateDto commentUpdateDto) {
+        return commentService.update(commentUpdateDto);
+    }
+
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @DeleteMapping("/{id}")
+    public CompletableFuture<Void> delete(@PathVariable("id") Long id) {
+        return commentService.delete(id);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package ru.clevertec.news.controller;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import ru.clevertec.news.annotation.Log;
+import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.dto.batch.BatchContentDto;
+import ru.clevertec.news.dto.create.NewsCreateDto;
+import ru.clevertec.news.dto.cursor.CursorPageDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.update.NewsUpdateDto;
+import ru.clevertec.news.service.AsyncNewsService;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static ru.clevertec.news.constant.Constant.LIMIT_DEFAULT;
+import static ru.clevertec.news.constant.Constant.OFFSET_DEFAULT;
+
+@Log
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/news")
+@ConditionalOnProperty(prefix = "async", name = "enabled", havingValue = "true")
+public class AsyncNewsController {
+
+    private final AsyncNewsService newsService;
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    CompletableFuture<PageContentDto<NewsDto>> getAllNews(@RequestParam(value = "pageNumber", required = false, defaultValue = OFFSET_DEFAULT) int pageNumber,
+                                                          @RequestParam(value = "pageSize", required = false, defaultValue = LIMIT_DEFAULT) int pageSize,
+                                                          @RequestParam(value = "title", required = false) String title,
+                                                          @RequestParam(value = "text", required = false) String text) {
+        return newsService.getAll(pageNumber, pageSize, title, text);
+    }
+
+    @GetMapping(params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    CompletableFuture<CursorPageDto<NewsDto>> getAllNewsByCursor(@RequestParam("cursor") String cursor,
+                                                             @RequestParam(value = "pageSize", required = false, defaultValue = LIMIT_DEFAULT) int pageSize,
+                                                             @RequestParam(value = "title", required = false) String title,
+                                                             @RequestParam(value = "text", required = false) String text) {
+        return newsService.getAllByCursor(cursor, pageSize, title, text);
+    }
+
+    @GetMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    CompletableFuture<BatchContentDto<NewsDto>> getNewsByIds(@RequestParam("ids") List<Long> ids) {
+        return newsService.getByIds(ids);
+    }
+
+    @GetMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    CompletableFuture<NewsDto> getNewsById(@PathVariable("id") Long id) {
+        return newsService.getNewsById(id);
+    }
+
+    @GetMapping("/{id}/comments")
+    @ResponseStatus(HttpStatus.OK)
+    CompletableFuture<NewsDto> getByIdWithComments(@RequestParam(value = "pageNumber", defaultValue = OFFSET_DEFAULT) Integer pageNumber,
+                                                   @RequestParam(value = "pageSize", defaultValue = LIMIT_DEFAULT) Integer pageSize,
+                                                   @PathVariable("id") Long id) {
+        return newsService.getByIdWithComments(pageNumber, pageSize, id);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.OK)
+    CompletableFuture<NewsDto> create(@RequestBody NewsCreateDto newsCreateDto) {
+        return newsService.create(newsCreateDto);
+    }
+
+    @PutMapping
+    @ResponseStatus(HttpStatus.OK)
+    CompletableFuture<NewsDto> update(@RequestBody NewsUpdateDto newsUpdateDto) {
+        return newsService.update(newsUpdateDto);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    CompletableFuture<Void> delete(@PathVariable("id") Long id) {
+        return newsService.delete(id);
+    }
+}
\ No newline at end of file
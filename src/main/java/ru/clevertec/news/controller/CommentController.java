@@ -2,15 +2,20 @@ package ru.clevertec.news.controller;
 
 
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import ru.clevertec.news.annotation.Log;
 import ru.clevertec.news.dto.CommentDto;
+import ru.clevertec.news.dto.batch.BatchContentDto;
 import ru.clevertec.news.dto.create.CommentCreateDto;
+import ru.clevertec.news.dto.cursor.CursorPageDto;
 import ru.clevertec.news.dto.page.PageContentDto;
 import ru.clevertec.news.dto.update.CommentUpdateDto;
 import ru.clevertec.news.service.CommentService;
 
+import java.util.List;
+
 import static ru.clevertec.news.constant.Constant.LIMIT_DEFAULT;
 import static ru.clevertec.news.constant.Constant.OFFSET_DEFAULT;
 
@@ -18,6 +23,7 @@ import static ru.clevertec.news.constant.Constant.OFFSET_DEFAULT;
 @RestController
 @AllArgsConstructor
 @RequestMapping("/api/comments")
+@ConditionalOnProperty(prefix = "async", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class CommentController {
 
     private final CommentService commentService;
@@ -28,6 +34,12 @@ public class CommentController {
         return commentService.getById(id);
     }
 
+    @GetMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public BatchContentDto<CommentDto> getByIds(@RequestParam("ids") List<Long> ids) {
+        return commentService.getByIds(ids);
+    }
+
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public PageContentDto<CommentDto> getAll(@RequestParam(value = "pageNumber", required = false, defaultValue = OFFSET_DEFAULT) int pageNumber,
@@ -45,6 +57,23 @@ public class CommentController {
         return commentService.getByNewsId(pageNumber, pageSize, id);
     }
 
+    @GetMapping(params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageDto<CommentDto> getAllByCursor(@RequestParam("cursor") String cursor,
+                                                    @RequestParam(value = "pageSize", required = false, defaultValue = LIMIT_DEFAULT) int pageSize,
+                                                    @RequestParam(value = "username", required = false) String username,
+                                                    @RequestParam(value = "text", required = false) String text) {
+        return commentService.getAllByCursor(cursor, pageSize, username, text);
+    }
+
+    @GetMapping(value = "newsId/{id}", params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageDto<CommentDto> getByNewsIdByCursor(@RequestParam("cursor") String cursor,
+                                                         @RequestParam(value = "pageSize", required = false, defaultValue = LIMIT_DEFAULT) int pageSize,
+                                                         @PathVariable("id") Long id) {
+        return commentService.getByNewsIdByCursor(cursor, pageSize, id);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public CommentDto create(@RequestBody CommentCreateDto commentCreateDto) {
@@ -0,0 +1,40 @@
+package ru.clevertec.news.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.clevertec.news.annotation.Log;
+import ru.clevertec.news.service.ExportService;
+
+import java.io.IOException;
+
+@Log
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api")
+@ConditionalOnProperty(prefix = "export", name = "enabled", havingValue = "true")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping(value = "/news/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportNews(@RequestParam(value = "title", required = false) String title,
+                           @RequestParam(value = "text", required = false) String text,
+                           HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        exportService.exportNews(title, text, response.getOutputStream());
+    }
+
+    @GetMapping(value = "/comments/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportComments(@RequestParam(value = "username", required = false) String username,
+                               @RequestParam(value = "text", required = false) String text,
+                               HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        exportService.exportComments(username, text, response.getOutputStream());
+    }
+}
\ No newline at end of file
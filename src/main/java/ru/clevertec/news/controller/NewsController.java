@@ -1,15 +1,20 @@
 package ru.clevertec.news.controller;
 
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import ru.clevertec.news.annotation.Log;
 import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.dto.batch.BatchContentDto;
 import ru.clevertec.news.dto.create.NewsCreateDto;
+import ru.clevertec.news.dto.cursor.CursorPageDto;
 import ru.clevertec.news.dto.page.PageContentDto;
 import ru.clevertec.news.dto.update.NewsUpdateDto;
 import ru.clevertec.news.service.NewsService;
 
+import java.util.List;
+
 import static ru.clevertec.news.constant.Constant.LIMIT_DEFAULT;
 import static ru.clevertec.news.constant.Constant.OFFSET_DEFAULT;
 
@@ -17,6 +22,7 @@ import static ru.clevertec.news.constant.Constant.OFFSET_DEFAULT;
 @RestController
 @AllArgsConstructor
 @RequestMapping("/api/news")
+@ConditionalOnProperty(prefix = "async", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class NewsController {
 
     private final NewsService newsService;
@@ -30,6 +36,21 @@ public class NewsController {
         return newsService.getAll(pageNumber, pageSize, title, text);
     }
 
+    @GetMapping(params = "cursor")
+    @ResponseStatus(HttpStatus.OK)
+    CursorPageDto<NewsDto> getAllNewsByCursor(@RequestParam("cursor") String cursor,
+                                          @RequestParam(value = "pageSize", required = false, defaultValue = LIMIT_DEFAULT) int pageSize,
+                                          @RequestParam(value = "title", required = false) String title,
+                                          @RequestParam(value = "text", required = false) String text) {
+        return newsService.getAllByCursor(cursor, pageSize, title, text);
+    }
+
+    @GetMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    BatchContentDto<NewsDto> getNewsByIds(@RequestParam("ids") List<Long> ids) {
+        return newsService.getByIds(ids);
+    }
+
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     NewsDto getNewsById(@PathVariable("id") Long id) {
@@ -0,0 +1,30 @@
+package ru.clevertec.news.controller;
+
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import ru.clevertec.news.annotation.Log;
+import ru.clevertec.news.service.RevocationService;
+
+@Log
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/revocations")
+@ConditionalOnProperty(prefix = "security.revocation", name = "enabled", havingValue = "true")
+public class RevocationController {
+
+    private final RevocationService revocationService;
+
+    @PostMapping("/tokens")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    void revokeToken(@RequestBody String token) {
+        revocationService.revokeToken(token);
+    }
+
+    @PostMapping("/users/{login}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    void revokeUser(@PathVariable("login") String login) {
+        revocationService.revokeUser(login);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package ru.clevertec.news.dto.batch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Результат группового запроса сущностей по идентификаторам.
+ *
+ * @param content найденные сущности в порядке запрошенных идентификаторов
+ * @param missing идентификаторы, для которых сущности не найдены, в порядке запроса
+ * @param <T>     тип сущности
+ */
+public record BatchContentDto<T>(List<T> content, List<Long> missing) {
+
+    /**
+     * Упорядочивает найденные сущности по запрошенным идентификаторам.
+     *
+     * @param ids   запрошенные идентификаторы без повторов
+     * @param found найденные сущности в любом порядке
+     * @param id    идентификатор сущности
+     * @param <T>   тип сущности
+     * @return результат группового запроса
+     */
+    public static <T> BatchContentDto<T> of(List<Long> ids, Collection<T> found, Function<T, Long> id) {
+        Map<Long, T> byId = new HashMap<>();
+        found.forEach(item -> byId.put(id.apply(item), item));
+        List<T> content = new ArrayList<>(ids.size());
+        List<Long> missing = new ArrayList<>();
+        for (var key : ids) {
+            var item = byId.get(key);
+            if (item == null) {
+                missing.add(key);
+            } else {
+                content.add(item);
+            }
+        }
+        return new BatchContentDto<>(content, missing);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package ru.clevertec.news.dto.cursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Позиция в списке, упорядоченном по времени и идентификатору: время и идентификатор последней полученной записи.
+ *
+ * <p>Клиентам передается в непрозрачном виде - Base64url строки {@code время|идентификатор}.</p>
+ *
+ * @param time время записи
+ * @param id   идентификатор записи
+ */
+public record Cursor(LocalDateTime time, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * @return непрозрачное представление курсора
+     */
+    public String encode() {
+        var value = time.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor непрозрачное представление курсора
+     * @return курсор или {@code null} для пустой строки - начала списка
+     * @throws IllegalArgumentException если строка не является курсором
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separator = value.lastIndexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(value.substring(0, separator)), Long.valueOf(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * @param cursor курсор или {@code null}
+     * @return время курсора для запроса к микросервису или {@code null}
+     */
+    public static String time(Cursor cursor) {
+        return cursor == null ? null : cursor.time().toString();
+    }
+
+    /**
+     * @param cursor курсор или {@code null}
+     * @return идентификатор курсора для запроса к микросервису или {@code null}
+     */
+    public static Long id(Cursor cursor) {
+        return cursor == null ? null : cursor.id();
+    }
+}
\ No newline at end of file
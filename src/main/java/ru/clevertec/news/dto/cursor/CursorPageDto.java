@@ -0,0 +1,31 @@
+package ru.clevertec.news.dto.cursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Страница списка, запрошенная по курсору.
+ *
+ * @param content    записи страницы
+ * @param nextCursor курсор следующей страницы или {@code null}, если страница последняя
+ * @param <T>        тип записи
+ */
+public record CursorPageDto<T>(List<T> content, String nextCursor) {
+
+    /**
+     * Формирует страницу из записей, запрошенных с одной лишней: её наличие означает, что есть следующая страница.
+     *
+     * @param rows     записи, не более {@code pageSize + 1}
+     * @param pageSize размер страницы
+     * @param cursor   позиция записи
+     * @param <T>      тип записи
+     * @return страница с курсором следующей страницы
+     */
+    public static <T> CursorPageDto<T> of(List<T> rows, int pageSize, Function<T, Cursor> cursor) {
+        if (rows.size() <= pageSize) {
+            return new CursorPageDto<>(rows, null);
+        }
+        var content = rows.subList(0, pageSize);
+        return new CursorPageDto<>(List.copyOf(content), cursor.apply(content.get(pageSize - 1)).encode());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package ru.clevertec.news.entity;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import ru.clevertec.news.constant.RevocationType;
+
+/**
+ * Сообщение канала отзыва токенов.
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevocationEvent {
+
+    private RevocationType type;
+
+    /**
+     * Отпечаток токена для {@link RevocationType#TOKEN} или логин для {@link RevocationType#USER}
+     */
+    private String value;
+
+    /**
+     * Момент, после которого запись отзыва не нужна (миллисекунды с начала эпохи)
+     */
+    private Long expiresAt;
+
+    /**
+     * Момент отзыва пользователя (миллисекунды с начала эпохи): отозванными считаются токены, выданные не позже него
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long revokedAt;
+
+    public RevocationEvent(RevocationType type, String value, Long expiresAt) {
+        this(type, value, expiresAt, null);
+    }
+}
\ No newline at end of file
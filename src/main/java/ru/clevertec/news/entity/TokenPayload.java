@@ -1,5 +1,6 @@
 package ru.clevertec.news.entity;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,7 +17,17 @@ public class TokenPayload {
     private String role;
 
     /**
-     * Время валидности токена
+     * Время валидности токена (секунды с начала эпохи), при отсутствии claim {@code ext} берется из {@code exp}
      */
+    @JsonAlias("exp")
     private Long ext;
+
+    /**
+     * Время выдачи токена (секунды с начала эпохи), {@code null}, если claim {@code iat} отсутствует
+     */
+    private Long iat;
+
+    public TokenPayload(String username, String role, Long ext) {
+        this(username, role, ext, null);
+    }
 }
\ No newline at end of file
@@ -4,16 +4,11 @@ import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import ru.clevertec.news.dto.constant.RoleName;
+import ru.clevertec.news.security.RoleAuthorities;
 
 import java.util.Collection;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
-import static ru.clevertec.news.constant.Constant.*;
 
 /**
  * Модель пользователя
@@ -53,19 +48,12 @@ public class User implements UserDetails {
 
     /**
      * {@inheritDoc}
+     *
+     * <p>Возвращает неизменяемый список из {@link RoleAuthorities}, вычисленный один раз для роли.</p>
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        Map<RoleName, List<String>> roleMap = Map.of(
-                RoleName.ADMIN, List.of(ADMIN_ROLE, USER_ROLE),
-                RoleName.JOURNALIST, List.of(JOURNALIST_ROLE, USER_ROLE),
-                RoleName.SUBSCRIBER, List.of(SUBSCRIBER_ROLE, USER_ROLE)
-        );
-
-        return roleMap.getOrDefault(this.role, List.of(USER_ROLE))
-                .stream()
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        return RoleAuthorities.of(role);
     }
 
     @Override
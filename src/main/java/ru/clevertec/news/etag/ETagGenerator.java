@@ -0,0 +1,93 @@
+package ru.clevertec.news.etag;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.BeanUtils;
+
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Вычисление сильных ETag тел ответов.
+ *
+ * <p>Если у тела есть свойство {@code version}, ETag вычисляется по типу, идентификатору и версии, иначе - MD5
+ * JSON представления, которое потоково передается в хэш без буфера. ETag не запоминаются: тела ответов изменяемы,
+ * и значение, запомненное по телу, могло бы не соответствовать его текущему содержимому.</p>
+ */
+public class ETagGenerator {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, Optional<PropertyDescriptor[]>> versions = new ConcurrentHashMap<>();
+
+    /**
+     * @param objectMapper сериализация тел ответов
+     */
+    public ETagGenerator(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param body тело ответа
+     * @return ETag в кавычках
+     */
+    public String generate(Object body) {
+        return '"' + HexFormat.of().formatHex(digest(body)) + '"';
+    }
+
+    private byte[] digest(Object body) {
+        var md5 = md5();
+        var version = versions.computeIfAbsent(body.getClass(), ETagGenerator::versionProperties);
+        if (version.isPresent()) {
+            var id = read(version.get()[0], body);
+            var value = read(version.get()[1], body);
+            if (value != null) {
+                var key = body.getClass().getName() + ':' + id + ':' + value;
+                return md5.digest(key.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        try (var out = new DigestOutputStream(OutputStream.nullOutputStream(), md5)) {
+            objectMapper.writeValue(out, body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return md5.digest();
+    }
+
+    private static Optional<PropertyDescriptor[]> versionProperties(Class<?> type) {
+        var version = BeanUtils.getPropertyDescriptor(type, "version");
+        if (version == null || version.getReadMethod() == null) {
+            return Optional.empty();
+        }
+        var id = BeanUtils.getPropertyDescriptor(type, "id");
+        return Optional.of(new PropertyDescriptor[]{id != null && id.getReadMethod() != null ? id : null, version});
+    }
+
+    private static Object read(PropertyDescriptor property, Object body) {
+        if (property == null) {
+            return null;
+        }
+        try {
+            return property.getReadMethod().invoke(body);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read " + property.getName() + " of " + body.getClass().getName(), e);
+        }
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package ru.clevertec.news.etag;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import ru.clevertec.news.controller.AsyncCommentController;
+import ru.clevertec.news.controller.AsyncNewsController;
+import ru.clevertec.news.controller.CommentController;
+import ru.clevertec.news.controller.NewsController;
+
+/**
+ * Условные GET запросы новостей и комментариев ({@code etag.enabled}).
+ *
+ * <p>Ответ на GET получает заголовок {@code ETag}. Если {@code If-None-Match} запроса совпадает с ним,
+ * возвращается 304 без тела, и тело не сериализуется.</p>
+ */
+@ControllerAdvice(assignableTypes = {NewsController.class, CommentController.class,
+        AsyncNewsController.class, AsyncCommentController.class})
+@ConditionalOnProperty(prefix = "etag", name = "enabled", havingValue = "true")
+public class ETagResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ETagGenerator generator;
+
+    /**
+     * @param objectMapper сериализация тел ответов
+     */
+    public ETagResponseBodyAdvice(ObjectMapper objectMapper) {
+        this.generator = new ETagGenerator(objectMapper);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !HttpMethod.GET.equals(request.getMethod())
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        var webRequest = new ServletWebRequest(servletRequest.getServletRequest(), servletResponse.getServletResponse());
+        return webRequest.checkNotModified(generator.generate(body)) ? null : body;
+    }
+}
\ No newline at end of file
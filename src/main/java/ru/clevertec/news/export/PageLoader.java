@@ -0,0 +1,21 @@
+package ru.clevertec.news.export;
+
+import ru.clevertec.news.dto.page.PageContentDto;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Загрузка страницы постраничного запроса для {@link PagePrefetcher}.
+ *
+ * @param <T> тип элементов страницы
+ */
+@FunctionalInterface
+public interface PageLoader<T> {
+
+    /**
+     * @param pageNumber номер страницы
+     * @param cancelled  {@code true}, если страница больше не нужна: загрузку можно не начинать или прекратить
+     * @return страница
+     */
+    PageContentDto<T> load(int pageNumber, BooleanSupplier cancelled);
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+package ru.clevertec.news.export;
+
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.feign.client.RequestAbort;
+import ru.clevertec.news.resilience.Deadline;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Последовательное чтение страниц постраничного запроса с загрузкой следующих страниц заранее.
+ *
+ * <p>После получения страницы запрашиваются до {@code prefetch} следующих, пока вызывающий код обрабатывает
+ * текущую. Загрузка останавливается на последней странице по {@code totalPages} или на неполной странице, так что
+ * в памяти одновременно находится не больше {@code prefetch + 1} страниц.</p>
+ *
+ * <p>Страницы загружаются со сроком запроса ({@link Deadline}) потока, создавшего загрузку. {@link #close()}
+ * отменяет загружаемые страницы: загрузка получает признак отмены, а запрос к микросервису, уже отправленный
+ * загрузкой, прерывается через {@link RequestAbort} с закрытием соединения.</p>
+ *
+ * @param <T> тип элементов страницы
+ */
+public class PagePrefetcher<T> implements Iterator<List<T>>, AutoCloseable {
+
+    private final PageLoader<T> loader;
+    private final Executor executor;
+    private final int pageSize;
+    private final int prefetch;
+    private final Duration timeout;
+    private final Deque<Pending<T>> pending = new ArrayDeque<>();
+    private int nextPage;
+    private Integer lastPage;
+
+    /**
+     * @param loader    загрузка страницы по номеру
+     * @param executor  исполнитель загрузки
+     * @param firstPage номер первой страницы
+     * @param pageSize  размер страницы
+     * @param prefetch  количество страниц, загружаемых заранее
+     * @param timeout   максимальное время ожидания страницы
+     */
+    public PagePrefetcher(PageLoader<T> loader, Executor executor, int firstPage, int pageSize,
+                          int prefetch, Duration timeout) {
+        this.loader = loader;
+        this.executor = executor;
+        this.pageSize = pageSize;
+        this.prefetch = Math.max(prefetch, 1);
+        this.timeout = timeout;
+        this.nextPage = firstPage;
+        schedule();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Ожидает следующую страницу и запрашивает следующие за ней.
+     *
+     * @return элементы страницы
+     * @throws IllegalStateException если страница не получена за отведенное время или загрузка прервана
+     */
+    @Override
+    public List<T> next() {
+        var current = pending.poll();
+        if (current == null) {
+            throw new NoSuchElementException();
+        }
+        var page = await(current);
+        var content = page.content() == null ? List.<T>of() : page.content();
+        var info = page.page();
+        if (info != null && info.getTotalPages() != null) {
+            lastPage = info.getTotalPages();
+        }
+        if (content.size() < pageSize || lastPage != null && current.number() >= lastPage) {
+            close();
+        } else {
+            while (pending.size() < prefetch && (lastPage == null || nextPage <= lastPage)) {
+                schedule();
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Отменяет загружаемые страницы.
+     */
+    @Override
+    public void close() {
+        for (var page : pending) {
+            page.cancel();
+        }
+        pending.clear();
+    }
+
+    private void schedule() {
+        var number = nextPage++;
+        var abort = new RequestAbort();
+        pending.add(new Pending<>(number, abort, CompletableFuture.supplyAsync(Deadline.wrap(() -> {
+            if (abort.isAborted()) {
+                throw new CancellationException("Page " + number + " is no longer needed");
+            }
+            RequestAbort.set(abort);
+            try {
+                return loader.load(number, abort::isAborted);
+            } finally {
+                RequestAbort.set(null);
+            }
+        }), executor)));
+    }
+
+    private PageContentDto<T> await(Pending<T> current) {
+        var page = current.page();
+        try {
+            return page.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            close();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            close();
+            current.cancel();
+            throw new IllegalStateException("Page load timed out after " + timeout.toMillis() + " ms");
+        } catch (InterruptedException e) {
+            close();
+            current.cancel();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Page load interrupted", e);
+        }
+    }
+
+    private record Pending<T>(int number, RequestAbort abort, CompletableFuture<PageContentDto<T>> page) {
+
+        private void cancel() {
+            abort.abort();
+            page.cancel(true);
+        }
+    }
+}
\ No newline at end of file
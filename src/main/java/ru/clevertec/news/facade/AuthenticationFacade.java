@@ -1,5 +1,7 @@
 package ru.clevertec.news.facade;
 
+import ru.clevertec.news.dto.constant.RoleName;
+
 public interface AuthenticationFacade {
 
     Long getCurrentUserId();
@@ -7,4 +9,6 @@ public interface AuthenticationFacade {
     String getCurrentUsername();
 
     String getCurrentUserRole();
+
+    boolean hasRole(RoleName role);
 }
\ No newline at end of file
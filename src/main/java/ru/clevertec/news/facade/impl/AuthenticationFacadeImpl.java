@@ -1,15 +1,16 @@
 package ru.clevertec.news.facade.impl;
 
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import ru.clevertec.news.entity.User;
+import ru.clevertec.news.dto.constant.RoleName;
 import ru.clevertec.news.facade.AuthenticationFacade;
+import ru.clevertec.news.security.UserPrincipal;
 
 /**
  * Фасад для получения информации об аутентифицированном пользователе.
  *
- * <p>Данный класс предоставляет методы для получения идентификатора текущего пользователя и его роли из контекста безопасности.</p>
+ * <p>Данный класс предоставляет методы для получения идентификатора текущего пользователя и его роли из контекста безопасности.
+ * Данные берутся из {@link UserPrincipal}, поэтому методы не выделяют память.</p>
  */
 @Component
 public class AuthenticationFacadeImpl implements AuthenticationFacade {
@@ -21,11 +22,7 @@ public class AuthenticationFacadeImpl implements AuthenticationFacade {
      * @throws IllegalStateException если пользователь не аутентифицирован
      */
     public Long getCurrentUserId() {
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            return ((User) authentication.getPrincipal()).getId();
-        }
-        throw new IllegalStateException("User not authenticated");
+        return getCurrentPrincipal().getId();
     }
 
     /**
@@ -35,26 +32,35 @@ public class AuthenticationFacadeImpl implements AuthenticationFacade {
      * @throws IllegalStateException если пользователь не аутентифицирован
      */
     public String getCurrentUsername() {
-        var authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            return ((User) authentication.getPrincipal()).getUsername();
-        }
-        throw new IllegalStateException("User not authenticated");
+        return getCurrentPrincipal().getUsername();
     }
 
     /**
      * Получить роль текущего аутентифицированного пользователя.
      *
-     * @return роль текущего пользователя или {@code null}, если роль не установлена
+     * @return основное полномочие роли текущего пользователя, например {@code ROLE_ADMIN}
      * @throws IllegalStateException если пользователь не аутентифицирован
      */
     public String getCurrentUserRole() {
+        return getCurrentPrincipal().getAuthority();
+    }
+
+    /**
+     * Проверить, предоставлена ли текущему пользователю роль.
+     *
+     * @param role роль
+     * @return {@code true}, если роль предоставлена
+     * @throws IllegalStateException если пользователь не аутентифицирован
+     */
+    public boolean hasRole(RoleName role) {
+        return getCurrentPrincipal().hasRole(role);
+    }
+
+    private UserPrincipal getCurrentPrincipal() {
         var authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.isAuthenticated()) {
-            return authentication.getAuthorities().stream()
-                    .map(GrantedAuthority::getAuthority)
-                    .findFirst()
-                    .orElse(null);
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
         }
         throw new IllegalStateException("User not authenticated");
     }
@@ -8,6 +8,8 @@ import ru.clevertec.news.dto.auth.JwtDto;
 import ru.clevertec.news.dto.auth.SignInDto;
 import ru.clevertec.news.dto.auth.SignUpDto;
 
+import java.util.List;
+
 import static ru.clevertec.news.constant.Constant.AUTHORIZATION_HEADER;
 
 @FeignClient(contextId = "authClient", value = "${feign.auth-service.value}", url = "${feign.auth-service.url}")
@@ -21,4 +23,13 @@ public interface AuthClient {
 
     @PostMapping("/check")
     boolean check(@RequestHeader(AUTHORIZATION_HEADER) String auth);
+
+    /**
+     * Проверяет несколько токенов одним запросом.
+     *
+     * @param tokens токены без префикса {@code Bearer}
+     * @return результаты проверки в порядке переданных токенов
+     */
+    @PostMapping("/check/batch")
+    List<Boolean> checkBatch(@RequestBody List<String> tokens);
 }
\ No newline at end of file
@@ -6,6 +6,9 @@ import ru.clevertec.news.dto.CommentDto;
 import ru.clevertec.news.dto.create.CommentCreateDto;
 import ru.clevertec.news.dto.page.PageContentDto;
 import ru.clevertec.news.dto.update.CommentUpdateDto;
+import ru.clevertec.news.feign.capability.Collapsed;
+
+import java.util.List;
 
 import static ru.clevertec.news.constant.Constant.LIMIT_DEFAULT;
 import static ru.clevertec.news.constant.Constant.OFFSET_DEFAULT;
@@ -13,9 +16,13 @@ import static ru.clevertec.news.constant.Constant.OFFSET_DEFAULT;
 @FeignClient(contextId = "commentsClient", value = "${feign.comment-service.value}", url = "${feign.comment-service.url-comments}")
 public interface CommentClient {
 
+    @Collapsed(bulk = "getByIds")
     @GetMapping("/{id}")
     CommentDto getById(@PathVariable("id") Long id);
 
+    @GetMapping("/batch")
+    List<CommentDto> getByIds(@RequestParam("ids") List<Long> ids);
+
     @GetMapping
     PageContentDto<CommentDto> getAll(@RequestParam(value = "pageNumber", required = false, defaultValue = OFFSET_DEFAULT) int pageNumber,
                                       @RequestParam(value = "pageSize", required = false, defaultValue = LIMIT_DEFAULT) int pageSize,
@@ -27,6 +34,23 @@ public interface CommentClient {
                                            @RequestParam(value = "pageSize", required = false, defaultValue = LIMIT_DEFAULT) int pageSize,
                                            @PathVariable("id") Long id);
 
+    /**
+     * Комментарии, следующие за записью {@code (afterTime, afterId)} в порядке убывания времени и идентификатора,
+     * без параметров - с начала списка.
+     */
+    @GetMapping("/keyset")
+    List<CommentDto> getAllAfter(@RequestParam(value = "afterTime", required = false) String afterTime,
+                                 @RequestParam(value = "afterId", required = false) Long afterId,
+                                 @RequestParam("limit") int limit,
+                                 @RequestParam(value = "username", required = false) String username,
+                                 @RequestParam(value = "text", required = false) String text);
+
+    @GetMapping("newsId/{id}/keyset")
+    List<CommentDto> getByNewsIdAfter(@RequestParam(value = "afterTime", required = false) String afterTime,
+                                      @RequestParam(value = "afterId", required = false) Long afterId,
+                                      @RequestParam("limit") int limit,
+                                      @PathVariable("id") Long id);
+
     @PostMapping
     CommentDto create(@RequestBody CommentCreateDto commentCreateDto);
 
@@ -6,6 +6,9 @@ import ru.clevertec.news.dto.NewsDto;
 import ru.clevertec.news.dto.create.NewsCreateDto;
 import ru.clevertec.news.dto.page.PageContentDto;
 import ru.clevertec.news.dto.update.NewsUpdateDto;
+import ru.clevertec.news.feign.capability.Collapsed;
+
+import java.util.List;
 
 import static ru.clevertec.news.constant.Constant.LIMIT_DEFAULT;
 import static ru.clevertec.news.constant.Constant.OFFSET_DEFAULT;
@@ -13,9 +16,13 @@ import static ru.clevertec.news.constant.Constant.OFFSET_DEFAULT;
 @FeignClient(contextId = "newsClient", value = "${feign.news-service.value}", url = "${feign.news-service.url-news}")
 public interface NewsClient {
 
+    @Collapsed(bulk = "getByIds")
     @GetMapping("/{id}")
     NewsDto getNewsById(@PathVariable("id") Long id);
 
+    @GetMapping("/batch")
+    List<NewsDto> getByIds(@RequestParam("ids") List<Long> ids);
+
     @GetMapping("{id}/comments")
     NewsDto getByIdWithComments(@RequestParam(value = "pageNumber", defaultValue = OFFSET_DEFAULT) Integer pageNumber,
                                 @RequestParam(value = "pageSize", defaultValue = LIMIT_DEFAULT) Integer pageSize,
@@ -27,6 +34,17 @@ public interface NewsClient {
                                    @RequestParam(value = "title", required = false) String title,
                                    @RequestParam(value = "text", required = false) String text);
 
+    /**
+     * Новости, следующие за записью {@code (afterTime, afterId)} в порядке убывания времени и идентификатора,
+     * без параметров - с начала списка.
+     */
+    @GetMapping("/keyset")
+    List<NewsDto> getAllAfter(@RequestParam(value = "afterTime", required = false) String afterTime,
+                              @RequestParam(value = "afterId", required = false) Long afterId,
+                              @RequestParam("limit") int limit,
+                              @RequestParam(value = "title", required = false) String title,
+                              @RequestParam(value = "text", required = false) String text);
+
     @PostMapping
     NewsDto create(@RequestBody NewsCreateDto newsCreateDto);
 
@@ -0,0 +1,157 @@
+package ru.clevertec.news.feign.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import ru.clevertec.news.exception.OperationException;
+import ru.clevertec.news.resilience.Deadline;
+import ru.clevertec.news.resilience.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static ru.clevertec.news.constant.Constant.CALL_TIMEOUT_ERROR;
+import static ru.clevertec.news.constant.Constant.TOO_MANY_CALLS_ERROR;
+
+/**
+ * Ограничивает количество одновременных асинхронных запросов к микросервисам и время ожидания ответа.
+ *
+ * <p>Запрос сверх лимита сразу завершается ошибкой, а не ставится в очередь: поток запроса не блокируется,
+ * а клиент получает ответ об ошибке вместо ожидания. Разрешение возвращается после фактического завершения
+ * запроса, даже если вызывающий код уже получил ошибку по времени ожидания. Время ожидания не превышает времени,
+ * оставшегося до срока запроса клиента, а запрос с истекшим сроком не отправляется.</p>
+ *
+ * <p>Метрики: {@code feign.async.calls.active} - выполняющиеся запросы,
+ * {@code feign.async.calls.rejected} - отклоненные запросы.</p>
+ *
+ * <p>{@link #close()} останавливает пул потоков продолжений, дожидаясь завершения начатых запросов
+ * не дольше времени ожидания ответа.</p>
+ */
+public class AsyncCallLimiter implements AutoCloseable {
+
+    private final Semaphore permits;
+    private final long timeoutMillis;
+    private final Executor executor;
+    private final Counter rejected;
+
+    /**
+     * @param maxConcurrentCalls максимальное количество одновременных запросов
+     * @param timeout            максимальное время ожидания ответа
+     * @param executor           пул потоков для продолжений запросов
+     * @param meterRegistry      реестр метрик
+     */
+    public AsyncCallLimiter(int maxConcurrentCalls, Duration timeout, Executor executor, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.timeoutMillis = timeout.toMillis();
+        this.executor = executor;
+        this.rejected = Counter.builder("feign.async.calls.rejected")
+                .description("Asynchronous calls rejected by the concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("feign.async.calls.active", permits, p -> maxConcurrentCalls - p.availablePermits())
+                .description("Asynchronous calls in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Выполняет запрос, если не превышен лимит одновременных запросов.
+     *
+     * @param call асинхронный запрос
+     * @param <T>  тип результата
+     * @return результат запроса, завершающийся {@link OperationException} при превышении лимита,
+     * {@link DeadlineExceededException}, если срок запроса истек, и {@link TimeoutException} по истечении
+     * времени ожидания
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call) {
+        var timeout = Deadline.limit(timeoutMillis, System.currentTimeMillis());
+        if (timeout == 0) {
+            return CompletableFuture.failedFuture(new DeadlineExceededException());
+        }
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new OperationException(TOO_MANY_CALLS_ERROR));
+        }
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            permits.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((result, e) -> permits.release());
+        return future.copy()
+                .orTimeout(timeout, TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(e -> CompletableFuture.failedFuture(
+                        e instanceof TimeoutException ? new TimeoutException(CALL_TIMEOUT_ERROR) : e));
+    }
+
+    /**
+     * @return пул потоков продолжений
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Создает исполнитель продолжений с контекстом безопасности и сроком запроса текущего потока.
+     *
+     * <p>Должен вызываться в потоке запроса: продолжения выполняются в потоках HTTP клиента,
+     * где {@link SecurityContextHolder} пуст и срок запроса не задан.</p>
+     *
+     * @return исполнитель продолжений
+     */
+    public Executor contextExecutor() {
+        var secured = new DelegatingSecurityContextExecutor(executor, SecurityContextHolder.getContext());
+        var deadline = Deadline.current();
+        if (deadline == null) {
+            return secured;
+        }
+        return task -> secured.execute(() -> {
+            Deadline.set(deadline);
+            try {
+                task.run();
+            } finally {
+                Deadline.set(null);
+            }
+        });
+    }
+
+    /**
+     * Останавливает пул потоков продолжений: новые задачи не принимаются, а выполняющиеся завершаются в пределах
+     * времени ожидания ответа, после чего прерываются.
+     *
+     * @throws Exception если пул потоков не удалось остановить
+     */
+    @Override
+    public void close() throws Exception {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+            try {
+                if (!executorService.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    executorService.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executorService.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        } else if (executor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * @param e ошибка асинхронного запроса
+     * @return исходная ошибка без {@link CompletionException}
+     */
+    public static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
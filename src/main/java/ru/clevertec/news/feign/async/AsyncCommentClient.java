@@ -0,0 +1,58 @@
+package ru.clevertec.news.feign.async;
+
+import org.springframework.web.bind.annotation.*;
+import ru.clevertec.news.dto.CommentDto;
+import ru.clevertec.news.dto.create.CommentCreateDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.update.CommentUpdateDto;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static ru.clevertec.news.constant.Constant.LIMIT_DEFAULT;
+import static ru.clevertec.news.constant.Constant.OFFSET_DEFAULT;
+
+/**
+ * Асинхронный вариант {@link ru.clevertec.news.feign.CommentClient}, создается в {@code AsyncConfig}.
+ */
+public interface AsyncCommentClient {
+
+    @GetMapping("/{id}")
+    CompletableFuture<CommentDto> getById(@PathVariable("id") Long id);
+
+    @GetMapping("/batch")
+    CompletableFuture<List<CommentDto>> getByIds(@RequestParam("ids") List<Long> ids);
+
+    @GetMapping
+    CompletableFuture<PageContentDto<CommentDto>> getAll(@RequestParam(value = "pageNumber", required = false, defaultValue = OFFSET_DEFAULT) int pageNumber,
+                                                         @RequestParam(value = "pageSize", required = false, defaultValue = LIMIT_DEFAULT) int pageSize,
+                                                         @RequestParam(value = "username", required = false) String username,
+                                                         @RequestParam(value = "text", required = false) String text);
+
+    @GetMapping("newsId/{id}")
+    CompletableFuture<PageContentDto<CommentDto>> getByNewsId(@RequestParam(value = "pageNumber", required = false, defaultValue = OFFSET_DEFAULT) int pageNumber,
+                                                              @RequestParam(value = "pageSize", required = false, defaultValue = LIMIT_DEFAULT) int pageSize,
+                                                              @PathVariable("id") Long id);
+
+    @GetMapping("/keyset")
+    CompletableFuture<List<CommentDto>> getAllAfter(@RequestParam(value = "afterTime", required = false) String afterTime,
+                                                    @RequestParam(value = "afterId", required = false) Long afterId,
+                                                    @RequestParam("limit") int limit,
+                                                    @RequestParam(value = "username", required = false) String username,
+                                                    @RequestParam(value = "text", required = false) String text);
+
+    @GetMapping("newsId/{id}/keyset")
+    CompletableFuture<List<CommentDto>> getByNewsIdAfter(@RequestParam(value = "afterTime", required = false) String afterTime,
+                                                         @RequestParam(value = "afterId", required = false) Long afterId,
+                                                         @RequestParam("limit") int limit,
+                                                         @PathVariable("id") Long id);
+
+    @PostMapping
+    CompletableFuture<CommentDto> create(@RequestBody CommentCreateDto commentCreateDto);
+
+    @PutMapping
+    CompletableFuture<CommentDto> update(@RequestBody CommentUpdateDto commentUpdateDto);
+
+    @DeleteMapping("/{id}")
+    CompletableFuture<Void> delete(@PathVariable("id") Long id);
+}
@@ -0,0 +1,52 @@
+package ru.clevertec.news.feign.async;
+
+import org.springframework.web.bind.annotation.*;
+import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.dto.create.NewsCreateDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.update.NewsUpdateDto;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static ru.clevertec.news.constant.Constant.LIMIT_DEFAULT;
+import static ru.clevertec.news.constant.Constant.OFFSET_DEFAULT;
+
+/**
+ * Асинхронный вариант {@link ru.clevertec.news.feign.NewsClient}, создается в {@code AsyncConfig}.
+ */
+public interface AsyncNewsClient {
+
+    @GetMapping("/{id}")
+    CompletableFuture<NewsDto> getNewsById(@PathVariable("id") Long id);
+
+    @GetMapping("/batch")
+    CompletableFuture<List<NewsDto>> getByIds(@RequestParam("ids") List<Long> ids);
+
+    @GetMapping("{id}/comments")
+    CompletableFuture<NewsDto> getByIdWithComments(@RequestParam(value = "pageNumber", defaultValue = OFFSET_DEFAULT) Integer pageNumber,
+                                                   @RequestParam(value = "pageSize", defaultValue = LIMIT_DEFAULT) Integer pageSize,
+                                                   @PathVariable("id") Long id);
+
+    @GetMapping
+    CompletableFuture<PageContentDto<NewsDto>> getAll(@RequestParam(value = "pageNumber", required = false, defaultValue = OFFSET_DEFAULT) int pageNumber,
+                                                      @RequestParam(value = "pageSize", required = false, defaultValue = LIMIT_DEFAULT) int pageSize,
+                                                      @RequestParam(value = "title", required = false) String title,
+                                                      @RequestParam(value = "text", required = false) String text);
+
+    @GetMapping("/keyset")
+    CompletableFuture<List<NewsDto>> getAllAfter(@RequestParam(value = "afterTime", required = false) String afterTime,
+                                                 @RequestParam(value = "afterId", required = false) Long afterId,
+                                                 @RequestParam("limit") int limit,
+                                                 @RequestParam(value = "title", required = false) String title,
+                                                 @RequestParam(value = "text", required = false) String text);
+
+    @PostMapping
+    CompletableFuture<NewsDto> create(@RequestBody NewsCreateDto newsCreateDto);
+
+    @PutMapping
+    CompletableFuture<NewsDto> update(@RequestBody NewsUpdateDto newsUpdateDto);
+
+    @DeleteMapping("/{id}")
+    CompletableFuture<Void> delete(@PathVariable("id") Long id);
+}
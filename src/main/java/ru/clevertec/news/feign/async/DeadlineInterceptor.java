@@ -0,0 +1,39 @@
+package ru.clevertec.news.feign.async;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import ru.clevertec.news.resilience.Deadline;
+
+import java.time.Clock;
+
+import static ru.clevertec.news.constant.Constant.DEADLINE_HEADER;
+
+/**
+ * Передает микросервису время, оставшееся до срока запроса клиента, в заголовке {@code X-Request-Timeout}.
+ *
+ * <p>Асинхронный запрос формируется в потоке, где задан срок, а отправляется в потоках HTTP клиента, поэтому
+ * заголовок добавляется при формировании запроса. Время ожидания ответа ограничивает {@link AsyncCallLimiter}.</p>
+ */
+public class DeadlineInterceptor implements RequestInterceptor {
+
+    private final Clock clock;
+
+    /**
+     * @param clock часы
+     */
+    public DeadlineInterceptor(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(RequestTemplate template) {
+        var deadline = Deadline.current();
+        if (deadline != null) {
+            template.removeHeader(DEADLINE_HEADER);
+            template.header(DEADLINE_HEADER, String.valueOf(deadline.remaining(clock.millis())));
+        }
+    }
+}
\ No newline at end of file
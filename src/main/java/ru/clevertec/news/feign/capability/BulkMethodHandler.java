@@ -0,0 +1,41 @@
+package ru.clevertec.news.feign.capability;
+
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Target;
+import lombok.AllArgsConstructor;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Обработчик группового метода, объединяющий его ключи с одновременными вызовами метода {@link Collapsed}.
+ *
+ * <p>Возвращает найденные сущности в порядке ключей, ненайденные ключи пропускаются.</p>
+ */
+@AllArgsConstructor
+class BulkMethodHandler implements MethodHandler {
+
+    private final RequestCollapser<Object, Object> collapser;
+    private final Target<?> target;
+
+    /**
+     * Время ожидания сущностей в миллисекундах: окно группы и время ожидания запроса клиента.
+     */
+    private final long timeout;
+    private final Clock clock;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object[] argv) throws Throwable {
+        var keys = (Collection<Object>) argv[0];
+        if (keys == null || keys.isEmpty()) {
+            return List.of();
+        }
+        return new ArrayList<>(CollapsedMethodHandler.await(collapser.getAll(keys), target, timeout, clock).values());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package ru.clevertec.news.feign.capability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Capability;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Request;
+import feign.Target;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Объединение одинаковых одновременных GET запросов Feign клиентов.
+ *
+ * <p>Вызовы GET метода с равными аргументами, выполняющиеся одновременно, разделяют один запрос к сервису
+ * и один ответ сервиса: каждый присоединившийся вызов получает собственную копию результата, поэтому изменение
+ * результата одним вызывающим не видно остальным. Количество объединенных вызовов учитывается счетчиком
+ * {@code feign.client.calls.collapsed} с тегами {@code client} и {@code method}.</p>
+ */
+@AllArgsConstructor
+public class CoalescingCapability implements Capability {
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Время ожидания запроса по имени Feign клиента, для остальных клиентов - {@link Request.Options} по умолчанию.
+     */
+    private final Map<String, Request.Options> options;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InvocationHandlerFactory enrich(InvocationHandlerFactory invocationHandlerFactory) {
+        return (target, dispatch) -> {
+            Map<Method, MethodHandler> handlers = new LinkedHashMap<>(dispatch);
+            handlers.replaceAll((method, handler) -> method.isAnnotationPresent(GetMapping.class)
+                    ? new CoalescingMethodHandler(handler, collapsedCounter(target, method), target, objectMapper,
+                    objectMapper.constructType(method.getGenericReturnType()),
+                    options.getOrDefault(target.name(), new Request.Options()), Clock.systemUTC())
+                    : handler);
+            return invocationHandlerFactory.create(target, handlers);
+        };
+    }
+
+    private Counter collapsedCounter(Target<?> target, Method method) {
+        return Counter.builder("feign.client.calls.collapsed")
+                .description("Calls served by an identical in-flight request")
+                .tag("client", target.name())
+                .tag("method", method.getName())
+                .register(meterRegistry);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,184 @@
+package ru.clevertec.news.feign.capability;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Request;
+import feign.RetryableException;
+import feign.Target;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import ru.clevertec.news.resilience.Deadline;
+import ru.clevertec.news.resilience.DeadlineExceededException;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Обработчик метода, выполняющий один запрос на все одновременные вызовы с равными аргументами.
+ *
+ * <p>Первый вызов выполняет запрос, остальные ожидают его результат или исключение. После завершения запроса
+ * следующий вызов выполняет новый запрос, результаты не кэшируются. Если к запросу присоединились другие вызовы,
+ * первый вызов сериализует результат до того, как вернуть его, и каждый ожидающий вызов получает собственную копию,
+ * поэтому изменения результата одним вызовом не видны остальным. Запрос без присоединившихся вызовов результат
+ * не копирует, а ошибка сериализации не влияет на первый вызов: ожидающие вызовы получают общий результат.
+ * Ожидающий вызов ждет не дольше своего времени ожидания запроса ({@link Request.Options} среди аргументов или
+ * настройки клиента) и срока запроса клиента ({@link Deadline#current()}).</p>
+ */
+@Slf4j
+class CoalescingMethodHandler implements MethodHandler {
+
+    private final MethodHandler delegate;
+    private final Counter collapsed;
+    private final Target<?> target;
+    private final ObjectMapper objectMapper;
+    private final JavaType resultType;
+    private final Request.Options options;
+    private final Clock clock;
+    private final Map<List<Object>, Call> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate     обработчик метода
+     * @param collapsed    счетчик объединенных вызовов
+     * @param target       Feign клиент
+     * @param objectMapper копирование результата
+     * @param resultType   тип результата метода
+     * @param options      время ожидания запроса клиента
+     * @param clock        часы
+     */
+    CoalescingMethodHandler(MethodHandler delegate, Counter collapsed, Target<?> target, ObjectMapper objectMapper,
+                            JavaType resultType, Request.Options options, Clock clock) {
+        this.delegate = delegate;
+        this.collapsed = collapsed;
+        this.target = target;
+        this.objectMapper = objectMapper;
+        this.resultType = resultType;
+        this.options = options;
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object invoke(Object[] argv) throws Throwable {
+        var key = argv == null ? List.of() : Arrays.asList(argv.clone());
+        while (true) {
+            var call = new Call();
+            var existing = inFlight.putIfAbsent(key, call);
+            if (existing == null) {
+                return lead(key, call, argv);
+            }
+            if (existing.join()) {
+                collapsed.increment();
+                return copy(await(existing.result, argv));
+            }
+            // запрос уже завершен, но еще не удален
+            inFlight.remove(key, existing);
+        }
+    }
+
+    private Object lead(List<Object> key, Call call, Object[] argv) throws Throwable {
+        Object result;
+        try {
+            result = delegate.invoke(argv);
+        } catch (Throwable e) {
+            call.close();
+            inFlight.remove(key, call);
+            call.result.completeExceptionally(e);
+            throw e;
+        }
+        var followers = call.close();
+        inFlight.remove(key, call);
+        if (followers > 0) {
+            call.result.complete(snapshot(result));
+        }
+        return result;
+    }
+
+    private Snapshot await(CompletableFuture<Snapshot> call, Object[] argv) throws Throwable {
+        var options = options(argv);
+        var timeout = (long) options.connectTimeoutMillis() + options.readTimeoutMillis();
+        var wait = Deadline.limit(timeout, clock.millis());
+        try {
+            return call.get(wait, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            if (wait < timeout) {
+                throw new DeadlineExceededException();
+            }
+            throw new RetryableException(-1, "Timed out waiting for an identical in-flight call to " + target.name(),
+                    Request.HttpMethod.GET, (Long) null,
+                    Request.create(Request.HttpMethod.GET, target.url(), Map.of(), null, UTF_8, null));
+        }
+    }
+
+    private Request.Options options(Object[] argv) {
+        if (argv != null) {
+            for (var arg : argv) {
+                if (arg instanceof Request.Options argOptions) {
+                    return argOptions;
+                }
+            }
+        }
+        return options;
+    }
+
+    private Snapshot snapshot(Object result) {
+        if (result == null || result instanceof String || result instanceof Number || result instanceof Boolean
+                || result instanceof Enum<?>) {
+            return new Snapshot(result, null);
+        }
+        try {
+            return new Snapshot(null, objectMapper.writeValueAsBytes(result));
+        } catch (IOException e) {
+            log.warn("CoalescingMethodHandler: result of " + target.name() + " is shared without copying - " + e.getMessage());
+            return new Snapshot(result, null);
+        }
+    }
+
+    private Object copy(Snapshot snapshot) throws IOException {
+        return snapshot.json() == null ? snapshot.value() : objectMapper.readValue(snapshot.json(), resultType);
+    }
+
+    /**
+     * Выполняющийся запрос: результат и количество присоединившихся вызовов, {@code -1} после завершения запроса.
+     */
+    private static final class Call {
+
+        private final CompletableFuture<Snapshot> result = new CompletableFuture<>();
+        private final AtomicInteger followers = new AtomicInteger();
+
+        /**
+         * @return {@code true}, если вызов присоединился к запросу, {@code false}, если запрос уже завершен
+         */
+        boolean join() {
+            return followers.getAndUpdate(count -> count < 0 ? count : count + 1) >= 0;
+        }
+
+        /**
+         * @return количество присоединившихся вызовов
+         */
+        int close() {
+            return followers.getAndSet(-1);
+        }
+    }
+
+    /**
+     * Результат запроса: неизменяемое или общее значение либо сериализованный объект.
+     */
+    private record Snapshot(Object value, byte[] json) {
+    }
+}
\ No newline at end of file
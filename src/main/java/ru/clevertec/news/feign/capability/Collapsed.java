@@ -0,0 +1,27 @@
+package ru.clevertec.news.feign.capability;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Метод Feign клиента, получающий одну сущность по ключу, одновременные вызовы которого
+ * объединяются {@link CollapsingCapability} в вызовы группового метода.
+ *
+ * <p>Групповой метод того же клиента принимает список ключей и возвращает найденные сущности в любом порядке.</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Collapsed {
+
+    /**
+     * @return имя группового метода клиента
+     */
+    String bulk();
+
+    /**
+     * @return свойство сущности, содержащее ключ
+     */
+    String key() default "id";
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package ru.clevertec.news.feign.capability;
+
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Request;
+import feign.RetryableException;
+import feign.Target;
+import lombok.AllArgsConstructor;
+import ru.clevertec.news.resilience.Deadline;
+import ru.clevertec.news.resilience.DeadlineExceededException;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Обработчик метода {@link Collapsed}, получающий сущность в составе группового запроса.
+ *
+ * <p>Если сущность не вернулась в группе, выполняется одиночный запрос, чтобы вызывающий получил
+ * исходный ответ сервиса об ошибке. Если группа загружалась одиночными запросами, вызывающий сразу получает
+ * ошибку одиночного запроса.</p>
+ */
+@AllArgsConstructor
+class CollapsedMethodHandler implements MethodHandler {
+
+    private final MethodHandler delegate;
+    private final RequestCollapser<Object, Object> collapser;
+    private final Target<?> target;
+
+    /**
+     * Время ожидания сущности в миллисекундах: окно группы и время ожидания запроса клиента.
+     */
+    private final long timeout;
+    private final Clock clock;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object invoke(Object[] argv) throws Throwable {
+        if (argv == null || argv.length != 1 || argv[0] == null) {
+            return delegate.invoke(argv);
+        }
+        Object value;
+        try {
+            value = await(collapser.get(argv[0]), target, timeout, clock);
+        } catch (RequestCollapser.KeyNotFoundException e) {
+            throw e.getCause();
+        }
+        return value == null ? delegate.invoke(argv) : value;
+    }
+
+    /**
+     * Ожидает результат группы не дольше {@code timeout} и срока запроса клиента.
+     *
+     * @param future  результат группы
+     * @param target  Feign клиент
+     * @param timeout время ожидания в миллисекундах
+     * @param clock   часы
+     * @return результат группы
+     * @throws DeadlineExceededException если истек срок запроса клиента
+     * @throws RetryableException        если истекло время ожидания
+     */
+    static <T> T await(CompletableFuture<T> future, Target<?> target, long timeout, Clock clock) throws Throwable {
+        var wait = Deadline.limit(timeout, clock.millis());
+        try {
+            return future.get(wait, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            if (wait < timeout) {
+                throw new DeadlineExceededException();
+            }
+            throw new RetryableException(-1, "Timed out waiting for a collapsed call to " + target.name(),
+                    Request.HttpMethod.GET, (Long) null,
+                    Request.create(Request.HttpMethod.GET, target.url(), Map.of(), null, UTF_8, null));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package ru.clevertec.news.feign.capability;
+
+import feign.Capability;
+import feign.FeignException;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Request;
+import feign.Target;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Объединение одновременных запросов сущностей по ключу Feign клиентов в групповые запросы.
+ *
+ * <p>Вызовы методов, отмеченных {@link Collapsed}, и вызовы их групповых методов собираются в группы
+ * {@link RequestCollapser}. Размер групп публикуется распределением {@code feign.client.batch.size},
+ * количество одиночных запросов вместо группового - счетчиком {@code feign.client.batch.fallback}
+ * (теги {@code client} и {@code method} - имя группового метода). На одиночные запросы клиент переходит только
+ * после ответа 404, 405 или 501 на сам групповой запрос и через {@code bulkProbeInterval} снова пробует групповой.
+ * Вызов ждет сущность не дольше окна группы и времени ожидания запроса клиента и не дольше срока запроса
+ * клиента ({@link ru.clevertec.news.resilience.Deadline#current()}).</p>
+ */
+@AllArgsConstructor
+public class CollapsingCapability implements Capability {
+
+    private final MeterRegistry meterRegistry;
+    private final Executor executor;
+    private final Duration window;
+    private final int maxSize;
+    private final Duration bulkProbeInterval;
+
+    /**
+     * Время ожидания запроса по имени Feign клиента, для остальных клиентов - {@link Request.Options} по умолчанию.
+     */
+    private final Map<String, Request.Options> options;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InvocationHandlerFactory enrich(InvocationHandlerFactory invocationHandlerFactory) {
+        return (target, dispatch) -> {
+            Map<Method, MethodHandler> handlers = new LinkedHashMap<>(dispatch);
+            for (var method : dispatch.keySet()) {
+                var collapsed = method.getAnnotation(Collapsed.class);
+                if (collapsed == null) {
+                    continue;
+                }
+                var bulkMethod = bulkMethod(target, collapsed);
+                var collapser = collapser(target, collapsed, dispatch.get(method), dispatch.get(bulkMethod), bulkMethod);
+                var timeout = timeout(options.getOrDefault(target.name(), new Request.Options()));
+                handlers.put(method, new CollapsedMethodHandler(dispatch.get(method), collapser, target, timeout,
+                        Clock.systemUTC()));
+                handlers.put(bulkMethod, new BulkMethodHandler(collapser, target, timeout, Clock.systemUTC()));
+            }
+            return invocationHandlerFactory.create(target, handlers);
+        };
+    }
+
+    private RequestCollapser<Object, Object> collapser(Target<?> target, Collapsed collapsed, MethodHandler single,
+                                                       MethodHandler bulk, Method bulkMethod) {
+        return new RequestCollapser<>(
+                keys -> {
+                    Map<Object, Object> values = new LinkedHashMap<>();
+                    for (var value : (List<?>) invoke(bulk, keys)) {
+                        values.put(new BeanWrapperImpl(value).getPropertyValue(collapsed.key()), value);
+                    }
+                    return values;
+                },
+                key -> invoke(single, key),
+                e -> isBulkUnsupported(e, bulkMethod),
+                FeignException.NotFound.class::isInstance,
+                executor, window, maxSize,
+                DistributionSummary.builder("feign.client.batch.size")
+                        .description("Keys per collapsed bulk call")
+                        .tag("client", target.name())
+                        .tag("method", bulkMethod.getName())
+                        .register(meterRegistry),
+                Counter.builder("feign.client.batch.fallback")
+                        .description("Keys loaded by single calls because the bulk call is not supported")
+                        .tag("client", target.name())
+                        .tag("method", bulkMethod.getName())
+                        .register(meterRegistry),
+                bulkProbeInterval, Clock.systemUTC());
+    }
+
+    private long timeout(Request.Options options) {
+        return window.toMillis() + options.connectTimeoutMillis() + options.readTimeoutMillis();
+    }
+
+    private static Method bulkMethod(Target<?> target, Collapsed collapsed) {
+        try {
+            return target.type().getMethod(collapsed.bulk(), List.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Bulk method " + collapsed.bulk() + "(List) not found in " + target.type().getName(), e);
+        }
+    }
+
+    private static Object invoke(MethodHandler handler, Object argument) {
+        try {
+            return handler.invoke(new Object[]{argument});
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static boolean isBulkUnsupported(Throwable e, Method bulkMethod) {
+        if (!(e instanceof FeignException.NotFound
+                || e instanceof FeignException.MethodNotAllowed
+                || e instanceof FeignException.NotImplemented)) {
+            return false;
+        }
+        var feignException = (FeignException) e;
+        if (!feignException.hasRequest()) {
+            return false;
+        }
+        var template = feignException.request().requestTemplate();
+        var metadata = template == null ? null : template.methodMetadata();
+        return metadata != null && bulkMethod.equals(metadata.method());
+    }
+}
\ No newline at end of file
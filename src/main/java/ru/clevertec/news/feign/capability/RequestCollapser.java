@@ -0,0 +1,224 @@
+package ru.clevertec.news.feign.capability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Объединение одновременных запросов сущностей по ключу в групповые запросы.
+ *
+ * <p>Ключи, запрошенные в течение окна ожидания, отправляются одним групповым запросом; группа отправляется раньше,
+ * если набрано {@code maxSize} ключей. Если групповой запрос не поддерживается сервисом, последующие группы
+ * загружаются параллельными одиночными запросами, а через {@code probeInterval} одна из групп снова отправляется
+ * групповым запросом: после обновления сервиса клиент возвращается к групповым запросам без перезапуска.
+ * Сущность, не найденная одиночным запросом, завершает ожидание ключа ошибкой {@link KeyNotFoundException}
+ * с исходной ошибкой одиночного запроса, чтобы вызывающий не повторял тот же запрос.</p>
+ *
+ * @param <K> тип ключа
+ * @param <V> тип сущности
+ */
+@Slf4j
+public class RequestCollapser<K, V> {
+
+    private final Function<List<K>, Map<K, V>> bulkLoader;
+    private final Function<K, V> singleLoader;
+    private final Predicate<Throwable> bulkUnsupported;
+    private final Predicate<Throwable> notFound;
+    private final Executor executor;
+    private final Executor delayedExecutor;
+    private final int maxSize;
+    private final DistributionSummary batchSize;
+    private final Counter fallbackCalls;
+    private final long probeInterval;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Время следующей попытки группового запроса в миллисекундах, {@code 0} - групповой запрос поддерживается.
+     */
+    private final AtomicLong bulkProbeAt = new AtomicLong();
+    private Map<K, CompletableFuture<V>> pending;
+
+    /**
+     * @param bulkLoader      групповой запрос, возвращает найденные сущности по ключу
+     * @param singleLoader    одиночный запрос
+     * @param bulkUnsupported определяет ошибку группового запроса, означающую, что сервис его не поддерживает
+     * @param notFound        определяет ошибку одиночного запроса, означающую, что сущность не найдена
+     * @param executor        пул потоков для запросов
+     * @param window          время ожидания ключей для группы
+     * @param maxSize         максимальное количество ключей в группе
+     * @param batchSize       распределение размера групп
+     * @param fallbackCalls   счетчик одиночных запросов вместо группового
+     * @param probeInterval   время до повторной попытки группового запроса после отказа сервиса
+     * @param clock           часы
+     */
+    public RequestCollapser(Function<List<K>, Map<K, V>> bulkLoader, Function<K, V> singleLoader,
+                            Predicate<Throwable> bulkUnsupported, Predicate<Throwable> notFound, Executor executor,
+                            Duration window, int maxSize, DistributionSummary batchSize, Counter fallbackCalls,
+                            Duration probeInterval, Clock clock) {
+        this.bulkLoader = bulkLoader;
+        this.singleLoader = singleLoader;
+        this.bulkUnsupported = bulkUnsupported;
+        this.notFound = notFound;
+        this.executor = executor;
+        this.delayedExecutor = CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, executor);
+        this.maxSize = maxSize;
+        this.batchSize = batchSize;
+        this.fallbackCalls = fallbackCalls;
+        this.probeInterval = probeInterval.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Запрашивает сущность в составе ближайшей группы.
+     *
+     * @param key ключ сущности
+     * @return сущность или {@code null}, если она не найдена групповым запросом; если сущность не найдена
+     * одиночным запросом, ожидание завершается ошибкой {@link KeyNotFoundException}
+     */
+    public CompletableFuture<V> get(K key) {
+        lock.lock();
+        try {
+            return enqueue(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Запрашивает сущности в составе ближайших групп.
+     *
+     * @param keys ключи сущностей
+     * @return найденные сущности по ключу в порядке ключей, ненайденные ключи отсутствуют
+     */
+    public CompletableFuture<Map<K, V>> getAll(Collection<K> keys) {
+        Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            for (var key : keys) {
+                futures.computeIfAbsent(key, this::enqueue);
+            }
+        } finally {
+            lock.unlock();
+        }
+        futures.replaceAll((key, future) -> future.exceptionallyCompose(e -> e instanceof KeyNotFoundException
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.failedFuture(e)));
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<K, V> values = new LinkedHashMap<>();
+                    futures.forEach((key, future) -> {
+                        var value = future.join();
+                        if (value != null) {
+                            values.put(key, value);
+                        }
+                    });
+                    return values;
+                });
+    }
+
+    private CompletableFuture<V> enqueue(K key) {
+        if (pending == null) {
+            var batch = new LinkedHashMap<K, CompletableFuture<V>>();
+            pending = batch;
+            delayedExecutor.execute(() -> flush(batch));
+        }
+        var future = pending.computeIfAbsent(key, k -> new CompletableFuture<>());
+        if (pending.size() >= maxSize) {
+            var batch = pending;
+            pending = null;
+            executor.execute(() -> load(batch));
+        }
+        return future;
+    }
+
+    private void flush(Map<K, CompletableFuture<V>> batch) {
+        lock.lock();
+        try {
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+        } finally {
+            lock.unlock();
+        }
+        load(batch);
+    }
+
+    private void load(Map<K, CompletableFuture<V>> batch) {
+        batchSize.record(batch.size());
+        var probeAt = bulkProbeAt.get();
+        var probe = probeAt == 0 ? 0 : claimProbe(probeAt);
+        if (probe >= 0) {
+            try {
+                var values = bulkLoader.apply(new ArrayList<>(batch.keySet()));
+                if (probe > 0 && bulkProbeAt.compareAndSet(probe, 0)) {
+                    log.info("RequestCollapser: bulk call is supported again");
+                }
+                batch.forEach((key, future) -> future.complete(values.get(key)));
+                return;
+            } catch (RuntimeException e) {
+                if (!bulkUnsupported.test(e)) {
+                    batch.values().forEach(future -> future.completeExceptionally(e));
+                    return;
+                }
+                bulkProbeAt.set(clock.millis() + probeInterval);
+                log.warn("RequestCollapser: bulk call is not supported, falling back to single calls - " + e.getMessage());
+            }
+        }
+        fallbackCalls.increment(batch.size());
+        batch.forEach((key, future) -> CompletableFuture.supplyAsync(() -> singleLoader.apply(key), executor)
+                .whenComplete((value, e) -> {
+                    var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause != null && notFound.test(cause)) {
+                        future.completeExceptionally(new KeyNotFoundException(cause));
+                    } else if (e != null) {
+                        future.completeExceptionally(e);
+                    } else {
+                        future.complete(value);
+                    }
+                }));
+    }
+
+    /**
+     * Занимает попытку группового запроса: ее выполняет одна группа, остальные до следующего срока загружаются
+     * одиночными запросами.
+     *
+     * @param probeAt время попытки в миллисекундах
+     * @return новое время следующей попытки или {@code -1}, если попытка не наступила или занята другой группой
+     */
+    private long claimProbe(long probeAt) {
+        var now = clock.millis();
+        if (now < probeAt) {
+            return -1;
+        }
+        var next = now + probeInterval;
+        return bulkProbeAt.compareAndSet(probeAt, next) ? next : -1;
+    }
+
+    /**
+     * Сущность не найдена одиночным запросом, причина - исходная ошибка одиночного запроса.
+     */
+    public static class KeyNotFoundException extends RuntimeException {
+
+        KeyNotFoundException(Throwable cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+}
\ No newline at end of file
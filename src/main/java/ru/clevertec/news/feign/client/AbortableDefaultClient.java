@@ -0,0 +1,28 @@
+package ru.clevertec.news.feign.client;
+
+import feign.Client;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * HTTP клиент Feign на {@link HttpURLConnection}, запросы которого можно прервать через {@link RequestAbort}:
+ * прерывание закрывает соединение запроса.
+ */
+public class AbortableDefaultClient extends Client.Default {
+
+    public AbortableDefaultClient() {
+        super(null, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HttpURLConnection getConnection(URL url) throws IOException {
+        var connection = super.getConnection(url);
+        RequestAbort.register(connection::disconnect);
+        return connection;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package ru.clevertec.news.feign.client;
+
+import org.apache.hc.client5.http.ClientProtocolException;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+
+/**
+ * HTTP клиент Apache HttpClient 5, запросы которого можно прервать через {@link RequestAbort}.
+ *
+ * <p>Если для потока задано прерывание, запрос выполняется как {@link HttpUriRequestBase}: его отмена закрывает
+ * соединение, и поток, ожидающий ответ, сразу получает ошибку, а соединение не возвращается в пул.</p>
+ */
+public class AbortableHttpClient extends CloseableHttpClient {
+
+    private final CloseableHttpClient delegate;
+
+    /**
+     * @param delegate HTTP клиент
+     */
+    public AbortableHttpClient(CloseableHttpClient delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected CloseableHttpResponse doExecute(HttpHost target, ClassicHttpRequest request, HttpContext context)
+            throws IOException {
+        if (RequestAbort.current() == null) {
+            return CloseableHttpResponse.adapt(delegate.executeOpen(target, request, context));
+        }
+        var cancellable = cancellable(request);
+        RequestAbort.register(((Cancellable) cancellable)::cancel);
+        return CloseableHttpResponse.adapt(delegate.executeOpen(target, cancellable, context));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close(CloseMode closeMode) {
+        delegate.close(closeMode);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private static ClassicHttpRequest cancellable(ClassicHttpRequest request) throws IOException {
+        if (request instanceof Cancellable) {
+            return request;
+        }
+        try {
+            var copy = new HttpUriRequestBase(request.getMethod(), request.getUri());
+            copy.setVersion(request.getVersion());
+            copy.setHeaders(request.getHeaders());
+            copy.setEntity(request.getEntity());
+            return copy;
+        } catch (URISyntaxException e) {
+            throw new ClientProtocolException(e);
+        }
+    }
+}
\ No newline at end of file
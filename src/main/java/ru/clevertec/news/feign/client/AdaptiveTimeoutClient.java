@@ -0,0 +1,116 @@
+package ru.clevertec.news.feign.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import ru.clevertec.news.resilience.LatencyEstimator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Клиент Feign, задающий время ожидания ответа по статистике последних ответов метода Feign клиента.
+ *
+ * <p>Время ожидания - процентиль времени ответа, умноженный на {@code factor}, в пределах от {@code min} до
+ * {@code max}. Время запросов, завершившихся ошибкой, также учитывается: если микросервис стал отвечать медленнее,
+ * время ожидания постепенно растет, а не обрывает все запросы. Пул соединений микросервиса использует меньшее из
+ * этого времени и собственного {@code read-timeout}.</p>
+ *
+ * <p>Метрика {@code feign.client.timeout} - текущее время ожидания (теги {@code client}, {@code method}).</p>
+ */
+public class AdaptiveTimeoutClient implements Client, Closeable {
+
+    private final Client delegate;
+    private final Map<String, Policy> policies;
+    private final Supplier<LatencyEstimator> estimators;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, MethodTimeout> timeouts = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate      HTTP клиент
+     * @param policies      настройки времени ожидания по имени Feign клиента
+     * @param estimators    создает статистику ответов метода
+     * @param meterRegistry реестр метрик
+     */
+    public AdaptiveTimeoutClient(Client delegate, Map<String, Policy> policies, Supplier<LatencyEstimator> estimators,
+                                 MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.policies = policies;
+        this.estimators = estimators;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        var template = request.requestTemplate();
+        var target = template == null ? null : template.feignTarget();
+        var policy = target == null ? null : policies.get(target.name());
+        if (policy == null || template.methodMetadata() == null) {
+            return delegate.execute(request, options);
+        }
+        var method = template.methodMetadata().configKey();
+        var timeout = timeouts.computeIfAbsent(target.name() + " " + method,
+                key -> register(target.name(), method, policy));
+        var readTimeout = Math.min(timeout.millis(), options.readTimeoutMillis());
+        var start = System.nanoTime();
+        try {
+            return delegate.execute(request, new Request.Options(options.connectTimeoutMillis(), TimeUnit.MILLISECONDS,
+                    readTimeout, TimeUnit.MILLISECONDS, options.isFollowRedirects()));
+        } finally {
+            timeout.latency().record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Закрывает HTTP клиент.
+     *
+     * @throws IOException если клиент не удалось закрыть
+     */
+    @Override
+    public void close() throws IOException {
+        if (delegate instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private MethodTimeout register(String name, String method, Policy policy) {
+        var timeout = new MethodTimeout(estimators.get(), policy);
+        Gauge.builder("feign.client.timeout", timeout, MethodTimeout::millis)
+                .description("Read timeout derived from observed latency")
+                .baseUnit("milliseconds")
+                .tags("client", name, "method", method)
+                .register(meterRegistry);
+        return timeout;
+    }
+
+    /**
+     * Настройки времени ожидания ответа микросервиса.
+     *
+     * @param percentile процентиль времени ответа
+     * @param factor     множитель процентиля
+     * @param min        минимальное время ожидания в миллисекундах
+     * @param max        максимальное время ожидания в миллисекундах, пока не накоплена статистика
+     */
+    public record Policy(double percentile, double factor, long min, long max) {
+    }
+
+    private record MethodTimeout(LatencyEstimator latency, Policy policy) {
+
+        private long millis() {
+            var estimate = latency.percentile(policy.percentile());
+            if (estimate < 0) {
+                return policy.max();
+            }
+            return Math.max(policy.min(), Math.min(Math.round(estimate * policy.factor()), policy.max()));
+        }
+    }
+}
\ No newline at end of file
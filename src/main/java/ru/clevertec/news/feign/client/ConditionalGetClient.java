@@ -0,0 +1,165 @@
+package ru.clevertec.news.feign.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import ru.clevertec.news.cache.LruCache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Клиент Feign, выполняющий условные GET запросы к микросервисам.
+ *
+ * <p>Успешные ответы на GET с заголовком {@code ETag} запоминаются по URL. Повторный запрос отправляется
+ * с {@code If-None-Match}, и если микросервис отвечает 304, возвращается запомненный ответ: неизмененные данные
+ * не передаются повторно. Ответы без {@code ETag} и с телом больше заданного не запоминаются.</p>
+ */
+public class ConditionalGetClient implements Client, Closeable {
+
+    private final Client delegate;
+    private final int maxBodySize;
+    private final MeterRegistry meterRegistry;
+    private final LruCache<String, Validated> responses;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * @param delegate      HTTP клиент
+     * @param maxEntries    максимальное количество запомненных ответов
+     * @param maxBodySize   максимальный размер запоминаемого тела в байтах
+     * @param meterRegistry реестр метрик
+     */
+    public ConditionalGetClient(Client delegate, int maxEntries, int maxBodySize, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxBodySize = maxBodySize;
+        this.meterRegistry = meterRegistry;
+        this.responses = new LruCache<>(maxEntries);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (request.httpMethod() != Request.HttpMethod.GET) {
+            return delegate.execute(request, options);
+        }
+        var url = request.url();
+        var cached = get(url);
+        var response = delegate.execute(cached == null ? request : withIfNoneMatch(request, cached.etag()), options);
+        if (cached != null && response.status() == 304) {
+            response.close();
+            counter(request, "not_modified").increment();
+            return cached.toResponse(request);
+        }
+        if (cached != null) {
+            counter(request, "modified").increment();
+        }
+        var etag = header(response, HttpHeaders.ETAG);
+        if (response.status() != 200 || response.body() == null) {
+            return response;
+        }
+        var length = response.body().length();
+        if (etag == null || length != null && length > maxBodySize) {
+            remove(url);
+            return response;
+        }
+        byte[] body;
+        try (response) {
+            body = Util.toByteArray(response.body().asInputStream());
+        }
+        if (body.length <= maxBodySize) {
+            put(url, new Validated(etag, response.headers(), body));
+        } else {
+            remove(url);
+        }
+        return response.toBuilder().body(body).build();
+    }
+
+    /**
+     * Закрывает HTTP клиент.
+     *
+     * @throws IOException если клиент не удалось закрыть
+     */
+    @Override
+    public void close() throws IOException {
+        if (delegate instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Validated get(String url) {
+        lock.lock();
+        try {
+            return responses.get(url);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(String url, Validated validated) {
+        lock.lock();
+        try {
+            responses.put(url, validated);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(String url) {
+        lock.lock();
+        try {
+            responses.remove(url);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Counter counter(Request request, String result) {
+        var template = request.requestTemplate();
+        var target = template == null ? null : template.feignTarget();
+        return Counter.builder("feign.client.conditional")
+                .description("Conditional GET requests with a stored validator")
+                .tag("client", target == null ? "unknown" : target.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Request withIfNoneMatch(Request request, String etag) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(HttpHeaders.IF_NONE_MATCH, List.of(etag));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(), request.charset(),
+                request.requestTemplate());
+    }
+
+    private static String header(Response response, String name) {
+        for (var entry : response.headers().entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name) && !entry.getValue().isEmpty()) {
+                return entry.getValue().iterator().next();
+            }
+        }
+        return null;
+    }
+
+    private record Validated(String etag, Map<String, Collection<String>> headers, byte[] body) {
+
+        private Response toResponse(Request request) {
+            return Response.builder()
+                    .status(200)
+                    .reason("OK")
+                    .headers(headers)
+                    .body(body)
+                    .request(request)
+                    .build();
+        }
+    }
+}
\ No newline at end of file
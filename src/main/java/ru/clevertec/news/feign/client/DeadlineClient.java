@@ -0,0 +1,100 @@
+package ru.clevertec.news.feign.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import ru.clevertec.news.resilience.Deadline;
+import ru.clevertec.news.resilience.DeadlineExceededException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static ru.clevertec.news.constant.Constant.DEADLINE_HEADER;
+
+/**
+ * Клиент Feign, ограничивающий запросы к микросервисам сроком запроса клиента ({@link Deadline#current()}).
+ *
+ * <p>Время ожидания соединения и ответа не превышает оставшегося до срока времени, а само оставшееся время
+ * передается микросервису в заголовке {@code X-Request-Timeout}. Запрос с истекшим сроком не отправляется
+ * и завершается {@link DeadlineExceededException}. Клиент располагается снаружи дублирования запросов, пока
+ * запрос выполняется в потоке, где задан срок, но внутри повторов, поэтому каждый повтор получает
+ * уменьшившееся время.</p>
+ *
+ * <p>Метрика {@code feign.client.deadline.exceeded} - запросы, не отправленные из-за истекшего срока
+ * (тег {@code client}).</p>
+ */
+public class DeadlineClient implements Client, Closeable {
+
+    private final Client delegate;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param delegate      HTTP клиент
+     * @param clock         часы
+     * @param meterRegistry реестр метрик
+     */
+    public DeadlineClient(Client delegate, Clock clock, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        var deadline = Deadline.current();
+        if (deadline == null) {
+            return delegate.execute(request, options);
+        }
+        var remaining = deadline.remaining(clock.millis());
+        if (remaining == 0) {
+            var template = request.requestTemplate();
+            var target = template == null ? null : template.feignTarget();
+            Counter.builder("feign.client.deadline.exceeded")
+                    .description("Requests not sent because the caller deadline has passed")
+                    .tag("client", target == null ? "unknown" : target.name())
+                    .register(meterRegistry)
+                    .increment();
+            throw new DeadlineExceededException();
+        }
+        return delegate.execute(withDeadline(request, remaining), new Request.Options(
+                Math.min(options.connectTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                Math.min(options.readTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                options.isFollowRedirects()));
+    }
+
+    /**
+     * Закрывает HTTP клиент.
+     *
+     * @throws IOException если клиент не удалось закрыть
+     */
+    @Override
+    public void close() throws IOException {
+        if (delegate instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Request withDeadline(Request request, long remaining) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>();
+        request.headers().forEach((name, values) -> {
+            if (!DEADLINE_HEADER.equalsIgnoreCase(name)) {
+                headers.put(name, values);
+            }
+        });
+        headers.put(DEADLINE_HEADER, List.of(String.valueOf(remaining)));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(), request.charset(),
+                request.requestTemplate());
+    }
+}
\ No newline at end of file
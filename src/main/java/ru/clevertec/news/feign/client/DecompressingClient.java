@@ -0,0 +1,106 @@
+package ru.clevertec.news.feign.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.springframework.http.HttpHeaders;
+import ru.clevertec.news.compression.ContentCodecs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Клиент Feign, запрашивающий сжатые ответы у микросервисов и распаковывающий их.
+ *
+ * <p>Запросы Feign клиентов из {@code acceptEncodings} получают заголовок {@code Accept-Encoding}, ответы с
+ * поддерживаемым {@code Content-Encoding} распаковываются. Клиенты, распаковывающие ответ сами, могут оставлять
+ * заголовок, поэтому тело распаковывается только при совпадении сигнатуры формата.</p>
+ */
+public class DecompressingClient implements Client, Closeable {
+
+    private static final int SIGNATURE_LENGTH = 4;
+
+    private final Client delegate;
+    private final Map<String, String> acceptEncodings;
+    private final ContentCodecs codecs;
+
+    /**
+     * @param delegate        HTTP клиент
+     * @param acceptEncodings значение {@code Accept-Encoding} по имени Feign клиента
+     * @param codecs          поддерживаемые кодирования
+     */
+    public DecompressingClient(Client delegate, Map<String, String> acceptEncodings, ContentCodecs codecs) {
+        this.delegate = delegate;
+        this.acceptEncodings = acceptEncodings;
+        this.codecs = codecs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        var template = request.requestTemplate();
+        var target = template == null ? null : template.feignTarget();
+        var acceptEncoding = target == null ? null : acceptEncodings.get(target.name());
+        if (acceptEncoding == null) {
+            return delegate.execute(request, options);
+        }
+        return decode(delegate.execute(withAcceptEncoding(request, acceptEncoding), options));
+    }
+
+    /**
+     * Закрывает HTTP клиент.
+     *
+     * @throws IOException если клиент не удалось закрыть
+     */
+    @Override
+    public void close() throws IOException {
+        if (delegate instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Response decode(Response response) throws IOException {
+        var encoding = header(response.headers(), HttpHeaders.CONTENT_ENCODING);
+        var codec = codecs.find(encoding);
+        if (codec == null || response.body() == null) {
+            return response;
+        }
+        var in = new PushbackInputStream(response.body().asInputStream(), SIGNATURE_LENGTH);
+        var head = in.readNBytes(SIGNATURE_LENGTH);
+        in.unread(head);
+        var body = codec.isEncoded(head, head.length) ? codec.decode(in) : in;
+        Map<String, Collection<String>> headers = new LinkedHashMap<>();
+        response.headers().forEach((name, values) -> {
+            if (!HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                headers.put(name, values);
+            }
+        });
+        return response.toBuilder().headers(headers).body(body, null).build();
+    }
+
+    private static Request withAcceptEncoding(Request request, String acceptEncoding) {
+        if (header(request.headers(), HttpHeaders.ACCEPT_ENCODING) != null) {
+            return request;
+        }
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(HttpHeaders.ACCEPT_ENCODING, List.of(acceptEncoding));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(), request.charset(),
+                request.requestTemplate());
+    }
+
+    private static String header(Map<String, Collection<String>> headers, String name) {
+        for (var entry : headers.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name) && !entry.getValue().isEmpty()) {
+                return entry.getValue().iterator().next();
+            }
+        }
+        return null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package ru.clevertec.news.feign.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import ru.clevertec.news.resilience.Bulkhead;
+import ru.clevertec.news.resilience.CallNotPermittedException;
+import ru.clevertec.news.resilience.CircuitBreaker;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Map;
+
+import static ru.clevertec.news.constant.Constant.BULKHEAD_FULL_ERROR;
+import static ru.clevertec.news.constant.Constant.CIRCUIT_OPEN_ERROR;
+
+/**
+ * Клиент Feign, ограничивающий одновременные запросы к каждому микросервису и размыкающий цепь запросов
+ * к микросервису, который отвечает ошибками или слишком медленно.
+ *
+ * <p>Отклоненный запрос завершается {@link CallNotPermittedException} без обращения к микросервису. Ошибкой для
+ * размыкателя считается исключение HTTP клиента или ответ 5xx, время ответа измеряется до получения заголовков.
+ * Запрос, прерванный через {@link RequestAbort} (например, проигравший дублирующий запрос), не учитывается
+ * размыкателем: он только возвращает разрешение.
+ * Запросы клиентов без собственных настроек выполняются без ограничений.</p>
+ */
+public class GuardedClient implements Client, Closeable {
+
+    private final Client delegate;
+    private final Map<String, Guard> guards;
+    private final Clock clock;
+
+    /**
+     * @param delegate HTTP клиент
+     * @param guards   ограничения по имени Feign клиента
+     * @param clock    часы для измерения времени ответа и размыкания цепи
+     */
+    public GuardedClient(Client delegate, Map<String, Guard> guards, Clock clock) {
+        this.delegate = delegate;
+        this.guards = guards;
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws CallNotPermittedException если цепь разомкнута или превышено количество одновременных запросов
+     */
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        var template = request.requestTemplate();
+        var target = template == null ? null : template.feignTarget();
+        var guard = target == null ? null : guards.get(target.name());
+        if (guard == null) {
+            return delegate.execute(request, options);
+        }
+        var breaker = guard.circuitBreaker();
+        var bulkhead = guard.bulkhead();
+        var start = clock.millis();
+        if (breaker != null && !breaker.tryAcquirePermission(start)) {
+            throw new CallNotPermittedException(CIRCUIT_OPEN_ERROR + target.name(), breaker.retryAfter(start));
+        }
+        if (bulkhead != null && !bulkhead.tryAcquire()) {
+            if (breaker != null) {
+                breaker.releasePermission();
+            }
+            throw new CallNotPermittedException(BULKHEAD_FULL_ERROR + target.name(), 0);
+        }
+        var failure = true;
+        try {
+            var response = delegate.execute(request, options);
+            failure = response.status() >= 500;
+            return response;
+        } finally {
+            if (bulkhead != null) {
+                bulkhead.release();
+            }
+            if (breaker != null) {
+                var abort = RequestAbort.current();
+                if (abort != null && abort.isAborted()) {
+                    breaker.releasePermission();
+                } else {
+                    var now = clock.millis();
+                    breaker.onResult(failure, now - start, now);
+                }
+            }
+        }
+    }
+
+    /**
+     * Закрывает HTTP клиент.
+     *
+     * @throws IOException если клиент не удалось закрыть
+     */
+    @Override
+    public void close() throws IOException {
+        if (delegate instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Ограничения запросов к микросервису.
+     *
+     * @param bulkhead       ограничение одновременных запросов или {@code null}
+     * @param circuitBreaker размыкатель цепи или {@code null}
+     */
+    public record Guard(Bulkhead bulkhead, CircuitBreaker circuitBreaker) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,263 @@
+package ru.clevertec.news.feign.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import ru.clevertec.news.resilience.CallBudget;
+import ru.clevertec.news.resilience.LatencyEstimator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Клиент Feign, дублирующий медленные GET запросы к микросервисам.
+ *
+ * <p>Если ответ не получен за время, в которое укладывается заданный процентиль последних ответов микросервиса,
+ * отправляется второй такой же запрос. Используется первый полученный ответ, соединение второго запроса закрывается
+ * через {@link RequestAbort}, чтобы он не занимал соединение пула и место в ограничении одновременных запросов,
+ * а его ответ, если он все же получен, закрывается. Ошибка возвращается, только если завершились ошибкой все
+ * отправленные запросы: решение отправить дублирующий запрос принимается атомарно с учетом завершения первого,
+ * поэтому ошибка первого запроса не возвращается, пока выполняется дублирующий. Дублирующие запросы ограничены
+ * общим {@link CallBudget}.</p>
+ *
+ * <p>Метрики (тег {@code client}): {@code feign.client.hedge.delay} - текущее ожидание перед дублирующим запросом,
+ * {@code feign.client.hedges} - дублирующие запросы (тег {@code result}: {@code sent} - отправленные,
+ * {@code won} - ответившие первыми, {@code no_budget} - не отправленные из-за исчерпания бюджета).</p>
+ */
+public class HedgingClient implements Client, Closeable {
+
+    private final Client delegate;
+    private final Map<String, Policy> policies;
+    private final CallBudget budget;
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param delegate      HTTP клиент
+     * @param policies      настройки дублирования по имени Feign клиента
+     * @param budget        бюджет дублирующих запросов
+     * @param executor      исполнитель запросов
+     * @param meterRegistry реестр метрик
+     */
+    public HedgingClient(Client delegate, Map<String, Policy> policies, CallBudget budget, Executor executor,
+                         MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.policies = policies;
+        this.budget = budget;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        policies.forEach((name, policy) -> Gauge.builder("feign.client.hedge.delay", policy, Policy::delay)
+                .description("Time to wait before sending a hedged request")
+                .baseUnit("milliseconds")
+                .tag("client", name)
+                .register(meterRegistry));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        var template = request.requestTemplate();
+        var target = template == null ? null : template.feignTarget();
+        var policy = target == null || request.httpMethod() != Request.HttpMethod.GET ? null : policies.get(target.name());
+        if (policy == null) {
+            return delegate.execute(request, options);
+        }
+        budget.deposit();
+        return new HedgedCall(target.name(), request, options, policy).await();
+    }
+
+    /**
+     * Закрывает HTTP клиент.
+     *
+     * @throws IOException если клиент не удалось закрыть
+     */
+    @Override
+    public void close() throws IOException {
+        if (delegate instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Counter counter(String name, String result) {
+        return Counter.builder("feign.client.hedges")
+                .description("Hedged requests")
+                .tags("client", name, "result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Дублирование запросов к микросервису.
+     *
+     * @param latency    время ответов микросервиса
+     * @param percentile процентиль времени ответа, после которого отправляется дублирующий запрос
+     * @param minDelay   минимальное ожидание в миллисекундах
+     * @param maxDelay   максимальное ожидание в миллисекундах, пока не накоплена статистика
+     */
+    public record Policy(LatencyEstimator latency, double percentile, long minDelay, long maxDelay) {
+
+        /**
+         * @return ожидание перед дублирующим запросом в миллисекундах
+         */
+        public long delay() {
+            var estimate = latency.percentile(percentile);
+            return estimate < 0 ? maxDelay : Math.max(minDelay, Math.min(estimate, maxDelay));
+        }
+    }
+
+    private record Outcome(Response response, Attempt attempt) {
+    }
+
+    private record Attempt(FutureTask<Void> task, RequestAbort abort, boolean hedge) {
+
+        private void cancel() {
+            if (!task.isDone()) {
+                abort.abort();
+                task.cancel(true);
+            }
+        }
+    }
+
+    private final class HedgedCall {
+
+        private final String name;
+        private final Request request;
+        private final Request.Options options;
+        private final Policy policy;
+        private final CompletableFuture<Outcome> winner = new CompletableFuture<>();
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final List<Attempt> attempts = new CopyOnWriteArrayList<>();
+
+        private HedgedCall(String name, Request request, Request.Options options, Policy policy) {
+            this.name = name;
+            this.request = request;
+            this.options = options;
+            this.policy = policy;
+        }
+
+        private Response await() throws IOException {
+            launch(false);
+            Outcome outcome = null;
+            try {
+                try {
+                    outcome = winner.get(policy.delay(), TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    hedge();
+                    outcome = winner.get();
+                }
+                if (outcome.attempt().hedge()) {
+                    counter(name, "won").increment();
+                }
+                return outcome.response();
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for " + name);
+            } finally {
+                var used = outcome == null ? null : outcome.attempt();
+                attempts.stream().filter(attempt -> attempt != used).forEach(Attempt::cancel);
+            }
+        }
+
+        private void hedge() {
+            if (!claim()) {
+                return;
+            }
+            if (budget.tryWithdraw()) {
+                launch(true);
+                counter(name, "sent").increment();
+            } else {
+                counter(name, "no_budget").increment();
+                finish();
+            }
+        }
+
+        /**
+         * Занимает место дублирующего запроса среди незавершенных: если первый запрос уже завершился ошибкой,
+         * счетчик равен нулю и ошибка возвращается без дублирования, иначе ошибка первого запроса не завершит вызов,
+         * пока выполняется дублирующий.
+         *
+         * @return {@code true}, если дублирующий запрос нужен
+         */
+        private boolean claim() {
+            var count = pending.getAndUpdate(current -> current == 0 || winner.isDone() ? current : current + 1);
+            return count > 0 && !winner.isDone();
+        }
+
+        private void launch(boolean hedge) {
+            var abort = new RequestAbort();
+            var holder = new AtomicReference<Attempt>();
+            var task = new FutureTask<Void>(() -> {
+                RequestAbort.set(abort);
+                try {
+                    attempt(holder.get());
+                } finally {
+                    RequestAbort.set(null);
+                }
+                return null;
+            });
+            var attempt = new Attempt(task, abort, hedge);
+            holder.set(attempt);
+            attempts.add(attempt);
+            executor.execute(task);
+        }
+
+        private void attempt(Attempt attempt) {
+            var start = System.nanoTime();
+            Response response;
+            try {
+                response = delegate.execute(request, options);
+            } catch (Throwable e) {
+                if (attempt.abort().isAborted()) {
+                    // прерванный медленный запрос учитывается хотя бы временем до прерывания, иначе задержка
+                    // дублирования считалась бы только по успевшим ответить запросам и постепенно уменьшалась
+                    policy.latency().record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+                failure.set(e);
+                finish();
+                return;
+            }
+            policy.latency().record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            if (!winner.complete(new Outcome(response, attempt))) {
+                response.close();
+            }
+        }
+
+        private void finish() {
+            if (pending.decrementAndGet() == 0) {
+                winner.completeExceptionally(failure.get());
+            }
+        }
+
+        private IOException rethrow(Throwable cause) throws IOException {
+            if (cause instanceof IOException e) {
+                throw e;
+            }
+            if (cause instanceof RuntimeException e) {
+                throw e;
+            }
+            if (cause instanceof Error e) {
+                throw e;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
\ No newline at end of file
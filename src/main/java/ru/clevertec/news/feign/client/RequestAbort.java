@@ -0,0 +1,83 @@
+package ru.clevertec.news.feign.client;
+
+/**
+ * Прерывание HTTP запроса, выполняемого в другом потоке.
+ *
+ * <p>Прерывание потока не останавливает блокирующее чтение из сокета: запрос продолжает занимать соединение, пока
+ * не придет ответ или не истечет время ожидания. Поэтому HTTP клиент, начиная запрос в потоке, где задано
+ * прерывание ({@link #current()}), регистрирует действие, закрывающее соединение запроса, а {@link #abort()}
+ * выполняет его из любого потока. Прерывание, вызванное до регистрации, выполняется сразу при регистрации.</p>
+ */
+public class RequestAbort {
+
+    private static final ThreadLocal<RequestAbort> CURRENT = new ThreadLocal<>();
+
+    private Runnable action;
+    private boolean aborted;
+
+    /**
+     * @return прерывание запроса, выполняемого текущим потоком, или {@code null}, если оно не задано
+     */
+    public static RequestAbort current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Задает прерывание запроса, выполняемого текущим потоком.
+     *
+     * @param abort прерывание или {@code null}, чтобы удалить его
+     */
+    public static void set(RequestAbort abort) {
+        if (abort == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(abort);
+        }
+    }
+
+    /**
+     * Регистрирует действие, закрывающее соединение запроса текущего потока, если для него задано прерывание.
+     *
+     * @param action действие, закрывающее соединение
+     */
+    public static void register(Runnable action) {
+        var abort = current();
+        if (abort != null) {
+            abort.onAbort(action);
+        }
+    }
+
+    /**
+     * Прерывает запрос: закрывает его соединение или, если запрос еще не начат, закроет его при регистрации.
+     */
+    public void abort() {
+        Runnable current;
+        synchronized (this) {
+            if (aborted) {
+                return;
+            }
+            aborted = true;
+            current = action;
+        }
+        if (current != null) {
+            current.run();
+        }
+    }
+
+    /**
+     * @return {@code true}, если запрос прерван
+     */
+    public synchronized boolean isAborted() {
+        return aborted;
+    }
+
+    private void onAbort(Runnable action) {
+        synchronized (this) {
+            if (!aborted) {
+                this.action = action;
+                return;
+            }
+        }
+        action.run();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package ru.clevertec.news.feign.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import ru.clevertec.news.resilience.CallBudget;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Клиент Feign, повторяющий идемпотентные запросы к микросервисам.
+ *
+ * <p>Запрос повторяется после ошибки HTTP клиента или ответа с одним из заданных статусов, если его HTTP метод
+ * указан в настройках микросервиса. Пауза перед повтором растет с каждой попыткой и дополняется случайной частью,
+ * чтобы повторы разных запросов не приходили одновременно. Повторы ограничены общим {@link CallBudget}: когда
+ * микросервис отвечает ошибками на все запросы, возвращается ошибка первой попытки, а нагрузка не умножается.
+ * Отказ размыкателя цепи или ограничения одновременных запросов не повторяется.</p>
+ *
+ * <p>Метрика {@code feign.client.retries} - повторные запросы (теги {@code client}, {@code result}: {@code sent} -
+ * отправленные, {@code no_budget} - не отправленные из-за исчерпания бюджета).</p>
+ */
+public class RetryingClient implements Client, Closeable {
+
+    private final Client delegate;
+    private final Map<String, Policy> policies;
+    private final CallBudget budget;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param delegate      HTTP клиент
+     * @param policies      настройки повторов по имени Feign клиента
+     * @param budget        бюджет повторных запросов
+     * @param meterRegistry реестр метрик
+     */
+    public RetryingClient(Client delegate, Map<String, Policy> policies, CallBudget budget, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.policies = policies;
+        this.budget = budget;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        var template = request.requestTemplate();
+        var target = template == null ? null : template.feignTarget();
+        var policy = target == null ? null : policies.get(target.name());
+        if (policy == null || !policy.methods().contains(request.httpMethod())) {
+            return delegate.execute(request, options);
+        }
+        budget.deposit();
+        for (var attempt = 1; ; attempt++) {
+            var last = attempt >= policy.maxAttempts();
+            Response response;
+            try {
+                response = delegate.execute(request, options);
+            } catch (IOException e) {
+                if (last || !retry(target.name(), policy, attempt)) {
+                    throw e;
+                }
+                continue;
+            }
+            if (last || !policy.statuses().contains(response.status()) || !retry(target.name(), policy, attempt)) {
+                return response;
+            }
+            response.close();
+        }
+    }
+
+    /**
+     * Закрывает HTTP клиент.
+     *
+     * @throws IOException если клиент не удалось закрыть
+     */
+    @Override
+    public void close() throws IOException {
+        if (delegate instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private boolean retry(String name, Policy policy, int attempt) throws InterruptedIOException {
+        if (!budget.tryWithdraw()) {
+            counter(name, "no_budget").increment();
+            return false;
+        }
+        counter(name, "sent").increment();
+        var backoff = policy.backoff() * attempt;
+        if (backoff > 0) {
+            try {
+                Thread.sleep(backoff + ThreadLocalRandom.current().nextLong(backoff));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to retry " + name);
+            }
+        }
+        return true;
+    }
+
+    private Counter counter(String name, String result) {
+        return Counter.builder("feign.client.retries")
+                .description("Retried requests")
+                .tags("client", name, "result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Повтор запросов к микросервису.
+     *
+     * @param maxAttempts максимальное количество попыток, включая первую
+     * @param backoff     пауза перед первым повтором в миллисекундах
+     * @param methods     повторяемые HTTP методы
+     * @param statuses    статусы ответа, после которых запрос повторяется
+     */
+    public record Policy(int maxAttempts, long backoff, Set<Request.HttpMethod> methods, Set<Integer> statuses) {
+    }
+}
\ No newline at end of file
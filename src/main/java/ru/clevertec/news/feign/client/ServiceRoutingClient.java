@@ -0,0 +1,76 @@
+package ru.clevertec.news.feign.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Клиент Feign, выбирающий HTTP клиент и время ожидания по имени Feign клиента запроса.
+ *
+ * <p>Запросы клиентов без собственных настроек выполняются клиентом по умолчанию.</p>
+ */
+public class ServiceRoutingClient implements Client, Closeable {
+
+    private final Map<String, Route> routes;
+    private final Client defaultClient;
+    private final List<? extends Closeable> resources;
+
+    /**
+     * @param routes        HTTP клиенты по имени Feign клиента
+     * @param defaultClient клиент по умолчанию
+     * @param resources     ресурсы, закрываемые вместе с клиентом
+     */
+    public ServiceRoutingClient(Map<String, Route> routes, Client defaultClient, List<? extends Closeable> resources) {
+        this.routes = routes;
+        this.defaultClient = defaultClient;
+        this.resources = resources;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        var template = request.requestTemplate();
+        var target = template == null ? null : template.feignTarget();
+        var route = target == null ? null : routes.get(target.name());
+        if (route == null) {
+            return defaultClient.execute(request, options);
+        }
+        return route.client().execute(request, route.options(options));
+    }
+
+    /**
+     * Закрывает HTTP клиенты и пулы соединений.
+     *
+     * @throws IOException если ресурс не удалось закрыть
+     */
+    @Override
+    public void close() throws IOException {
+        for (var resource : resources) {
+            resource.close();
+        }
+    }
+
+    /**
+     * HTTP клиент микросервиса.
+     *
+     * @param client         HTTP клиент
+     * @param connectTimeout время ожидания установки соединения в миллисекундах, если для запроса не задано меньшее
+     * @param readTimeout    время ожидания ответа в миллисекундах, если для запроса не задано меньшее
+     */
+    public record Route(Client client, long connectTimeout, long readTimeout) {
+
+        private Request.Options options(Request.Options defaults) {
+            return new Request.Options(Math.min(connectTimeout, defaults.connectTimeoutMillis()), TimeUnit.MILLISECONDS,
+                    Math.min(readTimeout, defaults.readTimeoutMillis()), TimeUnit.MILLISECONDS,
+                    defaults.isFollowRedirects());
+        }
+    }
+}
\ No newline at end of file
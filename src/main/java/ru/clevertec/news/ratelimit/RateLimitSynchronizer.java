@@ -0,0 +1,74 @@
+package ru.clevertec.news.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import ru.clevertec.news.config.properties.RateLimitProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Согласование расхода лимитов между экземплярами сервиса через Redis.
+ *
+ * <p>Время делится на окна длиной {@code sync-interval}. Каждое согласование добавляет локальный расход корзины
+ * к счетчику окна в Redis ({@code INCRBY}) и списывает из корзины расход других экземпляров. Все счетчики
+ * обновляются одним конвейерным запросом. При недоступности Redis лимиты действуют только локально, а непереданный
+ * расход сохраняется в корзинах и передается при следующем согласовании.</p>
+ */
+@Slf4j
+@AllArgsConstructor
+public class RateLimitSynchronizer {
+
+    private final RateLimiter rateLimiter;
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final Clock clock;
+
+    /**
+     * Согласовывает корзины с Redis и удаляет неиспользуемые.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sync-interval:PT1S}")
+    public void synchronize() {
+        var interval = properties.getSyncInterval().toMillis();
+        var window = clock.millis() / interval;
+        List<String> keys = new ArrayList<>();
+        List<TokenBucket> buckets = new ArrayList<>();
+        List<Long> pushed = new ArrayList<>();
+        rateLimiter.forEach((key, bucket) -> {
+            keys.add(properties.getKeyPrefix() + ":" + key + ":" + window);
+            buckets.add(bucket);
+            pushed.add(bucket.drainPending());
+        });
+        if (!keys.isEmpty()) {
+            try {
+                var results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (int i = 0; i < keys.size(); i++) {
+                        increment(connection, keys.get(i), pushed.get(i), interval * 2);
+                    }
+                    return null;
+                });
+                for (int i = 0; i < buckets.size(); i++) {
+                    buckets.get(i).reconcile(window, pushed.get(i), (Long) results.get(i * 2));
+                }
+            } catch (RuntimeException e) {
+                for (int i = 0; i < buckets.size(); i++) {
+                    buckets.get(i).restorePending(pushed.get(i));
+                }
+                log.warn("RateLimitSynchronizer: synchronization error - " + e.getMessage());
+            }
+        }
+        rateLimiter.evictIdle();
+    }
+
+    private static void increment(RedisConnection connection, String key, long value, long ttlMillis) {
+        var rawKey = key.getBytes(StandardCharsets.UTF_8);
+        connection.stringCommands().incrBy(rawKey, value);
+        connection.keyCommands().pExpire(rawKey, ttlMillis);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package ru.clevertec.news.ratelimit;
+
+import ru.clevertec.news.config.properties.RateLimitProperties;
+import ru.clevertec.news.dto.constant.RoleName;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Ограничение частоты запросов корзинами токенов в памяти.
+ *
+ * <p>Корзина создается на каждую пару клиент - маршрут с лимитом роли клиента. Неиспользуемые корзины
+ * удаляются при согласовании.</p>
+ */
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final Clock clock;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param properties настройки ограничения частоты запросов
+     * @param clock      часы
+     */
+    public RateLimiter(RateLimitProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Забирает токен из корзины клиента.
+     *
+     * @param key  ключ корзины: клиент и маршрут
+     * @param role роль клиента или {@code null} для анонимного запроса
+     * @return {@code 0}, если запрос разрешен, иначе время ожидания в миллисекундах, не больше
+     * {@code rate-limit.max-retry-after}
+     */
+    public long tryAcquire(String key, RoleName role) {
+        var now = clock.millis();
+        var bucket = buckets.get(key);
+        if (bucket == null) {
+            var limit = role == null ? properties.getDefaultLimit() : properties.getRoles().getOrDefault(role, properties.getDefaultLimit());
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+        }
+        var waitMillis = bucket.tryAcquire(now);
+        return waitMillis == 0 ? 0 : Math.min(waitMillis, properties.getMaxRetryAfter().toMillis());
+    }
+
+    /**
+     * Обходит корзины.
+     *
+     * @param action действие для ключа и корзины
+     */
+    public void forEach(BiConsumer<String, TokenBucket> action) {
+        buckets.forEach(action);
+    }
+
+    /**
+     * Удаляет неиспользуемые корзины.
+     */
+    public void evictIdle() {
+        var now = clock.millis();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    /**
+     * @return количество корзин
+     */
+    public int size() {
+        return buckets.size();
+    }
+}
\ No newline at end of file
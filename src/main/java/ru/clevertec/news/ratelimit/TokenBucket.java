@@ -0,0 +1,108 @@
+package ru.clevertec.news.ratelimit;
+
+/**
+ * Корзина токенов для одного пользователя и маршрута.
+ *
+ * <p>Помимо локального расхода корзина хранит количество запросов, еще не переданных в Redis, и расход других
+ * экземпляров сервиса в текущем окне согласования.</p>
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerMilli;
+
+    private double tokens;
+    private long lastRefill;
+    private long pending;
+
+    private long window = -1;
+    private long pushedInWindow;
+    private long othersInWindow;
+
+    /**
+     * @param capacity        емкость корзины
+     * @param refillPerSecond скорость пополнения, токенов в секунду
+     * @param now             текущее время в миллисекундах
+     */
+    public TokenBucket(long capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.refillPerMilli = refillPerSecond / 1000;
+        this.tokens = capacity;
+        this.lastRefill = now;
+    }
+
+    /**
+     * Забирает один токен.
+     *
+     * @param now текущее время в миллисекундах
+     * @return {@code 0}, если токен получен, иначе время ожидания следующего токена в миллисекундах
+     */
+    public synchronized long tryAcquire(long now) {
+        refill(now);
+        if (tokens >= 1) {
+            tokens -= 1;
+            pending++;
+            return 0;
+        }
+        return refillPerMilli > 0 ? Math.max(1, (long) Math.ceil((1 - tokens) / refillPerMilli)) : Long.MAX_VALUE;
+    }
+
+    /**
+     * Возвращает количество запросов, не переданных в Redis, и обнуляет его.
+     *
+     * @return количество запросов с момента предыдущего вызова
+     */
+    public synchronized long drainPending() {
+        var drained = pending;
+        pending = 0;
+        return drained;
+    }
+
+    /**
+     * Возвращает запросы, которые не удалось передать в Redis: они будут переданы при следующем согласовании.
+     *
+     * @param count количество запросов, полученное от {@link #drainPending()}
+     */
+    public synchronized void restorePending(long count) {
+        pending += count;
+    }
+
+    /**
+     * Учитывает расход других экземпляров сервиса.
+     *
+     * @param window номер окна согласования
+     * @param pushed количество запросов этого экземпляра, переданное в Redis при согласовании
+     * @param total  общее количество запросов всех экземпляров в окне по данным Redis
+     */
+    public synchronized void reconcile(long window, long pushed, long total) {
+        if (this.window != window) {
+            this.window = window;
+            pushedInWindow = 0;
+            othersInWindow = 0;
+        }
+        pushedInWindow += pushed;
+        var others = total - pushedInWindow;
+        if (others > othersInWindow) {
+            tokens = Math.max(0, tokens - (others - othersInWindow));
+            othersInWindow = others;
+        }
+    }
+
+    /**
+     * Проверяет, что корзина полна и все запросы переданы в Redis, то есть ее можно удалить.
+     *
+     * @param now текущее время в миллисекундах
+     * @return {@code true}, если корзина не используется
+     */
+    public synchronized boolean isIdle(long now) {
+        refill(now);
+        return pending == 0 && tokens >= capacity;
+    }
+
+    private void refill(long now) {
+        if (now > lastRefill) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerMilli);
+            lastRefill = now;
+        }
+    }
+}
\ No newline at end of file
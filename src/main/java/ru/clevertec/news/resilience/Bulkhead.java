@@ -0,0 +1,68 @@
+package ru.clevertec.news.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ограничивает количество одновременных запросов к микросервису.
+ *
+ * <p>Запросы к медленному микросервису занимают не больше {@code maxConcurrentCalls} потоков, остальные потоки
+ * обработки запросов остаются доступными для других микросервисов.</p>
+ *
+ * <p>Метрики (тег {@code client}): {@code feign.client.bulkhead.active} - выполняющиеся запросы,
+ * {@code feign.client.bulkhead.rejected} - отклоненные запросы.</p>
+ */
+public class Bulkhead {
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final Counter rejected;
+
+    /**
+     * @param name               имя Feign клиента микросервиса
+     * @param maxConcurrentCalls максимальное количество одновременных запросов
+     * @param maxWait            время ожидания разрешения
+     * @param meterRegistry      реестр метрик
+     */
+    public Bulkhead(String name, int maxConcurrentCalls, Duration maxWait, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.rejected = Counter.builder("feign.client.bulkhead.rejected")
+                .description("Calls rejected by the bulkhead")
+                .tag("client", name)
+                .register(meterRegistry);
+        Gauge.builder("feign.client.bulkhead.active", permits, p -> maxConcurrentCalls - p.availablePermits())
+                .description("Calls in flight")
+                .tag("client", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Получает разрешение на запрос, ожидая его не дольше {@code maxWait}.
+     *
+     * @return {@code true}, если разрешение получено и должно быть возвращено {@link #release()}
+     */
+    public boolean tryAcquire() {
+        try {
+            if (maxWaitNanos > 0 ? permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS) : permits.tryAcquire()) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Возвращает разрешение после завершения запроса.
+     */
+    public void release() {
+        permits.release();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package ru.clevertec.news.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Бюджет дополнительных запросов - дублирующих или повторных.
+ *
+ * <p>Корзина токенов, которую пополняет каждый исходный запрос на долю {@code ratio} одного дополнительного
+ * запроса, а дополнительный запрос расходует единицу. Так доля дополнительных запросов не превышает {@code ratio},
+ * и при перегрузке микросервиса, когда медленными или ошибочными становятся все ответы, нагрузка на него
+ * не умножается.</p>
+ */
+public class CallBudget {
+
+    private static final long UNIT = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance = new AtomicLong();
+
+    /**
+     * @param ratio доля дополнительных запросов
+     * @param burst количество дополнительных запросов, которое может быть накоплено
+     */
+    public CallBudget(double ratio, int burst) {
+        this.deposit = Math.round(ratio * UNIT);
+        this.capacity = Math.max(1, burst) * UNIT;
+    }
+
+    /**
+     * Пополняет бюджет при отправке исходного запроса.
+     */
+    public void deposit() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    /**
+     * Расходует бюджет на дополнительный запрос.
+     *
+     * @return {@code true}, если бюджета достаточно
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            var current = balance.get();
+            if (current < UNIT) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - UNIT)) {
+                return true;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package ru.clevertec.news.resilience;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Отвечает {@code 503 Service Unavailable} с заголовком {@code Retry-After} на запросы, отклоненные
+ * без обращения к микросервису, и {@code 504 Gateway Timeout} на запросы, срок которых истек.
+ *
+ * <p>Обработчик выполняется раньше общих обработчиков ошибок, чтобы клиент отличал недоступность микросервиса
+ * от ошибки операции.</p>
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CallNotPermittedAdvice {
+
+    /**
+     * @param e ошибка отклоненного запроса
+     * @return ответ {@code 503} с описанием ошибки
+     */
+    @ExceptionHandler(CallNotPermittedException.class)
+    public ResponseEntity<ProblemDetail> handle(CallNotPermittedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+
+    /**
+     * @param e ошибка запроса с истекшим сроком
+     * @return ответ {@code 504} с описанием ошибки
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ProblemDetail> handle(DeadlineExceededException e) {
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.GATEWAY_TIMEOUT, e.getMessage()));
+    }
+}
\ No newline at end of file
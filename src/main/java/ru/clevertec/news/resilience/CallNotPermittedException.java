@@ -0,0 +1,32 @@
+package ru.clevertec.news.resilience;
+
+import lombok.Getter;
+
+/**
+ * Запрос к микросервису отклонен без обращения к нему: цепь разомкнута, превышено количество
+ * одновременных запросов или истек срок запроса ({@link DeadlineExceededException}).
+ */
+@Getter
+public class CallNotPermittedException extends RuntimeException {
+
+    /**
+     * Время в миллисекундах, через которое запрос имеет смысл повторить.
+     */
+    private final long retryAfter;
+
+    /**
+     * @param message    сообщение об ошибке
+     * @param retryAfter время в миллисекундах, через которое запрос имеет смысл повторить
+     */
+    public CallNotPermittedException(String message, long retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return время повтора в секундах для заголовка {@code Retry-After}, не меньше одной секунды
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfter + 999) / 1000);
+    }
+}
\ No newline at end of file
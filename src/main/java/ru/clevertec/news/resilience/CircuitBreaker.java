@@ -0,0 +1,202 @@
+package ru.clevertec.news.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import ru.clevertec.news.config.properties.FeignProperties;
+
+/**
+ * Размыкатель цепи запросов к микросервису.
+ *
+ * <p>Результаты последних {@code slidingWindowSize} запросов хранятся в кольцевом буфере. Когда в окне набирается
+ * {@code minimumCalls} запросов и доля ошибок или медленных ответов достигает порога, цепь размыкается, и запросы
+ * отклоняются без обращения к микросервису в течение {@code openDuration}. Затем пропускаются {@code halfOpenCalls}
+ * пробных запросов: по их результатам цепь замыкается или снова размыкается.</p>
+ *
+ * <p>Метрики (тег {@code client}): {@code feign.client.circuit.state} - 1 для текущего состояния (тег {@code state}),
+ * {@code feign.client.circuit.transitions} - переходы (теги {@code from}, {@code to}),
+ * {@code feign.client.circuit.rejected} - отклоненные запросы.</p>
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final int minimumCalls;
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallMillis;
+    private final long openMillis;
+    private final int halfOpenCalls;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    private final byte[] outcomes;
+    private int next;
+    private int calls;
+    private int failures;
+    private int slowCalls;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+
+    /**
+     * @param name          имя Feign клиента микросервиса
+     * @param properties    настройки размыкателя
+     * @param meterRegistry реестр метрик
+     */
+    public CircuitBreaker(String name, FeignProperties.CircuitBreaker properties, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.outcomes = new byte[properties.getSlidingWindowSize()];
+        this.minimumCalls = Math.max(1, Math.min(properties.getMinimumCalls(), outcomes.length));
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.slowCallRateThreshold = properties.getSlowCallRateThreshold();
+        this.slowCallMillis = properties.getSlowCallDuration().toMillis();
+        this.openMillis = properties.getOpenDuration().toMillis();
+        this.halfOpenCalls = Math.max(1, Math.min(properties.getHalfOpenCalls(), outcomes.length));
+        this.meterRegistry = meterRegistry;
+        this.rejected = Counter.builder("feign.client.circuit.rejected")
+                .description("Calls rejected by an open circuit breaker")
+                .tag("client", name)
+                .register(meterRegistry);
+        for (var value : State.values()) {
+            Gauge.builder("feign.client.circuit.state", this, breaker -> breaker.state == value ? 1 : 0)
+                    .description("Circuit breaker state")
+                    .tags("client", name, "state", value.tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Проверяет, можно ли выполнить запрос. Разомкнутая цепь по истечении {@code openDuration}
+     * выдает ограниченное количество пробных разрешений.
+     *
+     * @param now текущее время в миллисекундах
+     * @return {@code true}, если запрос разрешен
+     */
+    public synchronized boolean tryAcquirePermission(long now) {
+        if (state == State.OPEN && now - openedAt >= openMillis) {
+            transition(State.HALF_OPEN, now);
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Возвращает разрешение, по которому запрос не был выполнен.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls) {
+            halfOpenPermits++;
+        }
+    }
+
+    /**
+     * Учитывает результат запроса и при необходимости меняет состояние цепи.
+     *
+     * @param failure  {@code true}, если запрос завершился ошибкой
+     * @param duration время выполнения запроса в миллисекундах
+     * @param now      текущее время в миллисекундах
+     */
+    public synchronized void onResult(boolean failure, long duration, long now) {
+        if (state == State.OPEN) {
+            return;
+        }
+        byte outcome = (byte) ((failure ? FAILURE : 0) | (duration >= slowCallMillis ? SLOW : 0));
+        if (calls == outcomes.length) {
+            count(outcomes[next], -1);
+        } else {
+            calls++;
+        }
+        outcomes[next] = outcome;
+        next = (next + 1) % outcomes.length;
+        count(outcome, 1);
+        if (calls < (state == State.HALF_OPEN ? halfOpenCalls : minimumCalls)) {
+            return;
+        }
+        if (failures * 100f / calls >= failureRateThreshold || slowCalls * 100f / calls >= slowCallRateThreshold) {
+            transition(State.OPEN, now);
+        } else if (state == State.HALF_OPEN) {
+            transition(State.CLOSED, now);
+        }
+    }
+
+    /**
+     * @param now текущее время в миллисекундах
+     * @return время до пробных запросов в миллисекундах, {@code 0}, если цепь не разомкнута
+     */
+    public synchronized long retryAfter(long now) {
+        return state == State.OPEN ? Math.max(0, openedAt + openMillis - now) : 0;
+    }
+
+    /**
+     * @return текущее состояние цепи
+     */
+    public State getState() {
+        return state;
+    }
+
+    private void count(byte outcome, int delta) {
+        if ((outcome & FAILURE) != 0) {
+            failures += delta;
+        }
+        if ((outcome & SLOW) != 0) {
+            slowCalls += delta;
+        }
+    }
+
+    private void transition(State to, long now) {
+        log.warn("CircuitBreaker: " + name + " " + state + " -> " + to
+                + ", failures " + failures + ", slow calls " + slowCalls + " of " + calls);
+        Counter.builder("feign.client.circuit.transitions")
+                .description("Circuit breaker state transitions")
+                .tags("client", name, "from", state.tag, "to", to.tag)
+                .register(meterRegistry)
+                .increment();
+        state = to;
+        openedAt = now;
+        halfOpenPermits = to == State.HALF_OPEN ? halfOpenCalls : 0;
+        next = 0;
+        calls = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+
+    /**
+     * Состояние цепи.
+     */
+    public enum State {
+
+        /**
+         * Запросы выполняются.
+         */
+        CLOSED("closed"),
+
+        /**
+         * Запросы отклоняются.
+         */
+        OPEN("open"),
+
+        /**
+         * Выполняются пробные запросы.
+         */
+        HALF_OPEN("half_open");
+
+        private final String tag;
+
+        State(String tag) {
+            this.tag = tag;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,172 @@
+package ru.clevertec.news.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import ru.clevertec.news.config.properties.OverloadProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Адаптивное ограничение количества одновременно обрабатываемых запросов.
+ *
+ * <p>Лимит подбирается по градиенту времени ответа: долгое среднее времени ответа считается временем без нагрузки,
+ * и пока последние ответы укладываются в него с допуском {@code tolerance}, лимит растет на корень из текущего
+ * значения. Когда время ответа растет, то есть запросы начинают ждать в очередях, лимит уменьшается пропорционально,
+ * но не более чем вдвое за раз. Если занята меньше половины лимита, лимит не увеличивается. Лимит и долгое среднее
+ * обновляются вместе сравнением с обменом без блокировки, поэтому учет ответов не выстраивает запросы в очередь.</p>
+ *
+ * <p>Запросам разного приоритета доступна разная доля лимита, поэтому при перегрузке первыми отклоняются списки
+ * и поиск, затем чтение отдельных сущностей, и только в последнюю очередь изменения.</p>
+ *
+ * <p>Метрики: {@code http.server.concurrency.limit} - текущий лимит, {@code http.server.concurrency.active} -
+ * обрабатываемые запросы, {@code http.server.requests.shed} - отклоненные запросы (тег {@code priority}).</p>
+ */
+public class ConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DRIFT_RATIO = 2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double longWindowFactor;
+    private final Map<Priority, Double> shares = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> shed = new EnumMap<>(Priority.class);
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicReference<State> state;
+
+    /**
+     * @param properties    настройки ограничения
+     * @param meterRegistry реестр метрик
+     */
+    public ConcurrencyLimiter(OverloadProperties properties, MeterRegistry meterRegistry) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.smoothing = properties.getSmoothing();
+        this.tolerance = properties.getTolerance();
+        this.longWindowFactor = 2.0 / (properties.getLongWindow() + 1);
+        var initialLimit = Math.max(minLimit, Math.min(properties.getInitialLimit(), maxLimit));
+        this.state = new AtomicReference<>(new State(initialLimit, 0));
+        shares.put(Priority.LIST, properties.getListShare());
+        shares.put(Priority.READ, properties.getReadShare());
+        shares.put(Priority.WRITE, 1.0);
+        for (var priority : Priority.values()) {
+            shed.put(priority, Counter.builder("http.server.requests.shed")
+                    .description("Requests rejected by the adaptive concurrency limit")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("http.server.concurrency.limit", this, ConcurrencyLimiter::getLimit)
+                .description("Adaptive limit of requests in flight")
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.active", active, AtomicInteger::get)
+                .description("Requests in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Занимает место для запроса, если доля лимита, доступная его приоритету, не исчерпана.
+     *
+     * @param priority приоритет запроса
+     * @return количество обрабатываемых запросов вместе с этим или {@code 0}, если запрос отклонен
+     */
+    public int tryAcquire(Priority priority) {
+        var allowed = Math.max(1, (int) (getLimit() * shares.get(priority)));
+        while (true) {
+            var current = active.get();
+            if (current >= allowed) {
+                shed.get(priority).increment();
+                return 0;
+            }
+            if (active.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Освобождает место запроса и учитывает время его обработки.
+     *
+     * @param inFlight количество обрабатываемых запросов, полученное при {@link #tryAcquire(Priority)}
+     * @param rttNanos время обработки запроса в наносекундах
+     */
+    public void release(int inFlight, long rttNanos) {
+        active.decrementAndGet();
+        onSample(inFlight, rttNanos / 1_000_000.0);
+    }
+
+    /**
+     * Освобождает место запроса, время обработки которого не отражает нагрузку, например после ошибки.
+     */
+    public void release() {
+        active.decrementAndGet();
+    }
+
+    /**
+     * @return текущий лимит
+     */
+    public double getLimit() {
+        return state.get().limit();
+    }
+
+    private void onSample(int inFlight, double rtt) {
+        if (rtt <= 0) {
+            return;
+        }
+        while (true) {
+            var current = state.get();
+            var next = next(current, inFlight, rtt);
+            if (state.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private State next(State current, int inFlight, double rtt) {
+        var longRtt = current.longRtt() == 0 ? rtt : current.longRtt() + (rtt - current.longRtt()) * longWindowFactor;
+        // долгое среднее, выросшее вслед за постоянно высокой нагрузкой, возвращается к текущему времени ответа
+        if (longRtt / rtt > DRIFT_RATIO) {
+            longRtt = (longRtt + rtt) / 2;
+        }
+        var limit = current.limit();
+        if (inFlight < limit / 2) {
+            return new State(limit, longRtt);
+        }
+        var gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / rtt));
+        var target = limit * gradient + Math.sqrt(limit);
+        var next = limit * (1 - smoothing) + target * smoothing;
+        return new State(Math.max(minLimit, Math.min(next, maxLimit)), longRtt);
+    }
+
+    /**
+     * Лимит и долгое среднее время ответа в миллисекундах ({@code 0}, пока ответов не было).
+     */
+    private record State(double limit, double longRtt) {
+    }
+
+    /**
+     * Приоритет запроса: при перегрузке первыми отклоняются запросы с меньшим приоритетом.
+     */
+    public enum Priority {
+
+        /**
+         * Списки и поиск.
+         */
+        LIST,
+
+        /**
+         * Чтение отдельных сущностей.
+         */
+        READ,
+
+        /**
+         * Создание, изменение и удаление.
+         */
+        WRITE
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package ru.clevertec.news.resilience;
+
+import java.util.function.Supplier;
+
+/**
+ * Срок, до которого клиент ожидает ответ на запрос.
+ *
+ * <p>Срок запроса хранится в потоке его обработки: запросы к микросервисам расходуют оставшееся время и не
+ * отправляются, если оно истекло. Задачи, выполняемые в других потоках, получают срок через
+ * {@link #wrap(Supplier)}.</p>
+ *
+ * @param expiresAt время истечения срока в миллисекундах
+ */
+public record Deadline(long expiresAt) {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * @param timeout время ожидания в миллисекундах
+     * @param now     текущее время в миллисекундах
+     * @return срок, истекающий через {@code timeout}
+     */
+    public static Deadline after(long timeout, long now) {
+        return new Deadline(now + timeout);
+    }
+
+    /**
+     * @param now текущее время в миллисекундах
+     * @return оставшееся время в миллисекундах, не меньше нуля
+     */
+    public long remaining(long now) {
+        return Math.max(0, expiresAt - now);
+    }
+
+    /**
+     * @param now текущее время в миллисекундах
+     * @return {@code true}, если срок истек
+     */
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+
+    /**
+     * @return срок запроса, обрабатываемого текущим потоком, или {@code null}, если срок не задан
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Задает срок запроса, обрабатываемого текущим потоком.
+     *
+     * @param deadline срок или {@code null}, чтобы удалить его
+     */
+    public static void set(Deadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    /**
+     * @param timeout время ожидания в миллисекундах
+     * @param now     текущее время в миллисекундах
+     * @return меньшее из {@code timeout} и времени, оставшегося до срока текущего запроса
+     */
+    public static long limit(long timeout, long now) {
+        var deadline = current();
+        return deadline == null ? timeout : Math.min(timeout, deadline.remaining(now));
+    }
+
+    /**
+     * Переносит срок текущего запроса в задачу, выполняемую в другом потоке.
+     *
+     * @param task задача
+     * @param <T>  тип результата
+     * @return задача, выполняемая со сроком текущего запроса
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        var deadline = current();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            var previous = current();
+            set(deadline);
+            try {
+                return task.get();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package ru.clevertec.news.resilience;
+
+import static ru.clevertec.news.constant.Constant.DEADLINE_EXCEEDED_ERROR;
+
+/**
+ * Запрос к микросервису не отправлен: срок, до которого клиент ожидает ответ, уже истек.
+ */
+public class DeadlineExceededException extends CallNotPermittedException {
+
+    public DeadlineExceededException() {
+        super(DEADLINE_EXCEEDED_ERROR, 0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package ru.clevertec.news.resilience;
+
+import java.util.Arrays;
+
+/**
+ * Оценивает процентили времени ответа микросервиса по последним запросам.
+ *
+ * <p>Время ответа хранится в кольцевом буфере. Отсортированная копия пересчитывается не чаще, чем раз
+ * в {@code size / 16} новых значений, поэтому запрос процентиля обычно не сортирует буфер.</p>
+ */
+public class LatencyEstimator {
+
+    private final long[] samples;
+    private final int minSamples;
+    private final int refreshEvery;
+
+    private int next;
+    private int count;
+    private int changes;
+    private long[] sorted = new long[0];
+
+    /**
+     * @param size       количество хранимых значений
+     * @param minSamples минимальное количество значений для оценки процентиля
+     */
+    public LatencyEstimator(int size, int minSamples) {
+        this.samples = new long[size];
+        this.minSamples = Math.min(minSamples, size);
+        this.refreshEvery = Math.max(1, size / 16);
+    }
+
+    /**
+     * Учитывает время ответа.
+     *
+     * @param millis время ответа в миллисекундах
+     */
+    public synchronized void record(long millis) {
+        samples[next] = millis;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        changes++;
+    }
+
+    /**
+     * @param percentile процентиль от 0 до 100
+     * @return время ответа в миллисекундах, в которое укладывается {@code percentile} процентов запросов,
+     * или {@code -1}, если значений недостаточно
+     */
+    public synchronized long percentile(double percentile) {
+        if (count < minSamples) {
+            return -1;
+        }
+        if (changes >= refreshEvery || sorted.length != count) {
+            sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            changes = 0;
+        }
+        var index = (int) Math.ceil(percentile / 100 * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package ru.clevertec.news.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * Аутентификация по проверенному токену.
+ *
+ * <p>В отличие от {@link org.springframework.security.authentication.UsernamePasswordAuthenticationToken}
+ * не копирует полномочия и не хранит пароль.</p>
+ */
+public final class PrincipalAuthentication implements Authentication {
+
+    private final UserPrincipal principal;
+    private boolean authenticated = true;
+
+    /**
+     * @param principal аутентифицированный пользователь
+     */
+    public PrincipalAuthentication(UserPrincipal principal) {
+        this.principal = principal;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return principal.getAuthorities();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UserPrincipal getPrincipal() {
+        return principal;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        if (authenticated) {
+            throw new IllegalArgumentException("Authentication can only be revoked");
+        }
+        this.authenticated = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return principal.getUsername();
+    }
+}
@@ -0,0 +1,17 @@
+package ru.clevertec.news.security;
+
+import ru.clevertec.news.entity.TokenPayload;
+
+/**
+ * Построение аутентифицированного пользователя по полезной нагрузке токена.
+ */
+public interface PrincipalResolver {
+
+    /**
+     * Получает пользователя, которому выдан токен.
+     *
+     * @param payload полезная нагрузка проверенного токена
+     * @return данные пользователя
+     */
+    UserPrincipal resolve(TokenPayload payload);
+}
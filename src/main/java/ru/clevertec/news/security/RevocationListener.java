@@ -0,0 +1,31 @@
+package ru.clevertec.news.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import ru.clevertec.news.entity.RevocationEvent;
+
+/**
+ * Получатель сообщений канала отзыва токенов, применяет их к {@link RevocationRegistry}.
+ */
+@Slf4j
+@AllArgsConstructor
+public class RevocationListener implements MessageListener {
+
+    private final RevocationRegistry revocationRegistry;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            revocationRegistry.apply(objectMapper.readValue(message.getBody(), RevocationEvent.class));
+        } catch (Exception e) {
+            log.warn("RevocationListener: message error - " + e.getMessage());
+        }
+    }
+}
\ No newline at end of file
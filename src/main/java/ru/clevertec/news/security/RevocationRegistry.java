@@ -0,0 +1,108 @@
+package ru.clevertec.news.security;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import ru.clevertec.news.entity.RevocationEvent;
+import ru.clevertec.news.entity.TokenPayload;
+import ru.clevertec.news.util.TokenDigest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Множество отозванных токенов и пользователей в памяти.
+ *
+ * <p>Токен хранится по отпечатку до истечения срока его действия. Пользователь хранится вместе с моментом отзыва
+ * до этого момента плюс максимальное время жизни токена: отозванными считаются токены пользователя, выданные
+ * не позже момента отзыва. Время выдачи берется из {@code iat}, без него - вычисляется из {@code ext} за вычетом
+ * максимального времени жизни; токен без обоих claim считается выданным до отзыва. Проверка выполняется
+ * за O(1), пока записей нет, отпечаток токена не вычисляется.</p>
+ */
+public class RevocationRegistry {
+
+    private final Clock clock;
+    private final long maxTokenLifetime;
+    private final Map<String, Long> tokens = new ConcurrentHashMap<>();
+    private final Map<String, UserRevocation> users = new ConcurrentHashMap<>();
+
+    /**
+     * @param clock            часы
+     * @param maxTokenLifetime максимальное время жизни токена
+     */
+    public RevocationRegistry(Clock clock, Duration maxTokenLifetime) {
+        this.clock = clock;
+        this.maxTokenLifetime = maxTokenLifetime.toMillis();
+    }
+
+    /**
+     * Проверяет, отозван ли токен.
+     *
+     * @param token   JWT токен без префикса {@code Bearer}
+     * @param payload полезная нагрузка токена
+     * @return {@code true}, если токен или его пользователь отозваны
+     */
+    public boolean isRevoked(String token, TokenPayload payload) {
+        var now = clock.millis();
+        if (!users.isEmpty() && payload.getUsername() != null) {
+            var revocation = users.get(payload.getUsername());
+            if (revocation != null && revocation.expiresAt() > now && issuedAt(payload) <= revocation.revokedAt()) {
+                return true;
+            }
+        }
+        if (!tokens.isEmpty()) {
+            var expiresAt = tokens.get(TokenDigest.of(token));
+            return expiresAt != null && expiresAt > now;
+        }
+        return false;
+    }
+
+    /**
+     * Применяет сообщение об отзыве.
+     *
+     * @param event сообщение об отзыве
+     */
+    public void apply(RevocationEvent event) {
+        switch (event.getType()) {
+            case TOKEN -> tokens.merge(event.getValue(), event.getExpiresAt(), Math::max);
+            case USER -> {
+                // сообщения без revokedAt отправлены до его появления: момент отзыва восстанавливается из срока записи
+                var revokedAt = event.getRevokedAt() != null
+                        ? event.getRevokedAt()
+                        : event.getExpiresAt() - maxTokenLifetime;
+                users.merge(event.getValue(), new UserRevocation(revokedAt, event.getExpiresAt()), UserRevocation::max);
+            }
+        }
+    }
+
+    /**
+     * Удаляет истекшие записи.
+     */
+    @Scheduled(fixedDelayString = "${security.revocation.cleanup-interval:PT1M}")
+    public void purge() {
+        var now = clock.millis();
+        tokens.values().removeIf(expiresAt -> expiresAt <= now);
+        users.values().removeIf(revocation -> revocation.expiresAt() <= now);
+    }
+
+    /**
+     * @return количество записей
+     */
+    public int size() {
+        return tokens.size() + users.size();
+    }
+
+    private long issuedAt(TokenPayload payload) {
+        if (payload.getIat() != null) {
+            return payload.getIat() * 1000;
+        }
+        return payload.getExt() != null ? payload.getExt() * 1000 - maxTokenLifetime : Long.MIN_VALUE;
+    }
+
+    private record UserRevocation(long revokedAt, long expiresAt) {
+
+        private UserRevocation max(UserRevocation other) {
+            return new UserRevocation(Math.max(revokedAt, other.revokedAt), Math.max(expiresAt, other.expiresAt));
+        }
+    }
+}
\ No newline at end of file
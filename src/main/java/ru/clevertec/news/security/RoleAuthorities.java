@@ -0,0 +1,72 @@
+package ru.clevertec.news.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import ru.clevertec.news.dto.constant.RoleName;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static ru.clevertec.news.constant.Constant.*;
+
+/**
+ * Неизменяемая таблица полномочий для каждой роли, вычисляемая один раз.
+ *
+ * <p>Помимо списка {@link GrantedAuthority} для каждой роли хранится битовая маска предоставленных ролей,
+ * по которой права проверяются без выделения памяти.</p>
+ */
+public final class RoleAuthorities {
+
+    private static final Map<RoleName, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(RoleName.class);
+    private static final List<GrantedAuthority> DEFAULT_AUTHORITIES = List.of(new SimpleGrantedAuthority(USER_ROLE));
+    private static final int DEFAULT_MASK = bit(RoleName.USER);
+    private static final int[] MASKS = new int[RoleName.values().length];
+
+    static {
+        Arrays.fill(MASKS, DEFAULT_MASK);
+        register(RoleName.ADMIN, ADMIN_ROLE);
+        register(RoleName.JOURNALIST, JOURNALIST_ROLE);
+        register(RoleName.SUBSCRIBER, SUBSCRIBER_ROLE);
+    }
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * Получить полномочия роли.
+     *
+     * @param role роль пользователя
+     * @return неизменяемый список полномочий, первым идет основное полномочие роли
+     */
+    public static List<GrantedAuthority> of(RoleName role) {
+        var authorities = role == null ? null : AUTHORITIES.get(role);
+        return authorities == null ? DEFAULT_AUTHORITIES : authorities;
+    }
+
+    /**
+     * Получить битовую маску ролей, предоставленных ролью.
+     *
+     * @param role роль пользователя
+     * @return битовая маска ролей
+     */
+    public static int maskOf(RoleName role) {
+        return role == null ? DEFAULT_MASK : MASKS[role.ordinal()];
+    }
+
+    /**
+     * Получить бит роли в маске.
+     *
+     * @param role роль
+     * @return бит роли
+     */
+    public static int bit(RoleName role) {
+        return 1 << role.ordinal();
+    }
+
+    private static void register(RoleName role, String authority) {
+        AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority(authority), DEFAULT_AUTHORITIES.get(0)));
+        MASKS[role.ordinal()] = bit(role) | DEFAULT_MASK;
+    }
+}
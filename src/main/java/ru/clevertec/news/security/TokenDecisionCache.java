@@ -0,0 +1,112 @@
+package ru.clevertec.news.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ограниченный по размеру кэш результатов проверки токена с временем жизни для каждой записи.
+ *
+ * <p>Ключом служит отпечаток токена. Просроченная запись считается промахом и перезаписывается при следующем
+ * сохранении, при превышении размера вытесняются самые старые записи.</p>
+ */
+public class TokenDecisionCache implements MeterBinder {
+
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize максимальное количество записей
+     */
+    public TokenDecisionCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Получить сохраненный результат проверки.
+     *
+     * @param digest отпечаток токена
+     * @param now    текущее время в миллисекундах
+     * @return результат проверки или {@code null}, если записи нет или она просрочена
+     */
+    public Boolean get(String digest, long now) {
+        var entry = entries.get(digest);
+        if (entry == null || entry.expiresAt() <= now) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.valid();
+    }
+
+    /**
+     * Сохранить результат проверки.
+     *
+     * @param digest    отпечаток токена
+     * @param valid     результат проверки
+     * @param expiresAt момент истечения записи в миллисекундах
+     */
+    public void put(String digest, boolean valid, long expiresAt) {
+        if (entries.put(digest, new Entry(valid, expiresAt)) != null) {
+            return;
+        }
+        insertionOrder.add(digest);
+        while (entries.size() > maxSize) {
+            var eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            if (entries.remove(eldest) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("token.validation.cache.gets", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("token.validation.cache.gets", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("token.validation.cache.evictions", evictions, LongAdder::sum)
+                .register(registry);
+        Gauge.builder("token.validation.cache.size", entries, Map::size)
+                .register(registry);
+    }
+
+    private record Entry(boolean valid, long expiresAt) {
+    }
+}
\ No newline at end of file
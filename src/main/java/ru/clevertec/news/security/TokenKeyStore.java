@@ -0,0 +1,108 @@
+package ru.clevertec.news.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StreamUtils;
+import ru.clevertec.news.config.properties.TokenProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+import static ru.clevertec.news.constant.Constant.KEY_LOADING_ERROR;
+
+/**
+ * Хранилище ключей для локальной проверки JWT токена.
+ *
+ * <p>Ключи читаются из настроек {@code security.token.*} и перечитываются по расписанию.
+ * Если перечитать ключи не удалось, продолжает использоваться ранее загруженный {@link JWTVerifier}.</p>
+ */
+@Slf4j
+public class TokenKeyStore {
+
+    private final TokenProperties properties;
+    private final ResourceLoader resourceLoader;
+
+    private volatile JWTVerifier verifier;
+
+    /**
+     * Создает хранилище и сразу загружает ключи.
+     *
+     * @param properties     настройки проверки токена
+     * @param resourceLoader загрузчик ресурса с ключом
+     * @throws IllegalStateException если ключи не удалось загрузить
+     */
+    public TokenKeyStore(TokenProperties properties, ResourceLoader resourceLoader) {
+        this.properties = properties;
+        this.resourceLoader = resourceLoader;
+        this.verifier = buildVerifier();
+    }
+
+    /**
+     * Получить текущий {@link JWTVerifier}.
+     *
+     * @return объект для проверки токена
+     */
+    public JWTVerifier getVerifier() {
+        return verifier;
+    }
+
+    /**
+     * Перечитать ключи из настроек.
+     */
+    @Scheduled(fixedDelayString = "${security.token.refresh-interval:PT5M}", initialDelayString = "${security.token.refresh-interval:PT5M}")
+    public void refresh() {
+        try {
+            verifier = buildVerifier();
+            log.debug("TokenKeyStore: keys refreshed");
+        } catch (Exception e) {
+            log.error("TokenKeyStore: refresh error - " + e.getMessage());
+        }
+    }
+
+    private JWTVerifier buildVerifier() {
+        try {
+            var verification = JWT.require(buildAlgorithm())
+                    .acceptLeeway(properties.getLeeway().toSeconds());
+            if (properties.getIssuer() != null) {
+                verification.withIssuer(properties.getIssuer());
+            }
+            return verification.build();
+        } catch (Exception e) {
+            throw new IllegalStateException(KEY_LOADING_ERROR + " - " + e.getMessage(), e);
+        }
+    }
+
+    private Algorithm buildAlgorithm() throws Exception {
+        return switch (properties.getAlgorithm()) {
+            case HS256 -> Algorithm.HMAC256(readKeyMaterial(properties.getSecret()));
+            case HS384 -> Algorithm.HMAC384(readKeyMaterial(properties.getSecret()));
+            case HS512 -> Algorithm.HMAC512(readKeyMaterial(properties.getSecret()));
+            case RS256 -> Algorithm.RSA256(parsePublicKey(readKeyMaterial(properties.getPublicKey())), null);
+        };
+    }
+
+    private String readKeyMaterial(String configured) throws Exception {
+        if (properties.getKeyLocation() != null) {
+            try (var in = resourceLoader.getResource(properties.getKeyLocation()).getInputStream()) {
+                return StreamUtils.copyToString(in, StandardCharsets.UTF_8).trim();
+            }
+        }
+        if (configured == null || configured.isBlank()) {
+            throw new IllegalStateException("key is not configured");
+        }
+        return configured;
+    }
+
+    private RSAPublicKey parsePublicKey(String pem) throws Exception {
+        var base64 = pem.replaceAll("-----(BEGIN|END) PUBLIC KEY-----", "").replaceAll("\\s", "");
+        var spec = new X509EncodedKeySpec(Base64.getDecoder().decode(base64));
+        return (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(spec);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package ru.clevertec.news.security;
+
+import ru.clevertec.news.entity.TokenPayload;
+
+/**
+ * Проверка действительности JWT токена.
+ */
+public interface TokenVerifier {
+
+    /**
+     * Проверяет токен.
+     *
+     * @param token   JWT токен без префикса {@code Bearer}
+     * @param payload полезная нагрузка токена, уже разобранная фильтром
+     * @return {@code true}, если токен действителен
+     */
+    boolean verify(String token, TokenPayload payload);
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package ru.clevertec.news.security;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.clevertec.news.entity.User;
+import ru.clevertec.news.exception.OperationException;
+import ru.clevertec.news.repository.UserRepository;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static ru.clevertec.news.constant.Constant.USER_NOT_FOUND;
+
+/**
+ * Ограниченный по размеру кэш идентификаторов пользователей по логину.
+ *
+ * <p>Идентификатор пользователя не меняется, поэтому запись живет до вытеснения более новыми записями.</p>
+ */
+@Slf4j
+public class UserIdCache {
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final Map<String, Long> ids = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param userRepository репозиторий пользователей
+     * @param maxSize        максимальное количество записей
+     */
+    public UserIdCache(UserRepository userRepository, int maxSize) {
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Получить идентификатор пользователя по логину.
+     *
+     * @param login логин пользователя
+     * @return идентификатор пользователя
+     * @throws OperationException если пользователь не найден
+     */
+    public Long getId(String login) {
+        var id = ids.get(login);
+        if (id != null) {
+            return id;
+        }
+        log.debug("UserIdCache: load id by login: " + login);
+        id = userRepository.findByLogin(login)
+                .map(User::getId)
+                .orElseThrow(() -> new OperationException(USER_NOT_FOUND));
+        if (ids.putIfAbsent(login, id) == null) {
+            insertionOrder.add(login);
+            while (ids.size() > maxSize) {
+                var eldest = insertionOrder.poll();
+                if (eldest == null) {
+                    break;
+                }
+                ids.remove(eldest);
+            }
+        }
+        return id;
+    }
+}
@@ -0,0 +1,76 @@
+package ru.clevertec.news.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import ru.clevertec.news.dto.constant.RoleName;
+import ru.clevertec.news.entity.User;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Компактное представление аутентифицированного пользователя.
+ *
+ * <p>Хранит идентификатор, логин, роль и битовую маску предоставленных ролей. Полномочия берутся из
+ * {@link RoleAuthorities} и не создаются заново на каждый запрос.</p>
+ */
+@Getter
+public final class UserPrincipal implements Serializable {
+
+    private final Long id;
+    private final String username;
+    private final RoleName role;
+    private final int roleMask;
+
+    /**
+     * Конструктор с параметрами.
+     *
+     * @param id       идентификатор пользователя
+     * @param username логин пользователя
+     * @param role     роль пользователя
+     */
+    public UserPrincipal(Long id, String username, RoleName role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+        this.roleMask = RoleAuthorities.maskOf(role);
+    }
+
+    /**
+     * Создает представление пользователя из сущности.
+     *
+     * @param user сущность пользователя
+     * @return представление пользователя
+     */
+    public static UserPrincipal of(User user) {
+        return new UserPrincipal(user.getId(), user.getLogin(), user.getRole());
+    }
+
+    /**
+     * Проверяет, предоставлена ли пользователю роль.
+     *
+     * @param role роль
+     * @return {@code true}, если роль предоставлена
+     */
+    public boolean hasRole(RoleName role) {
+        return (roleMask & RoleAuthorities.bit(role)) != 0;
+    }
+
+    /**
+     * Получить полномочия пользователя.
+     *
+     * @return неизменяемый список полномочий
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        return RoleAuthorities.of(role);
+    }
+
+    /**
+     * Получить основное полномочие пользователя.
+     *
+     * @return основное полномочие, например {@code ROLE_ADMIN}
+     */
+    public String getAuthority() {
+        return getAuthorities().get(0).getAuthority();
+    }
+}
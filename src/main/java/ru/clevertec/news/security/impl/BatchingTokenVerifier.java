@@ -0,0 +1,165 @@
+package ru.clevertec.news.security.impl;
+
+import feign.Request;
+import feign.RetryableException;
+import lombok.extern.slf4j.Slf4j;
+import ru.clevertec.news.entity.TokenPayload;
+import ru.clevertec.news.feign.AuthClient;
+import ru.clevertec.news.resilience.Deadline;
+import ru.clevertec.news.resilience.DeadlineExceededException;
+import ru.clevertec.news.security.TokenVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Проверка токенов пакетами одним запросом к auth-service.
+ *
+ * <p>Первый поток, открывший пакет, ожидает {@code window} или заполнения пакета до {@code maxSize} токенов,
+ * после чего отправляет пакет и раздает результаты остальным потокам. Одинаковые токены в пакете
+ * проверяются один раз. Ошибка запроса передается всем потокам пакета.</p>
+ *
+ * <p>Поток ждет результат пакета не дольше окна пакета и времени ожидания запроса к auth-service и не дольше срока
+ * запроса клиента ({@link Deadline#current()}). По истечении ожидания поток получает ту же ошибку, что и одиночная
+ * проверка: {@link DeadlineExceededException} по сроку запроса, иначе {@link RetryableException}.</p>
+ */
+@Slf4j
+public class BatchingTokenVerifier implements TokenVerifier {
+
+    private final AuthClient authClient;
+    private final int maxSize;
+    private final long windowNanos;
+
+    /**
+     * Время ожидания результата пакета в миллисекундах: окно пакета и время ожидания запроса к auth-service.
+     */
+    private final long timeout;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Batch current;
+
+    /**
+     * @param authClient клиент auth-service
+     * @param maxSize    максимальное количество токенов в пакете
+     * @param window     время накопления пакета
+     * @param options    время ожидания запроса к auth-service
+     * @param clock      часы
+     */
+    public BatchingTokenVerifier(AuthClient authClient, int maxSize, Duration window, Request.Options options,
+                                 Clock clock) {
+        this.authClient = authClient;
+        this.maxSize = maxSize;
+        this.windowNanos = window.toNanos();
+        this.timeout = window.toMillis() + options.connectTimeoutMillis() + options.readTimeoutMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean verify(String token, TokenPayload payload) {
+        Batch batch;
+        int index;
+        boolean leader;
+        lock.lock();
+        try {
+            leader = current == null;
+            if (leader) {
+                current = new Batch();
+            }
+            batch = current;
+            index = batch.add(token);
+            if (batch.size() >= maxSize) {
+                current = null;
+                batch.full.countDown();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (leader) {
+            send(batch);
+        }
+        return await(batch.results).get(index);
+    }
+
+    private List<Boolean> await(CompletableFuture<List<Boolean>> results) {
+        var wait = Deadline.limit(timeout, clock.millis());
+        try {
+            return results.get(wait, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a batch token check", e);
+        } catch (TimeoutException e) {
+            if (wait < timeout) {
+                throw new DeadlineExceededException();
+            }
+            throw new RetryableException(-1, "Timed out waiting for a batch token check", Request.HttpMethod.POST,
+                    (Long) null, Request.create(Request.HttpMethod.POST, "/check/batch", Map.of(), null, UTF_8, null));
+        }
+    }
+
+    private void send(Batch batch) {
+        try {
+            batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            if (current == batch) {
+                current = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            var results = authClient.checkBatch(batch.tokens);
+            if (results == null || results.size() != batch.tokens.size()) {
+                throw new IllegalStateException("Unexpected batch check response size");
+            }
+            log.debug("BatchingTokenVerifier: checked batch of {} tokens", batch.tokens.size());
+            batch.results.complete(results);
+        } catch (RuntimeException e) {
+            log.warn("BatchingTokenVerifier: batch check error - " + e.getMessage());
+            batch.results.completeExceptionally(e);
+        }
+    }
+
+    private static class Batch {
+
+        private final List<String> tokens = new ArrayList<>();
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+        private final CompletableFuture<List<Boolean>> results = new CompletableFuture<>();
+
+        private int add(String token) {
+            return indexes.computeIfAbsent(token, key -> {
+                tokens.add(key);
+                return tokens.size() - 1;
+            });
+        }
+
+        private int size() {
+            return tokens.size();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package ru.clevertec.news.security.impl;
+
+import lombok.AllArgsConstructor;
+import ru.clevertec.news.config.properties.TokenProperties;
+import ru.clevertec.news.entity.TokenPayload;
+import ru.clevertec.news.security.TokenDecisionCache;
+import ru.clevertec.news.security.TokenVerifier;
+import ru.clevertec.news.util.TokenDigest;
+
+import java.time.Clock;
+
+/**
+ * Проверка токена с кэшированием результата.
+ *
+ * <p>Положительный результат хранится до истечения токена ({@code ext}), но не дольше {@code ttl},
+ * отрицательный - {@code negative-ttl}. Ошибки проверки не кэшируются.</p>
+ */
+@AllArgsConstructor
+public class CachingTokenVerifier implements TokenVerifier {
+
+    private final TokenVerifier delegate;
+    private final TokenDecisionCache cache;
+    private final TokenProperties properties;
+    private final Clock clock;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean verify(String token, TokenPayload payload) {
+        var digest = TokenDigest.of(token);
+        var now = clock.millis();
+        var cached = cache.get(digest, now);
+        if (cached != null) {
+            return cached;
+        }
+        var valid = delegate.verify(token, payload);
+        var expiresAt = valid
+                ? positiveExpiresAt(payload, now)
+                : now + properties.getCache().getNegativeTtl().toMillis();
+        cache.put(digest, valid, expiresAt);
+        return valid;
+    }
+
+    private long positiveExpiresAt(TokenPayload payload, long now) {
+        var ceiling = now + properties.getCache().getTtl().toMillis();
+        var ext = payload.getExt();
+        return ext == null ? ceiling : Math.min(ceiling, ext * 1000);
+    }
+}
\ No newline at end of file
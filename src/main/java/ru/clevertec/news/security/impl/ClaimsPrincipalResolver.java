@@ -0,0 +1,30 @@
+package ru.clevertec.news.security.impl;
+
+import lombok.AllArgsConstructor;
+import ru.clevertec.news.dto.constant.RoleName;
+import ru.clevertec.news.entity.TokenPayload;
+import ru.clevertec.news.security.PrincipalResolver;
+import ru.clevertec.news.security.UserIdCache;
+import ru.clevertec.news.security.UserPrincipal;
+
+/**
+ * Построение пользователя из claims проверенного токена.
+ *
+ * <p>Логин и роль берутся из токена, идентификатор - из {@link UserIdCache}, поэтому в установившемся
+ * режиме запросы к базе данных не выполняются.</p>
+ */
+@AllArgsConstructor
+public class ClaimsPrincipalResolver implements PrincipalResolver {
+
+    private final UserIdCache userIdCache;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UserPrincipal resolve(TokenPayload payload) {
+        var login = payload.getUsername();
+        var role = RoleName.valueOf(payload.getRole());
+        return new UserPrincipal(userIdCache.getId(login), login, role);
+    }
+}
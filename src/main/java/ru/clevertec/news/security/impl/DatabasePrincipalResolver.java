@@ -0,0 +1,25 @@
+package ru.clevertec.news.security.impl;
+
+import lombok.AllArgsConstructor;
+import ru.clevertec.news.config.service.UserDetailsServiceImpl;
+import ru.clevertec.news.entity.TokenPayload;
+import ru.clevertec.news.entity.User;
+import ru.clevertec.news.security.PrincipalResolver;
+import ru.clevertec.news.security.UserPrincipal;
+
+/**
+ * Загрузка пользователя из базы данных по логину из токена.
+ */
+@AllArgsConstructor
+public class DatabasePrincipalResolver implements PrincipalResolver {
+
+    private final UserDetailsServiceImpl userDetailsService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UserPrincipal resolve(TokenPayload payload) {
+        return UserPrincipal.of((User) userDetailsService.loadUserByUsername(payload.getUsername()));
+    }
+}
@@ -0,0 +1,46 @@
+package ru.clevertec.news.security.impl;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ru.clevertec.news.entity.TokenPayload;
+import ru.clevertec.news.security.TokenKeyStore;
+import ru.clevertec.news.security.TokenVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static ru.clevertec.news.constant.Constant.EXT_CLAIM;
+
+/**
+ * Локальная проверка токена без обращения к auth-service.
+ *
+ * <p>Проверяются подпись, издатель, claim {@code exp} и, если он присутствует, claim {@code ext}. Сроки действия
+ * проверяются с допустимым расхождением часов ({@code security.token.leeway}).</p>
+ */
+@Slf4j
+@AllArgsConstructor
+public class LocalTokenVerifier implements TokenVerifier {
+
+    private final TokenKeyStore keyStore;
+    private final Duration leeway;
+    private final Clock clock;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean verify(String token, TokenPayload payload) {
+        try {
+            var jwt = keyStore.getVerifier().verify(token);
+            var ext = jwt.getClaim(EXT_CLAIM);
+            if (ext.isMissing() || ext.isNull()) {
+                return true;
+            }
+            return ext.asLong() + leeway.toSeconds() > clock.instant().getEpochSecond();
+        } catch (JWTVerificationException e) {
+            log.warn("LocalTokenVerifier: verification error - " + e.getMessage());
+            return false;
+        }
+    }
+}
\ No newline at end of file
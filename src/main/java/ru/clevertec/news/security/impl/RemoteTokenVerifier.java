@@ -0,0 +1,23 @@
+package ru.clevertec.news.security.impl;
+
+import lombok.AllArgsConstructor;
+import ru.clevertec.news.entity.TokenPayload;
+import ru.clevertec.news.feign.AuthClient;
+import ru.clevertec.news.security.TokenVerifier;
+
+/**
+ * Проверка токена запросом к auth-service.
+ */
+@AllArgsConstructor
+public class RemoteTokenVerifier implements TokenVerifier {
+
+    private final AuthClient authClient;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean verify(String token, TokenPayload payload) {
+        return authClient.check(token);
+    }
+}
@@ -0,0 +1,32 @@
+package ru.clevertec.news.service;
+
+import ru.clevertec.news.dto.CommentDto;
+import ru.clevertec.news.dto.batch.BatchContentDto;
+import ru.clevertec.news.dto.create.CommentCreateDto;
+import ru.clevertec.news.dto.cursor.CursorPageDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.update.CommentUpdateDto;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncCommentService {
+
+    CompletableFuture<CommentDto> getById(Long id);
+
+    CompletableFuture<BatchContentDto<CommentDto>> getByIds(List<Long> ids);
+
+    CompletableFuture<PageContentDto<CommentDto>> getAll(int pageNumber, int pageSize, String username, String text);
+
+    CompletableFuture<PageContentDto<CommentDto>> getByNewsId(int pageNumber, int pageSize, Long id);
+
+    CompletableFuture<CursorPageDto<CommentDto>> getAllByCursor(String cursor, int pageSize, String username, String text);
+
+    CompletableFuture<CursorPageDto<CommentDto>> getByNewsIdByCursor(String cursor, int pageSize, Long id);
+
+    CompletableFuture<CommentDto> create(CommentCreateDto dto);
+
+    CompletableFuture<CommentDto> update(CommentUpdateDto dto);
+
+    CompletableFuture<Void> delete(Long id);
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package ru.clevertec.news.service;
+
+import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.dto.batch.BatchContentDto;
+import ru.clevertec.news.dto.create.NewsCreateDto;
+import ru.clevertec.news.dto.cursor.CursorPageDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.update.NewsUpdateDto;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncNewsService {
+
+    CompletableFuture<PageContentDto<NewsDto>> getAll(int pageNumber, int pageSize, String title, String text);
+
+    CompletableFuture<CursorPageDto<NewsDto>> getAllByCursor(String cursor, int pageSize, String title, String text);
+
+    CompletableFuture<NewsDto> getNewsById(Long id);
+
+    CompletableFuture<BatchContentDto<NewsDto>> getByIds(List<Long> ids);
+
+    CompletableFuture<NewsDto> getByIdWithComments(Integer pageNumber, Integer pageSize, Long id);
+
+    CompletableFuture<NewsDto> create(NewsCreateDto dto);
+
+    CompletableFuture<NewsDto> update(NewsUpdateDto dto);
+
+    CompletableFuture<Void> delete(Long id);
+}
\ No newline at end of file
@@ -1,18 +1,28 @@
 package ru.clevertec.news.service;
 
 import ru.clevertec.news.dto.CommentDto;
+import ru.clevertec.news.dto.batch.BatchContentDto;
 import ru.clevertec.news.dto.create.CommentCreateDto;
+import ru.clevertec.news.dto.cursor.CursorPageDto;
 import ru.clevertec.news.dto.page.PageContentDto;
 import ru.clevertec.news.dto.update.CommentUpdateDto;
 
+import java.util.List;
+
 public interface CommentService {
 
     CommentDto getById(Long id);
 
+    BatchContentDto<CommentDto> getByIds(List<Long> ids);
+
     PageContentDto<CommentDto> getAll(int pageNumber, int pageSize, String username, String text);
 
     PageContentDto<CommentDto> getByNewsId(int pageNumber, int pageSize, Long id);
 
+    CursorPageDto<CommentDto> getAllByCursor(String cursor, int pageSize, String username, String text);
+
+    CursorPageDto<CommentDto> getByNewsIdByCursor(String cursor, int pageSize, Long id);
+
     CommentDto create(CommentCreateDto dto);
 
     CommentDto update(CommentUpdateDto dto);
@@ -0,0 +1,10 @@
+package ru.clevertec.news.service;
+
+import java.io.OutputStream;
+
+public interface ExportService {
+
+    void exportNews(String title, String text, OutputStream out);
+
+    void exportComments(String username, String text, OutputStream out);
+}
\ No newline at end of file
@@ -1,16 +1,24 @@
 package ru.clevertec.news.service;
 
 import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.dto.batch.BatchContentDto;
 import ru.clevertec.news.dto.create.NewsCreateDto;
+import ru.clevertec.news.dto.cursor.CursorPageDto;
 import ru.clevertec.news.dto.page.PageContentDto;
 import ru.clevertec.news.dto.update.NewsUpdateDto;
 
+import java.util.List;
+
 public interface NewsService {
 
     PageContentDto<NewsDto> getAll(int pageNumber, int pageSize, String title, String text);
 
+    CursorPageDto<NewsDto> getAllByCursor(String cursor, int pageSize, String title, String text);
+
     NewsDto getNewsById(Long id);
 
+    BatchContentDto<NewsDto> getByIds(List<Long> ids);
+
     NewsDto getByIdWithComments(Integer pageNumber, Integer pageSize, Long id);
 
     NewsDto create(NewsCreateDto dto);
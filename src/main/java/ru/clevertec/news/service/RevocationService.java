@@ -0,0 +1,8 @@
+package ru.clevertec.news.service;
+
+public interface RevocationService {
+
+    void revokeToken(String token);
+
+    void revokeUser(String login);
+}
\ No newline at end of file
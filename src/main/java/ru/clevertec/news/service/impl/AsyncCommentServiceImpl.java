@@ -0,0 +1,239 @@
+package ru.clevertec.news.service.impl;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import ru.clevertec.news.config.properties.PaginationProperties;
+import ru.clevertec.news.dto.CommentDto;
+import ru.clevertec.news.dto.batch.BatchContentDto;
+import ru.clevertec.news.dto.constant.RoleName;
+import ru.clevertec.news.dto.create.CommentCreateDto;
+import ru.clevertec.news.dto.cursor.Cursor;
+import ru.clevertec.news.dto.cursor.CursorPageDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.update.CommentUpdateDto;
+import ru.clevertec.news.exception.NoAccessError;
+import ru.clevertec.news.exception.OperationException;
+import ru.clevertec.news.facade.AuthenticationFacade;
+import ru.clevertec.news.feign.async.AsyncCallLimiter;
+import ru.clevertec.news.feign.async.AsyncCommentClient;
+import ru.clevertec.news.resilience.CallNotPermittedException;
+import ru.clevertec.news.service.AsyncCommentService;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static ru.clevertec.news.constant.Constant.BATCH_SIZE_ERROR;
+import static ru.clevertec.news.constant.Constant.BATCH_SIZE_MAX;
+import static ru.clevertec.news.constant.Constant.PAGE_SIZE_ERROR;
+
+/**
+ * Асинхронный вариант {@link CommentServiceImpl}: методы не блокируют поток запроса и возвращают
+ * {@link CompletableFuture}, завершающийся {@link OperationException} с теми же сообщениями об ошибках.
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+@ConditionalOnProperty(prefix = "async", name = "enabled", havingValue = "true")
+public class AsyncCommentServiceImpl implements AsyncCommentService {
+
+    private final AsyncCommentClient commentClient;
+    private final AsyncCallLimiter callLimiter;
+    private final AuthenticationFacade authenticationFacade;
+    private final PaginationProperties paginationProperties;
+
+    /**
+     * Получить комментарий по его идентификатору.
+     *
+     * @param id идентификатор комментария
+     * @return объект {@link CommentDto} с найденным комментарием
+     */
+    @Override
+    public CompletableFuture<CommentDto> getById(Long id) {
+        log.info("CommentService: find comment by id: " + id);
+        return callLimiter.submit(() -> commentClient.getById(id))
+                .exceptionally(failure("Get by id error"));
+    }
+
+    /**
+     * Получить комментарии по идентификаторам одним запросом к микросервису.
+     * Повторяющиеся идентификаторы запрашиваются один раз.
+     *
+     * @param ids идентификаторы, не более {@value ru.clevertec.news.constant.Constant#BATCH_SIZE_MAX}
+     * @return объект {@link BatchContentDto} в порядке идентификаторов с ненайденными идентификаторами
+     */
+    @Override
+    public CompletableFuture<BatchContentDto<CommentDto>> getByIds(List<Long> ids) {
+        log.info("CommentService: find comments by ids: " + ids);
+        var distinctIds = ids.stream().distinct().toList();
+        if (distinctIds.size() > BATCH_SIZE_MAX) {
+            return CompletableFuture.<BatchContentDto<CommentDto>>failedFuture(new OperationException(BATCH_SIZE_ERROR))
+                    .exceptionally(failure("Get by ids error"));
+        }
+        if (distinctIds.isEmpty()) {
+            return CompletableFuture.completedFuture(BatchContentDto.of(distinctIds, List.of(), CommentDto::getId));
+        }
+        return callLimiter.submit(() -> commentClient.getByIds(distinctIds))
+                .thenApply(found -> BatchContentDto.of(distinctIds, found, CommentDto::getId))
+                .exceptionally(failure("Get by ids error"));
+    }
+
+    /**
+     * Получить все комментарии с возможностью фильтрации и пагинации.
+     *
+     * @param pageNumber номер страницы для пагинации
+     * @param pageSize   количество комментариев на странице
+     * @param username   имя пользователя для фильтрации комментариев
+     * @param text       текст для фильтрации комментариев
+     * @return объект {@link PageContentDto} с содержимым комментариев
+     */
+    @Override
+    public CompletableFuture<PageContentDto<CommentDto>> getAll(int pageNumber, int pageSize, String username, String text) {
+        log.info("CommentService: get all");
+        return callLimiter.submit(() -> commentClient.getAll(pageNumber, pageSize, username, text))
+                .exceptionally(failure("Get all comments error"));
+    }
+
+    /**
+     * Получить комментарии новости.
+     *
+     * @param pageNumber номер страницы для пагинации
+     * @param pageSize   количество комментариев на странице
+     * @param id         идентификатор новости
+     * @return объект {@link PageContentDto} с комментариями новости
+     */
+    @Override
+    public CompletableFuture<PageContentDto<CommentDto>> getByNewsId(int pageNumber, int pageSize, Long id) {
+        log.info("CommentService: get by news id - " + id);
+        return callLimiter.submit(() -> commentClient.getByNewsId(pageNumber, pageSize, id))
+                .exceptionally(failure("Get by news id error"));
+    }
+
+    /**
+     * Получить комментарии, следующие за курсором, в порядке убывания времени и идентификатора.
+     *
+     * @param cursor   курсор, полученный с предыдущей страницей, пустая строка - первая страница
+     * @param pageSize количество комментариев на странице, не больше {@code pagination.max-page-size}
+     * @param username имя пользователя для фильтрации комментариев
+     * @param text     текст для фильтрации комментариев
+     * @return объект {@link CursorPageDto} с комментариями и курсором следующей страницы
+     */
+    @Override
+    public CompletableFuture<CursorPageDto<CommentDto>> getAllByCursor(String cursor, int pageSize, String username, String text) {
+        log.info("CommentService: get all by cursor");
+        var size = paginationProperties.limit(pageSize);
+        return byCursor(cursor, size, "Get all comments by cursor error",
+                after -> commentClient.getAllAfter(Cursor.time(after), Cursor.id(after), size + 1, username, text));
+    }
+
+    /**
+     * Получить комментарии новости, следующие за курсором, в порядке убывания времени и идентификатора.
+     *
+     * @param cursor   курсор, полученный с предыдущей страницей, пустая строка - первая страница
+     * @param pageSize количество комментариев на странице, не больше {@code pagination.max-page-size}
+     * @param id       идентификатор новости
+     * @return объект {@link CursorPageDto} с комментариями новости и курсором следующей страницы
+     */
+    @Override
+    public CompletableFuture<CursorPageDto<CommentDto>> getByNewsIdByCursor(String cursor, int pageSize, Long id) {
+        log.info("CommentService: get by news id by cursor - " + id);
+        var size = paginationProperties.limit(pageSize);
+        return byCursor(cursor, size, "Get by news id by cursor error",
+                after -> commentClient.getByNewsIdAfter(Cursor.time(after), Cursor.id(after), size + 1, id));
+    }
+
+    /**
+     * Создать новый комментарий.
+     * Пользователь может создать комментарий, если он является его автором или если его роль - администратор.
+     *
+     * @param dto объект данных для создания комментария
+     * @return объект {@link CommentDto} с созданным комментарием
+     */
+    @Override
+    public CompletableFuture<CommentDto> create(CommentCreateDto dto) {
+        log.info("CommentService: create comment: " + dto);
+        if (!hasAccess(dto.getUsername())) {
+            log.error("CommentService: No access error");
+            return CompletableFuture.<CommentDto>failedFuture(new NoAccessError())
+                    .exceptionally(failure("Create comment error"));
+        }
+        return callLimiter.submit(() -> commentClient.create(dto))
+                .exceptionally(failure("Create comment error"));
+    }
+
+    /**
+     * Обновить существующий комментарий.
+     * Пользователь может обновить комментарий, если он является его автором или если его роль - администратор.
+     *
+     * @param dto объект данных для обновления комментария
+     * @return объект {@link CommentDto} с обновленным комментарием
+     */
+    @Override
+    public CompletableFuture<CommentDto> update(CommentUpdateDto dto) {
+        log.debug("CommentService: update comment: " + dto);
+        if (!hasAccess(dto.getUsername())) {
+            log.error("CommentService: No access error");
+            return CompletableFuture.<CommentDto>failedFuture(new NoAccessError())
+                    .exceptionally(failure("Update comment error"));
+        }
+        return callLimiter.submit(() -> commentClient.update(dto))
+                .exceptionally(failure("Update comment error"));
+    }
+
+    /**
+     * Удалить комментарий по его идентификатору.
+     * Пользователь может удалить комментарий, если он является его автором или если его роль - администратор.
+     * Права проверяются после получения комментария в потоке HTTP клиента с контекстом безопасности запроса.
+     *
+     * @param id идентификатор комментария, который требуется удалить
+     * @return завершается после удаления комментария
+     */
+    @Override
+    public CompletableFuture<Void> delete(Long id) {
+        log.debug("CommentService: delete comment by id: " + id);
+        return callLimiter.submit(() -> commentClient.getById(id))
+                .thenComposeAsync(commentDto -> {
+                    if (!hasAccess(commentDto.getUsername())) {
+                        log.error("CommentService: No access error");
+                        throw new NoAccessError();
+                    }
+                    return callLimiter.submit(() -> commentClient.delete(id));
+                }, callLimiter.contextExecutor())
+                .exceptionally(failure("Delete comment error"));
+    }
+
+    private boolean hasAccess(String username) {
+        var currentUsername = authenticationFacade.getCurrentUsername();
+        log.info("CommentService: current role {}\n current user name - {}", authenticationFacade.getCurrentUserRole(), currentUsername);
+        return authenticationFacade.hasRole(RoleName.ADMIN) || username.equals(currentUsername);
+    }
+
+    private CompletableFuture<CursorPageDto<CommentDto>> byCursor(String cursor, int pageSize, String message,
+                                                                 Function<Cursor, CompletableFuture<List<CommentDto>>> rows) {
+        Cursor after;
+        try {
+            if (pageSize < 1) {
+                throw new OperationException(PAGE_SIZE_ERROR);
+            }
+            after = Cursor.decode(cursor);
+        } catch (RuntimeException e) {
+            return CompletableFuture.<CursorPageDto<CommentDto>>failedFuture(e).exceptionally(failure(message));
+        }
+        return callLimiter.submit(() -> rows.apply(after))
+                .thenApply(found -> CursorPageDto.of(found, pageSize, comment -> new Cursor(comment.getTime(), comment.getId())))
+                .exceptionally(failure(message));
+    }
+
+    private static <T> Function<Throwable, T> failure(String message) {
+        return e -> {
+            var cause = AsyncCallLimiter.unwrap(e);
+            if (cause instanceof CallNotPermittedException rejected) {
+                throw rejected;
+            }
+            log.error("CommentService: " + message + " - " + cause.getMessage());
+            throw new OperationException(message + " - " + cause.getMessage());
+        };
+    }
+}
\ No newline at end of file
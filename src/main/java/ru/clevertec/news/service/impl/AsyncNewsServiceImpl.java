@@ -0,0 +1,232 @@
+package ru.clevertec.news.service.impl;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import ru.clevertec.news.composition.NewsComposer;
+import ru.clevertec.news.config.properties.PaginationProperties;
+import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.dto.batch.BatchContentDto;
+import ru.clevertec.news.dto.constant.RoleName;
+import ru.clevertec.news.dto.create.NewsCreateDto;
+import ru.clevertec.news.dto.cursor.Cursor;
+import ru.clevertec.news.dto.cursor.CursorPageDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.update.NewsUpdateDto;
+import ru.clevertec.news.exception.NoAccessError;
+import ru.clevertec.news.exception.OperationException;
+import ru.clevertec.news.facade.AuthenticationFacade;
+import ru.clevertec.news.feign.async.AsyncCallLimiter;
+import ru.clevertec.news.feign.async.AsyncCommentClient;
+import ru.clevertec.news.feign.async.AsyncNewsClient;
+import ru.clevertec.news.resilience.CallNotPermittedException;
+import ru.clevertec.news.service.AsyncNewsService;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static ru.clevertec.news.constant.Constant.BATCH_SIZE_ERROR;
+import static ru.clevertec.news.constant.Constant.BATCH_SIZE_MAX;
+import static ru.clevertec.news.constant.Constant.PAGE_SIZE_ERROR;
+
+/**
+ * Асинхронный вариант {@link NewsServiceImpl}: методы не блокируют поток запроса и возвращают
+ * {@link CompletableFuture}, завершающийся {@link OperationException} с теми же сообщениями об ошибках.
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+@ConditionalOnProperty(prefix = "async", name = "enabled", havingValue = "true")
+public class AsyncNewsServiceImpl implements AsyncNewsService {
+
+    private final AsyncNewsClient newsClient;
+    private final AsyncCommentClient commentClient;
+    private final AsyncCallLimiter callLimiter;
+    private final ObjectProvider<NewsComposer> newsComposer;
+    private final AuthenticationFacade authenticationFacade;
+    private final PaginationProperties paginationProperties;
+
+    /**
+     * Получить все новости с возможностью фильтрации и пагинации.
+     *
+     * @param pageNumber номер страницы для пагинации
+     * @param pageSize   количество новостей на странице
+     * @param title      заголовок для фильтрации новостей
+     * @param text       текст для фильтрации новостей
+     * @return объект {@link PageContentDto} с содержимым новостей
+     */
+    @Override
+    public CompletableFuture<PageContentDto<NewsDto>> getAll(int pageNumber, int pageSize, String title, String text) {
+        log.info("NewsService: find all news");
+        return callLimiter.submit(() -> newsClient.getAll(pageNumber, pageSize, title, text))
+                .exceptionally(failure("Get all error"));
+    }
+
+    /**
+     * Получить новости, следующие за курсором, в порядке убывания времени и идентификатора.
+     *
+     * @param cursor   курсор, полученный с предыдущей страницей, пустая строка - первая страница
+     * @param pageSize количество новостей на странице, не больше {@code pagination.max-page-size}
+     * @param title    заголовок для фильтрации новостей
+     * @param text     текст для фильтрации новостей
+     * @return объект {@link CursorPageDto} с новостями и курсором следующей страницы
+     */
+    @Override
+    public CompletableFuture<CursorPageDto<NewsDto>> getAllByCursor(String cursor, int pageSize, String title, String text) {
+        log.info("NewsService: find news by cursor");
+        Cursor after;
+        try {
+            if (pageSize < 1) {
+                throw new OperationException(PAGE_SIZE_ERROR);
+            }
+            after = Cursor.decode(cursor);
+        } catch (RuntimeException e) {
+            return CompletableFuture.<CursorPageDto<NewsDto>>failedFuture(e)
+                    .exceptionally(failure("Get all by cursor error"));
+        }
+        var size = paginationProperties.limit(pageSize);
+        return callLimiter.submit(() -> newsClient.getAllAfter(Cursor.time(after), Cursor.id(after), size + 1, title, text))
+                .thenApply(rows -> CursorPageDto.of(rows, size, news -> new Cursor(news.getTime(), news.getId())))
+                .exceptionally(failure("Get all by cursor error"));
+    }
+
+    /**
+     * Получить новость по её идентификатору.
+     *
+     * @param id идентификатор новости
+     * @return объект {@link NewsDto} с найденной новостью
+     */
+    @Override
+    public CompletableFuture<NewsDto> getNewsById(Long id) {
+        log.info("NewsService: find news by id: " + id);
+        return callLimiter.submit(() -> newsClient.getNewsById(id))
+                .exceptionally(failure("Get news by id error"));
+    }
+
+    /**
+     * Получить новости по идентификаторам одним запросом к микросервису.
+     * Повторяющиеся идентификаторы запрашиваются один раз.
+     *
+     * @param ids идентификаторы, не более {@value ru.clevertec.news.constant.Constant#BATCH_SIZE_MAX}
+     * @return объект {@link BatchContentDto} в порядке идентификаторов с ненайденными идентификаторами
+     */
+    @Override
+    public CompletableFuture<BatchContentDto<NewsDto>> getByIds(List<Long> ids) {
+        log.info("NewsService: find news by ids: " + ids);
+        var distinctIds = ids.stream().distinct().toList();
+        if (distinctIds.size() > BATCH_SIZE_MAX) {
+            return CompletableFuture.<BatchContentDto<NewsDto>>failedFuture(new OperationException(BATCH_SIZE_ERROR))
+                    .exceptionally(failure("Get news by ids error"));
+        }
+        if (distinctIds.isEmpty()) {
+            return CompletableFuture.completedFuture(BatchContentDto.of(distinctIds, List.of(), NewsDto::getId));
+        }
+        return callLimiter.submit(() -> newsClient.getByIds(distinctIds))
+                .thenApply(found -> BatchContentDto.of(distinctIds, found, NewsDto::getId))
+                .exceptionally(failure("Get news by ids error"));
+    }
+
+    /**
+     * Получить новость с комментариями по её идентификатору.
+     * При включенной сборке на стороне шлюза ({@code news.composition.enabled}) новость и комментарии
+     * запрашиваются параллельно, при ошибке или опоздании комментариев новость возвращается без них.
+     *
+     * @param pageNumber номер страницы для пагинации
+     * @param pageSize   количество комментариев на странице
+     * @param id         идентификатор новости
+     * @return объект {@link NewsDto} с найденной новостью и её комментариями
+     */
+    @Override
+    public CompletableFuture<NewsDto> getByIdWithComments(Integer pageNumber, Integer pageSize, Long id) {
+        var composer = newsComposer.getIfAvailable();
+        if (composer == null) {
+            log.info("NewsService: find news with comments by id: " + id);
+            return callLimiter.submit(() -> newsClient.getByIdWithComments(pageNumber, pageSize, id))
+                    .exceptionally(failure("Get news by id error"));
+        }
+        log.info("NewsService: compose news with comments by id: " + id);
+        return composer.compose(callLimiter.submit(() -> newsClient.getNewsById(id)),
+                        callLimiter.submit(() -> commentClient.getByNewsId(pageNumber, pageSize, id)))
+                .exceptionally(failure("Get news by id error"));
+    }
+
+    /**
+     * Создать новую новость.
+     * Пользователь может создать новость, если он является её создателем или если его роль - администратор.
+     *
+     * @param dto объект данных для создания новости
+     * @return объект {@link NewsDto} с созданной новостью
+     */
+    @Override
+    public CompletableFuture<NewsDto> create(NewsCreateDto dto) {
+        log.info("NewsService: create news: " + dto);
+        if (!hasAccess(dto.getUserId())) {
+            log.error("NewsService: No access error");
+            return CompletableFuture.<NewsDto>failedFuture(new NoAccessError())
+                    .exceptionally(failure("Create news error"));
+        }
+        return callLimiter.submit(() -> newsClient.create(dto))
+                .exceptionally(failure("Create news error"));
+    }
+
+    /**
+     * Обновить существующую новость.
+     * Пользователь может обновить новость, если он является её создателем или если его роль - администратор.
+     *
+     * @param dto объект данных для обновления новости
+     * @return объект {@link NewsDto} с обновленной новостью
+     */
+    @Override
+    public CompletableFuture<NewsDto> update(NewsUpdateDto dto) {
+        log.debug("NewsService: update news: " + dto);
+        if (!hasAccess(dto.getUserId())) {
+            log.error("NewsService: No access error");
+            return CompletableFuture.<NewsDto>failedFuture(new NoAccessError())
+                    .exceptionally(failure("Update news error"));
+        }
+        return callLimiter.submit(() -> newsClient.update(dto))
+                .exceptionally(failure("Update news error"));
+    }
+
+    /**
+     * Удалить новость по её идентификатору.
+     * Пользователь может удалить новость, если он является её создателем или если его роль - администратор.
+     * Права проверяются после получения новости в потоке HTTP клиента с контекстом безопасности запроса.
+     *
+     * @param id идентификатор новости, которую требуется удалить
+     * @return завершается после удаления новости
+     */
+    @Override
+    public CompletableFuture<Void> delete(Long id) {
+        log.debug("NewsService: delete news by id: " + id);
+        return callLimiter.submit(() -> newsClient.getNewsById(id))
+                .thenComposeAsync(newsDto -> {
+                    if (!hasAccess(newsDto.getUserId())) {
+                        log.error("NewsService: No access error");
+                        throw new NoAccessError();
+                    }
+                    return callLimiter.submit(() -> newsClient.delete(id));
+                }, callLimiter.contextExecutor())
+                .exceptionally(failure("Delete news error"));
+    }
+
+    private boolean hasAccess(Long userId) {
+        var currentUserId = authenticationFacade.getCurrentUserId();
+        log.info("NewsService: current role {}\n current id - {}", authenticationFacade.getCurrentUserRole(), currentUserId);
+        return authenticationFacade.hasRole(RoleName.ADMIN) || userId.equals(currentUserId);
+    }
+
+    private static <T> Function<Throwable, T> failure(String message) {
+        return e -> {
+            var cause = AsyncCallLimiter.unwrap(e);
+            if (cause instanceof CallNotPermittedException rejected) {
+                throw rejected;
+            }
+            log.error("NewsService: " + message + " - " + cause.getMessage());
+            throw new OperationException(message + " - " + cause.getMessage());
+        };
+    }
+}
\ No newline at end of file
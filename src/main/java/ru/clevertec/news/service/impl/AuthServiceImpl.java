@@ -9,6 +9,7 @@ import ru.clevertec.news.dto.auth.SignInDto;
 import ru.clevertec.news.dto.auth.SignUpDto;
 import ru.clevertec.news.exception.OperationException;
 import ru.clevertec.news.feign.AuthClient;
+import ru.clevertec.news.resilience.CallNotPermittedException;
 import ru.clevertec.news.service.AuthService;
 
 @Slf4j
@@ -31,6 +32,8 @@ public class AuthServiceImpl implements AuthService {
         try {
             log.info("AuthService: singUp");
             return authClient.signUp(dto);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("AuthService: singUp error - " + e.getMessage());
             throw new OperationException("singUp error - " + e.getMessage());
@@ -49,6 +52,8 @@ public class AuthServiceImpl implements AuthService {
         try {
             log.info("AuthService: singIn");
             return authClient.signIn(dto);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("AuthService: singIn error - " + e.getMessage());
             throw new OperationException("singIn error - " + e.getMessage());
@@ -67,6 +72,8 @@ public class AuthServiceImpl implements AuthService {
         try {
             log.info("AuthService: check");
             return authClient.check(auth);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("AuthService: check error - " + e.getMessage());
             throw new OperationException("check error - " + e.getMessage());
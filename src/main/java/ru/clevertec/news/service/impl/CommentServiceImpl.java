@@ -2,19 +2,36 @@ package ru.clevertec.news.service.impl;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.clevertec.news.config.properties.PaginationProperties;
 import ru.clevertec.news.dto.CommentDto;
+import ru.clevertec.news.dto.batch.BatchContentDto;
+import ru.clevertec.news.dto.constant.RoleName;
 import ru.clevertec.news.dto.create.CommentCreateDto;
+import ru.clevertec.news.dto.cursor.Cursor;
+import ru.clevertec.news.dto.cursor.CursorPageDto;
 import ru.clevertec.news.dto.page.PageContentDto;
 import ru.clevertec.news.dto.update.CommentUpdateDto;
 import ru.clevertec.news.exception.NoAccessError;
 import ru.clevertec.news.exception.OperationException;
 import ru.clevertec.news.facade.AuthenticationFacade;
 import ru.clevertec.news.feign.CommentClient;
+import ru.clevertec.news.resilience.CallNotPermittedException;
 import ru.clevertec.news.service.CommentService;
 
-import static ru.clevertec.news.constant.Constant.ADMIN_ROLE;
+import java.util.List;
+
+import static ru.clevertec.news.constant.Constant.BATCH_SIZE_ERROR;
+import static ru.clevertec.news.constant.Constant.BATCH_SIZE_MAX;
+import static ru.clevertec.news.constant.Constant.COMMENTS_CACHE;
+import static ru.clevertec.news.constant.Constant.COMMENT_PAGES_CACHE;
+import static ru.clevertec.news.constant.Constant.PAGE_SIZE_ERROR;
+import static ru.clevertec.news.constant.Constant.PAGE_KEY_GENERATOR;
 
 @Slf4j
 @Service
@@ -24,28 +41,59 @@ public class CommentServiceImpl implements CommentService {
 
     private final CommentClient commentClient;
     private final AuthenticationFacade authenticationFacade;
+    private final PaginationProperties paginationProperties;
 
     /**
      * Получить комментарий по его идентификатору.
+     * При включенном кэше ({@code entity-cache.enabled}) комментарий загружается из микросервиса только при промахе.
      *
      * @param id идентификатор комментария
      * @return объект {@link CommentDto} с найденным комментарием
      * @throws OperationException если произошла ошибка при получении комментария
      */
+    @Cacheable(cacheNames = COMMENTS_CACHE, key = "#id", sync = true)
     @Override
     public CommentDto getById(Long id) {
         try {
             log.info("CommentService: find comment by id: " + id);
             return commentClient.getById(id);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("CommentService: Get by id error - " + e.getMessage());
             throw new OperationException("Get by id error - " + e.getMessage());
         }
     }
 
+    /**
+     * Получить комментарии по идентификаторам одним запросом к микросервису комментариев.
+     * Повторяющиеся идентификаторы запрашиваются один раз.
+     *
+     * @param ids идентификаторы комментариев, не более {@value ru.clevertec.news.constant.Constant#BATCH_SIZE_MAX}
+     * @return объект {@link BatchContentDto} с комментариями в порядке идентификаторов и ненайденными идентификаторами
+     * @throws OperationException если идентификаторов слишком много или произошла ошибка при получении комментариев
+     */
+    @Override
+    public BatchContentDto<CommentDto> getByIds(List<Long> ids) {
+        try {
+            log.info("CommentService: find comments by ids: " + ids);
+            var distinctIds = ids.stream().distinct().toList();
+            if (distinctIds.size() > BATCH_SIZE_MAX) {
+                throw new OperationException(BATCH_SIZE_ERROR);
+            }
+            var found = distinctIds.isEmpty() ? List.<CommentDto>of() : commentClient.getByIds(distinctIds);
+            return BatchContentDto.of(distinctIds, found, CommentDto::getId);
+        } catch (CallNotPermittedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("CommentService: Get by ids error - " + e.getMessage());
+            throw new OperationException("Get by ids error - " + e.getMessage());
+        }
+    }
 
     /**
      * Получить все комментарии с возможностью фильтрации и пагинации.
+     * При включенном кэше ({@code entity-cache.enabled}) страница загружается из микросервиса только при промахе.
      *
      * @param pageNumber номер страницы для пагинации
      * @param pageSize   количество комментариев на странице
@@ -54,11 +102,14 @@ public class CommentServiceImpl implements CommentService {
      * @return объект {@link PageContentDto} с содержимым комментариев
      * @throws OperationException если произошла ошибка при получении комментариев
      */
+    @Cacheable(cacheNames = COMMENT_PAGES_CACHE, keyGenerator = PAGE_KEY_GENERATOR, sync = true)
     @Override
     public PageContentDto<CommentDto> getAll(int pageNumber, int pageSize, String username, String text) {
         try {
             log.info("CommentService: get all");
             return commentClient.getAll(pageNumber, pageSize, username, text);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("CommentService: Get all comments error - " + e.getMessage());
             throw new OperationException("Get all comments error - " + e.getMessage());
@@ -67,6 +118,7 @@ public class CommentServiceImpl implements CommentService {
 
     /**
      * Получить комментарии по идентификатору новости.
+     * При включенном кэше ({@code entity-cache.enabled}) страница загружается из микросервиса только при промахе.
      *
      * @param pageNumber номер страницы для пагинации
      * @param pageSize   количество комментариев на странице
@@ -74,39 +126,104 @@ public class CommentServiceImpl implements CommentService {
      * @return объект {@link PageContentDto} с комментариями к указанной новости
      * @throws OperationException если произошла ошибка при получении комментариев
      */
+    @Cacheable(cacheNames = COMMENT_PAGES_CACHE, keyGenerator = PAGE_KEY_GENERATOR, sync = true)
     @Override
     public PageContentDto<CommentDto> getByNewsId(int pageNumber, int pageSize, Long id) {
         try {
             log.info("CommentService: get by news id - " + id);
             return commentClient.getByNewsId(pageNumber, pageSize, id);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("CommentService: Get by news id error - " + e.getMessage());
             throw new OperationException("Get by news id error - " + e.getMessage());
         }
     }
 
+    /**
+     * Получить комментарии, следующие за курсором, в порядке убывания времени и идентификатора.
+     * Стоимость запроса не зависит от глубины, новые комментарии не сдвигают следующие страницы.
+     *
+     * @param cursor   курсор, полученный с предыдущей страницей, пустая строка - первая страница
+     * @param pageSize количество комментариев на странице, не больше {@code pagination.max-page-size}
+     * @param username имя пользователя для фильтрации комментариев
+     * @param text     текст для фильтрации комментариев
+     * @return объект {@link CursorPageDto} с комментариями и курсором следующей страницы
+     * @throws OperationException если курсор недействителен или произошла ошибка при получении комментариев
+     */
+    @Override
+    public CursorPageDto<CommentDto> getAllByCursor(String cursor, int pageSize, String username, String text) {
+        try {
+            log.info("CommentService: get all by cursor");
+            if (pageSize < 1) {
+                throw new OperationException(PAGE_SIZE_ERROR);
+            }
+            var after = Cursor.decode(cursor);
+            var size = paginationProperties.limit(pageSize);
+            var rows = commentClient.getAllAfter(Cursor.time(after), Cursor.id(after), size + 1, username, text);
+            return CursorPageDto.of(rows, size, comment -> new Cursor(comment.getTime(), comment.getId()));
+        } catch (CallNotPermittedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("CommentService: Get all comments by cursor error - " + e.getMessage());
+            throw new OperationException("Get all comments by cursor error - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Получить комментарии новости, следующие за курсором, в порядке убывания времени и идентификатора.
+     *
+     * @param cursor   курсор, полученный с предыдущей страницей, пустая строка - первая страница
+     * @param pageSize количество комментариев на странице, не больше {@code pagination.max-page-size}
+     * @param id       идентификатор новости
+     * @return объект {@link CursorPageDto} с комментариями новости и курсором следующей страницы
+     * @throws OperationException если курсор недействителен или произошла ошибка при получении комментариев
+     */
+    @Override
+    public CursorPageDto<CommentDto> getByNewsIdByCursor(String cursor, int pageSize, Long id) {
+        try {
+            log.info("CommentService: get by news id by cursor - " + id);
+            if (pageSize < 1) {
+                throw new OperationException(PAGE_SIZE_ERROR);
+            }
+            var after = Cursor.decode(cursor);
+            var size = paginationProperties.limit(pageSize);
+            var rows = commentClient.getByNewsIdAfter(Cursor.time(after), Cursor.id(after), size + 1, id);
+            return CursorPageDto.of(rows, size, comment -> new Cursor(comment.getTime(), comment.getId()));
+        } catch (CallNotPermittedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("CommentService: Get by news id by cursor error - " + e.getMessage());
+            throw new OperationException("Get by news id by cursor error - " + e.getMessage());
+        }
+    }
+
     /**
      * Создать новый комментарий.
      * Метод проверяет права пользователя на удаление комментария.
      * Пользователь может создать комментарий, если он является его создателем или если его роль - администратор.
+     * Созданный комментарий сохраняется в кэш, удаляются страницы его новости и запросов, в которые он может войти.
      *
      * @param dto объект данных для создания комментария
      * @return объект {@link CommentDto} с созданным комментарием
      * @throws NoAccessError      если пользователь не имеет прав для создания комментария
      * @throws OperationException если произошла ошибка при создании комментария
      */
+    @Caching(put = @CachePut(cacheNames = COMMENTS_CACHE, key = "#result.id"),
+            evict = @CacheEvict(cacheNames = COMMENT_PAGES_CACHE, key = "T(ru.clevertec.news.cache.PageWrite).created(#result)"))
     @Override
     public CommentDto create(CommentCreateDto dto) {
         try {
             log.info("CommentService: create news: " + dto);
             var currentUsername = authenticationFacade.getCurrentUsername();
-            var currentUserRole = authenticationFacade.getCurrentUserRole();
-            log.info("CommentService: current role " + currentUserRole + "\n current id - " + currentUsername);
-            if (!currentUserRole.equals(ADMIN_ROLE) && !dto.getUsername().equals(currentUsername)) {
+            log.info("CommentService: current role {}\n current id - {}", authenticationFacade.getCurrentUserRole(), currentUsername);
+            if (!authenticationFacade.hasRole(RoleName.ADMIN) && !dto.getUsername().equals(currentUsername)) {
                 log.error("CommentService: No access error");
                 throw new NoAccessError();
             }
             return commentClient.create(dto);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("CommentService: Create comment error - " + e.getMessage());
             throw new OperationException("Create comment error - " + e.getMessage());
@@ -117,24 +234,28 @@ public class CommentServiceImpl implements CommentService {
      * Обновить существующий комментарий.
      * Метод проверяет права пользователя на удаление комментария.
      * Пользователь может обновить комментарий, если он является его создателем или если его роль - администратор.
+     * Обновленный комментарий обновляется в кэше, удаляются страницы с ним и запросов, в которые он вошел или из которых вышел.
      *
      * @param dto объект данных для обновления комментария
      * @return объект {@link CommentDto} с обновленным комментарием
      * @throws NoAccessError      если пользователь не имеет прав для обновления комментария
      * @throws OperationException если произошла ошибка при обновлении комментария
      */
+    @Caching(put = @CachePut(cacheNames = COMMENTS_CACHE, key = "#result.id"),
+            evict = @CacheEvict(cacheNames = COMMENT_PAGES_CACHE, key = "T(ru.clevertec.news.cache.PageWrite).updated(#result)"))
     @Override
     public CommentDto update(CommentUpdateDto dto) {
         try {
             log.debug("CommentService: update comment: " + dto);
             var currentUsername = authenticationFacade.getCurrentUsername();
-            var currentUserRole = authenticationFacade.getCurrentUserRole();
-            log.info("CommentService: current role " + currentUserRole + "\n current id - " + currentUsername);
-            if (!currentUserRole.equals(ADMIN_ROLE) && !dto.getUsername().equals(currentUsername)) {
+            log.info("CommentService: current role {}\n current id - {}", authenticationFacade.getCurrentUserRole(), currentUsername);
+            if (!authenticationFacade.hasRole(RoleName.ADMIN) && !dto.getUsername().equals(currentUsername)) {
                 log.error("CommentService: No access error");
                 throw new NoAccessError();
             }
             return commentClient.update(dto);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("CommentService: Update comment error - " + e.getMessage());
             throw new OperationException("Update comment error - " + e.getMessage());
@@ -145,24 +266,29 @@ public class CommentServiceImpl implements CommentService {
      * Удалить комментарий по его идентификатору.
      * Метод проверяет права пользователя на удаление комментария.
      * Пользователь может удалить комментарий, если он является его создателем или если его роль - администратор.
+     * Удаленный комментарий удаляется из кэша вместе со страницами запросов, в которые он входил.
      *
      * @param id идентификатор комментария, который требуется удалить
      * @throws NoAccessError      если пользователь не имеет прав для удаления комментария
      * @throws OperationException если произошла ошибка при удалении комментария
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = COMMENTS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = COMMENT_PAGES_CACHE, key = "T(ru.clevertec.news.cache.PageWrite).deleted(#id)")})
     @Override
     public void delete(Long id) {
         try {
             log.debug("CommentService: delete comment by id: " + id);
             var currentUsername = authenticationFacade.getCurrentUsername();
-            var currentUserRole = authenticationFacade.getCurrentUserRole();
-            log.info("CommentService: current role " + currentUserRole + "\n current user name - " + currentUsername);
+            log.info("CommentService: current role {}\n current user name - {}", authenticationFacade.getCurrentUserRole(), currentUsername);
             var newsDto = commentClient.getById(id);
-            if (!newsDto.getUsername().equals(currentUsername) && !currentUserRole.equals(ADMIN_ROLE)) {
+            if (!newsDto.getUsername().equals(currentUsername) && !authenticationFacade.hasRole(RoleName.ADMIN)) {
                 log.error("CommentService: No access error");
                 throw new NoAccessError();
             }
             commentClient.delete(id);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("CommentService: Delete comment error - " + e.getMessage());
             throw new OperationException("Delete comment error - " + e.getMessage());
@@ -0,0 +1,92 @@
+package ru.clevertec.news.service.impl;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ru.clevertec.news.composition.NewsComposer;
+import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.dto.batch.BatchContentDto;
+import ru.clevertec.news.dto.create.NewsCreateDto;
+import ru.clevertec.news.dto.cursor.CursorPageDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.update.NewsUpdateDto;
+import ru.clevertec.news.exception.OperationException;
+import ru.clevertec.news.feign.CommentClient;
+import ru.clevertec.news.feign.NewsClient;
+import ru.clevertec.news.resilience.CallNotPermittedException;
+import ru.clevertec.news.service.NewsService;
+
+import java.util.List;
+
+/**
+ * Сервис новостей, собирающий новость с комментариями из параллельных запросов к микросервисам новостей
+ * и комментариев. Остальные методы выполняет {@link NewsServiceImpl}.
+ */
+@Slf4j
+@AllArgsConstructor
+public class ComposingNewsServiceImpl implements NewsService {
+
+    private final NewsService delegate;
+    private final NewsClient newsClient;
+    private final CommentClient commentClient;
+    private final NewsComposer newsComposer;
+
+    @Override
+    public PageContentDto<NewsDto> getAll(int pageNumber, int pageSize, String title, String text) {
+        return delegate.getAll(pageNumber, pageSize, title, text);
+    }
+
+    @Override
+    public CursorPageDto<NewsDto> getAllByCursor(String cursor, int pageSize, String title, String text) {
+        return delegate.getAllByCursor(cursor, pageSize, title, text);
+    }
+
+    @Override
+    public NewsDto getNewsById(Long id) {
+        return delegate.getNewsById(id);
+    }
+
+    @Override
+    public BatchContentDto<NewsDto> getByIds(List<Long> ids) {
+        return delegate.getByIds(ids);
+    }
+
+    /**
+     * Получить новость с комментариями по её идентификатору.
+     * Новость и комментарии запрашиваются параллельно, при ошибке или опоздании комментариев
+     * новость возвращается без них.
+     *
+     * @param pageNumber номер страницы для пагинации
+     * @param pageSize   количество комментариев на странице
+     * @param id         идентификатор новости
+     * @return объект {@link NewsDto} с найденной новостью и её комментариями
+     * @throws OperationException если произошла ошибка при получении новости
+     */
+    @Override
+    public NewsDto getByIdWithComments(Integer pageNumber, Integer pageSize, Long id) {
+        try {
+            log.info("NewsService: compose news with comments by id: " + id);
+            return newsComposer.compose(() -> newsClient.getNewsById(id),
+                    () -> commentClient.getByNewsId(pageNumber, pageSize, id));
+        } catch (CallNotPermittedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("NewsService: Get news by id error - " + e.getMessage());
+            throw new OperationException("Get news by id error - " + e.getMessage());
+        }
+    }
+
+    @Override
+    public NewsDto create(NewsCreateDto dto) {
+        return delegate.create(dto);
+    }
+
+    @Override
+    public NewsDto update(NewsUpdateDto dto) {
+        return delegate.update(dto);
+    }
+
+    @Override
+    public void delete(Long id) {
+        delegate.delete(id);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package ru.clevertec.news.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StreamUtils;
+import ru.clevertec.news.config.properties.ExportProperties;
+import ru.clevertec.news.exception.OperationException;
+import ru.clevertec.news.export.PageLoader;
+import ru.clevertec.news.export.PagePrefetcher;
+import ru.clevertec.news.feign.CommentClient;
+import ru.clevertec.news.feign.NewsClient;
+import ru.clevertec.news.service.ExportService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Executor;
+
+import static ru.clevertec.news.constant.Constant.OFFSET_DEFAULT;
+
+/**
+ * Выгрузка новостей и комментариев в формате NDJSON: по одному JSON объекту на строку.
+ *
+ * <p>Страницы запрашиваются у микросервисов заранее ({@link PagePrefetcher}), пока текущая страница записывается
+ * в ответ. Запись блокируется, если клиент не успевает читать, и загрузка следующих страниц останавливается,
+ * поэтому память не зависит от объема выгрузки. Ошибка записи (клиент закрыл соединение) завершает выгрузку
+ * и прерывает загрузку страниц. Страницы загружаются с контекстом безопасности и сроком запроса выгрузки.</p>
+ */
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+
+    private static final int FIRST_PAGE = Integer.parseInt(OFFSET_DEFAULT);
+
+    private final NewsClient newsClient;
+    private final CommentClient commentClient;
+    private final ObjectWriter objectWriter;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final ExportProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param newsClient    клиент микросервиса новостей
+     * @param commentClient клиент микросервиса комментариев
+     * @param objectMapper  сериализация элементов
+     * @param executor      исполнитель загрузки страниц
+     * @param properties    настройки выгрузки
+     * @param meterRegistry реестр метрик
+     */
+    public ExportServiceImpl(NewsClient newsClient, CommentClient commentClient, ObjectMapper objectMapper,
+                             Executor executor, ExportProperties properties, MeterRegistry meterRegistry) {
+        this.newsClient = newsClient;
+        this.commentClient = commentClient;
+        this.objectMapper = objectMapper;
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.executor = executor;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Выгрузить новости с возможностью фильтрации.
+     *
+     * @param title заголовок для фильтрации новостей
+     * @param text  текст для фильтрации новостей
+     * @param out   поток ответа
+     * @throws OperationException если произошла ошибка при получении новостей
+     */
+    @Override
+    public void exportNews(String title, String text, OutputStream out) {
+        log.info("ExportService: export news");
+        export("news", (pageNumber, cancelled) -> newsClient.getAll(pageNumber, properties.getPageSize(), title, text), out);
+    }
+
+    /**
+     * Выгрузить комментарии с возможностью фильтрации.
+     *
+     * @param username имя пользователя для фильтрации комментариев
+     * @param text     текст для фильтрации комментариев
+     * @param out      поток ответа
+     * @throws OperationException если произошла ошибка при получении комментариев
+     */
+    @Override
+    public void exportComments(String username, String text, OutputStream out) {
+        log.info("ExportService: export comments");
+        export("comments", (pageNumber, cancelled) -> commentClient.getAll(pageNumber, properties.getPageSize(), username, text), out);
+    }
+
+    private <T> void export(String type, PageLoader<T> loader, OutputStream out) {
+        long count = 0;
+        var contextExecutor = new DelegatingSecurityContextExecutor(executor, SecurityContextHolder.getContext());
+        try (var pages = new PagePrefetcher<>(loader, contextExecutor, FIRST_PAGE, properties.getPageSize(),
+                properties.getPrefetch(), properties.getPageTimeout());
+             var generator = objectMapper.createGenerator(StreamUtils.nonClosing(out))) {
+            generator.setRootValueSeparator(null);
+            while (pages.hasNext()) {
+                for (var item : pages.next()) {
+                    objectWriter.writeValue(generator, item);
+                    generator.writeRaw('\n');
+                    count++;
+                }
+                generator.flush();
+            }
+        } catch (JsonProcessingException e) {
+            throw error(type, e);
+        } catch (IOException e) {
+            log.info("ExportService: export " + type + " cancelled after " + count + " items - " + e.getMessage());
+            Counter.builder("export.cancelled").tag("type", type).register(meterRegistry).increment();
+        } catch (Exception e) {
+            throw error(type, e);
+        } finally {
+            Counter.builder("export.items").tag("type", type).register(meterRegistry).increment(count);
+        }
+    }
+
+    private static OperationException error(String type, Exception e) {
+        log.error("ExportService: Export " + type + " error - " + e.getMessage());
+        return new OperationException("Export " + type + " error - " + e.getMessage());
+    }
+}
\ No newline at end of file
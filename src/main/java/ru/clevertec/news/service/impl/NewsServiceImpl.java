@@ -2,18 +2,36 @@ package ru.clevertec.news.service.impl;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import ru.clevertec.news.config.properties.PaginationProperties;
 import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.dto.batch.BatchContentDto;
+import ru.clevertec.news.dto.constant.RoleName;
 import ru.clevertec.news.dto.create.NewsCreateDto;
+import ru.clevertec.news.dto.cursor.Cursor;
+import ru.clevertec.news.dto.cursor.CursorPageDto;
 import ru.clevertec.news.dto.page.PageContentDto;
 import ru.clevertec.news.dto.update.NewsUpdateDto;
 import ru.clevertec.news.exception.NoAccessError;
 import ru.clevertec.news.exception.OperationException;
 import ru.clevertec.news.facade.AuthenticationFacade;
 import ru.clevertec.news.feign.NewsClient;
+import ru.clevertec.news.resilience.CallNotPermittedException;
 import ru.clevertec.news.service.NewsService;
 
-import static ru.clevertec.news.constant.Constant.ADMIN_ROLE;
+import java.util.List;
+
+import static ru.clevertec.news.constant.Constant.BATCH_SIZE_ERROR;
+import static ru.clevertec.news.constant.Constant.BATCH_SIZE_MAX;
+import static ru.clevertec.news.constant.Constant.COMMENT_PAGES_CACHE;
+import static ru.clevertec.news.constant.Constant.NEWS_CACHE;
+import static ru.clevertec.news.constant.Constant.NEWS_PAGES_CACHE;
+import static ru.clevertec.news.constant.Constant.PAGE_SIZE_ERROR;
+import static ru.clevertec.news.constant.Constant.PAGE_KEY_GENERATOR;
 
 @Slf4j
 @Service
@@ -22,9 +40,11 @@ public class NewsServiceImpl implements NewsService {
 
     private final NewsClient newsClient;
     private final AuthenticationFacade authenticationFacade;
+    private final PaginationProperties paginationProperties;
 
     /**
      * Получить все новости с возможностью фильтрации и пагинации.
+     * При включенном кэше ({@code entity-cache.enabled}) страница загружается из микросервиса только при промахе.
      *
      * @param pageNumber номер страницы для пагинации
      * @param pageSize   количество новостей на странице
@@ -33,35 +53,99 @@ public class NewsServiceImpl implements NewsService {
      * @return объект {@link PageContentDto} с содержимым новостей
      * @throws OperationException если произошла ошибка при получении новостей
      */
+    @Cacheable(cacheNames = NEWS_PAGES_CACHE, keyGenerator = PAGE_KEY_GENERATOR, sync = true)
     @Override
     public PageContentDto<NewsDto> getAll(int pageNumber, int pageSize, String title, String text) {
         try {
             log.info("NewsService: find all news");
             return newsClient.getAll(pageNumber, pageSize, title, text);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("NewsService: Get all error - " + e.getMessage());
             throw new OperationException("Get all error - " + e.getMessage());
         }
     }
 
+    /**
+     * Получить новости, следующие за курсором, в порядке убывания времени и идентификатора.
+     * Микросервис ищет записи по времени и идентификатору последней полученной записи, поэтому стоимость запроса
+     * не зависит от глубины, а новые записи не сдвигают следующие страницы.
+     *
+     * @param cursor   курсор, полученный с предыдущей страницей, пустая строка - первая страница
+     * @param pageSize количество новостей на странице, не больше {@code pagination.max-page-size}
+     * @param title    заголовок для фильтрации новостей
+     * @param text     текст для фильтрации новостей
+     * @return объект {@link CursorPageDto} с новостями и курсором следующей страницы
+     * @throws OperationException если курсор недействителен или произошла ошибка при получении новостей
+     */
+    @Override
+    public CursorPageDto<NewsDto> getAllByCursor(String cursor, int pageSize, String title, String text) {
+        try {
+            log.info("NewsService: find news by cursor");
+            if (pageSize < 1) {
+                throw new OperationException(PAGE_SIZE_ERROR);
+            }
+            var after = Cursor.decode(cursor);
+            var size = paginationProperties.limit(pageSize);
+            var rows = newsClient.getAllAfter(Cursor.time(after), Cursor.id(after), size + 1, title, text);
+            return CursorPageDto.of(rows, size, news -> new Cursor(news.getTime(), news.getId()));
+        } catch (CallNotPermittedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("NewsService: Get all by cursor error - " + e.getMessage());
+            throw new OperationException("Get all by cursor error - " + e.getMessage());
+        }
+    }
+
     /**
      * Получить новость по её идентификатору.
+     * При включенном кэше ({@code entity-cache.enabled}) новость загружается из микросервиса только при промахе.
      *
      * @param id идентификатор новости
      * @return объект {@link NewsDto} с найденной новостью
      * @throws OperationException если произошла ошибка при получении новости
      */
+    @Cacheable(cacheNames = NEWS_CACHE, key = "#id", sync = true)
     @Override
     public NewsDto getNewsById(Long id) {
         try {
             log.info("NewsService: find news by id: " + id);
             return newsClient.getNewsById(id);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("NewsService: Get news by id error - " + e.getMessage());
             throw new OperationException("Get news by id error - " + e.getMessage());
         }
     }
 
+    /**
+     * Получить новости по идентификаторам одним запросом к микросервису новостей.
+     * Повторяющиеся идентификаторы запрашиваются один раз.
+     *
+     * @param ids идентификаторы новостей, не более {@value ru.clevertec.news.constant.Constant#BATCH_SIZE_MAX}
+     * @return объект {@link BatchContentDto} с новостями в порядке идентификаторов и ненайденными идентификаторами
+     * @throws OperationException если идентификаторов слишком много или произошла ошибка при получении новостей
+     */
+    @Override
+    public BatchContentDto<NewsDto> getByIds(List<Long> ids) {
+        try {
+            log.info("NewsService: find news by ids: " + ids);
+            var distinctIds = ids.stream().distinct().toList();
+            if (distinctIds.size() > BATCH_SIZE_MAX) {
+                throw new OperationException(BATCH_SIZE_ERROR);
+            }
+            var found = distinctIds.isEmpty() ? List.<NewsDto>of() : newsClient.getByIds(distinctIds);
+            return BatchContentDto.of(distinctIds, found, NewsDto::getId);
+        } catch (CallNotPermittedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("NewsService: Get news by ids error - " + e.getMessage());
+            throw new OperationException("Get news by ids error - " + e.getMessage());
+        }
+    }
+
     /**
      * Получить новость с комментариями по её идентификатору.
      *
@@ -76,6 +160,8 @@ public class NewsServiceImpl implements NewsService {
         try {
             log.info("NewsService: find news with comments by id: " + id);
             return newsClient.getByIdWithComments(pageNumber, pageSize, id);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("NewsService: Get news by id error - " + e.getMessage());
             throw new OperationException("Get news by id error - " + e.getMessage());
@@ -86,24 +172,28 @@ public class NewsServiceImpl implements NewsService {
      * Создать новую новость.
      * Метод проверяет права пользователя на удаление новости.
      * Пользователь может создать новость, если он является её создателем или если его роль - администратор.
+     * Созданная новость сохраняется в кэш, удаляются страницы запросов, в которые она может войти.
      *
      * @param dto объект данных для создания новости
      * @return объект {@link NewsDto} с созданной новостью
      * @throws NoAccessError      если пользователь не имеет прав для создания новости
      * @throws OperationException если произошла ошибка при создании новости
      */
+    @Caching(put = @CachePut(cacheNames = NEWS_CACHE, key = "#result.id"),
+            evict = @CacheEvict(cacheNames = NEWS_PAGES_CACHE, key = "T(ru.clevertec.news.cache.PageWrite).created(#result)"))
     @Override
     public NewsDto create(NewsCreateDto dto) {
         try {
             log.info("NewsService: create news: " + dto);
             var currentUserId = authenticationFacade.getCurrentUserId();
-            var currentUserRole = authenticationFacade.getCurrentUserRole();
-            log.info("NewsService: current role " + currentUserRole + "\n current id - " + currentUserId);
-            if (!currentUserRole.equals(ADMIN_ROLE) && !dto.getUserId().equals(currentUserId)) {
+            log.info("NewsService: current role {}\n current id - {}", authenticationFacade.getCurrentUserRole(), currentUserId);
+            if (!authenticationFacade.hasRole(RoleName.ADMIN) && !dto.getUserId().equals(currentUserId)) {
                 log.error("NewsService: No access error");
                 throw new NoAccessError();
             }
             return newsClient.create(dto);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("NewsService: Create news error - " + e.getMessage());
             throw new OperationException("Create news error - " + e.getMessage());
@@ -114,24 +204,28 @@ public class NewsServiceImpl implements NewsService {
      * Обновить существующую новость.
      * Метод проверяет права пользователя на удаление новости.
      * Пользователь может обновить новость, если он является её создателем или если его роль - администратор.
+     * Обновленная новость обновляется в кэше, удаляются страницы с ней и запросов, в которые она вошла или из которых вышла.
      *
      * @param newsUpdateDto объект данных для обновления новости
      * @return объект {@link NewsDto} с обновленной новостью
      * @throws NoAccessError      если пользователь не имеет прав для обновления новости
      * @throws OperationException если произошла ошибка при обновлении новости
      */
+    @Caching(put = @CachePut(cacheNames = NEWS_CACHE, key = "#result.id"),
+            evict = @CacheEvict(cacheNames = NEWS_PAGES_CACHE, key = "T(ru.clevertec.news.cache.PageWrite).updated(#result)"))
     @Override
     public NewsDto update(NewsUpdateDto newsUpdateDto) {
         try {
             log.debug("NewsService: update news: " + newsUpdateDto);
             var currentUserId = authenticationFacade.getCurrentUserId();
-            var currentUserRole = authenticationFacade.getCurrentUserRole();
-            log.info("NewsService: current role " + currentUserRole + "\n current id - " + currentUserId);
-            if (!currentUserRole.equals(ADMIN_ROLE) && !newsUpdateDto.getUserId().equals(currentUserId)) {
+            log.info("NewsService: current role {}\n current id - {}", authenticationFacade.getCurrentUserRole(), currentUserId);
+            if (!authenticationFacade.hasRole(RoleName.ADMIN) && !newsUpdateDto.getUserId().equals(currentUserId)) {
                 log.error("NewsService: No access error");
                 throw new NoAccessError();
             }
             return newsClient.update(newsUpdateDto);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("NewsService: Update news error - " + e.getMessage());
             throw new OperationException("Update news error - " + e.getMessage());
@@ -142,24 +236,31 @@ public class NewsServiceImpl implements NewsService {
      * Удалить новость по её идентификатору.
      * Метод проверяет права пользователя на удаление новости.
      * Пользователь может удалить новость, если он является её создателем или если его роль - администратор.
+     * Удаленная новость удаляется из кэша вместе со страницами запросов новостей, в которые она входила,
+     * и страницами её комментариев.
      *
      * @param id идентификатор новости, которую требуется удалить
      * @throws NoAccessError      если пользователь не имеет прав для удаления новости
      * @throws OperationException если произошла ошибка при удалении новости
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = NEWS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = NEWS_PAGES_CACHE, key = "T(ru.clevertec.news.cache.PageWrite).deleted(#id)"),
+            @CacheEvict(cacheNames = COMMENT_PAGES_CACHE, key = "T(ru.clevertec.news.cache.PageWrite).parentDeleted(#id)")})
     @Override
     public void delete(Long id) {
         try {
             log.debug("NewsService: delete news by id: " + id);
             var currentUserId = authenticationFacade.getCurrentUserId();
-            var currentUserRole = authenticationFacade.getCurrentUserRole();
-            log.info("NewsService: current role " + currentUserRole + "\n current id - " + currentUserId);
+            log.info("NewsService: current role {}\n current id - {}", authenticationFacade.getCurrentUserRole(), currentUserId);
             var newsDto = newsClient.getNewsById(id);
-            if (!newsDto.getUserId().equals(currentUserId) && !currentUserRole.equals(ADMIN_ROLE)) {
+            if (!newsDto.getUserId().equals(currentUserId) && !authenticationFacade.hasRole(RoleName.ADMIN)) {
                 log.error("NewsService: No access error");
                 throw new NoAccessError();
             }
             newsClient.delete(id);
+        } catch (CallNotPermittedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("NewsService: Delete news error - " + e.getMessage());
             throw new OperationException("Delete news error - " + e.getMessage());
@@ -0,0 +1,76 @@
+package ru.clevertec.news.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import ru.clevertec.news.config.properties.RevocationProperties;
+import ru.clevertec.news.constant.RevocationType;
+import ru.clevertec.news.entity.RevocationEvent;
+import ru.clevertec.news.exception.OperationException;
+import ru.clevertec.news.security.RevocationRegistry;
+import ru.clevertec.news.service.RevocationService;
+import ru.clevertec.news.util.TokenDigest;
+import ru.clevertec.news.util.TokenUtil;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+@ConditionalOnProperty(prefix = "security.revocation", name = "enabled", havingValue = "true")
+public class RevocationServiceImpl implements RevocationService {
+
+    private final RevocationRegistry revocationRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TokenUtil tokenUtil;
+    private final RevocationProperties properties;
+
+    /**
+     * Отозвать токен на всех экземплярах сервиса до истечения срока его действия.
+     *
+     * @param token JWT токен без префикса {@code Bearer}
+     * @throws OperationException если произошла ошибка при отзыве токена
+     */
+    @Override
+    public void revokeToken(String token) {
+        try {
+            log.info("RevocationService: revoke token");
+            var ext = tokenUtil.getPayload(token).getExt();
+            var expiresAt = ext == null ? maxExpiresAt() : ext * 1000;
+            publish(new RevocationEvent(RevocationType.TOKEN, TokenDigest.of(token), expiresAt));
+        } catch (Exception e) {
+            log.error("RevocationService: Revoke token error - " + e.getMessage());
+            throw new OperationException("Revoke token error - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Отозвать все токены пользователя, выданные до текущего момента, на всех экземплярах сервиса.
+     *
+     * @param login логин пользователя
+     * @throws OperationException если произошла ошибка при отзыве токенов
+     */
+    @Override
+    public void revokeUser(String login) {
+        try {
+            log.info("RevocationService: revoke user: " + login);
+            var now = System.currentTimeMillis();
+            publish(new RevocationEvent(RevocationType.USER, login, now + properties.getMaxTokenLifetime().toMillis(),
+                    now));
+        } catch (Exception e) {
+            log.error("RevocationService: Revoke user error - " + e.getMessage());
+            throw new OperationException("Revoke user error - " + e.getMessage());
+        }
+    }
+
+    private long maxExpiresAt() {
+        return System.currentTimeMillis() + properties.getMaxTokenLifetime().toMillis();
+    }
+
+    private void publish(RevocationEvent event) throws Exception {
+        revocationRegistry.apply(event);
+        redisTemplate.convertAndSend(properties.getChannel(), objectMapper.writeValueAsString(event));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package ru.clevertec.news.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Вычисление отпечатка токена для использования в качестве ключа вместо самого токена.
+ */
+public final class TokenDigest {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private TokenDigest() {
+    }
+
+    /**
+     * Получает отпечаток токена.
+     *
+     * @param token строка, представляющая JWT токен
+     * @return SHA-256 от токена в кодировке Base64URL без выравнивания
+     */
+    public static String of(String token) {
+        try {
+            var digest = MessageDigest.getInstance(ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
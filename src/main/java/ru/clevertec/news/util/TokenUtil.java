@@ -1,20 +1,42 @@
 package ru.clevertec.news.util;
 
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.beans.factory.annotation.Autowired;
+import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
+import ru.clevertec.news.compression.BufferPool;
 import ru.clevertec.news.entity.TokenPayload;
 import ru.clevertec.news.exception.OperationException;
 
-import java.util.Base64;
+import java.util.Arrays;
 
+import static ru.clevertec.news.constant.Constant.EXP_CLAIM;
+import static ru.clevertec.news.constant.Constant.EXT_CLAIM;
+import static ru.clevertec.news.constant.Constant.IAT_CLAIM;
 import static ru.clevertec.news.constant.Constant.PARSE_EXCEPTION;
+import static ru.clevertec.news.constant.Constant.ROLE_CLAIM;
+import static ru.clevertec.news.constant.Constant.USERNAME_CLAIM;
 
 @Component
+@AllArgsConstructor
 public class TokenUtil {
 
-    @Autowired
-    private ObjectMapper objectMapper;
+    private static final int BUFFER_SIZE = 1024;
+    private static final int BUFFER_POOL_CAPACITY = 256;
+    private static final int[] BASE64_URL = new int[128];
+    private static final BufferPool BUFFERS = new BufferPool(BUFFER_SIZE, BUFFER_POOL_CAPACITY);
+
+    static {
+        Arrays.fill(BASE64_URL, -1);
+        var alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL[alphabet.charAt(i)] = i;
+        }
+        BASE64_URL['+'] = 62;
+        BASE64_URL['/'] = 63;
+    }
+
+    private final ObjectMapper objectMapper;
 
     /**
      * Получает имя пользователя из токена.
@@ -24,14 +46,91 @@ public class TokenUtil {
      * @throws RuntimeException при возникновении ошибки при разборе JSON
      */
     public String getUsername(String token) {
+        return getPayload(token).getUsername();
+    }
+
+    /**
+     * Получает полезную нагрузку токена.
+     * <p>
+     * Границы сегментов токена ищутся по индексу, сегмент полезной нагрузки декодируется из Base64URL в буфер
+     * из общего ограниченного пула, не привязанного к потокам, а поля {@code username}, {@code role} и {@code ext}
+     * ({@code exp}) читаются потоковым парсером Jackson без построения промежуточных строк и дерева JSON.
+     *
+     * @param token строка, представляющая JWT токен
+     * @return полезная нагрузка токена
+     * @throws OperationException при возникновении ошибки при разборе JSON
+     */
+    public TokenPayload getPayload(String token) {
         try {
-            var chinks = token.split("\\.");
-            var decoder = Base64.getUrlDecoder();
-            var payload = new String(decoder.decode(chinks[1]));
-            var tokenPayload = objectMapper.readValue(payload, TokenPayload.class);
-            return tokenPayload.getUsername();
+            var start = token.indexOf('.') + 1;
+            var end = token.indexOf('.', start);
+            if (start == 0 || end < 0) {
+                throw new OperationException(PARSE_EXCEPTION);
+            }
+            var buffer = acquire(end - start);
+            try {
+                var length = decodeBase64Url(token, start, end, buffer);
+                return readPayload(buffer, length);
+            } finally {
+                BUFFERS.release(buffer);
+            }
         } catch (Exception e) {
             throw new OperationException(PARSE_EXCEPTION);
         }
     }
+
+    private TokenPayload readPayload(byte[] buffer, int length) throws Exception {
+        try (var parser = objectMapper.getFactory().createParser(buffer, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new OperationException(PARSE_EXCEPTION);
+            }
+            String username = null;
+            String role = null;
+            Long ext = null;
+            Long exp = null;
+            Long iat = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var name = parser.currentName();
+                var value = parser.nextToken();
+                switch (name) {
+                    case USERNAME_CLAIM -> username = parser.getValueAsString();
+                    case ROLE_CLAIM -> role = parser.getValueAsString();
+                    case EXT_CLAIM -> ext = value.isNumeric() ? parser.getLongValue() : null;
+                    case EXP_CLAIM -> exp = value.isNumeric() ? parser.getLongValue() : null;
+                    case IAT_CLAIM -> iat = value.isNumeric() ? parser.getLongValue() : null;
+                    default -> parser.skipChildren();
+                }
+            }
+            return new TokenPayload(username, role, ext != null ? ext : exp, iat);
+        }
+    }
+
+    private static byte[] acquire(int encodedLength) {
+        var required = encodedLength * 3 / 4 + 3;
+        // буфер другого размера пул не принимает обратно, поэтому редкая большая нагрузка его не раздувает
+        return required > BUFFER_SIZE ? new byte[required] : BUFFERS.acquire();
+    }
+
+    private static int decodeBase64Url(String source, int from, int to, byte[] target) {
+        var length = 0;
+        var bits = 0;
+        var bitCount = 0;
+        for (int i = from; i < to; i++) {
+            var c = source.charAt(i);
+            if (c == '=') {
+                break;
+            }
+            var value = c < 128 ? BASE64_URL[c] : -1;
+            if (value < 0) {
+                throw new OperationException(PARSE_EXCEPTION);
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                target[length++] = (byte) (bits >> bitCount);
+            }
+        }
+        return length;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package ru.clevertec.news.util;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Виртуальные потоки для собственных пулов сервиса.
+ *
+ * <p>Режим включается той же настройкой, что и виртуальные потоки Tomcat в Spring Boot, -
+ * {@code spring.threads.virtual.enabled} - и действует только на Java 21 и новее.</p>
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @param environment окружение приложения
+     * @return {@code true}, если виртуальные потоки включены и поддерживаются средой выполнения
+     */
+    public static boolean isActive(Environment environment) {
+        return Threading.VIRTUAL.isActive(environment);
+    }
+
+    /**
+     * Создает исполнитель, запускающий каждую задачу в новом виртуальном потоке.
+     *
+     * @param threadNamePrefix префикс имени потоков
+     * @return исполнитель задач
+     * @throws UnsupportedOperationException если среда выполнения не поддерживает виртуальные потоки
+     */
+    public static SimpleAsyncTaskExecutor executor(String threadNamePrefix) {
+        var executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package ru.clevertec.news.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EntityCacheTest {
+
+    @Test
+    void getShouldLoadOnceWhenSameKeyIsRequestedConcurrently() throws Exception {
+        var cache = new EntityCache("news", CacheAlgorithm.LRU.create(10));
+        var loads = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> cache.get(1L, () -> load(loads, release))));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (var result : results) {
+                assertEquals("news", result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals("news", cache.get(1L, () -> "other"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getShouldNotCacheValueWhenLoadFails() {
+        var cache = new EntityCache("news", CacheAlgorithm.LFU.create(10));
+
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(1L, () -> {
+            throw new IllegalStateException("Not found");
+        }));
+
+        assertNull(cache.get(1L));
+        assertEquals(1, cache.loadCount());
+    }
+
+    @Test
+    void bindToShouldExportHitRatioAndLoadTime() {
+        var cache = new EntityCache("news", CacheAlgorithm.LRU.create(1));
+        var registry = new SimpleMeterRegistry();
+        new EntityCacheMeterBinder(cache, List.of()).bindTo(registry);
+
+        cache.get(1L, () -> "one");
+        cache.get(1L, () -> "one");
+        cache.get(1L, () -> "one");
+        cache.put(2L, "two");
+
+        assertEquals(2.0 / 3, registry.get("cache.hit.ratio").tag("cache", "news").gauge().value(), 1e-9);
+        assertEquals(1, registry.get("cache.loads").tag("cache", "news").functionTimer().count());
+        assertEquals(1, registry.get("cache.evictions").tag("cache", "news").functionCounter().count());
+    }
+
+    private static String load(AtomicInteger loads, CountDownLatch release) throws InterruptedException {
+        loads.incrementAndGet();
+        release.await(5, TimeUnit.SECONDS);
+        return "news";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package ru.clevertec.news.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class LfuCacheTest {
+
+    @Test
+    void putShouldEvictLeastFrequentlyUsedEntryWhenFull() {
+        var cache = new LfuCache<Long, String>(2);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.get(1L);
+
+        cache.put(3L, "three");
+
+        assertEquals("one", cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals("three", cache.get(3L));
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    void putShouldEvictLeastRecentlyUsedEntryWhenFrequenciesAreEqual() {
+        var cache = new LfuCache<Long, String>(2);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.get(2L);
+        cache.get(1L);
+
+        cache.put(3L, "three");
+
+        assertNull(cache.get(2L));
+        assertEquals("one", cache.get(1L));
+    }
+
+    @Test
+    void putShouldEvictCorrectlyAfterRemove() {
+        var cache = new LfuCache<Long, String>(2);
+        cache.put(1L, "one");
+        cache.get(1L);
+        cache.put(2L, "two");
+        cache.remove(2L);
+        cache.put(3L, "three");
+        cache.get(3L);
+        cache.get(3L);
+
+        cache.put(4L, "four");
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get(1L));
+        assertEquals("three", cache.get(3L));
+    }
+}
\ No newline at end of file
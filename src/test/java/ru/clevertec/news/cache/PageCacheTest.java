@@ -0,0 +1,180 @@
+package ru.clevertec.news.cache;
+
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.dto.CommentDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.page.PageDto;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PageCacheTest {
+
+    private final PageCache<CommentDto> cache = new PageCache<>("commentPages", new CommentPageIndex(),
+            CacheAlgorithm.LRU, 100, Duration.ofMinutes(1), Clock.systemUTC());
+
+    @Test
+    void evictShouldRemoveOnlyPagesOfCommentNewsWhenCommentIsCreated() {
+        var firstNews = byNewsId(1L, 1);
+        var secondNews = byNewsId(2L, 1);
+        cache.put(firstNews, page(comment(1L, 1L, "alice", "first")));
+        cache.put(secondNews, page(comment(2L, 2L, "alice", "second")));
+
+        cache.evict(PageWrite.created(comment(3L, 1L, "bob", "third")));
+
+        assertNull(cache.get(firstNews));
+        assertNotNull(cache.get(secondNews));
+        assertEquals(1, cache.invalidationCount());
+    }
+
+    @Test
+    void evictShouldKeepListingsOfOtherUsersWhenCommentIsUpdated() {
+        var aliceComments = all(1, "alice", null);
+        var bobComments = all(1, "bob", null);
+        var newsComments = byNewsId(1L, 2);
+        cache.put(aliceComments, page(comment(1L, 1L, "alice", "first")));
+        cache.put(bobComments, page(comment(2L, 1L, "bob", "second")));
+        cache.put(newsComments, page());
+
+        cache.evict(PageWrite.updated(comment(1L, 1L, "alice", "edited")));
+
+        assertNull(cache.get(aliceComments));
+        assertNotNull(cache.get(bobComments));
+        assertNotNull(cache.get(newsComments));
+    }
+
+    @Test
+    void evictShouldRemoveListingsFilteredByPartOfUsernameWhenCommentIsCreated() {
+        var partialName = all(1, "ALI", null);
+        var otherName = all(1, "bob", null);
+        cache.put(partialName, page());
+        cache.put(otherName, page());
+
+        cache.evict(PageWrite.created(comment(3L, 1L, "Alice", "third")));
+
+        assertNull(cache.get(partialName));
+        assertNotNull(cache.get(otherName));
+    }
+
+    @Test
+    void evictShouldRemoveListingsThatCommentLeftWhenCommentIsUpdated() {
+        var matching = all(1, null, "first");
+        cache.put(matching, page(comment(1L, 1L, "alice", "first")));
+        var otherPage = all(2, null, "first");
+        cache.put(otherPage, page());
+
+        cache.evict(PageWrite.updated(comment(1L, 1L, "alice", "edited")));
+
+        assertNull(cache.get(matching));
+        assertNull(cache.get(otherPage));
+    }
+
+    @Test
+    void evictShouldRemoveAllListingsWhenDeletedCommentWasNotSeen() {
+        var firstNews = byNewsId(1L, 1);
+        var secondNews = byNewsId(2L, 1);
+        cache.put(firstNews, page(comment(1L, 1L, "alice", "first")));
+        cache.put(secondNews, page(comment(2L, 2L, "alice", "second")));
+
+        cache.evict(PageWrite.deleted(2L));
+        cache.evict(PageWrite.deleted(9L));
+
+        assertNull(cache.get(firstNews));
+        assertNull(cache.get(secondNews));
+    }
+
+    @Test
+    void getShouldNotStorePageWhenCommentIsWrittenDuringLoad() {
+        var key = byNewsId(1L, 1);
+
+        cache.get(key, () -> {
+            cache.evict(PageWrite.created(comment(3L, 5L, "bob", "third")));
+            return page(comment(1L, 1L, "alice", "first"));
+        });
+
+        assertNull(cache.get(key));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void getShouldLoadPageOnceWhenCalledConcurrently() throws Exception {
+        var key = byNewsId(1L, 1);
+        var loads = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<PageContentDto<CommentDto>>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> cache.get(key, () -> {
+                    loads.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return page(comment(1L, 1L, "alice", "first"));
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (var result : results) {
+                assertEquals(1, result.get(5, TimeUnit.SECONDS).content().size());
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getShouldNotJoinLoadStartedBeforeCommentWasWritten() throws Exception {
+        var key = byNewsId(1L, 1);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var stale = executor.submit(() -> cache.get(key, () -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return page();
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            cache.evict(PageWrite.created(comment(2L, 1L, "bob", "second")));
+
+            var fresh = cache.get(key, () -> page(comment(2L, 1L, "bob", "second")));
+            release.countDown();
+
+            assertEquals(1, fresh.content().size());
+            assertEquals(0, stale.get(5, TimeUnit.SECONDS).content().size());
+            assertEquals(1, cache.get(key, PageContentDto.class).content().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static PageKey byNewsId(Long newsId, int pageNumber) {
+        return new PageKey(new PageKey.Listing("getByNewsId", List.of(newsId)), pageNumber, 15);
+    }
+
+    private static PageKey all(int pageNumber, String username, String text) {
+        return new PageKey(new PageKey.Listing("getAll", Arrays.asList(username, text)), pageNumber, 15);
+    }
+
+    private static PageContentDto<CommentDto> page(CommentDto... comments) {
+        return new PageContentDto<>(new PageDto(1, 15, 1, (long) comments.length), List.of(comments));
+    }
+
+    private static CommentDto comment(Long id, Long newsId, String username, String text) {
+        return new CommentDto(id, null, text, username, newsId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package ru.clevertec.news.composition;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.config.properties.CompositionProperties;
+import ru.clevertec.news.dto.CommentDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.page.PageDto;
+import ru.clevertec.news.exception.OperationException;
+import ru.clevertec.news.util.CommentTestBuilder;
+import ru.clevertec.news.util.NewsTestBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NewsComposerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExecutorService executor;
+    private NewsComposer newsComposer;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        var properties = new CompositionProperties();
+        properties.setNewsTimeout(Duration.ofMillis(1000));
+        properties.setCommentsTimeout(Duration.ofMillis(300));
+        newsComposer = new NewsComposer(executor, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void composeShouldMergeNewsAndCommentsRequestedConcurrently() {
+        var comment = CommentTestBuilder.builder().build().buildCommentDto();
+        var start = System.nanoTime();
+
+        var actual = newsComposer.compose(slow(() -> NewsTestBuilder.builder().build().buildNewsDto(), 200),
+                slow(() -> page(List.of(comment)), 200));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 350);
+        assertEquals(List.of(comment), actual.getComments());
+        assertEquals(0, meterRegistry.get("news.composition.partial").counter().count());
+    }
+
+    @Test
+    void composeShouldNotModifyNewsReturnedByClient() {
+        var comment = CommentTestBuilder.builder().build().buildCommentDto();
+        var shared = NewsTestBuilder.builder().build().buildNewsDto();
+
+        var actual = newsComposer.compose(() -> shared, () -> page(List.of(comment)));
+
+        assertEquals(List.of(comment), actual.getComments());
+        assertEquals(List.of(), shared.getComments());
+        assertEquals(shared.getTitle(), actual.getTitle());
+    }
+
+    @Test
+    void composeShouldReturnNewsWithoutCommentsWhenCommentsAreLate() {
+        var start = System.nanoTime();
+
+        var actual = newsComposer.compose(() -> NewsTestBuilder.builder().build().buildNewsDto(),
+                slow(() -> page(List.of(CommentTestBuilder.builder().build().buildCommentDto())), 2000));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1000);
+        assertEquals(List.of(), actual.getComments());
+        assertEquals(1, meterRegistry.get("news.composition.partial").counter().count());
+    }
+
+    @Test
+    void composeShouldReturnNewsWithoutCommentsWhenCommentsFail() {
+        var actual = newsComposer.compose(() -> NewsTestBuilder.builder().build().buildNewsDto(), () -> {
+            throw new IllegalStateException("comments are down");
+        });
+
+        assertEquals(1L, actual.getId());
+        assertEquals(List.of(), actual.getComments());
+        assertEquals(1, meterRegistry.get("news.composition.partial").counter().count());
+    }
+
+    @Test
+    void composeShouldThrowExceptionWhenNewsIsLate() {
+        assertThrows(OperationException.class, () -> newsComposer.compose(
+                slow(() -> NewsTestBuilder.builder().build().buildNewsDto(), 3000), () -> page(List.of())));
+    }
+
+    private static PageContentDto<CommentDto> page(List<CommentDto> comments) {
+        return new PageContentDto<>(new PageDto(1, 15, 1, (long) comments.size()), comments);
+    }
+
+    private static <T> Supplier<T> slow(Supplier<T> supplier, long millis) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return supplier.get();
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package ru.clevertec.news.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ContentCodecsTest {
+
+    private final ContentCodecs codecs = new ContentCodecs(List.of(new ZstdCodec(3),
+            new GzipCodec(6, new BufferPool(64, 1), 1)));
+
+    @Test
+    void negotiateShouldReturnPreferredCodecAcceptedByClient() {
+        assertEquals("zstd", codecs.negotiate("gzip, deflate, br, zstd").encoding());
+        assertEquals("gzip", codecs.negotiate("gzip, deflate").encoding());
+    }
+
+    @Test
+    void negotiateShouldSkipCodecsWithZeroQuality() {
+        assertEquals("gzip", codecs.negotiate("zstd;q=0, *;q=0.5").encoding());
+        assertNull(codecs.negotiate("identity"));
+        assertNull(codecs.negotiate(null));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package ru.clevertec.news.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GzipCodecTest {
+
+    private final GzipCodec codec = new GzipCodec(6, new BufferPool(64, 4), 4);
+
+    @Test
+    void encodeShouldProduceGzipReadableByJdkWhenDeflaterIsReused() throws Exception {
+        var first = "news text ".repeat(100).getBytes(StandardCharsets.UTF_8);
+        var second = "another comment ".repeat(50).getBytes(StandardCharsets.UTF_8);
+
+        assertArrayEquals(first, new GZIPInputStream(new ByteArrayInputStream(encode(first))).readAllBytes());
+        assertArrayEquals(second, new GZIPInputStream(new ByteArrayInputStream(encode(second))).readAllBytes());
+    }
+
+    @Test
+    void flushShouldMakeWrittenDataDecodable() throws Exception {
+        var out = new ByteArrayOutputStream();
+        var line = "{\"id\":1}\n".getBytes(StandardCharsets.UTF_8);
+        var encoder = codec.encode(out);
+        encoder.write(line);
+        encoder.flush();
+
+        var in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()));
+
+        assertArrayEquals(line, in.readNBytes(line.length));
+        encoder.close();
+    }
+
+    @Test
+    void isEncodedShouldCheckGzipSignature() throws Exception {
+        var encoded = encode("news".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(codec.isEncoded(encoded, encoded.length));
+        assertFalse(codec.isEncoded("{}".getBytes(StandardCharsets.UTF_8), 2));
+    }
+
+    private byte[] encode(byte[] data) throws Exception {
+        var out = new ByteArrayOutputStream();
+        try (var encoder = codec.encode(out)) {
+            encoder.write(data);
+        }
+        return out.toByteArray();
+    }
+}
\ No newline at end of file
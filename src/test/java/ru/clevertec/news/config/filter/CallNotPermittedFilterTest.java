@@ -0,0 +1,62 @@
+package ru.clevertec.news.config.filter;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+import ru.clevertec.news.exception.InvalidJwtException;
+import ru.clevertec.news.resilience.DeadlineExceededException;
+
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class CallNotPermittedFilterTest {
+
+    private final HandlerExceptionResolver exceptionResolver = mock(HandlerExceptionResolver.class);
+    private final CallNotPermittedFilter filter = new CallNotPermittedFilter(exceptionResolver);
+
+    @Test
+    void doFilterShouldPassRejectedCallToExceptionResolver() throws Exception {
+        var rejected = new DeadlineExceededException();
+        var request = new MockHttpServletRequest("GET", "/api/news");
+        var response = new MockHttpServletResponse();
+
+        when(exceptionResolver.resolveException(eq(request), eq(response), isNull(), eq(rejected)))
+                .thenReturn(new ModelAndView());
+
+        filter.doFilter(request, response, chain(new CompletionException(rejected)));
+
+        verify(exceptionResolver).resolveException(request, response, null, rejected);
+    }
+
+    @Test
+    void doFilterShouldRethrowOtherExceptions() {
+        var request = new MockHttpServletRequest("GET", "/api/news");
+        var response = new MockHttpServletResponse();
+
+        assertThrows(InvalidJwtException.class,
+                () -> filter.doFilter(request, response, chain(new InvalidJwtException("Invalid token"))));
+        verifyNoInteractions(exceptionResolver);
+    }
+
+    private static MockFilterChain chain(RuntimeException e) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                throw e;
+            }
+        });
+    }
+}
\ No newline at end of file
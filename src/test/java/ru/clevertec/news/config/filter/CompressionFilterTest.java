@@ -0,0 +1,91 @@
+package ru.clevertec.news.config.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.clevertec.news.compression.BufferPool;
+import ru.clevertec.news.compression.ContentCodecs;
+import ru.clevertec.news.compression.GzipCodec;
+import ru.clevertec.news.config.properties.CompressionProperties;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class CompressionFilterTest {
+
+    private final CompressionFilter filter = new CompressionFilter(
+            new ContentCodecs(List.of(new GzipCodec(6, new BufferPool(256, 4), 4))),
+            new BufferPool(1024, 4),
+            List.of(MediaType.APPLICATION_JSON),
+            List.of(new CompressionProperties.Route("/api/auth/**", false),
+                    new CompressionProperties.Route("/api/**", true)));
+
+    @Test
+    void doFilterShouldCompressResponseWhenBodyExceedsThreshold() throws Exception {
+        var body = "{\"text\":\"" + "news ".repeat(500) + "\"}";
+        var response = perform("/api/news", body);
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("W/\"1\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals(body, new String(new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))
+                .readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void doFilterShouldNotCompressResponseWhenBodyIsBelowThreshold() throws Exception {
+        var response = perform("/api/news/1", "{\"id\":1}");
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(8, response.getContentLength());
+        assertEquals("{\"id\":1}", response.getContentAsString());
+    }
+
+    @Test
+    void doFilterShouldNotCompressResponseWhenRouteIsDisabled() throws Exception {
+        var body = "{\"token\":\"" + "a".repeat(2000) + "\"}";
+        var response = perform("/api/auth/signIn", body);
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(body, response.getContentAsString());
+    }
+
+    @Test
+    void doFilterShouldKeepMultiValuedHeadersWhenCompressing() throws Exception {
+        var response = perform("/api/news", "{\"text\":\"" + "news ".repeat(500) + "\"}");
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ORIGIN), response.getHeaders(HttpHeaders.VARY));
+        assertEquals(List.of("a=1", "b=2"), response.getHeaders(HttpHeaders.SET_COOKIE));
+    }
+
+    private MockHttpServletResponse perform(String uri, String body) throws Exception {
+        var request = new MockHttpServletRequest("GET", uri);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws java.io.IOException {
+                resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                resp.setHeader(HttpHeaders.ETAG, "\"1\"");
+                resp.addHeader(HttpHeaders.VARY, HttpHeaders.ORIGIN);
+                resp.addHeader(HttpHeaders.SET_COOKIE, "a=1");
+                resp.addHeader(HttpHeaders.SET_COOKIE, "b=2");
+                resp.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+                resp.getOutputStream().flush();
+            }
+        }));
+        return response;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package ru.clevertec.news.config.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.clevertec.news.config.properties.DeadlineProperties;
+import ru.clevertec.news.resilience.Deadline;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class DeadlineFilterTest {
+
+    private static final long NOW = 1_000_000;
+
+    private final AtomicReference<Deadline> observed = new AtomicReference<>();
+    private final DeadlineFilter filter;
+
+    DeadlineFilterTest() {
+        var properties = new DeadlineProperties();
+        properties.setMaxTimeout(Duration.ofSeconds(5));
+        properties.setRoutes(List.of(new DeadlineProperties.Route("/api/auth/**", null),
+                new DeadlineProperties.Route("/api/**", Duration.ofSeconds(2))));
+        filter = new DeadlineFilter(properties, Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+    }
+
+    @Test
+    void doFilterShouldUseHeaderTimeoutWhenPresent() throws Exception {
+        var response = perform("/api/news", "300");
+
+        assertEquals(200, response.getStatus());
+        assertEquals(new Deadline(NOW + 300), observed.get());
+        assertNull(Deadline.current());
+    }
+
+    @Test
+    void doFilterShouldCapHeaderTimeoutAtMaxTimeout() throws Exception {
+        perform("/api/news", "60000");
+
+        assertEquals(new Deadline(NOW + 5000), observed.get());
+    }
+
+    @Test
+    void doFilterShouldUseRouteTimeoutWhenHeaderIsAbsent() throws Exception {
+        perform("/api/comments/1", null);
+
+        assertEquals(new Deadline(NOW + 2000), observed.get());
+    }
+
+    @Test
+    void doFilterShouldNotSetDeadlineWhenRouteHasNoTimeout() throws Exception {
+        perform("/api/auth/signIn", null);
+
+        assertNull(observed.get());
+    }
+
+    @Test
+    void doFilterShouldRejectRequestWhenTimeoutIsExhausted() throws Exception {
+        var response = perform("/api/news", "0");
+
+        assertEquals(504, response.getStatus());
+        assertNull(observed.get());
+    }
+
+    @Test
+    void doFilterShouldRejectRequestWhenHeaderIsInvalid() throws Exception {
+        var response = perform("/api/news", "soon");
+
+        assertEquals(400, response.getStatus());
+        assertNull(observed.get());
+    }
+
+    private MockHttpServletResponse perform(String uri, String timeout) throws Exception {
+        var request = new MockHttpServletRequest("GET", uri);
+        if (timeout != null) {
+            request.addHeader("X-Request-Timeout", timeout);
+        }
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                observed.set(Deadline.current());
+            }
+        }));
+        return response;
+    }
+}
\ No newline at end of file
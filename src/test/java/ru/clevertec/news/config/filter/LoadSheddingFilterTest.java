@@ -0,0 +1,94 @@
+package ru.clevertec.news.config.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.clevertec.news.config.properties.OverloadProperties;
+import ru.clevertec.news.resilience.ConcurrencyLimiter;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LoadSheddingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimiter limiter;
+    private final LoadSheddingFilter filter;
+
+    LoadSheddingFilterTest() {
+        var properties = new OverloadProperties();
+        properties.setInitialLimit(10);
+        limiter = new ConcurrencyLimiter(properties, meterRegistry);
+        filter = new LoadSheddingFilter(limiter, List.of("/api/news/{id:\\d+}", "/api/comments/{id:\\d+}"),
+                List.of("/api/*/export"));
+    }
+
+    @Test
+    void doFilterShouldShedListRequestsFirstWhenLimitIsNearlyReached() throws Exception {
+        for (var i = 0; i < 6; i++) {
+            limiter.tryAcquire(ConcurrencyLimiter.Priority.WRITE);
+        }
+
+        assertEquals(503, perform("GET", "/api/news").getStatus());
+        assertEquals("1", perform("GET", "/api/comments/newsId/1").getHeader("Retry-After"));
+        assertEquals(200, perform("GET", "/api/news/1").getStatus());
+        assertEquals(200, perform("PUT", "/api/news").getStatus());
+        assertEquals(2, meterRegistry.get("http.server.requests.shed").tag("priority", "list").counter().count());
+    }
+
+    @Test
+    void doFilterShouldReleasePermitWhenRequestCompletes() throws Exception {
+        for (var i = 0; i < 3; i++) {
+            assertEquals(200, perform("GET", "/api/news").getStatus());
+        }
+
+        assertEquals(0, meterRegistry.get("http.server.concurrency.active").gauge().value());
+    }
+
+    @Test
+    void doFilterShouldNotLimitRequestsOutsideApi() throws Exception {
+        for (var i = 0; i < 10; i++) {
+            limiter.tryAcquire(ConcurrencyLimiter.Priority.WRITE);
+        }
+
+        assertEquals(200, perform("GET", "/swagger-ui/index.html").getStatus());
+    }
+
+    @Test
+    void doFilterShouldNotLimitExcludedStreamingPaths() throws Exception {
+        for (var i = 0; i < 10; i++) {
+            limiter.tryAcquire(ConcurrencyLimiter.Priority.WRITE);
+        }
+
+        assertEquals(200, perform("GET", "/api/news/export").getStatus());
+        assertEquals(10, meterRegistry.get("http.server.concurrency.active").gauge().value());
+    }
+
+    @Test
+    void doFilterShouldReleasePermitWithoutSampleWhenChainThrows() {
+        var limit = limiter.getLimit();
+        FilterChain failing = (request, response) -> {
+            throw new ServletException("handler failed");
+        };
+
+        for (var i = 0; i < 10; i++) {
+            assertThrows(ServletException.class, () -> filter.doFilter(new MockHttpServletRequest("GET", "/api/news/1"),
+                    new MockHttpServletResponse(), failing));
+        }
+
+        assertEquals(0, meterRegistry.get("http.server.concurrency.active").gauge().value());
+        assertEquals(limit, limiter.getLimit());
+    }
+
+    private MockHttpServletResponse perform(String method, String uri) throws Exception {
+        var response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, new MockFilterChain());
+        return response;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package ru.clevertec.news.config.interceptor;
+
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+import ru.clevertec.news.dto.constant.RoleName;
+import ru.clevertec.news.ratelimit.RateLimiter;
+import ru.clevertec.news.security.PrincipalAuthentication;
+import ru.clevertec.news.security.UserPrincipal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitInterceptorTest {
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    @InjectMocks
+    private RateLimitInterceptor rateLimitInterceptor;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void preHandleShouldAllowRequestWhenLimitIsNotExceeded() {
+        var request = request();
+        var principal = new UserPrincipal(1L, "TestUser", RoleName.JOURNALIST);
+        SecurityContextHolder.getContext().setAuthentication(new PrincipalAuthentication(principal));
+
+        when(rateLimiter.tryAcquire("TestUser:GET /api/news/{id}", RoleName.JOURNALIST)).thenReturn(0L);
+
+        assertTrue(rateLimitInterceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+    }
+
+    @Test
+    void preHandleShouldReturnTooManyRequestsWhenLimitIsExceeded() {
+        var request = request();
+        var response = new MockHttpServletResponse();
+
+        when(rateLimiter.tryAcquire("127.0.0.1:GET /api/news/{id}", null)).thenReturn(1500L);
+
+        assertFalse(rateLimitInterceptor.preHandle(request, response, new Object()));
+        assertEquals(429, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+    }
+
+    @Test
+    void preHandleShouldNotTakeTokenWhenResultIsDispatchedAsynchronously() {
+        var request = request();
+        request.setDispatcherType(DispatcherType.ASYNC);
+
+        assertTrue(rateLimitInterceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+        verifyNoInteractions(rateLimiter);
+    }
+
+    private static MockHttpServletRequest request() {
+        var request = new MockHttpServletRequest("GET", "/api/news/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/news/{id}");
+        return request;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package ru.clevertec.news.dto.cursor;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorTest {
+
+    @Test
+    void decodeShouldReturnEncodedCursor() {
+        var cursor = new Cursor(LocalDateTime.of(2024, 1, 3, 9, 12, 15, 156), 42L);
+
+        assertEquals(cursor, Cursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decodeShouldReturnNullWhenCursorBlank() {
+        assertNull(Cursor.decode(""));
+        assertNull(Cursor.decode(null));
+    }
+
+    @Test
+    void decodeShouldThrowIllegalArgumentExceptionWhenCursorInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> Cursor.decode("bm90IGEgY3Vyc29y"));
+        assertThrows(IllegalArgumentException.class, () -> Cursor.decode("%%%"));
+    }
+
+    @Test
+    void ofShouldReturnNullNextCursorWhenNoExtraRow() {
+        var page = CursorPageDto.of(List.of(3L, 2L), 2, id -> new Cursor(LocalDateTime.MIN, id));
+
+        assertEquals(List.of(3L, 2L), page.content());
+        assertNull(page.nextCursor());
+    }
+}
\ No newline at end of file
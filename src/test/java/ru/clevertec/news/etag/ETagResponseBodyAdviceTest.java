@@ -0,0 +1,67 @@
+package ru.clevertec.news.etag;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import ru.clevertec.news.controller.NewsController;
+import ru.clevertec.news.service.NewsService;
+import ru.clevertec.news.util.NewsTestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class ETagResponseBodyAdviceTest {
+
+    private final NewsService newsService = mock(NewsService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        mockMvc = MockMvcBuilders.standaloneSetup(new NewsController(newsService))
+                .setControllerAdvice(new ETagResponseBodyAdvice(objectMapper))
+                .build();
+    }
+
+    @Test
+    void getShouldReturnNotModifiedWhenIfNoneMatchEqualsETag() throws Exception {
+        when(newsService.getNewsById(1L)).thenReturn(NewsTestBuilder.builder().build().buildNewsDto());
+
+        var etag = mockMvc.perform(get("/api/news/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/news/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getShouldReturnBodyWhenNewsChanged() throws Exception {
+        when(newsService.getNewsById(1L))
+                .thenReturn(NewsTestBuilder.builder().build().buildNewsDto())
+                .thenReturn(NewsTestBuilder.builder().withTitle("titleTwo").build().buildNewsDto());
+
+        var etag = mockMvc.perform(get("/api/news/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        var changed = mockMvc.perform(get("/api/news/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        assertNotEquals(etag, changed.getHeader(HttpHeaders.ETAG));
+        assertEquals("titleTwo", Jackson2ObjectMapperBuilder.json().build()
+                .readTree(changed.getContentAsString()).get("title").asText());
+    }
+}
\ No newline at end of file
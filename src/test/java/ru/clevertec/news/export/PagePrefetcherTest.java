@@ -0,0 +1,117 @@
+package ru.clevertec.news.export;
+
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.page.PageDto;
+import ru.clevertec.news.feign.client.RequestAbort;
+import ru.clevertec.news.resilience.Deadline;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PagePrefetcherTest {
+
+    private final List<Integer> requested = new CopyOnWriteArrayList<>();
+
+    @Test
+    void nextShouldLoadNextPageWhileCurrentPageIsProcessed() throws Exception {
+        var nextRequested = new CountDownLatch(2);
+        try (var pages = new PagePrefetcher<Integer>((number, cancelled) -> {
+            nextRequested.countDown();
+            return page(number, 3, 2);
+        }, Executors.newCachedThreadPool(), 1, 2, 1, Duration.ofSeconds(1))) {
+
+            assertEquals(List.of(1, 2), pages.next());
+            assertTrue(nextRequested.await(1, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void nextShouldStopAtLastPageWithoutRequestingFurtherPages() {
+        try (var pages = new PagePrefetcher<Integer>((number, cancelled) -> page(number, 3, 2),
+                Runnable::run, 1, 2, 2, Duration.ofSeconds(1))) {
+            var items = IntStream.range(0, 3).boxed().flatMap(i -> pages.next().stream()).toList();
+
+            assertEquals(List.of(1, 2, 3, 4, 5, 6), items);
+            assertFalse(pages.hasNext());
+        }
+        assertEquals(List.of(1, 2, 3), requested);
+    }
+
+    @Test
+    void nextShouldStopOnShortPageWhenTotalPagesIsUnknown() {
+        try (var pages = new PagePrefetcher<Integer>((number, cancelled) -> {
+            requested.add(number);
+            var content = number == 1 ? List.of(1, 2) : List.of(3);
+            return new PageContentDto<>(null, content);
+        }, Runnable::run, 1, 2, 1, Duration.ofSeconds(1))) {
+
+            assertEquals(List.of(1, 2), pages.next());
+            assertEquals(List.of(3), pages.next());
+            assertFalse(pages.hasNext());
+        }
+    }
+
+    @Test
+    void closeShouldAbortPageLoadInProgress() throws Exception {
+        var started = new CountDownLatch(1);
+        var aborted = new CountDownLatch(1);
+        var cancelledSeen = new AtomicBoolean();
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var pages = new PagePrefetcher<Integer>((number, cancelled) -> {
+                RequestAbort.register(aborted::countDown);
+                started.countDown();
+                try {
+                    aborted.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ignored) {
+                    // блокирующее чтение из сокета не реагирует на прерывание потока
+                }
+                cancelledSeen.set(cancelled.getAsBoolean());
+                return page(number, 3, 2);
+            }, executor, 1, 2, 1, Duration.ofSeconds(1));
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+
+            pages.close();
+
+            assertTrue(aborted.await(1, TimeUnit.SECONDS));
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+            assertTrue(cancelledSeen.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void nextShouldLoadPagesWithDeadlineOfCallingThread() {
+        var deadline = Deadline.after(1000, System.currentTimeMillis());
+        var executor = Executors.newSingleThreadExecutor();
+        Deadline.set(deadline);
+        try (var pages = new PagePrefetcher<Deadline>((number, cancelled) ->
+                new PageContentDto<>(null, List.of(Deadline.current())), executor, 1, 2, 1, Duration.ofSeconds(1))) {
+
+            assertEquals(List.of(deadline), pages.next());
+        } finally {
+            Deadline.set(null);
+            executor.shutdownNow();
+        }
+    }
+
+    private PageContentDto<Integer> page(int number, int totalPages, int pageSize) {
+        requested.add(number);
+        var first = (number - 1) * pageSize + 1;
+        var content = IntStream.range(first, first + pageSize).boxed().toList();
+        return new PageContentDto<>(new PageDto(number, pageSize, totalPages, (long) totalPages * pageSize), content);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package ru.clevertec.news.facade;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+import ru.clevertec.news.dto.constant.RoleName;
+import ru.clevertec.news.facade.impl.AuthenticationFacadeImpl;
+import ru.clevertec.news.security.PrincipalAuthentication;
+import ru.clevertec.news.security.UserPrincipal;
+import ru.clevertec.news.util.AuthTestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AuthenticationFacadeTest {
+
+    private final AuthenticationFacade authenticationFacade = new AuthenticationFacadeImpl();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void facadeShouldReturnCurrentUserData() {
+        var user = AuthTestBuilder.builder().withRole(RoleName.JOURNALIST).build().buildUser();
+        authenticate(UserPrincipal.of(user));
+
+        assertEquals(user.getId(), authenticationFacade.getCurrentUserId());
+        assertEquals(user.getLogin(), authenticationFacade.getCurrentUsername());
+        assertEquals("ROLE_JOURNALIST", authenticationFacade.getCurrentUserRole());
+    }
+
+    @Test
+    void hasRoleShouldCheckRoleMask() {
+        var user = AuthTestBuilder.builder().withRole(RoleName.ADMIN).build().buildUser();
+        authenticate(UserPrincipal.of(user));
+
+        assertTrue(authenticationFacade.hasRole(RoleName.ADMIN));
+        assertTrue(authenticationFacade.hasRole(RoleName.USER));
+        assertFalse(authenticationFacade.hasRole(RoleName.JOURNALIST));
+        assertFalse(authenticationFacade.hasRole(RoleName.SUBSCRIBER));
+    }
+
+    @Test
+    void getCurrentUserIdShouldThrowExceptionWhenNotAuthenticated() {
+        assertThrows(IllegalStateException.class, authenticationFacade::getCurrentUserId);
+    }
+
+    private void authenticate(UserPrincipal principal) {
+        SecurityContextHolder.getContext().setAuthentication(new PrincipalAuthentication(principal));
+    }
+}
@@ -0,0 +1,119 @@
+package ru.clevertec.news.feign.async;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import ru.clevertec.news.exception.OperationException;
+import ru.clevertec.news.resilience.Deadline;
+import ru.clevertec.news.resilience.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncCallLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        Deadline.set(null);
+    }
+
+    @Test
+    void submitShouldNotSendCallWhenDeadlineHasPassed() {
+        var limiter = new AsyncCallLimiter(1, Duration.ofSeconds(1), Runnable::run, meterRegistry);
+        var calls = new AtomicInteger();
+        Deadline.set(new Deadline(System.currentTimeMillis() - 1));
+
+        var rejected = limiter.submit(() -> CompletableFuture.completedFuture(calls.incrementAndGet()));
+
+        var e = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(DeadlineExceededException.class, e.getCause());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void submitShouldRejectCallWhenLimitIsReached() {
+        var limiter = new AsyncCallLimiter(1, Duration.ofSeconds(1), Runnable::run, meterRegistry);
+        var pending = new CompletableFuture<String>();
+
+        limiter.submit(() -> pending);
+        var rejected = limiter.submit(() -> CompletableFuture.completedFuture("news"));
+
+        var e = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(OperationException.class, e.getCause());
+        assertEquals(1, meterRegistry.get("feign.async.calls.rejected").counter().count());
+
+        pending.complete("news");
+
+        assertEquals("news", limiter.submit(() -> CompletableFuture.completedFuture("news")).join());
+        assertEquals(0, meterRegistry.get("feign.async.calls.active").gauge().value());
+    }
+
+    @Test
+    void submitShouldFailWhenCallTimesOut() {
+        var limiter = new AsyncCallLimiter(1, Duration.ofMillis(10), Runnable::run, meterRegistry);
+
+        var result = limiter.submit(CompletableFuture::new);
+
+        var e = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(TimeoutException.class, e.getCause());
+    }
+
+    @Test
+    void contextExecutorShouldPropagateSecurityContextOfCallingThread() throws Exception {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var limiter = new AsyncCallLimiter(1, Duration.ofSeconds(1), executor, meterRegistry);
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("TestUser", null));
+
+            var username = CompletableFuture.supplyAsync(
+                    () -> SecurityContextHolder.getContext().getAuthentication().getName(), limiter.contextExecutor());
+
+            assertEquals("TestUser", username.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void closeShouldWaitForRunningTasksAndRejectNewOnes() throws Exception {
+        var executor = Executors.newSingleThreadExecutor();
+        var limiter = new AsyncCallLimiter(1, Duration.ofSeconds(1), executor, meterRegistry);
+        var started = new CountDownLatch(1);
+        var finished = new AtomicBoolean();
+        executor.execute(() -> {
+            started.countDown();
+            sleep(100);
+            finished.set(true);
+        });
+        started.await();
+
+        limiter.close();
+
+        assertTrue(finished.get());
+        assertTrue(executor.isTerminated());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
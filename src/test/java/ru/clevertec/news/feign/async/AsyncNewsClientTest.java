@@ -0,0 +1,68 @@
+package ru.clevertec.news.feign.async;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.env.MockEnvironment;
+import ru.clevertec.news.config.AsyncConfig;
+import ru.clevertec.news.config.properties.AsyncProperties;
+import ru.clevertec.news.config.properties.FeignProperties;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.delete;
+import static com.github.tomakehurst.wiremock.client.WireMock.deleteRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AsyncNewsClientTest {
+
+    private final WireMockServer server = new WireMockServer(options().dynamicPort());
+    private final AsyncConfig config = new AsyncConfig();
+    private final AsyncProperties properties = new AsyncProperties();
+    private AsyncNewsClient newsClient;
+
+    @BeforeEach
+    void setUp() {
+        server.start();
+        var feignProperties = new FeignProperties();
+        feignProperties.getNewsService().setValue("newsService");
+        var converters = new HttpMessageConverters(new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()));
+        var callLimiter = config.asyncCallLimiter(properties, new MockEnvironment(), new SimpleMeterRegistry());
+        newsClient = config.asyncNewsClient(server.baseUrl() + "/api/news", feignProperties, properties,
+                callLimiter, () -> converters);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void getNewsByIdShouldDecodeResponseWithoutBlockingCaller() {
+        server.stubFor(get(urlEqualTo("/api/news/1")).willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"id\":1,\"title\":\"titleOne\",\"text\":\"Text\",\"userId\":1}")));
+
+        var actual = newsClient.getNewsById(1L).join();
+
+        assertEquals(1L, actual.getId());
+        assertEquals("titleOne", actual.getTitle());
+    }
+
+    @Test
+    void deleteShouldCompleteWhenNewsIsDeleted() {
+        server.stubFor(delete(urlEqualTo("/api/news/1")).willReturn(aResponse().withStatus(204)));
+
+        newsClient.delete(1L).join();
+
+        server.verify(deleteRequestedFor(urlEqualTo("/api/news/1")));
+    }
+}
\ No newline at end of file
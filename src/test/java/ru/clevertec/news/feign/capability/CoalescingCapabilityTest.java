@@ -0,0 +1,214 @@
+package ru.clevertec.news.feign.capability;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.feign.NewsClient;
+import ru.clevertec.news.resilience.Deadline;
+import ru.clevertec.news.resilience.DeadlineExceededException;
+import ru.clevertec.news.util.NewsTestBuilder;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class CoalescingCapabilityTest {
+
+    private static final int CALLERS = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getShouldShareOneCallWhenIdenticalCallsAreInFlight() throws Exception {
+        var client = client();
+        var results = submit(() -> client.getNewsById(1L));
+
+        awaitUntil(() -> collapsedCount() == CALLERS - 1);
+        release.countDown();
+
+        var first = results.get(0).get();
+        for (var result : results) {
+            assertEquals(first, result.get());
+        }
+        assertEquals(1, calls.get());
+        assertEquals(CALLERS - 1, collapsedCount());
+    }
+
+    @Test
+    void getShouldReturnSeparateCopiesWhenCallsAreCoalesced() throws Exception {
+        var client = client();
+        var results = submit(() -> client.getNewsById(1L));
+
+        awaitUntil(() -> collapsedCount() == CALLERS - 1);
+        release.countDown();
+
+        var first = results.get(0).get();
+        first.setTitle("changed");
+        for (var result : results.subList(1, CALLERS)) {
+            assertNotSame(first, result.get());
+            assertNotEquals("changed", result.get().getTitle());
+        }
+    }
+
+    @Test
+    void getShouldFailWithDeadlineExceededWhenFollowerDeadlinePasses() throws Exception {
+        var client = client();
+        var leader = executor.submit(() -> client.getNewsById(1L));
+        awaitUntil(() -> calls.get() == 1);
+
+        var follower = executor.submit(() -> {
+            Deadline.set(Deadline.after(50, System.currentTimeMillis()));
+            try {
+                return client.getNewsById(1L);
+            } finally {
+                Deadline.set(null);
+            }
+        });
+
+        var exception = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DeadlineExceededException.class, exception.getCause());
+        assertFalse(leader.isDone());
+        release.countDown();
+        assertNotNull(leader.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void getShouldNotSerializeResultWhenNoCallJoined() throws Exception {
+        release.countDown();
+        var objectMapper = spy(Jackson2ObjectMapperBuilder.json().<ObjectMapper>build());
+        var client = client(objectMapper);
+
+        assertNotNull(client.getNewsById(1L));
+
+        verify(objectMapper, never()).writeValueAsBytes(any());
+    }
+
+    @Test
+    void getShouldShareResultWhenCopyFails() throws Exception {
+        var objectMapper = spy(Jackson2ObjectMapperBuilder.json().<ObjectMapper>build());
+        doThrow(new JsonMappingException(null, "Not serializable")).when(objectMapper).writeValueAsBytes(any());
+        var client = client(objectMapper);
+        var results = submit(() -> client.getNewsById(1L));
+
+        awaitUntil(() -> collapsedCount() == CALLERS - 1);
+        release.countDown();
+
+        var first = results.get(0).get();
+        for (var result : results) {
+            assertNotNull(result.get());
+            assertEquals(first, result.get());
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void getShouldCallAgainWhenPreviousCallCompleted() {
+        release.countDown();
+        var client = client();
+
+        client.getNewsById(1L);
+        client.getNewsById(1L);
+        client.getNewsById(2L);
+
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void postShouldNotBeCoalesced() throws Exception {
+        var client = client();
+        var dto = NewsTestBuilder.builder().build().buildNewsCreateDto();
+        var results = submit(() -> client.create(dto));
+
+        awaitUntil(() -> calls.get() == CALLERS);
+        release.countDown();
+
+        for (var result : results) {
+            result.get();
+        }
+        assertEquals(CALLERS, calls.get());
+    }
+
+    private NewsClient client() {
+        return client(Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    private NewsClient client(ObjectMapper objectMapper) {
+        Map<Method, MethodHandler> dispatch = new HashMap<>();
+        for (var method : NewsClient.class.getMethods()) {
+            dispatch.put(method, argv -> {
+                calls.incrementAndGet();
+                release.await(5, TimeUnit.SECONDS);
+                return NewsTestBuilder.builder().build().buildNewsDto();
+            });
+        }
+        InvocationHandlerFactory factory = (target, handlers) -> (proxy, method, args) -> handlers.get(method).invoke(args);
+        var target = new Target.HardCodedTarget<>(NewsClient.class, "newsService", "http://localhost");
+        var handler = new CoalescingCapability(meterRegistry, objectMapper, Map.of())
+                .enrich(factory).create(target, dispatch);
+        return (NewsClient) Proxy.newProxyInstance(NewsClient.class.getClassLoader(), new Class<?>[]{NewsClient.class}, handler);
+    }
+
+    private List<Future<NewsDto>> submit(Callable<NewsDto> call) {
+        List<Future<NewsDto>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        return results;
+    }
+
+    private double collapsedCount() {
+        return meterRegistry.get("feign.client.calls.collapsed")
+                .tag("client", "newsService")
+                .tag("method", "getNewsById")
+                .counter()
+                .count();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,217 @@
+package ru.clevertec.news.feign.capability;
+
+import feign.FeignException;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.RetryableException;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.feign.NewsClient;
+import ru.clevertec.news.util.NewsTestBuilder;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CollapsingCapabilityTest {
+
+    private static final Set<Long> EXISTING = Set.of(1L, 2L, 3L, 4L);
+    private static final MethodMetadata BULK_METADATA = new SpringMvcContract().parseAndValidateMetadata(NewsClient.class)
+            .stream()
+            .filter(metadata -> metadata.method().getName().equals("getByIds"))
+            .findFirst()
+            .orElseThrow();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final List<List<Long>> bulkCalls = new CopyOnWriteArrayList<>();
+    private final AtomicInteger singleCalls = new AtomicInteger();
+    private final AtomicBoolean bulkSupported = new AtomicBoolean(true);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getNewsByIdShouldBeServedByOneBulkCallWhenCalledConcurrently() throws Exception {
+        var client = client(Duration.ofMinutes(1));
+        List<Future<NewsDto>> results = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            var key = id;
+            results.add(executor.submit(() -> client.getNewsById(key)));
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i + 1L, results.get(i).get().getId());
+        }
+        assertEquals(1, bulkCalls.size());
+        assertEquals(Set.of(1L, 2L, 3L, 4L), Set.copyOf(bulkCalls.get(0)));
+        assertEquals(0, singleCalls.get());
+    }
+
+    @Test
+    void getByIdsShouldReturnFoundNewsInRequestOrder() {
+        var client = client(Duration.ofMinutes(1));
+
+        var actual = client.getByIds(List.of(3L, 9L, 1L));
+
+        assertEquals(List.of(3L, 1L), actual.stream().map(NewsDto::getId).toList());
+        assertEquals(List.of(List.of(3L, 9L, 1L)), bulkCalls);
+    }
+
+    @Test
+    void getNewsByIdShouldThrowNotFoundWhenMissingInBulkCall() {
+        var client = client(Duration.ofMinutes(1));
+
+        assertThrows(FeignException.NotFound.class, () -> client.getNewsById(9L));
+        assertEquals(1, singleCalls.get());
+    }
+
+    @Test
+    void getNewsByIdShouldThrowNotFoundOfSingleCallWhenBulkIsNotSupported() {
+        bulkSupported.set(false);
+        var client = client(Duration.ofMinutes(1));
+
+        assertThrows(FeignException.NotFound.class, () -> client.getNewsById(9L));
+        assertEquals(1, singleCalls.get());
+    }
+
+    @Test
+    void getNewsByIdShouldThrowRetryableExceptionWhenBulkCallOutlivesReadTimeout() {
+        var release = new CountDownLatch(1);
+        var client = client(Duration.ofMinutes(1), argv -> {
+            release.await();
+            return List.of();
+        }, Map.of("newsService", new Request.Options(10, TimeUnit.MILLISECONDS, 50, TimeUnit.MILLISECONDS, true)));
+
+        try {
+            assertThrows(RetryableException.class, () -> client.getNewsById(1L));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void getByIdsShouldFallBackToSingleCallsWhenBulkIsNotSupported() {
+        bulkSupported.set(false);
+        var client = client(Duration.ofMinutes(1));
+
+        var actual = client.getByIds(List.of(2L, 9L, 1L));
+
+        assertEquals(List.of(2L, 1L), actual.stream().map(NewsDto::getId).toList());
+        assertEquals(3, singleCalls.get());
+        assertEquals(3, meterRegistry.get("feign.client.batch.fallback")
+                .tag("client", "newsService")
+                .tag("method", "getByIds")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void getByIdsShouldKeepSingleCallsUntilProbeIntervalPasses() {
+        bulkSupported.set(false);
+        var client = client(Duration.ofMinutes(1));
+        client.getByIds(List.of(1L));
+        bulkSupported.set(true);
+
+        var actual = client.getByIds(List.of(2L));
+
+        assertEquals(List.of(2L), actual.stream().map(NewsDto::getId).toList());
+        assertEquals(2, singleCalls.get());
+        assertEquals(0, bulkCalls.size());
+    }
+
+    @Test
+    void getByIdsShouldReturnToBulkCallsWhenProbeSucceeds() {
+        bulkSupported.set(false);
+        var client = client(Duration.ZERO);
+        client.getByIds(List.of(1L));
+        bulkSupported.set(true);
+
+        var actual = client.getByIds(List.of(2L, 3L));
+
+        assertEquals(List.of(2L, 3L), actual.stream().map(NewsDto::getId).toList());
+        assertEquals(List.of(List.of(2L, 3L)), bulkCalls);
+        assertEquals(1, singleCalls.get());
+    }
+
+    @Test
+    void getByIdsShouldNotFallBackWhenNotFoundIsNotFromBulkEndpoint() {
+        var client = client(Duration.ofMinutes(1), argv -> {
+            throw notFound(null);
+        });
+
+        assertThrows(FeignException.NotFound.class, () -> client.getByIds(List.of(1L, 2L)));
+        assertEquals(0, singleCalls.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private NewsClient client(Duration bulkProbeInterval) {
+        return client(bulkProbeInterval, argv -> {
+            if (!bulkSupported.get()) {
+                throw notFound(BULK_METADATA);
+            }
+            var ids = (List<Long>) argv[0];
+            bulkCalls.add(List.copyOf(ids));
+            return ids.stream().filter(EXISTING::contains).map(CollapsingCapabilityTest::news).toList();
+        });
+    }
+
+    private NewsClient client(Duration bulkProbeInterval, MethodHandler bulk) {
+        return client(bulkProbeInterval, bulk, Map.of());
+    }
+
+    private NewsClient client(Duration bulkProbeInterval, MethodHandler bulk, Map<String, Request.Options> options) {
+        Map<Method, MethodHandler> dispatch = new HashMap<>();
+        for (var method : NewsClient.class.getMethods()) {
+            dispatch.put(method, method.getName().equals("getByIds") ? bulk : argv -> {
+                singleCalls.incrementAndGet();
+                var id = (Long) argv[0];
+                if (!EXISTING.contains(id)) {
+                    throw notFound(null);
+                }
+                return news(id);
+            });
+        }
+        InvocationHandlerFactory factory = (target, handlers) -> (proxy, method, args) -> handlers.get(method).invoke(args);
+        var target = new Target.HardCodedTarget<>(NewsClient.class, "newsService", "http://localhost");
+        var capability = new CollapsingCapability(meterRegistry, executor, Duration.ofMillis(100), 50,
+                bulkProbeInterval, options);
+        var handler = capability.enrich(factory).create(target, dispatch);
+        return (NewsClient) Proxy.newProxyInstance(NewsClient.class.getClassLoader(), new Class<?>[]{NewsClient.class}, handler);
+    }
+
+    private static NewsDto news(Long id) {
+        return NewsTestBuilder.builder().withId(id).build().buildNewsDto();
+    }
+
+    private static FeignException notFound(MethodMetadata metadata) {
+        var template = metadata == null ? null : new RequestTemplate().methodMetadata(metadata);
+        var request = Request.create(Request.HttpMethod.GET, "http://localhost", Map.of(), Request.Body.empty(), template);
+        return new FeignException.NotFound("Not Found", request, null, Map.of());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package ru.clevertec.news.feign.client;
+
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.resilience.LatencyEstimator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AdaptiveTimeoutClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Integer> readTimeouts = new ArrayList<>();
+    private final Client recording = (request, options) -> {
+        readTimeouts.add(options.readTimeoutMillis());
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Map.of())
+                .body("ok", StandardCharsets.UTF_8)
+                .build();
+    };
+
+    @Test
+    void executeShouldUseMaxTimeoutWhenNotEnoughSamples() {
+        var api = api(new AdaptiveTimeoutClient.Policy(99, 2, 100, 5000));
+
+        api.get(1L);
+
+        assertEquals(List.of(5000), readTimeouts);
+    }
+
+    @Test
+    void executeShouldUseMinTimeoutWhenResponsesAreFast() {
+        var api = api(new AdaptiveTimeoutClient.Policy(99, 2, 100, 5000));
+
+        for (var i = 0; i < 5; i++) {
+            api.get(1L);
+        }
+
+        assertEquals(List.of(5000, 5000, 5000, 5000, 100), readTimeouts);
+        assertEquals(100, meterRegistry.get("feign.client.timeout").tag("client", "newsService").gauge().value());
+    }
+
+    @Test
+    void executeShouldNotChangeTimeoutOfOtherClients() {
+        var api = Feign.builder()
+                .client(new AdaptiveTimeoutClient(recording, Map.of("commentService",
+                        new AdaptiveTimeoutClient.Policy(99, 2, 100, 5000)), () -> new LatencyEstimator(16, 4),
+                        meterRegistry))
+                .options(new Request.Options())
+                .target(new Target.HardCodedTarget<>(TestApi.class, "newsService", "http://localhost"));
+
+        api.get(1L);
+
+        assertEquals(List.of(new Request.Options().readTimeoutMillis()), readTimeouts);
+    }
+
+    private TestApi api(AdaptiveTimeoutClient.Policy policy) {
+        return Feign.builder()
+                .client(new AdaptiveTimeoutClient(recording, Map.of("newsService", policy),
+                        () -> new LatencyEstimator(16, 4), meterRegistry))
+                .target(new Target.HardCodedTarget<>(TestApi.class, "newsService", "http://localhost"));
+    }
+
+    interface TestApi {
+
+        @RequestLine("GET /news/{id}")
+        String get(@Param("id") Long id);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package ru.clevertec.news.feign.client;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.RequestLine;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConditionalGetClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WireMockServer server = new WireMockServer(options().dynamicPort());
+    private TestApi api;
+
+    @BeforeEach
+    void setUp() {
+        server.start();
+        server.stubFor(get(urlEqualTo("/news/1")).withHeader("If-None-Match", absent())
+                .willReturn(aResponse().withStatus(200).withHeader("ETag", "\"v1\"").withBody("news")));
+        server.stubFor(get(urlEqualTo("/news/1")).withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304)));
+        api = Feign.builder()
+                .client(new ConditionalGetClient(new Client.Default(null, null), 10, 1024, meterRegistry))
+                .target(new Target.HardCodedTarget<>(TestApi.class, "newsService", server.baseUrl()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void executeShouldReturnStoredBodyWhenServiceRespondsNotModified() {
+        assertEquals("news", api.get(1L));
+        assertEquals("news", api.get(1L));
+
+        server.verify(1, getRequestedFor(urlEqualTo("/news/1")).withHeader("If-None-Match", equalTo("\"v1\"")));
+        assertEquals(1, meterRegistry.get("feign.client.conditional")
+                .tags("client", "newsService", "result", "not_modified").counter().count());
+    }
+
+    @Test
+    void executeShouldNotSendValidatorWhenResponseHasNoETag() {
+        server.stubFor(get(urlEqualTo("/news/2")).willReturn(aResponse().withStatus(200).withBody("other")));
+
+        assertEquals("other", api.get(2L));
+        assertEquals("other", api.get(2L));
+
+        server.verify(2, getRequestedFor(urlEqualTo("/news/2")).withHeader("If-None-Match", absent()));
+    }
+
+    interface TestApi {
+
+        @RequestLine("GET /news/{id}")
+        String get(@Param("id") Long id);
+    }
+}
\ No newline at end of file
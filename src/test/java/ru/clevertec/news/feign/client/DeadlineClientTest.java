@@ -0,0 +1,83 @@
+package ru.clevertec.news.feign.client;
+
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.RequestLine;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.resilience.Deadline;
+import ru.clevertec.news.resilience.DeadlineExceededException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DeadlineClientTest {
+
+    private static final long NOW = 1_000_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Client echo = (request, options) -> {
+        calls.incrementAndGet();
+        var header = request.headers().get("X-Request-Timeout");
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Map.of())
+                .body((header == null ? "none" : header.iterator().next()) + " " + options.readTimeoutMillis(),
+                        StandardCharsets.UTF_8)
+                .build();
+    };
+
+    @AfterEach
+    void tearDown() {
+        Deadline.set(null);
+    }
+
+    @Test
+    void executeShouldForwardRemainingTimeAndShrinkReadTimeout() {
+        Deadline.set(new Deadline(NOW + 250));
+
+        assertEquals("250 250", api().get(1L));
+    }
+
+    @Test
+    void executeShouldNotSendRequestWhenDeadlineHasPassed() {
+        Deadline.set(new Deadline(NOW));
+
+        assertThrows(DeadlineExceededException.class, () -> api().get(1L));
+
+        assertEquals(0, calls.get());
+        assertEquals(1, meterRegistry.get("feign.client.deadline.exceeded").tag("client", "newsService")
+                .counter().count());
+    }
+
+    @Test
+    void executeShouldKeepOptionsWhenDeadlineIsNotSet() {
+        assertEquals("none 60000", api().get(1L));
+    }
+
+    private TestApi api() {
+        return Feign.builder()
+                .client(new DeadlineClient(echo, clock, meterRegistry))
+                .target(new Target.HardCodedTarget<>(TestApi.class, "newsService", "http://localhost"));
+    }
+
+    interface TestApi {
+
+        @RequestLine("GET /news/{id}")
+        String get(@Param("id") Long id);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package ru.clevertec.news.feign.client;
+
+import com.github.luben.zstd.Zstd;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.RequestLine;
+import feign.Target;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.compression.BufferPool;
+import ru.clevertec.news.compression.ContentCodecs;
+import ru.clevertec.news.compression.GzipCodec;
+import ru.clevertec.news.compression.ZstdCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DecompressingClientTest {
+
+    private final WireMockServer server = new WireMockServer(options().dynamicPort());
+    private TestApi api;
+
+    @BeforeEach
+    void setUp() {
+        server.start();
+        var codecs = new ContentCodecs(List.of(new ZstdCodec(3), new GzipCodec(6, new BufferPool(256, 1), 1)));
+        api = Feign.builder()
+                .client(new DecompressingClient(new Client.Default(null, null), Map.of("newsService", "zstd, gzip"), codecs))
+                .target(new Target.HardCodedTarget<>(TestApi.class, "newsService", server.baseUrl()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void executeShouldDecodeResponseWhenServiceRespondsWithZstd() {
+        var body = "news ".repeat(100);
+        server.stubFor(get(urlEqualTo("/news/1")).willReturn(aResponse().withStatus(200)
+                .withHeader("Content-Encoding", "zstd")
+                .withBody(Zstd.compress(body.getBytes(StandardCharsets.UTF_8)))));
+
+        assertEquals(body, api.get(1L));
+        server.verify(getRequestedFor(urlEqualTo("/news/1")).withHeader("Accept-Encoding", equalTo("zstd, gzip")));
+    }
+
+    @Test
+    void executeShouldKeepBodyWhenUnderlyingClientAlreadyDecodedIt() {
+        var body = "news ".repeat(100);
+        server.stubFor(get(urlEqualTo("/news/2")).willReturn(aResponse().withStatus(200).withBody(body)));
+
+        assertEquals(body, api.get(2L));
+    }
+
+    interface TestApi {
+
+        @RequestLine("GET /news/{id}")
+        String get(@Param("id") Long id);
+    }
+}
\ No newline at end of file
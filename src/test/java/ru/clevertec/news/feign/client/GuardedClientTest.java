@@ -0,0 +1,147 @@
+package ru.clevertec.news.feign.client;
+
+import feign.Client;
+import feign.Feign;
+import feign.FeignException;
+import feign.Param;
+import feign.RequestLine;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.Target;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.config.properties.FeignProperties;
+import ru.clevertec.news.resilience.Bulkhead;
+import ru.clevertec.news.resilience.CallNotPermittedException;
+import ru.clevertec.news.resilience.CircuitBreaker;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GuardedClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void executeShouldRejectCallsWithoutRequestWhenCircuitIsOpen() {
+        var properties = new FeignProperties.CircuitBreaker();
+        properties.setSlidingWindowSize(2);
+        properties.setMinimumCalls(2);
+        var guard = new GuardedClient.Guard(null, new CircuitBreaker("newsService", properties, meterRegistry));
+        var api = api(respond(500), Map.of("newsService", guard), "newsService");
+
+        assertThrows(FeignException.InternalServerError.class, () -> api.get(1L));
+        assertThrows(FeignException.InternalServerError.class, () -> api.get(1L));
+        var e = assertThrows(CallNotPermittedException.class, () -> api.get(1L));
+
+        assertEquals(2, calls.get());
+        assertTrue(e.getMessage().endsWith("newsService"));
+        assertTrue(e.getRetryAfterSeconds() > 0);
+        assertEquals(1, meterRegistry.get("feign.client.circuit.rejected").tag("client", "newsService").counter().count());
+    }
+
+    @Test
+    void executeShouldRejectCallsOverBulkheadLimit() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Client blocking = (request, options) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return respond(200).execute(request, options);
+        };
+        var guard = new GuardedClient.Guard(new Bulkhead("commentService", 1, Duration.ZERO, meterRegistry), null);
+        var api = api(blocking, Map.of("commentService", guard), "commentService");
+
+        var inFlight = CompletableFuture.supplyAsync(() -> api.get(1L));
+        started.await();
+
+        assertThrows(CallNotPermittedException.class, () -> api.get(2L));
+        assertEquals(1, meterRegistry.get("feign.client.bulkhead.active").gauge().value());
+
+        release.countDown();
+
+        assertEquals("ok", inFlight.get());
+        assertEquals("ok", api.get(3L));
+        assertEquals(1, meterRegistry.get("feign.client.bulkhead.rejected").counter().count());
+    }
+
+    @Test
+    void executeShouldNotCountAbortedCallsAsCircuitFailures() {
+        var properties = new FeignProperties.CircuitBreaker();
+        properties.setSlidingWindowSize(2);
+        properties.setMinimumCalls(2);
+        var guard = new GuardedClient.Guard(null, new CircuitBreaker("newsService", properties, meterRegistry));
+        Client aborted = (request, options) -> {
+            calls.incrementAndGet();
+            RequestAbort.current().abort();
+            throw new IOException("Socket closed");
+        };
+        var api = Feign.builder()
+                .client(new GuardedClient(aborted, Map.of("newsService", guard), Clock.systemUTC()))
+                .retryer(Retryer.NEVER_RETRY)
+                .target(new Target.HardCodedTarget<>(TestApi.class, "newsService", "http://localhost"));
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                RequestAbort.set(new RequestAbort());
+                assertThrows(RetryableException.class, () -> api.get(1L));
+            }
+        } finally {
+            RequestAbort.set(null);
+        }
+
+        assertEquals(3, calls.get());
+        assertEquals(0, meterRegistry.find("feign.client.circuit.rejected").counters().stream()
+                .mapToDouble(Counter::count).sum());
+    }
+
+    @Test
+    void executeShouldNotLimitClientsWithoutGuard() {
+        var guard = new GuardedClient.Guard(new Bulkhead("newsService", 0, Duration.ZERO, meterRegistry), null);
+        var api = api(respond(200), Map.of("newsService", guard), "authService");
+
+        assertEquals("ok", api.get(1L));
+        assertEquals(1, calls.get());
+    }
+
+    private Client respond(int status) {
+        return (request, options) -> {
+            calls.incrementAndGet();
+            return Response.builder()
+                    .status(status)
+                    .request(request)
+                    .headers(Map.of())
+                    .body("ok", StandardCharsets.UTF_8)
+                    .build();
+        };
+    }
+
+    private TestApi api(Client delegate, Map<String, GuardedClient.Guard> guards, String name) {
+        return Feign.builder()
+                .client(new GuardedClient(delegate, guards, Clock.systemUTC()))
+                .target(new Target.HardCodedTarget<>(TestApi.class, name, "http://localhost"));
+    }
+
+    interface TestApi {
+
+        @RequestLine("GET /news/{id}")
+        String get(@Param("id") Long id);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,228 @@
+package ru.clevertec.news.feign.client;
+
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.RetryableException;
+import feign.Response;
+import feign.Retryer;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.resilience.CallBudget;
+import ru.clevertec.news.resilience.LatencyEstimator;
+
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HedgingClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final CountDownLatch primaryInterrupted = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void executeShouldReturnHedgedResponseAndCancelPrimaryWhenPrimaryIsSlow() throws Exception {
+        var api = api(stallingFirstCall(), new CallBudget(1, 1));
+
+        assertEquals("2", api.get(1L));
+
+        assertTrue(primaryInterrupted.await(1, TimeUnit.SECONDS));
+        assertEquals(2, calls.get());
+        assertEquals(1, meterRegistry.get("feign.client.hedges").tags("client", "newsService", "result", "sent").counter().count());
+        assertEquals(1, meterRegistry.get("feign.client.hedges").tags("result", "won").counter().count());
+    }
+
+    @Test
+    void executeShouldAbortLosingRequestWhenHedgeWins() throws Exception {
+        var aborted = new CountDownLatch(1);
+        Client blocking = (request, options) -> {
+            var call = calls.incrementAndGet();
+            if (call == 1) {
+                RequestAbort.register(aborted::countDown);
+                awaitIgnoringInterrupts(aborted);
+                throw new SocketException("Socket closed");
+            }
+            return response(request, String.valueOf(call));
+        };
+        var api = api(blocking, new CallBudget(1, 1));
+
+        assertEquals("2", api.get(1L));
+
+        assertTrue(aborted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void executeShouldRecordLatencyOfAbortedRequest() throws Exception {
+        var latency = new LatencyEstimator(16, 2);
+        var aborted = new CountDownLatch(1);
+        Client blocking = (request, options) -> {
+            var call = calls.incrementAndGet();
+            if (call == 1) {
+                RequestAbort.register(aborted::countDown);
+                awaitIgnoringInterrupts(aborted);
+                throw new SocketException("Socket closed");
+            }
+            return response(request, String.valueOf(call));
+        };
+        var api = api(blocking, new CallBudget(1, 1), latency);
+
+        assertEquals("2", api.get(1L));
+
+        assertTrue(aborted.await(1, TimeUnit.SECONDS));
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (latency.percentile(100) < 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(latency.percentile(100) >= 5);
+    }
+
+    @Test
+    void executeShouldFailWhenPrimaryFailsAndHedgeIsNotSent() {
+        Client failing = (request, options) -> {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            throw new SocketException("Connection reset");
+        };
+        var api = api(failing, new CallBudget(0, 1));
+
+        var exception = assertThrows(RetryableException.class, () -> api.get(1L));
+
+        assertInstanceOf(SocketException.class, exception.getCause());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void executeShouldReturnHedgedResponseWhenPrimaryFailsWhileHedgeIsInFlight() {
+        Client client = (request, options) -> {
+            var call = calls.incrementAndGet();
+            try {
+                Thread.sleep(call == 1 ? 40 : 80);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            if (call == 1) {
+                throw new SocketException("Connection reset");
+            }
+            return response(request, String.valueOf(call));
+        };
+        var api = api(client, new CallBudget(1, 1));
+
+        assertEquals("2", api.get(1L));
+    }
+
+    @Test
+    void executeShouldNotHedgeWhenBudgetIsExhausted() {
+        Client slow = (request, options) -> {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            return response(request, "1");
+        };
+        var api = api(slow, new CallBudget(0, 1));
+
+        assertEquals("1", api.get(1L));
+
+        assertEquals(1, calls.get());
+        assertEquals(1, meterRegistry.get("feign.client.hedges").tags("result", "no_budget").counter().count());
+    }
+
+    @Test
+    void executeShouldNotHedgeRequestsOtherThanGet() {
+        var caller = Thread.currentThread();
+        Client direct = (request, options) -> {
+            calls.incrementAndGet();
+            return response(request, String.valueOf(Thread.currentThread() == caller));
+        };
+        var api = api(direct, new CallBudget(1, 1));
+
+        assertEquals("true", api.create("news"));
+
+        assertEquals(1, calls.get());
+        assertTrue(meterRegistry.find("feign.client.hedges").counters().isEmpty());
+    }
+
+    private Client stallingFirstCall() {
+        return (request, options) -> {
+            var call = calls.incrementAndGet();
+            if (call == 1) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    primaryInterrupted.countDown();
+                    throw new InterruptedIOException();
+                }
+            }
+            return response(request, String.valueOf(call));
+        };
+    }
+
+    private static void awaitIgnoringInterrupts(CountDownLatch latch) {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (latch.getCount() > 0 && System.nanoTime() < deadline) {
+            try {
+                latch.await(10, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ignored) {
+                // блокирующее чтение из сокета не реагирует на прерывание потока
+            }
+        }
+    }
+
+    private static Response response(Request request, String body) {
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Map.of())
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+
+    private TestApi api(Client delegate, CallBudget budget) {
+        return api(delegate, budget, new LatencyEstimator(16, 4));
+    }
+
+    private TestApi api(Client delegate, CallBudget budget, LatencyEstimator latency) {
+        var policy = new HedgingClient.Policy(latency, 95, 5, 20);
+        return Feign.builder()
+                .retryer(Retryer.NEVER_RETRY)
+                .client(new HedgingClient(delegate, Map.of("newsService", policy), budget, executor, meterRegistry))
+                .target(new Target.HardCodedTarget<>(TestApi.class, "newsService", "http://localhost"));
+    }
+
+    interface TestApi {
+
+        @RequestLine("GET /news/{id}")
+        String get(@Param("id") Long id);
+
+        @RequestLine("POST /news")
+        String create(String body);
+    }
+}
\ No newline at end of file
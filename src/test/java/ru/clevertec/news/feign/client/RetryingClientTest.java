@@ -0,0 +1,131 @@
+package ru.clevertec.news.feign.client;
+
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.resilience.CallBudget;
+import ru.clevertec.news.resilience.CallNotPermittedException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RetryingClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final RetryingClient.Policy policy = new RetryingClient.Policy(3, 0, Set.of(Request.HttpMethod.GET),
+            Set.of(503));
+
+    @Test
+    void executeShouldRetryWhenStatusIsRetryable() {
+        Client failingOnce = (request, options) -> response(request, calls.incrementAndGet() == 1 ? 503 : 200);
+        var api = api(failingOnce, new CallBudget(1, 1));
+
+        assertEquals("200", api.get(1L));
+
+        assertEquals(2, calls.get());
+        assertEquals(1, meterRegistry.get("feign.client.retries").tags("client", "newsService", "result", "sent")
+                .counter().count());
+    }
+
+    @Test
+    void executeShouldRetryWhenClientFails() {
+        Client failingOnce = (request, options) -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IOException("Connection reset");
+            }
+            return response(request, 200);
+        };
+        var api = api(failingOnce, new CallBudget(1, 1));
+
+        assertEquals("200", api.get(1L));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void executeShouldReturnFirstResponseWhenBudgetIsExhausted() {
+        Client unavailable = (request, options) -> response(request, calls.incrementAndGet() == 1 ? 503 : 200);
+        var api = api(unavailable, new CallBudget(0, 1));
+
+        assertThrows(Exception.class, () -> api.get(1L));
+
+        assertEquals(1, calls.get());
+        assertEquals(1, meterRegistry.get("feign.client.retries").tags("result", "no_budget").counter().count());
+    }
+
+    @Test
+    void executeShouldStopAfterMaxAttempts() {
+        Client failing = (request, options) -> {
+            calls.incrementAndGet();
+            throw new IOException("Connection reset");
+        };
+        var api = api(failing, new CallBudget(10, 10));
+
+        assertThrows(RetryableException.class, () -> api.get(1L));
+
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void executeShouldNotRetryRequestsOtherThanConfiguredMethods() {
+        Client unavailable = (request, options) -> response(request, calls.incrementAndGet() == 1 ? 503 : 200);
+        var api = api(unavailable, new CallBudget(1, 1));
+
+        assertThrows(Exception.class, () -> api.create("news"));
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void executeShouldNotRetryWhenCallIsNotPermitted() {
+        Client rejecting = (request, options) -> {
+            calls.incrementAndGet();
+            throw new CallNotPermittedException("Circuit is open", 1000);
+        };
+        var api = api(rejecting, new CallBudget(1, 1));
+
+        assertThrows(CallNotPermittedException.class, () -> api.get(1L));
+
+        assertEquals(1, calls.get());
+    }
+
+    private static Response response(Request request, int status) {
+        return Response.builder()
+                .status(status)
+                .request(request)
+                .headers(Map.of())
+                .body(String.valueOf(status), StandardCharsets.UTF_8)
+                .build();
+    }
+
+    private TestApi api(Client delegate, CallBudget budget) {
+        return Feign.builder()
+                .client(new RetryingClient(delegate, Map.of("newsService", policy), budget, meterRegistry))
+                .retryer(Retryer.NEVER_RETRY)
+                .target(new Target.HardCodedTarget<>(TestApi.class, "newsService", "http://localhost"));
+    }
+
+    interface TestApi {
+
+        @RequestLine("GET /news/{id}")
+        String get(@Param("id") Long id);
+
+        @RequestLine("POST /news")
+        String create(String body);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package ru.clevertec.news.feign.client;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.config.FeignConfig;
+import ru.clevertec.news.config.properties.FeignProperties;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ServiceRoutingClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WireMockServer server = new WireMockServer(options().dynamicPort());
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        server.start();
+        server.stubFor(get(urlEqualTo("/news/1")).willReturn(aResponse().withStatus(200).withBody("news")));
+
+        var properties = new FeignProperties();
+        properties.getNewsService().setValue("newsService");
+        properties.getNewsService().getPool().setEnabled(true);
+        properties.getNewsService().getPool().setMaxConnections(5);
+        properties.getAuthService().setValue("authService");
+        client = new FeignConfig().feignClient(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        ((Closeable) client).close();
+        server.stop();
+    }
+
+    @Test
+    void executeShouldUsePooledClientWhenPoolIsEnabled() {
+        var api = api("newsService");
+
+        assertEquals("news", api.get(1L));
+        assertEquals("news", api.get(1L));
+
+        assertEquals(2, meterRegistry.get("feign.client.pool.lease").tag("client", "newsService").timer().count());
+        assertEquals(5, meterRegistry.get("httpcomponents.httpclient.pool.total.max").tag("httpclient", "newsService").gauge().value());
+    }
+
+    @Test
+    void executeShouldUseDefaultClientWhenPoolIsDisabled() {
+        assertEquals("news", api("authService").get(1L));
+
+        assertEquals(0, meterRegistry.get("feign.client.pool.lease").tag("client", "newsService").timer().count());
+    }
+
+    @Test
+    void executeShouldKeepShorterRequestTimeoutsOnPooledRoute() throws Exception {
+        var options = new AtomicReference<Request.Options>();
+        Client pooled = (request, requestOptions) -> {
+            options.set(requestOptions);
+            return Response.builder().status(200).request(request).headers(Map.of()).body("news", UTF_8).build();
+        };
+        var routing = new ServiceRoutingClient(Map.of("newsService", new ServiceRoutingClient.Route(pooled, 2000, 5000)),
+                client, List.of());
+        var request = Request.create(Request.HttpMethod.GET, server.baseUrl() + "/news/1", Map.of(), null, UTF_8,
+                new RequestTemplate().feignTarget(new Target.HardCodedTarget<>(TestApi.class, "newsService", server.baseUrl())));
+
+        routing.execute(request, new Request.Options(50, TimeUnit.MILLISECONDS, 50, TimeUnit.MILLISECONDS, true));
+
+        assertEquals(50, options.get().connectTimeoutMillis());
+        assertEquals(50, options.get().readTimeoutMillis());
+    }
+
+    private TestApi api(String name) {
+        return Feign.builder()
+                .client(client)
+                .target(new Target.HardCodedTarget<>(TestApi.class, name, server.baseUrl()));
+    }
+
+    interface TestApi {
+
+        @RequestLine("GET /news/{id}")
+        String get(@Param("id") Long id);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package ru.clevertec.news.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import ru.clevertec.news.config.properties.RateLimitProperties;
+import ru.clevertec.news.dto.constant.RoleName;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RateLimitSynchronizerTest {
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(10_000), ZoneOffset.UTC);
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private final RateLimiter rateLimiter = new RateLimiter(properties, clock);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RateLimitSynchronizer synchronizer = new RateLimitSynchronizer(rateLimiter, redisTemplate, properties, clock);
+
+    @Test
+    void synchronizeShouldKeepUnsyncedConsumptionWhenRedisIsUnavailable() {
+        rateLimiter.tryAcquire("TestUser:GET /api/news", RoleName.JOURNALIST);
+        rateLimiter.tryAcquire("TestUser:GET /api/news", RoleName.JOURNALIST);
+
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        synchronizer.synchronize();
+
+        assertEquals(1, rateLimiter.size());
+        assertEquals(List.of(2L), pending());
+    }
+
+    private List<Long> pending() {
+        List<Long> pending = new ArrayList<>();
+        rateLimiter.forEach((key, bucket) -> pending.add(bucket.drainPending()));
+        return pending;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package ru.clevertec.news.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.config.properties.RateLimitProperties;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RateLimiterTest {
+
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private final RateLimiter rateLimiter = new RateLimiter(properties, Clock.fixed(Instant.ofEpochMilli(10_000), ZoneOffset.UTC));
+
+    @Test
+    void tryAcquireShouldLimitWaitWhenBucketIsNotRefilled() {
+        properties.setDefaultLimit(new RateLimitProperties.Limit(1, 0));
+
+        rateLimiter.tryAcquire("127.0.0.1:GET /api/news", null);
+
+        assertEquals(60_000, rateLimiter.tryAcquire("127.0.0.1:GET /api/news", null));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+package ru.clevertec.news.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.config.properties.FeignProperties;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CircuitBreakerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new FeignProperties.CircuitBreaker();
+        properties.setSlidingWindowSize(4);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(50);
+        properties.setSlowCallRateThreshold(75);
+        properties.setSlowCallDuration(Duration.ofMillis(100));
+        properties.setOpenDuration(Duration.ofSeconds(1));
+        properties.setHalfOpenCalls(2);
+        circuitBreaker = new CircuitBreaker("newsService", properties, meterRegistry);
+    }
+
+    @Test
+    void onResultShouldOpenCircuitWhenFailureRateReachesThreshold() {
+        circuitBreaker.onResult(false, 10, 0);
+        circuitBreaker.onResult(true, 10, 0);
+        circuitBreaker.onResult(false, 10, 0);
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        circuitBreaker.onResult(true, 10, 0);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission(500));
+        assertEquals(500, circuitBreaker.retryAfter(500));
+        assertEquals(1, meterRegistry.get("feign.client.circuit.rejected").counter().count());
+        assertEquals(1, meterRegistry.get("feign.client.circuit.state").tag("state", "open").gauge().value());
+    }
+
+    @Test
+    void onResultShouldOpenCircuitWhenSlowCallRateReachesThreshold() {
+        circuitBreaker.onResult(false, 100, 0);
+        circuitBreaker.onResult(false, 150, 0);
+        circuitBreaker.onResult(false, 10, 0);
+        circuitBreaker.onResult(false, 200, 0);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void onResultShouldCountOnlyLastCallsOfWindow() {
+        for (var failure : new boolean[]{true, false, false, false, false, false, true}) {
+            circuitBreaker.onResult(failure, 10, 0);
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        circuitBreaker.onResult(true, 10, 0);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void tryAcquirePermissionShouldCloseCircuitWhenTrialCallsSucceed() {
+        open();
+
+        assertTrue(circuitBreaker.tryAcquirePermission(1000));
+        assertTrue(circuitBreaker.tryAcquirePermission(1000));
+        assertFalse(circuitBreaker.tryAcquirePermission(1000));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+        circuitBreaker.onResult(false, 10, 1010);
+        circuitBreaker.onResult(false, 10, 1020);
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquirePermission(1030));
+        assertEquals(1, meterRegistry.get("feign.client.circuit.transitions")
+                .tags("from", "half_open", "to", "closed").counter().count());
+    }
+
+    @Test
+    void tryAcquirePermissionShouldReopenCircuitWhenTrialCallFails() {
+        open();
+
+        assertTrue(circuitBreaker.tryAcquirePermission(1000));
+        assertTrue(circuitBreaker.tryAcquirePermission(1000));
+        circuitBreaker.onResult(true, 10, 1010);
+        circuitBreaker.onResult(false, 10, 1020);
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(1000, circuitBreaker.retryAfter(1020));
+    }
+
+    @Test
+    void releasePermissionShouldReturnTrialPermission() {
+        open();
+
+        assertTrue(circuitBreaker.tryAcquirePermission(1000));
+        assertTrue(circuitBreaker.tryAcquirePermission(1000));
+        circuitBreaker.releasePermission();
+
+        assertTrue(circuitBreaker.tryAcquirePermission(1000));
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onResult(true, 10, 0);
+        }
+    }
+}
\ No newline at end of file
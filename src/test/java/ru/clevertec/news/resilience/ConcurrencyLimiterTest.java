@@ -0,0 +1,80 @@
+package ru.clevertec.news.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.config.properties.OverloadProperties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static ru.clevertec.news.resilience.ConcurrencyLimiter.Priority.LIST;
+import static ru.clevertec.news.resilience.ConcurrencyLimiter.Priority.READ;
+import static ru.clevertec.news.resilience.ConcurrencyLimiter.Priority.WRITE;
+
+public class ConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void tryAcquireShouldShedListsBeforeReadsAndReadsBeforeWrites() {
+        var limiter = limiter(10);
+        for (var i = 0; i < 6; i++) {
+            assertEquals(i + 1, limiter.tryAcquire(WRITE));
+        }
+
+        assertEquals(0, limiter.tryAcquire(LIST));
+        assertEquals(7, limiter.tryAcquire(READ));
+        assertEquals(8, limiter.tryAcquire(READ));
+        assertEquals(0, limiter.tryAcquire(READ));
+        assertEquals(9, limiter.tryAcquire(WRITE));
+        assertEquals(10, limiter.tryAcquire(WRITE));
+        assertEquals(0, limiter.tryAcquire(WRITE));
+
+        assertEquals(1, meterRegistry.get("http.server.requests.shed").tag("priority", "list").counter().count());
+        assertEquals(1, meterRegistry.get("http.server.requests.shed").tag("priority", "read").counter().count());
+        assertEquals(1, meterRegistry.get("http.server.requests.shed").tag("priority", "write").counter().count());
+        assertEquals(10, meterRegistry.get("http.server.concurrency.active").gauge().value());
+    }
+
+    @Test
+    void releaseShouldDecreaseLimitWhenLatencyGrows() {
+        var limiter = limiter(20);
+        for (var i = 0; i < 50; i++) {
+            limiter.tryAcquire(WRITE);
+            limiter.release(20, 10 * MILLIS);
+        }
+        var grown = limiter.getLimit();
+
+        for (var i = 0; i < 20; i++) {
+            limiter.tryAcquire(WRITE);
+            limiter.release((int) limiter.getLimit(), 100 * MILLIS);
+        }
+
+        assertTrue(grown > 20);
+        assertTrue(limiter.getLimit() < grown / 2);
+        assertEquals(limiter.getLimit(), meterRegistry.get("http.server.concurrency.limit").gauge().value());
+    }
+
+    @Test
+    void releaseShouldNotIncreaseLimitWhenLimitIsUnderused() {
+        var limiter = limiter(20);
+
+        for (var i = 0; i < 50; i++) {
+            limiter.tryAcquire(LIST);
+            limiter.release(1, 10 * MILLIS);
+        }
+
+        assertEquals(20, limiter.getLimit());
+        assertEquals(0, meterRegistry.get("http.server.concurrency.active").gauge().value());
+    }
+
+    private ConcurrencyLimiter limiter(int initialLimit) {
+        var properties = new OverloadProperties();
+        properties.setInitialLimit(initialLimit);
+        properties.setMinLimit(2);
+        properties.setMaxLimit(100);
+        properties.setLongWindow(100);
+        return new ConcurrencyLimiter(properties, meterRegistry);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package ru.clevertec.news.resilience;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DeadlineTest {
+
+    @AfterEach
+    void tearDown() {
+        Deadline.set(null);
+    }
+
+    @Test
+    void remainingShouldNotBeNegativeWhenDeadlineHasPassed() {
+        var deadline = Deadline.after(100, 1000);
+
+        assertEquals(40, deadline.remaining(1060));
+        assertFalse(deadline.isExpired(1099));
+        assertEquals(0, deadline.remaining(1200));
+        assertTrue(deadline.isExpired(1100));
+    }
+
+    @Test
+    void limitShouldReturnRemainingTimeWhenItIsLessThanTimeout() {
+        assertEquals(500, Deadline.limit(500, 1000));
+
+        Deadline.set(new Deadline(1200));
+
+        assertEquals(200, Deadline.limit(500, 1000));
+        assertEquals(0, Deadline.limit(500, 1300));
+    }
+
+    @Test
+    void wrapShouldPropagateDeadlineToAnotherThread() {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            Deadline.set(new Deadline(1200));
+
+            var propagated = CompletableFuture.supplyAsync(Deadline.wrap(Deadline::current), executor).join();
+            var cleared = CompletableFuture.supplyAsync(Deadline::current, executor).join();
+
+            assertEquals(new Deadline(1200), propagated);
+            assertNull(cleared);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
\ No newline at end of file
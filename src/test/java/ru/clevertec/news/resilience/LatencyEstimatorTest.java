@@ -0,0 +1,35 @@
+package ru.clevertec.news.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LatencyEstimatorTest {
+
+    @Test
+    void percentileShouldReturnMinusOneWhenNotEnoughSamples() {
+        var estimator = new LatencyEstimator(100, 10);
+        for (int i = 0; i < 9; i++) {
+            estimator.record(i);
+        }
+
+        assertEquals(-1, estimator.percentile(95));
+    }
+
+    @Test
+    void percentileShouldUseLastSamples() {
+        var estimator = new LatencyEstimator(100, 10);
+        for (int i = 1; i <= 100; i++) {
+            estimator.record(i);
+        }
+
+        assertEquals(95, estimator.percentile(95));
+        assertEquals(50, estimator.percentile(50));
+
+        for (int i = 0; i < 100; i++) {
+            estimator.record(1000);
+        }
+
+        assertEquals(1000, estimator.percentile(50));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package ru.clevertec.news.security;
+
+import feign.Request;
+import feign.RetryableException;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.dto.auth.JwtDto;
+import ru.clevertec.news.dto.auth.SignInDto;
+import ru.clevertec.news.dto.auth.SignUpDto;
+import ru.clevertec.news.feign.AuthClient;
+import ru.clevertec.news.security.impl.BatchingTokenVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchingTokenVerifierTest {
+
+    private final LocalAuthClient authClient = new LocalAuthClient();
+
+    @Test
+    void verifyShouldSendConcurrentChecksAsOneBatchWhenBatchIsFull() throws Exception {
+        var size = 8;
+        var verifier = verifier(size, Duration.ofSeconds(10));
+        ExecutorService executor = Executors.newFixedThreadPool(size);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                var token = (i % 2 == 0 ? "valid-" : "invalid-") + i;
+                results.add(executor.submit(() -> verifier.verify(token, null)));
+            }
+
+            for (int i = 0; i < size; i++) {
+                assertEquals(i % 2 == 0, results.get(i).get());
+            }
+            assertEquals(1, authClient.batches.size());
+            assertEquals(size, authClient.batches.get(0).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void verifyShouldSendBatchWhenWindowExpires() {
+        var verifier = verifier(64, Duration.ofMillis(5));
+
+        assertTrue(verifier.verify("valid-1", null));
+        assertFalse(verifier.verify("invalid-2", null));
+
+        assertEquals(List.of(List.of("valid-1"), List.of("invalid-2")), authClient.batches);
+    }
+
+    @Test
+    void verifyShouldCheckIdenticalTokensOnce() {
+        var verifier = verifier(64, Duration.ofMillis(200));
+
+        var first = CompletableFuture.supplyAsync(() -> verifier.verify("valid-1", null));
+        var second = CompletableFuture.supplyAsync(() -> verifier.verify("valid-1", null));
+
+        assertTrue(first.join());
+        assertTrue(second.join());
+        assertEquals(List.of("valid-1"), authClient.batches.get(0));
+    }
+
+    @Test
+    void verifyShouldThrowExceptionWhenBatchCheckFails() {
+        authClient.failure = new IllegalStateException("auth-service unavailable");
+        var verifier = verifier(64, Duration.ofMillis(1));
+
+        assertThrows(RuntimeException.class, () -> verifier.verify("valid-1", null));
+    }
+
+    @Test
+    void verifyShouldThrowRetryableExceptionWhenBatchCheckOutlivesReadTimeout() throws Exception {
+        authClient.release = new CountDownLatch(1);
+        var verifier = new BatchingTokenVerifier(authClient, 2, Duration.ofSeconds(1),
+                new Request.Options(10, TimeUnit.MILLISECONDS, 50, TimeUnit.MILLISECONDS, true), Clock.systemUTC());
+        var leader = CompletableFuture.supplyAsync(() -> verifier.verify("valid-1", null));
+        Thread.sleep(20);
+
+        try {
+            assertThrows(RetryableException.class, () -> verifier.verify("valid-2", null));
+        } finally {
+            authClient.release.countDown();
+        }
+        assertTrue(leader.join());
+    }
+
+    private BatchingTokenVerifier verifier(int maxSize, Duration window) {
+        return new BatchingTokenVerifier(authClient, maxSize, window, new Request.Options(), Clock.systemUTC());
+    }
+
+    /**
+     * Локальная замена auth-service: токены с префиксом {@code valid} считаются действительными.
+     */
+    private static class LocalAuthClient implements AuthClient {
+
+        private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+        private RuntimeException failure;
+        private CountDownLatch release;
+
+        @Override
+        public JwtDto signUp(SignUpDto dto) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public JwtDto signIn(SignInDto dto) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean check(String auth) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Boolean> checkBatch(List<String> tokens) {
+            if (failure != null) {
+                throw failure;
+            }
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            batches.add(List.copyOf(tokens));
+            return tokens.stream().map(token -> token.startsWith("valid")).toList();
+        }
+    }
+}
\ No newline at end of file
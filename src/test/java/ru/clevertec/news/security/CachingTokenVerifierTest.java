@@ -0,0 +1,100 @@
+package ru.clevertec.news.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.clevertec.news.config.properties.TokenProperties;
+import ru.clevertec.news.entity.TokenPayload;
+import ru.clevertec.news.security.impl.CachingTokenVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingTokenVerifierTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final TokenPayload PAYLOAD = new TokenPayload("TestUser", "ADMIN", null);
+
+    @Mock
+    private TokenVerifier delegate;
+
+    private final Instant now = Instant.parse("2024-01-03T09:12:15Z");
+    private TokenProperties properties;
+    private TokenDecisionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TokenProperties();
+        properties.getCache().setTtl(Duration.ofMinutes(5));
+        properties.getCache().setNegativeTtl(Duration.ofSeconds(10));
+        cache = new TokenDecisionCache(2);
+    }
+
+    @Test
+    void verifyShouldCallDelegateOnceWhenTokenIsReused() {
+        var verifier = verifierAt(now);
+
+        when(delegate.verify(TOKEN, PAYLOAD)).thenReturn(true);
+
+        assertTrue(verifier.verify(TOKEN, PAYLOAD));
+        assertTrue(verifier.verify(TOKEN, PAYLOAD));
+
+        verify(delegate, times(1)).verify(TOKEN, PAYLOAD);
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void verifyShouldCallDelegateAgainWhenTokenExpires() {
+        var payload = new TokenPayload("TestUser", "ADMIN", now.plusSeconds(30).getEpochSecond());
+
+        when(delegate.verify(TOKEN, payload)).thenReturn(true);
+
+        verifierAt(now).verify(TOKEN, payload);
+        verifierAt(now.plusSeconds(29)).verify(TOKEN, payload);
+        verifierAt(now.plusSeconds(30)).verify(TOKEN, payload);
+
+        verify(delegate, times(2)).verify(TOKEN, payload);
+    }
+
+    @Test
+    void verifyShouldKeepNegativeResultForNegativeTtl() {
+        when(delegate.verify(TOKEN, PAYLOAD)).thenReturn(false);
+
+        assertFalse(verifierAt(now).verify(TOKEN, PAYLOAD));
+        assertFalse(verifierAt(now.plusSeconds(9)).verify(TOKEN, PAYLOAD));
+        assertFalse(verifierAt(now.plusSeconds(10)).verify(TOKEN, PAYLOAD));
+
+        verify(delegate, times(2)).verify(TOKEN, PAYLOAD);
+    }
+
+    @Test
+    void putShouldEvictEldestEntryWhenCacheIsFull() {
+        var expiresAt = now.plusSeconds(60).toEpochMilli();
+
+        cache.put("first", true, expiresAt);
+        cache.put("second", true, expiresAt);
+        cache.put("third", true, expiresAt);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertNull(cache.get("first", now.toEpochMilli()));
+    }
+
+    private CachingTokenVerifier verifierAt(Instant instant) {
+        return new CachingTokenVerifier(delegate, cache, properties, Clock.fixed(instant, ZoneOffset.UTC));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package ru.clevertec.news.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.clevertec.news.entity.TokenPayload;
+import ru.clevertec.news.exception.OperationException;
+import ru.clevertec.news.repository.UserRepository;
+import ru.clevertec.news.security.impl.ClaimsPrincipalResolver;
+import ru.clevertec.news.util.AuthTestBuilder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ClaimsPrincipalResolverTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ClaimsPrincipalResolver principalResolver;
+
+    @BeforeEach
+    void setUp() {
+        principalResolver = new ClaimsPrincipalResolver(new UserIdCache(userRepository, 10));
+    }
+
+    @Test
+    void resolveShouldBuildUserFromClaimsAndLoadIdOnce() {
+        var expected = AuthTestBuilder.builder().build().buildUser();
+        var payload = new TokenPayload(expected.getLogin(), expected.getRole().name(), null);
+
+        when(userRepository.findByLogin(expected.getLogin())).thenReturn(Optional.of(expected));
+
+        principalResolver.resolve(payload);
+        var actual = principalResolver.resolve(payload);
+
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getLogin(), actual.getUsername());
+        assertEquals(expected.getRole(), actual.getRole());
+        verify(userRepository, times(1)).findByLogin(expected.getLogin());
+    }
+
+    @Test
+    void resolveShouldThrowExceptionWhenUserNotFound() {
+        var payload = new TokenPayload("Unknown", "ADMIN", null);
+
+        when(userRepository.findByLogin("Unknown")).thenReturn(Optional.empty());
+
+        assertThrows(OperationException.class, () -> principalResolver.resolve(payload));
+    }
+}
\ No newline at end of file
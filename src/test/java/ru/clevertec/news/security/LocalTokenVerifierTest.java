@@ -0,0 +1,94 @@
+package ru.clevertec.news.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import ru.clevertec.news.config.properties.TokenProperties;
+import ru.clevertec.news.security.impl.LocalTokenVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalTokenVerifierTest {
+
+    private static final String SECRET = "test-secret";
+    private static final String ISSUER = "auth-service";
+
+    private final Instant now = Instant.now();
+    private LocalTokenVerifier tokenVerifier;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new TokenProperties();
+        properties.setSecret(SECRET);
+        properties.setIssuer(ISSUER);
+        var keyStore = new TokenKeyStore(properties, new DefaultResourceLoader());
+        tokenVerifier = new LocalTokenVerifier(keyStore, Duration.ofSeconds(30), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    void verifyShouldReturnTrueWhenTokenIsValid() {
+        var token = JWT.create()
+                .withIssuer(ISSUER)
+                .withClaim("username", "TestUser")
+                .withExpiresAt(now.plusSeconds(60))
+                .sign(Algorithm.HMAC256(SECRET));
+
+        assertTrue(tokenVerifier.verify(token, null));
+    }
+
+    @Test
+    void verifyShouldReturnFalseWhenSignatureIsInvalid() {
+        var token = JWT.create()
+                .withIssuer(ISSUER)
+                .withExpiresAt(now.plusSeconds(60))
+                .sign(Algorithm.HMAC256("another-secret"));
+
+        assertFalse(tokenVerifier.verify(token, null));
+    }
+
+    @Test
+    void verifyShouldReturnFalseWhenIssuerIsInvalid() {
+        var token = JWT.create()
+                .withIssuer("another-issuer")
+                .withExpiresAt(now.plusSeconds(60))
+                .sign(Algorithm.HMAC256(SECRET));
+
+        assertFalse(tokenVerifier.verify(token, null));
+    }
+
+    @Test
+    void verifyShouldReturnFalseWhenExtIsExpired() {
+        var token = JWT.create()
+                .withIssuer(ISSUER)
+                .withClaim("ext", now.minusSeconds(31).getEpochSecond())
+                .sign(Algorithm.HMAC256(SECRET));
+
+        assertFalse(tokenVerifier.verify(token, null));
+    }
+
+    @Test
+    void verifyShouldReturnTrueWhenExtIsExpiredWithinLeeway() {
+        var token = JWT.create()
+                .withIssuer(ISSUER)
+                .withClaim("ext", now.minusSeconds(10).getEpochSecond())
+                .sign(Algorithm.HMAC256(SECRET));
+
+        assertTrue(tokenVerifier.verify(token, null));
+    }
+
+    @Test
+    void keyStoreShouldThrowExceptionWhenSecretIsMissing() {
+        var properties = new TokenProperties();
+
+        assertThrows(IllegalStateException.class, () -> new TokenKeyStore(properties, new DefaultResourceLoader()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package ru.clevertec.news.security;
+
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.constant.RevocationType;
+import ru.clevertec.news.entity.RevocationEvent;
+import ru.clevertec.news.entity.TokenPayload;
+import ru.clevertec.news.util.TokenDigest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RevocationRegistryTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private final Instant now = Instant.parse("2024-01-03T09:12:15Z");
+    private final RevocationRegistry registry = new RevocationRegistry(Clock.fixed(now, ZoneOffset.UTC),
+            Duration.ofHours(24));
+
+    @Test
+    void isRevokedShouldReturnTrueWhenTokenIsRevoked() {
+        var payload = new TokenPayload("TestUser", "ADMIN", now.plusSeconds(60).getEpochSecond());
+
+        registry.apply(new RevocationEvent(RevocationType.TOKEN, TokenDigest.of(TOKEN), now.plusSeconds(60).toEpochMilli()));
+
+        assertTrue(registry.isRevoked(TOKEN, payload));
+        assertFalse(registry.isRevoked("other.payload.signature", payload));
+    }
+
+    @Test
+    void isRevokedShouldReturnTrueOnlyForTokensIssuedBeforeUserRevocation() {
+        var revokedUntil = now.plusSeconds(3600);
+        var issuedBefore = new TokenPayload("TestUser", "ADMIN", revokedUntil.minusSeconds(1).getEpochSecond());
+        var issuedAfter = new TokenPayload("TestUser", "ADMIN", revokedUntil.plusSeconds(1).getEpochSecond());
+
+        registry.apply(new RevocationEvent(RevocationType.USER, "TestUser", revokedUntil.toEpochMilli()));
+
+        assertTrue(registry.isRevoked(TOKEN, issuedBefore));
+        assertFalse(registry.isRevoked(TOKEN, issuedAfter));
+        assertFalse(registry.isRevoked(TOKEN, new TokenPayload("OtherUser", "ADMIN", null)));
+    }
+
+    @Test
+    void isRevokedShouldReturnFalseWhenTokenIsIssuedAfterUserRevocation() {
+        var revokedAt = now.minusSeconds(60);
+        var reissued = new TokenPayload("TestUser", "ADMIN", now.plusSeconds(600).getEpochSecond(), now.getEpochSecond());
+        var stale = new TokenPayload("TestUser", "ADMIN", now.plusSeconds(600).getEpochSecond(),
+                revokedAt.minusSeconds(1).getEpochSecond());
+
+        registry.apply(new RevocationEvent(RevocationType.USER, "TestUser", revokedAt.plus(Duration.ofHours(24)).toEpochMilli(),
+                revokedAt.toEpochMilli()));
+
+        assertFalse(registry.isRevoked(TOKEN, reissued));
+        assertTrue(registry.isRevoked(TOKEN, stale));
+    }
+
+    @Test
+    void purgeShouldRemoveExpiredEntries() {
+        registry.apply(new RevocationEvent(RevocationType.TOKEN, TokenDigest.of(TOKEN), now.toEpochMilli()));
+        registry.apply(new RevocationEvent(RevocationType.USER, "TestUser", now.plusSeconds(1).toEpochMilli()));
+
+        registry.purge();
+
+        assertEquals(1, registry.size());
+        assertFalse(registry.isRevoked(TOKEN, new TokenPayload("OtherUser", "ADMIN", null)));
+    }
+}
\ No newline at end of file
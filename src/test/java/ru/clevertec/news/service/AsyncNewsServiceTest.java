@@ -0,0 +1,92 @@
+package ru.clevertec.news.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import ru.clevertec.news.composition.NewsComposer;
+import ru.clevertec.news.config.properties.PaginationProperties;
+import ru.clevertec.news.dto.constant.RoleName;
+import ru.clevertec.news.exception.OperationException;
+import ru.clevertec.news.facade.AuthenticationFacade;
+import ru.clevertec.news.feign.async.AsyncCallLimiter;
+import ru.clevertec.news.feign.async.AsyncCommentClient;
+import ru.clevertec.news.feign.async.AsyncNewsClient;
+import ru.clevertec.news.service.impl.AsyncNewsServiceImpl;
+import ru.clevertec.news.util.NewsTestBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncNewsServiceTest {
+
+    @Mock
+    private AsyncNewsClient newsClient;
+
+    @Mock
+    private AsyncCommentClient commentClient;
+
+    @Mock
+    private ObjectProvider<NewsComposer> newsComposer;
+
+    @Mock
+    private AuthenticationFacade authenticationFacade;
+
+    private AsyncNewsService newsService;
+
+    @BeforeEach
+    void setUp() {
+        var callLimiter = new AsyncCallLimiter(10, Duration.ofSeconds(1), Runnable::run, new SimpleMeterRegistry());
+        newsService = new AsyncNewsServiceImpl(newsClient, commentClient, callLimiter, newsComposer, authenticationFacade,
+                new PaginationProperties());
+    }
+
+    @Test
+    void getNewsByIdShouldReturnExpectedNewsWhenFound() {
+        var expected = NewsTestBuilder.builder().build().buildNewsDto();
+
+        when(newsClient.getNewsById(expected.getId())).thenReturn(CompletableFuture.completedFuture(expected));
+
+        var actual = newsService.getNewsById(expected.getId()).join();
+
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getTitle(), actual.getTitle());
+    }
+
+    @Test
+    void getNewsByIdShouldFailWithOperationExceptionWhenClientFails() {
+        when(newsClient.getNewsById(1L)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")));
+
+        var e = assertThrows(CompletionException.class, () -> newsService.getNewsById(1L).join());
+
+        assertInstanceOf(OperationException.class, e.getCause());
+        assertEquals("Get news by id error - down", e.getCause().getMessage());
+    }
+
+    @Test
+    void deleteShouldNotDeleteNewsOfAnotherUser() {
+        var newsDto = NewsTestBuilder.builder().withUserId(2L).build().buildNewsDto();
+
+        when(newsClient.getNewsById(newsDto.getId())).thenReturn(CompletableFuture.completedFuture(newsDto));
+        when(authenticationFacade.getCurrentUserId()).thenReturn(1L);
+        when(authenticationFacade.hasRole(RoleName.ADMIN)).thenReturn(false);
+
+        var e = assertThrows(CompletionException.class, () -> newsService.delete(newsDto.getId()).join());
+
+        assertInstanceOf(OperationException.class, e.getCause());
+        verify(newsClient, never()).delete(any());
+    }
+}
\ No newline at end of file
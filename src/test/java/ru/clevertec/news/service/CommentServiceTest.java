@@ -4,7 +4,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.clevertec.news.config.properties.PaginationProperties;
+import ru.clevertec.news.dto.cursor.Cursor;
 import ru.clevertec.news.exception.EntityNotFoundException;
 import ru.clevertec.news.facade.AuthenticationFacade;
 import ru.clevertec.news.feign.CommentClient;
@@ -12,6 +15,8 @@ import ru.clevertec.news.service.impl.CommentServiceImpl;
 import ru.clevertec.news.util.AuthTestBuilder;
 import ru.clevertec.news.util.CommentTestBuilder;
 
+import java.util.List;
+
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.verify;
@@ -26,6 +31,9 @@ public class CommentServiceTest {
     @Mock
     private AuthenticationFacade authenticationFacade;
 
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -50,6 +58,20 @@ public class CommentServiceTest {
         assertThrows(EntityNotFoundException.class, () -> commentClient.getById(id));
     }
 
+    @Test
+    void getByNewsIdByCursorShouldRequestRowsAfterCursor() {
+        var first = CommentTestBuilder.builder().withId(5L).build().buildCommentDto();
+        var second = CommentTestBuilder.builder().withId(4L).build().buildCommentDto();
+        var after = new Cursor(first.getTime(), 6L);
+
+        when(commentClient.getByNewsIdAfter(after.time().toString(), 6L, 2, 1L)).thenReturn(List.of(first, second));
+
+        var actual = commentService.getByNewsIdByCursor(after.encode(), 1, 1L);
+
+        assertEquals(List.of(first), actual.content());
+        assertEquals(new Cursor(first.getTime(), first.getId()).encode(), actual.nextCursor());
+    }
+
     @Test
     void createShouldInvokeRepositoryWithoutCommentId() {
         var commentToCreate = CommentTestBuilder.builder().build().buildCommentCreateDto();
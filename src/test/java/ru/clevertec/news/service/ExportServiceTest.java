@@ -0,0 +1,98 @@
+package ru.clevertec.news.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.clevertec.news.config.properties.ExportProperties;
+import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.page.PageDto;
+import ru.clevertec.news.exception.OperationException;
+import ru.clevertec.news.feign.CommentClient;
+import ru.clevertec.news.feign.NewsClient;
+import ru.clevertec.news.service.impl.ExportServiceImpl;
+import ru.clevertec.news.util.NewsTestBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportServiceTest {
+
+    @Mock
+    private NewsClient newsClient;
+
+    @Mock
+    private CommentClient commentClient;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new ExportProperties();
+        properties.setPageSize(2);
+        exportService = new ExportServiceImpl(newsClient, commentClient, Jackson2ObjectMapperBuilder.json().build(),
+                Runnable::run, properties, meterRegistry);
+    }
+
+    @Test
+    void exportNewsShouldWriteOneJsonObjectPerLineFromAllPages() {
+        when(newsClient.getAll(1, 2, null, null)).thenReturn(page(2, 1L, 2L));
+        when(newsClient.getAll(2, 2, null, null)).thenReturn(page(2, 3L));
+        var out = new ByteArrayOutputStream();
+
+        exportService.exportNews(null, null, out);
+
+        var lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(List.of(true, true, true), List.of(lines[0].startsWith("{\"id\":1"),
+                lines[1].startsWith("{\"id\":2"), lines[2].startsWith("{\"id\":3")));
+        assertEquals(3, meterRegistry.get("export.items").tag("type", "news").counter().count());
+    }
+
+    @Test
+    void exportNewsShouldStopWhenClientClosesConnection() {
+        when(newsClient.getAll(1, 2, "title", null)).thenReturn(page(3, 1L, 2L));
+        OutputStream closed = new OutputStream() {
+
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        exportService.exportNews("title", null, closed);
+
+        verify(newsClient, never()).getAll(3, 2, "title", null);
+        assertEquals(1, meterRegistry.get("export.cancelled").tag("type", "news").counter().count());
+    }
+
+    @Test
+    void exportCommentsShouldThrowOperationExceptionWhenServiceFails() {
+        when(commentClient.getAll(1, 2, "user", null)).thenThrow(new IllegalStateException("unavailable"));
+
+        assertThrows(OperationException.class, () -> exportService.exportComments("user", null, new ByteArrayOutputStream()));
+    }
+
+    private PageContentDto<NewsDto> page(int totalPages, Long... ids) {
+        var content = Arrays.stream(ids)
+                .map(id -> NewsTestBuilder.builder().withId(id).build().buildNewsDto())
+                .toList();
+        return new PageContentDto<>(new PageDto(1, 2, totalPages, (long) totalPages * 2), content);
+    }
+}
\ No newline at end of file
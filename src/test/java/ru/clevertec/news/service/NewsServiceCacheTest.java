@@ -0,0 +1,107 @@
+package ru.clevertec.news.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import ru.clevertec.news.config.EntityCacheConfig;
+import ru.clevertec.news.config.properties.EntityCacheProperties;
+import ru.clevertec.news.config.properties.PaginationProperties;
+import ru.clevertec.news.dto.NewsDto;
+import ru.clevertec.news.dto.constant.RoleName;
+import ru.clevertec.news.dto.page.PageContentDto;
+import ru.clevertec.news.dto.page.PageDto;
+import ru.clevertec.news.facade.AuthenticationFacade;
+import ru.clevertec.news.feign.NewsClient;
+import ru.clevertec.news.service.impl.NewsServiceImpl;
+import ru.clevertec.news.util.NewsTestBuilder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+@TestPropertySource(properties = "entity-cache.enabled=true")
+public class NewsServiceCacheTest {
+
+    @MockBean
+    private NewsClient newsClient;
+
+    @MockBean
+    private AuthenticationFacade authenticationFacade;
+
+    @Autowired
+    private NewsService newsService;
+
+    @Test
+    void getNewsByIdShouldCallClientOnceWhenNewsIsCached() {
+        var newsDto = NewsTestBuilder.builder().withId(1L).build().buildNewsDto();
+        when(newsClient.getNewsById(1L)).thenReturn(newsDto);
+
+        newsService.getNewsById(1L);
+        var actual = newsService.getNewsById(1L);
+
+        assertEquals(newsDto, actual);
+        verify(newsClient, times(1)).getNewsById(1L);
+    }
+
+    @Test
+    void getNewsByIdShouldReturnUpdatedNewsWithoutCallWhenNewsWasUpdated() {
+        var updateDto = NewsTestBuilder.builder().withId(2L).withTitle("updated").build().buildNewsUpdateDto();
+        var updated = NewsTestBuilder.builder().withId(2L).withTitle("updated").build().buildNewsDto();
+        when(authenticationFacade.hasRole(RoleName.ADMIN)).thenReturn(true);
+        when(newsClient.update(updateDto)).thenReturn(updated);
+
+        newsService.update(updateDto);
+        var actual = newsService.getNewsById(2L);
+
+        assertEquals("updated", actual.getTitle());
+        verify(newsClient, times(0)).getNewsById(2L);
+    }
+
+    @Test
+    void getNewsByIdShouldCallClientAgainWhenNewsWasDeleted() {
+        var newsDto = NewsTestBuilder.builder().withId(3L).build().buildNewsDto();
+        when(authenticationFacade.hasRole(RoleName.ADMIN)).thenReturn(true);
+        when(newsClient.getNewsById(3L)).thenReturn(newsDto);
+
+        newsService.getNewsById(3L);
+        newsService.delete(3L);
+        newsService.getNewsById(3L);
+
+        verify(newsClient, times(3)).getNewsById(3L);
+    }
+
+    @Test
+    void getAllShouldCallClientAgainOnlyForMatchingListingWhenNewsWasCreated() {
+        var createDto = NewsTestBuilder.builder().withTitle("sport").build().buildNewsCreateDto();
+        var created = NewsTestBuilder.builder().withId(4L).withTitle("sport").build().buildNewsDto();
+        var page = new PageContentDto<NewsDto>(new PageDto(1, 15, 1, 0L), List.of());
+        when(authenticationFacade.hasRole(RoleName.ADMIN)).thenReturn(true);
+        when(newsClient.create(createDto)).thenReturn(created);
+        when(newsClient.getAll(1, 15, "sport", null)).thenReturn(page);
+        when(newsClient.getAll(1, 15, "politics", null)).thenReturn(page);
+
+        newsService.getAll(1, 15, "sport", null);
+        newsService.getAll(1, 15, "politics", null);
+        newsService.create(createDto);
+        newsService.getAll(1, 15, "sport", null);
+        newsService.getAll(1, 15, "politics", null);
+
+        verify(newsClient, times(2)).getAll(1, 15, "sport", null);
+        verify(newsClient, times(1)).getAll(1, 15, "politics", null);
+    }
+
+    @Configuration
+    @Import({EntityCacheConfig.class, NewsServiceImpl.class})
+    @EnableConfigurationProperties({EntityCacheProperties.class, PaginationProperties.class})
+    static class Config {
+    }
+}
\ No newline at end of file
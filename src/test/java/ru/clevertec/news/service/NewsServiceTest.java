@@ -4,21 +4,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.clevertec.news.config.properties.PaginationProperties;
+import ru.clevertec.news.dto.cursor.Cursor;
 import ru.clevertec.news.dto.page.PageContentDto;
 import ru.clevertec.news.dto.page.PageDto;
 import ru.clevertec.news.exception.EntityNotFoundException;
+import ru.clevertec.news.exception.OperationException;
 import ru.clevertec.news.facade.AuthenticationFacade;
 import ru.clevertec.news.feign.NewsClient;
+import ru.clevertec.news.resilience.CallNotPermittedException;
 import ru.clevertec.news.service.impl.NewsServiceImpl;
 import ru.clevertec.news.util.AuthTestBuilder;
 import ru.clevertec.news.util.CommentTestBuilder;
 import ru.clevertec.news.util.NewsTestBuilder;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 import static ru.clevertec.news.constant.Constant.LIMIT;
 import static ru.clevertec.news.constant.Constant.OFFSET;
@@ -32,6 +39,9 @@ public class NewsServiceTest {
     @Mock
     private AuthenticationFacade authenticationFacade;
 
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
     @InjectMocks
     private NewsServiceImpl newsService;
 
@@ -59,6 +69,19 @@ public class NewsServiceTest {
         assertThrows(EntityNotFoundException.class, () -> newsClient.getNewsById(id));
     }
 
+    @Test
+    void getByIdsShouldReturnNewsInRequestOrderWithMissingIds() {
+        var first = NewsTestBuilder.builder().withId(1L).build().buildNewsDto();
+        var third = NewsTestBuilder.builder().withId(3L).build().buildNewsDto();
+
+        when(newsClient.getByIds(List.of(3L, 2L, 1L))).thenReturn(List.of(first, third));
+
+        var actual = newsService.getByIds(List.of(3L, 2L, 3L, 1L));
+
+        assertEquals(List.of(third, first), actual.content());
+        assertEquals(List.of(2L), actual.missing());
+    }
+
     @Test
     void getByIdWithCommentsShouldReturnExpectedNewsWhenFound() {
         var expected = NewsTestBuilder.builder().build().buildNewsDto();
@@ -103,6 +126,60 @@ public class NewsServiceTest {
         verifyNoMoreInteractions(newsClient);
     }
 
+    @Test
+    void getAllByCursorShouldReturnNextCursorOfLastNewsWhenMoreRowsFound() {
+        var after = new Cursor(LocalDateTime.of(2024, 1, 5, 10, 0), 10L);
+        var first = NewsTestBuilder.builder().withId(9L).build().buildNewsDto();
+        var second = NewsTestBuilder.builder().withId(8L).build().buildNewsDto();
+        var extra = NewsTestBuilder.builder().withId(7L).build().buildNewsDto();
+
+        when(newsClient.getAllAfter(after.time().toString(), 10L, 3, null, null)).thenReturn(List.of(first, second, extra));
+
+        var actual = newsService.getAllByCursor(after.encode(), 2, null, null);
+
+        assertEquals(List.of(first, second), actual.content());
+        assertEquals(new Cursor(second.getTime(), second.getId()), Cursor.decode(actual.nextCursor()));
+    }
+
+    @Test
+    void getAllByCursorShouldReturnNullNextCursorWhenLastPage() {
+        var news = NewsTestBuilder.builder().build().buildNewsDto();
+
+        when(newsClient.getAllAfter(null, null, LIMIT + 1, null, null)).thenReturn(List.of(news));
+
+        var actual = newsService.getAllByCursor(null, LIMIT, null, null);
+
+        assertEquals(List.of(news), actual.content());
+        assertNull(actual.nextCursor());
+    }
+
+    @Test
+    void getAllByCursorShouldLimitPageSizeWhenAboveMaximum() {
+        when(newsClient.getAllAfter(null, null, 101, null, null)).thenReturn(List.of());
+
+        var actual = newsService.getAllByCursor(null, Integer.MAX_VALUE, null, null);
+
+        assertEquals(List.of(), actual.content());
+        verify(newsClient).getAllAfter(null, null, 101, null, null);
+    }
+
+    @Test
+    void getAllByCursorShouldThrowOperationExceptionWhenCursorInvalid() {
+        assertThrows(OperationException.class, () -> newsService.getAllByCursor("not a cursor", LIMIT, null, null));
+        verifyNoInteractions(newsClient);
+    }
+
+    @Test
+    void getAllNewsShouldNotWrapCallNotPermittedException() {
+        var rejected = new CallNotPermittedException("Circuit breaker is open", 1000);
+
+        when(newsClient.getAll(OFFSET, LIMIT, null, null)).thenThrow(rejected);
+
+        var actual = assertThrows(CallNotPermittedException.class, () -> newsService.getAll(OFFSET, LIMIT, null, null));
+
+        assertEquals(rejected, actual);
+    }
+
     @Test
     void createShouldInvokeRepositoryWithoutNewsId() {
         var newsToSave = NewsTestBuilder.builder().withId(null).build().buildNewsCreateDto();
@@ -0,0 +1,84 @@
+package ru.clevertec.news.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import ru.clevertec.news.config.properties.RevocationProperties;
+import ru.clevertec.news.entity.TokenPayload;
+import ru.clevertec.news.exception.OperationException;
+import ru.clevertec.news.security.RevocationRegistry;
+import ru.clevertec.news.service.impl.RevocationServiceImpl;
+import ru.clevertec.news.util.TokenDigest;
+import ru.clevertec.news.util.TokenUtil;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RevocationServiceTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private TokenUtil tokenUtil;
+
+    private final RevocationRegistry revocationRegistry = new RevocationRegistry(Clock.systemUTC(), Duration.ofHours(24));
+    private final RevocationProperties properties = new RevocationProperties();
+    private RevocationService revocationService;
+
+    @BeforeEach
+    void setUp() {
+        revocationService = new RevocationServiceImpl(revocationRegistry, redisTemplate, new ObjectMapper(), tokenUtil, properties);
+    }
+
+    @Test
+    void revokeTokenShouldApplyLocallyAndPublishDigest() {
+        var ext = System.currentTimeMillis() / 1000 + 60;
+
+        when(tokenUtil.getPayload(TOKEN)).thenReturn(new TokenPayload("TestUser", "ADMIN", ext));
+
+        revocationService.revokeToken(TOKEN);
+
+        assertTrue(revocationRegistry.isRevoked(TOKEN, new TokenPayload("TestUser", "ADMIN", ext)));
+        verify(redisTemplate).convertAndSend("token-revocation",
+                "{\"type\":\"TOKEN\",\"value\":\"" + TokenDigest.of(TOKEN) + "\",\"expiresAt\":" + ext * 1000 + "}");
+    }
+
+    @Test
+    void revokeUserShouldApplyLocallyAndPublishLogin() {
+        revocationService.revokeUser("TestUser");
+
+        assertTrue(revocationRegistry.isRevoked(TOKEN, new TokenPayload("TestUser", "ADMIN", System.currentTimeMillis() / 1000)));
+        verify(redisTemplate).convertAndSend(eq("token-revocation"), anyString());
+    }
+
+    @Test
+    void revokeUserShouldNotRevokeTokenIssuedAfterRevocation() {
+        revocationService.revokeUser("TestUser");
+        var issuedAt = System.currentTimeMillis() / 1000 + 1;
+
+        assertFalse(revocationRegistry.isRevoked(TOKEN, new TokenPayload("TestUser", "ADMIN", issuedAt + 900, issuedAt)));
+    }
+
+    @Test
+    void revokeTokenShouldThrowExceptionWhenTokenIsMalformed() {
+        when(tokenUtil.getPayload("malformed")).thenThrow(OperationException.class);
+
+        assertThrows(OperationException.class, () -> revocationService.revokeToken("malformed"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package ru.clevertec.news.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.news.exception.OperationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TokenUtilTest {
+
+    private final TokenUtil tokenUtil = new TokenUtil(new ObjectMapper());
+
+    @Test
+    void getPayloadShouldReturnClaimsWhenTokenIsValid() {
+        var token = AuthTestBuilder.builder().build().buildJwtDto().accessToken();
+
+        var actual = tokenUtil.getPayload(token);
+
+        assertEquals("TestUser", actual.getUsername());
+        assertEquals("ADMIN", actual.getRole());
+        assertEquals(1830323154L, actual.getExt());
+    }
+
+    @Test
+    void getPayloadShouldPreferExtAndSkipUnknownClaims() {
+        var token = tokenOf("{\"aud\":[\"news\",{\"x\":1}],\"exp\":10,\"ext\":20,\"username\":\"Юзер\",\"role\":\"USER\"}");
+
+        var actual = tokenUtil.getPayload(token);
+
+        assertEquals("Юзер", actual.getUsername());
+        assertEquals("USER", actual.getRole());
+        assertEquals(20L, actual.getExt());
+    }
+
+    @Test
+    void getPayloadShouldDecodeLargePayload() {
+        var token = tokenOf("{\"username\":\"" + "a".repeat(4096) + "\"}");
+
+        var actual = tokenUtil.getPayload(token);
+
+        assertEquals(4096, actual.getUsername().length());
+        assertNull(actual.getExt());
+    }
+
+    @Test
+    void getPayloadShouldThrowExceptionWhenTokenIsMalformed() {
+        assertThrows(OperationException.class, () -> tokenUtil.getPayload("header"));
+        assertThrows(OperationException.class, () -> tokenUtil.getPayload("header.pay*load.signature"));
+        assertThrows(OperationException.class, () -> tokenUtil.getPayload(tokenOf("[\"username\"]")));
+    }
+
+    private static String tokenOf(String payload) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        return "eyJhbGciOiJIUzI1NiJ9." + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+}
\ No newline at end of file